@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalog.application.bulk;
+
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.ValidationHandler;
+
+import java.util.List;
+
+/**
+ * The outcome of one item of a bulk request, at its position in the request: the id it was created with, or the
+ * errors that kept it out.
+ */
+public record BulkItemOutput(
+        int index,
+        String id,
+        List<Error> errors
+) {
+
+    public static BulkItemOutput created(final int anIndex, final String anId) {
+        return new BulkItemOutput(anIndex, anId, List.of());
+    }
+
+    public static BulkItemOutput failed(final int anIndex, final ValidationHandler aHandler) {
+        return new BulkItemOutput(anIndex, null, List.copyOf(aHandler.getErrors()));
+    }
+
+    public boolean isCreated() {
+        return this.id != null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalog.application.bulk;
+
+import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class BulkUtils {
+
+    private BulkUtils() {
+    }
+
+    /**
+     * Which of the ids referenced by every item of a batch exist, with a single lookup for the whole batch.
+     */
+    public static <T extends Identifier> Set<T> existing(
+            final Collection<? extends Collection<T>> idsPerItem,
+            final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        final var ids = new HashSet<T>();
+        idsPerItem.forEach(ids::addAll);
+        return ids.isEmpty() ? Set.of() : new HashSet<>(existsByIds.apply(ids));
+    }
+
+    public static <T extends Identifier> ValidationHandler validateExisting(
+            final String aggregate,
+            final Collection<T> ids,
+            final Set<T> existing
+    ) {
+        final var notification = Notification.create();
+
+        final var missingIds = ids.stream()
+                .filter(it -> !existing.contains(it))
+                .map(Identifier::getValue)
+                .collect(Collectors.joining(", "));
+
+        if (!missingIds.isEmpty()) {
+            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIds)));
+        }
+
+        return notification;
+    }
+
+    /**
+     * Creates the valid aggregates of a batch at once. {@code aggregates} and {@code notifications} are parallel to
+     * the items, an item being valid when its notification has no error. When the batch cannot be written, every
+     * valid item fails with that error.
+     */
+    public static <T> List<BulkItemOutput> createAll(
+            final List<T> aggregates,
+            final List<Notification> notifications,
+            final Function<List<T>, List<T>> createAll,
+            final Function<T, String> idOf
+    ) {
+        final var valid = new ArrayList<T>(aggregates.size());
+        for (int i = 0; i < aggregates.size(); i++) {
+            if (!notifications.get(i).hasError()) {
+                valid.add(aggregates.get(i));
+            }
+        }
+
+        Notification batchError = null;
+        if (!valid.isEmpty()) {
+            try {
+                createAll.apply(valid);
+            } catch (final Throwable t) {
+                batchError = Notification.create(t);
+            }
+        }
+
+        final var outputs = new ArrayList<BulkItemOutput>(aggregates.size());
+        for (int i = 0; i < aggregates.size(); i++) {
+            final var notification = notifications.get(i);
+            if (notification.hasError()) {
+                outputs.add(BulkItemOutput.failed(i, notification));
+            } else if (batchError != null) {
+                outputs.add(BulkItemOutput.failed(i, batchError));
+            } else {
+                outputs.add(BulkItemOutput.created(i, idOf.apply(aggregates.get(i))));
+            }
+        }
+        return outputs;
+    }
+}
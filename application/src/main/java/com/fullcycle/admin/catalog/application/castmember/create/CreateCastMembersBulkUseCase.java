@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.application.castmember.create;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.bulk.BulkItemOutput;
+
+import java.util.List;
+
+public abstract class CreateCastMembersBulkUseCase
+        extends UseCase<List<CreateCastMemberCommand>, List<BulkItemOutput>> {
+}
@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalog.application.castmember.create;
+
+import com.fullcycle.admin.catalog.application.bulk.BulkItemOutput;
+import com.fullcycle.admin.catalog.application.bulk.BulkUtils;
+import com.fullcycle.admin.catalog.domain.castmember.CastMember;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateCastMembersBulkUseCase extends CreateCastMembersBulkUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultCreateCastMembersBulkUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public List<BulkItemOutput> execute(final List<CreateCastMemberCommand> someCommands) {
+        final var members = new ArrayList<CastMember>(someCommands.size());
+        final var notifications = new ArrayList<Notification>(someCommands.size());
+
+        for (final var aCommand : someCommands) {
+            final var notification = Notification.create();
+            members.add(notification.validate(() -> CastMember.newMember(aCommand.name(), aCommand.type())));
+            notifications.add(notification);
+        }
+
+        return BulkUtils.createAll(
+                members,
+                notifications,
+                this.castMemberGateway::createAll,
+                it -> it.getId().getValue()
+        );
+    }
+}
@@ -35,7 +35,10 @@ public non-sealed class DefaultUpdateCastMemberUseCase extends UpdateCastMemberU
             notify(anId, notification);
         }
 
-        return UpdateCastMemberOutput.from(this.castMemberGateway.update(aMember));
+        final var expectedUpdatedAt = aCommand.expectedUpdatedAt();
+        return UpdateCastMemberOutput.from(expectedUpdatedAt == null
+                ? this.castMemberGateway.update(aMember)
+                : this.castMemberGateway.update(aMember, expectedUpdatedAt));
     }
 
     private static void notify(final Identifier anId, final Notification notification) {
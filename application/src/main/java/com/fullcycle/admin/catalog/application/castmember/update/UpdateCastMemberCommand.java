@@ -2,16 +2,28 @@ package com.fullcycle.admin.catalog.application.castmember.update;
 
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberType;
 
+import java.time.Instant;
+
 public record UpdateCastMemberCommand(
         String id,
         String name,
-        CastMemberType type
+        CastMemberType type,
+        Instant expectedUpdatedAt
 ) {
     public static UpdateCastMemberCommand with(
             final String anId,
             final String aName,
             final CastMemberType aType
     ) {
-        return new UpdateCastMemberCommand(anId, aName, aType);
+        return with(anId, aName, aType, null);
+    }
+
+    public static UpdateCastMemberCommand with(
+            final String anId,
+            final String aName,
+            final CastMemberType aType,
+            final Instant expectedUpdatedAt
+    ) {
+        return new UpdateCastMemberCommand(anId, aName, aType, expectedUpdatedAt);
     }
 }
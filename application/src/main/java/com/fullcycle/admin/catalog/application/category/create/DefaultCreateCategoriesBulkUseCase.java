@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import com.fullcycle.admin.catalog.application.bulk.BulkItemOutput;
+import com.fullcycle.admin.catalog.application.bulk.BulkUtils;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateCategoriesBulkUseCase extends CreateCategoriesBulkUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultCreateCategoriesBulkUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<BulkItemOutput> execute(final List<CreateCategoryCommand> someCommands) {
+        final var categories = new ArrayList<Category>(someCommands.size());
+        final var notifications = new ArrayList<Notification>(someCommands.size());
+
+        for (final var aCommand : someCommands) {
+            final var notification = Notification.create();
+
+            final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+            aCategory.validate(notification);
+
+            categories.add(aCategory);
+            notifications.add(notification);
+        }
+
+        return BulkUtils.createAll(
+                categories,
+                notifications,
+                this.categoryGateway::createAll,
+                it -> it.getId().getValue()
+        );
+    }
+}
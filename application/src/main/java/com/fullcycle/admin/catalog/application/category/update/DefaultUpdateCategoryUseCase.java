@@ -4,9 +4,11 @@ import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import io.vavr.control.Either;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -36,11 +38,19 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         aCategory
                 .update(aName, aDescription, isActive)
                 .validate(notification);
-        return notification.hasError() ? Left(notification) : update(aCategory);
+        return notification.hasError() ? Left(notification) : update(aCategory, aCommand.expectedUpdatedAt());
     }
 
-    private Either<Notification, UpdateCategoryOutput> update(final Category aCategory) {
-        return Try(() -> this.categoryGateway.update(aCategory)).toEither().bimap(Notification::create, UpdateCategoryOutput::from);
+    private Either<Notification, UpdateCategoryOutput> update(final Category aCategory, final Instant expectedUpdatedAt) {
+        return Try(() -> expectedUpdatedAt == null
+                ? this.categoryGateway.update(aCategory)
+                : this.categoryGateway.update(aCategory, expectedUpdatedAt))
+                // A stale version is not a problem of the input, so it is not turned into a notification
+                .onFailure(PreconditionFailedException.class, e -> {
+                    throw e;
+                })
+                .toEither()
+                .bimap(Notification::create, UpdateCategoryOutput::from);
     }
 
     private static Supplier<NotFoundException> notFound(final CategoryID anId) {
@@ -1,10 +1,16 @@
 package com.fullcycle.admin.catalog.application.category.update;
 
+import java.time.Instant;
+
+/**
+ * @param expectedUpdatedAt the last update the category must still have, or null to update it unconditionally
+ */
 public record UpdateCategoryCommand(
         String id,
         String name,
         String description,
-        boolean isActive
+        boolean isActive,
+        Instant expectedUpdatedAt
 ) {
 
     public static UpdateCategoryCommand with(
@@ -13,6 +19,16 @@ public record UpdateCategoryCommand(
             final String aDescription,
             final boolean isActive
     ) {
-        return new UpdateCategoryCommand(anId,aName,aDescription,isActive);
+        return with(anId, aName, aDescription, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(
+            final String anId,
+            final String aName,
+            final String aDescription,
+            final boolean isActive,
+            final Instant expectedUpdatedAt
+    ) {
+        return new UpdateCategoryCommand(anId,aName,aDescription,isActive,expectedUpdatedAt);
     }
 }
@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalog.application.genre.create;
+
+import com.fullcycle.admin.catalog.application.bulk.BulkItemOutput;
+import com.fullcycle.admin.catalog.application.bulk.BulkUtils;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateGenresBulkUseCase extends CreateGenresBulkUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+
+    public DefaultCreateGenresBulkUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public List<BulkItemOutput> execute(final List<CreateGenreCommand> someCommands) {
+        final var categoriesPerItem = someCommands.stream()
+                .map(it -> toCategoryID(it.categories()))
+                .toList();
+        final var existingCategories = BulkUtils.existing(categoriesPerItem, this.categoryGateway::existsById);
+
+        final var genres = new ArrayList<Genre>(someCommands.size());
+        final var notifications = new ArrayList<Notification>(someCommands.size());
+
+        for (int i = 0; i < someCommands.size(); i++) {
+            final var aCommand = someCommands.get(i);
+            final var categories = categoriesPerItem.get(i);
+
+            final var notification = Notification.create();
+            notification.append(BulkUtils.validateExisting("categories", categories, existingCategories));
+
+            final var aGenre = notification.validate(() -> Genre.newGenre(aCommand.name(), aCommand.isActive()));
+            if (aGenre != null) {
+                aGenre.addCategories(categories);
+            }
+
+            genres.add(aGenre);
+            notifications.add(notification);
+        }
+
+        return BulkUtils.createAll(
+                genres,
+                notifications,
+                this.genreGateway::createAll,
+                it -> it.getId().getValue()
+        );
+    }
+
+    private List<CategoryID> toCategoryID(final List<String> categories) {
+        return categories == null ? List.of() : categories.stream().map(CategoryID::from).toList();
+    }
+}
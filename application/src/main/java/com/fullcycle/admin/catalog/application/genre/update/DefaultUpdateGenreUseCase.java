@@ -53,7 +53,10 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
         }
 
 
-        return UpdateGenreOutput.from(this.genreGateway.update(aGenre));
+        final var expectedUpdatedAt = aCommand.expectedUpdatedAt();
+        return UpdateGenreOutput.from(expectedUpdatedAt == null
+                ? this.genreGateway.update(aGenre)
+                : this.genreGateway.update(aGenre, expectedUpdatedAt));
     }
 
     private ValidationHandler validateCategories(final List<CategoryID> ids) {
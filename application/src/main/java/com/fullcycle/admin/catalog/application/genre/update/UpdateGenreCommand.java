@@ -1,12 +1,14 @@
 package com.fullcycle.admin.catalog.application.genre.update;
 
+import java.time.Instant;
 import java.util.List;
 
 public record UpdateGenreCommand(
         String id,
         String name,
         boolean isActive,
-        List<String> categories
+        List<String> categories,
+        Instant expectedUpdatedAt
 ) {
     public static UpdateGenreCommand with(
             final String id,
@@ -14,6 +16,16 @@ public record UpdateGenreCommand(
             final Boolean isActive,
             final List<String> categories
     ) {
-        return new UpdateGenreCommand(id, name, isActive != null ? isActive : true, categories);
+        return with(id, name, isActive, categories, null);
+    }
+
+    public static UpdateGenreCommand with(
+            final String id,
+            final String name,
+            final Boolean isActive,
+            final List<String> categories,
+            final Instant expectedUpdatedAt
+    ) {
+        return new UpdateGenreCommand(id, name, isActive != null ? isActive : true, categories, expectedUpdatedAt);
     }
 }
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalog.application.video.create;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.bulk.BulkItemOutput;
+
+import java.util.List;
+
+/**
+ * Creates the metadata of many videos at once. Their media are uploaded afterwards, one video at a time, so any
+ * resource on the commands is ignored.
+ */
+public abstract class CreateVideosBulkUseCase
+        extends UseCase<List<CreateVideoCommand>, List<BulkItemOutput>> {
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalog.application.video.create;
 
-import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.application.video.media.MediaStorageExecutor;
+import com.fullcycle.admin.catalog.application.video.validation.ReferenceValidationExecutor;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
@@ -9,19 +10,17 @@ import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
-import com.fullcycle.admin.catalog.domain.validation.Error;
-import com.fullcycle.admin.catalog.domain.validation.ValidationHandler;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalog.domain.video.*;
 
 import java.time.Year;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static com.fullcycle.admin.catalog.application.video.validation.ReferenceValidationExecutor.lookup;
 import static com.fullcycle.admin.catalog.domain.video.VideoMediaType.*;
 
 public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
@@ -30,6 +29,8 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     private final CastMemberGateway castMemberGateway;
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final MediaStorageExecutor mediaStorageExecutor;
+    private final ReferenceValidationExecutor referenceValidationExecutor;
     private final VideoGateway videoGateway;
 
     public DefaultCreateVideoUseCase(
@@ -37,12 +38,16 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
             final MediaResourceGateway mediaResourceGateway,
+            final MediaStorageExecutor mediaStorageExecutor,
+            final ReferenceValidationExecutor referenceValidationExecutor,
             final VideoGateway videoGateway
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaStorageExecutor = Objects.requireNonNull(mediaStorageExecutor);
+        this.referenceValidationExecutor = Objects.requireNonNull(referenceValidationExecutor);
         this.videoGateway = Objects.requireNonNull(videoGateway);
     }
 
@@ -56,9 +61,11 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
 
         final var notification = Notification.create();
 
-        notification.append(validateCategories(categories));
-        notification.append(validateGenres(genres));
-        notification.append(validateMembers(members));
+        notification.append(this.referenceValidationExecutor.validate(
+                lookup("categories", categories, this.categoryGateway::existsById),
+                lookup("genres", genres, this.genreGateway::existsById),
+                lookup("cast members", members, this.castMemberGateway::existsById)
+        ));
 
         final var aVideo = Video.newVideo(
                 aCommand.title(),
@@ -86,32 +93,31 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         final var anId = aVideo.getId();
 
         try {
+            final var uploads = this.mediaStorageExecutor.newBatch();
+
             final var aVideoMedia = aCommand.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VIDEO)))
-                    .orElse(null);
+                    .map(it -> uploads.submit(() -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VIDEO))));
 
             final var aTrailerMedia = aCommand.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, TRAILER)))
-                    .orElse(null);
+                    .map(it -> uploads.submit(() -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, TRAILER))));
 
             final var aBannerMedia = aCommand.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, BANNER)))
-                    .orElse(null);
+                    .map(it -> uploads.submit(() -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, BANNER))));
 
             final var aThumbnail = aCommand.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL)))
-                    .orElse(null);
+                    .map(it -> uploads.submit(() -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL))));
 
             final var aThumbnailHalf = aCommand.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL_HALF)))
-                    .orElse(null);
+                    .map(it -> uploads.submit(() -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL_HALF))));
+
+            uploads.await();
 
             return this.videoGateway.create(aVideo
-                    .updateVideoMedia(aVideoMedia)
-                    .updateTrailerMedia(aTrailerMedia)
-                    .updateBannerMedia(aBannerMedia)
-                    .updateThumbnailMedia(aThumbnail)
-                    .updateThumbnailHalfMedia(aThumbnailHalf)
+                    .updateVideoMedia(aVideoMedia.map(Supplier::get).orElse(null))
+                    .updateTrailerMedia(aTrailerMedia.map(Supplier::get).orElse(null))
+                    .updateBannerMedia(aBannerMedia.map(Supplier::get).orElse(null))
+                    .updateThumbnailMedia(aThumbnail.map(Supplier::get).orElse(null))
+                    .updateThumbnailHalfMedia(aThumbnailHalf.map(Supplier::get).orElse(null))
             );
         } catch (final Throwable t) {
             this.mediaResourceGateway.clearResources(anId);
@@ -121,45 +127,6 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         }
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> ids) {
-        return validateAggregate("categories", ids, categoryGateway::existsById);
-    }
-
-
-    private ValidationHandler validateGenres(final Set<GenreID> ids) {
-        return validateAggregate("genres", ids, genreGateway::existsById);
-    }
-
-    private ValidationHandler validateMembers(final Set<CastMemberID> ids) {
-        return validateAggregate("cast members", ids, castMemberGateway::existsById);
-    }
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ) {
-        final var notification = Notification.create();
-
-        if (ids == null || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrievedIds = existsByIds.apply(ids);
-
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
-
-            final var missingIdsMessage = missingIds.stream().map(Identifier::getValue).collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
-        }
-
-        return notification;
-    }
-
-
     private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
         return ids.stream()
                 .map(mapper)
@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalog.application.video.create;
+
+import com.fullcycle.admin.catalog.application.bulk.BulkItemOutput;
+import com.fullcycle.admin.catalog.application.bulk.BulkUtils;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalog.domain.video.Rating;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultCreateVideosBulkUseCase extends CreateVideosBulkUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final GenreGateway genreGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultCreateVideosBulkUseCase(
+            final CategoryGateway categoryGateway,
+            final CastMemberGateway castMemberGateway,
+            final GenreGateway genreGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public List<BulkItemOutput> execute(final List<CreateVideoCommand> someCommands) {
+        final var categoriesPerItem = toIdentifiers(someCommands, CreateVideoCommand::categories, CategoryID::from);
+        final var genresPerItem = toIdentifiers(someCommands, CreateVideoCommand::genres, GenreID::from);
+        final var membersPerItem = toIdentifiers(someCommands, CreateVideoCommand::members, CastMemberID::from);
+
+        final var existingCategories = BulkUtils.existing(categoriesPerItem, this.categoryGateway::existsById);
+        final var existingGenres = BulkUtils.existing(genresPerItem, this.genreGateway::existsById);
+        final var existingMembers = BulkUtils.existing(membersPerItem, this.castMemberGateway::existsById);
+
+        final var videos = new ArrayList<Video>(someCommands.size());
+        final var notifications = new ArrayList<Notification>(someCommands.size());
+
+        for (int i = 0; i < someCommands.size(); i++) {
+            final var aCommand = someCommands.get(i);
+            final var categories = categoriesPerItem.get(i);
+            final var genres = genresPerItem.get(i);
+            final var members = membersPerItem.get(i);
+
+            final var notification = Notification.create();
+            notification.append(BulkUtils.validateExisting("categories", categories, existingCategories));
+            notification.append(BulkUtils.validateExisting("genres", genres, existingGenres));
+            notification.append(BulkUtils.validateExisting("cast members", members, existingMembers));
+
+            // Missing primitives would fail the whole batch instead of this item
+            final var aVideo = notification.validate(() -> Video.newVideo(
+                    aCommand.title(),
+                    aCommand.description(),
+                    aCommand.launchedAt() != null ? Year.of(aCommand.launchedAt()) : null,
+                    aCommand.duration(),
+                    Rating.of(aCommand.rating()).orElse(null),
+                    aCommand.opened(),
+                    aCommand.published(),
+                    categories,
+                    genres,
+                    members
+            ));
+            if (aVideo != null) {
+                aVideo.validate(notification);
+            }
+
+            videos.add(aVideo);
+            notifications.add(notification);
+        }
+
+        return BulkUtils.createAll(
+                videos,
+                notifications,
+                this.videoGateway::createAll,
+                it -> it.getId().getValue()
+        );
+    }
+
+    private <T> List<Set<T>> toIdentifiers(
+            final List<CreateVideoCommand> someCommands,
+            final Function<CreateVideoCommand, Set<String>> ids,
+            final Function<String, T> mapper
+    ) {
+        return someCommands.stream()
+                .map(it -> ids.apply(it) == null
+                        ? Set.<T>of()
+                        : ids.apply(it).stream().map(mapper).collect(Collectors.toSet()))
+                .toList();
+    }
+}
@@ -0,0 +1,191 @@
+package com.fullcycle.admin.catalog.application.video.media;
+
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Runs the storage calls of a single request concurrently on a shared executor, bounded by a per-request deadline.
+ * When any of them fails or the deadline expires, the ones still in flight are cancelled and awaited, for at most
+ * {@link #CANCEL_TIMEOUT}, before the failure is rethrown, so callers can clean up what was stored. Calls cancelled
+ * while still queued never run, so they are not waited for.
+ */
+public class MediaStorageExecutor {
+
+    static final Duration CANCEL_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Executor executor;
+    private final Duration timeout;
+    private final Listener listener;
+
+    public MediaStorageExecutor(final Executor executor, final Duration timeout, final Listener listener) {
+        this.executor = Objects.requireNonNull(executor);
+        this.timeout = Objects.requireNonNull(timeout);
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    public static MediaStorageExecutor sameThread() {
+        return new MediaStorageExecutor(Runnable::run, Duration.ofDays(1), Listener.NOOP);
+    }
+
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    public interface Listener {
+        Listener NOOP = (count, elapsed, serial) -> {};
+
+        /**
+         * @param count   how many storage calls the request made
+         * @param elapsed wall-clock time spent waiting for all of them
+         * @param serial  sum of their individual durations, the time a serial run would have taken
+         */
+        void onComplete(int count, Duration elapsed, Duration serial);
+    }
+
+    public class Batch {
+        private final long startedAt = System.nanoTime();
+        private final AtomicLong serialNanos = new AtomicLong();
+        private final List<Upload<?>> uploads = new ArrayList<>();
+        private final BlockingQueue<Upload<?>> completed = new LinkedBlockingQueue<>();
+
+        private Batch() {
+        }
+
+        public <T> Supplier<T> submit(final Callable<T> aCall) {
+            final var upload = new Upload<>(aCall, this.serialNanos, this.completed);
+            this.uploads.add(upload);
+            try {
+                executor.execute(upload);
+            } catch (final RejectedExecutionException e) {
+                upload.reject(e);
+            }
+            return upload::result;
+        }
+
+        public void await() {
+            final var deadline = this.startedAt + timeout.toNanos();
+            try {
+                // Takes uploads in completion order, so the first failure cancels the others right away
+                for (int i = 0; i < this.uploads.size(); i++) {
+                    final var next = this.completed.poll(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+                    if (next == null) {
+                        throw new TimeoutException();
+                    }
+                    next.get();
+                }
+            } catch (final ExecutionException e) {
+                cancel();
+                throw InternalErrorException.with("Could not store media", e.getCause());
+            } catch (final TimeoutException e) {
+                cancel();
+                throw InternalErrorException.with("Media storage did not complete within %s".formatted(timeout), e);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw InternalErrorException.with("Interrupted while storing media", e);
+            }
+
+            listener.onComplete(
+                    this.uploads.size(),
+                    Duration.ofNanos(System.nanoTime() - this.startedAt),
+                    Duration.ofNanos(this.serialNanos.get())
+            );
+        }
+
+        private void cancel() {
+            this.uploads.forEach(it -> it.cancel(true));
+
+            final var deadline = System.nanoTime() + CANCEL_TIMEOUT.toNanos();
+            for (final var upload : this.uploads) {
+                try {
+                    upload.finished.await(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static class Upload<T> extends FutureTask<T> {
+        // Unlike isDone(), only released once the worker has actually left the call, even after a cancel
+        private final CountDownLatch finished = new CountDownLatch(1);
+        // Claimed by whichever comes first, the worker taking the call off the queue or a cancel before that
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private final BlockingQueue<Upload<?>> completed;
+
+        private Upload(final Callable<T> aCall, final AtomicLong serialNanos, final BlockingQueue<Upload<?>> completed) {
+            super(() -> {
+                final var start = System.nanoTime();
+                try {
+                    return aCall.call();
+                } finally {
+                    serialNanos.addAndGet(System.nanoTime() - start);
+                }
+            });
+            this.completed = completed;
+        }
+
+        @Override
+        protected void done() {
+            this.completed.add(this);
+        }
+
+        @Override
+        public void run() {
+            if (!this.started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                super.run();
+            } finally {
+                this.finished.countDown();
+            }
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final var cancelled = super.cancel(mayInterruptIfRunning);
+            // Still queued, so the call will never run and there is nothing to wait for
+            if (cancelled && this.started.compareAndSet(false, true)) {
+                this.finished.countDown();
+            }
+            return cancelled;
+        }
+
+        private void reject(final RejectedExecutionException e) {
+            this.started.set(true);
+            setException(e);
+            this.finished.countDown();
+        }
+
+        private T result() {
+            try {
+                return get(0, NANOSECONDS);
+            } catch (final ExecutionException | TimeoutException e) {
+                throw new IllegalStateException("Media storage was not awaited", e);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -2,18 +2,29 @@ package com.fullcycle.admin.catalog.application.video.media.get;
 
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalog.domain.video.ImageMedia;
 import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
 import com.fullcycle.admin.catalog.domain.video.VideoID;
 import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
 
 import java.util.Objects;
+import java.util.Optional;
 
+/**
+ * The checksum of the media comes from the video, as recorded when it was uploaded, so the content is never read
+ * just to hash it before being served.
+ */
 public class DefaultGetMediaUseCase extends GetMediaUseCase {
 
     private final MediaResourceGateway mediaResourceGateway;
+    private final VideoGateway videoGateway;
 
-    public DefaultGetMediaUseCase(final MediaResourceGateway mediaResourceGateway) {
+    public DefaultGetMediaUseCase(final MediaResourceGateway mediaResourceGateway, final VideoGateway videoGateway) {
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
     }
 
     @Override
@@ -22,9 +33,23 @@ public class DefaultGetMediaUseCase extends GetMediaUseCase {
         final var aType = VideoMediaType.of(aCmd.mediaType())
                 .orElseThrow(() -> typeNotFound(aCmd.mediaType()));
 
+        final var aChecksum = this.videoGateway.findById(anId)
+                .flatMap(aVideo -> checksumOf(aVideo, aType))
+                .orElseThrow(() -> notFound(aCmd.videoId(), aCmd.mediaType()));
+
         final var aResource = this.mediaResourceGateway.getResource(anId, aType)
                 .orElseThrow(() -> notFound(aCmd.videoId(), aCmd.mediaType()));
-        return MediaOutput.with(aResource);
+        return MediaOutput.with(aResource, aChecksum);
+    }
+
+    private static Optional<String> checksumOf(final Video aVideo, final VideoMediaType aType) {
+        return switch (aType) {
+            case VIDEO -> aVideo.getVideo().map(AudioVideoMedia::checksum);
+            case TRAILER -> aVideo.getTrailer().map(AudioVideoMedia::checksum);
+            case BANNER -> aVideo.getBanner().map(ImageMedia::checksum);
+            case THUMBNAIL -> aVideo.getThumbnail().map(ImageMedia::checksum);
+            case THUMBNAIL_HALF -> aVideo.getThumbnailHalf().map(ImageMedia::checksum);
+        };
     }
 
     private NotFoundException notFound(final String anId, final String aType) {
@@ -2,12 +2,31 @@ package com.fullcycle.admin.catalog.application.video.media.get;
 
 import com.fullcycle.admin.catalog.domain.resource.Resource;
 
+/**
+ * A media to serve, with the checksum recorded for it instead of the one of its resource, which may only be known
+ * by reading the whole content.
+ */
 public record MediaOutput(
-        byte[] content,
-        String contentType,
-        String name
+        Resource resource,
+        String checksum
 ) {
-    public static MediaOutput with(final Resource aResource) {
-        return new MediaOutput(aResource.content(), aResource.contentType(), aResource.name());
+    public static MediaOutput with(final Resource aResource, final String aChecksum) {
+        return new MediaOutput(aResource, aChecksum);
+    }
+
+    public byte[] content() {
+        return resource.content();
+    }
+
+    public long contentLength() {
+        return resource.contentLength();
+    }
+
+    public String contentType() {
+        return resource.contentType();
+    }
+
+    public String name() {
+        return resource.name();
     }
 }
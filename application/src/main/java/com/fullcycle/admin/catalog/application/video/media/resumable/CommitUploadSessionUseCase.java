@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
+
+public abstract class CommitUploadSessionUseCase extends UseCase<UploadSessionCommand, UploadMediaOutput> {
+}
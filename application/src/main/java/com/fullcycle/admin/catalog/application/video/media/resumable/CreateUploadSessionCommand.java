@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+public record CreateUploadSessionCommand(
+        String videoId,
+        VideoMediaType mediaType,
+        String contentType,
+        String fileName
+) {
+    public static CreateUploadSessionCommand with(
+            final String aVideoId,
+            final VideoMediaType aType,
+            final String aContentType,
+            final String aFileName
+    ) {
+        return new CreateUploadSessionCommand(aVideoId, aType, aContentType, aFileName);
+    }
+}
@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+public abstract class CreateUploadSessionUseCase extends UseCase<CreateUploadSessionCommand, UploadSessionOutput> {
+}
@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoResource;
+
+import java.util.Objects;
+
+/**
+ * The chunks must be numbered contiguously from 1. They are joined in the storage and the result is streamed into
+ * the video media like a single request upload would be, after which the session is deleted.
+ */
+public class DefaultCommitUploadSessionUseCase extends CommitUploadSessionUseCase {
+
+    private final MediaUploadGateway mediaUploadGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultCommitUploadSessionUseCase(
+            final MediaUploadGateway mediaUploadGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final UploadSessionCommand aCmd) {
+        final var aSession = UploadSessions.find(this.mediaUploadGateway, aCmd.videoId(), aCmd.mediaType(), aCmd.sessionId());
+        final var chunks = this.mediaUploadGateway.findChunks(aSession);
+
+        if (chunks.isEmpty()) {
+            throw DomainException.with(new Error("Upload session %s has no chunks".formatted(aSession.id())));
+        }
+
+        for (int i = 0; i < chunks.size(); i++) {
+            if (chunks.get(i).number() != i + 1) {
+                throw DomainException.with(new Error("Upload session %s is missing chunk %d".formatted(aSession.id(), i + 1)));
+            }
+        }
+
+        final var aVideo = this.videoGateway.findById(aSession.videoId())
+                .orElseThrow(() -> NotFoundException.with(Video.class, aSession.videoId()));
+
+        final var aResource = VideoResource.with(this.mediaUploadGateway.assemble(aSession, chunks), aSession.mediaType());
+        final var aMedia = this.mediaResourceGateway.storeAudioVideo(aVideo.getId(), aResource);
+
+        switch (aSession.mediaType()) {
+            case VIDEO -> aVideo.updateVideoMedia(aMedia);
+            case TRAILER -> aVideo.updateTrailerMedia(aMedia);
+            default -> throw DomainException.with(new Error("Resumable uploads are only supported for %s"
+                    .formatted(DefaultCreateUploadSessionUseCase.RESUMABLE_TYPES)));
+        }
+
+        final var output = UploadMediaOutput.with(this.videoGateway.update(aVideo), aSession.mediaType());
+        this.mediaUploadGateway.delete(aSession);
+        return output;
+    }
+}
@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadSession;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Resumable uploads are meant for the large audio and video medias, images fit a single request.
+ */
+public class DefaultCreateUploadSessionUseCase extends CreateUploadSessionUseCase {
+
+    static final Set<VideoMediaType> RESUMABLE_TYPES = EnumSet.of(VideoMediaType.VIDEO, VideoMediaType.TRAILER);
+
+    private final MediaUploadGateway mediaUploadGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultCreateUploadSessionUseCase(
+            final MediaUploadGateway mediaUploadGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final CreateUploadSessionCommand aCmd) {
+        final var notification = Notification.create();
+
+        if (!RESUMABLE_TYPES.contains(aCmd.mediaType())) {
+            notification.append(new Error("Resumable uploads are only supported for %s".formatted(RESUMABLE_TYPES)));
+        }
+        if (aCmd.contentType() == null || aCmd.contentType().isBlank()) {
+            notification.append(new Error("'content_type' should not be empty"));
+        }
+        if (aCmd.fileName() == null || aCmd.fileName().isBlank()) {
+            notification.append(new Error("'file_name' should not be empty"));
+        }
+        if (notification.hasError()) {
+            throw new NotificationException("Could not create upload session", notification);
+        }
+
+        final var aVideoId = VideoID.from(aCmd.videoId());
+        if (this.videoGateway.findById(aVideoId).isEmpty()) {
+            throw NotFoundException.with(Video.class, aVideoId);
+        }
+
+        final var aSession = this.mediaUploadGateway.create(MediaUploadSession.newSession(
+                aVideoId,
+                aCmd.mediaType(),
+                aCmd.contentType(),
+                aCmd.fileName()
+        ));
+
+        return UploadSessionOutput.from(aSession, List.of());
+    }
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.domain.video.MediaUploadGateway;
+
+import java.util.Objects;
+
+public class DefaultDeleteUploadSessionUseCase extends DeleteUploadSessionUseCase {
+
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultDeleteUploadSessionUseCase(final MediaUploadGateway mediaUploadGateway) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public void execute(final UploadSessionCommand aCmd) {
+        final var aSession = UploadSessions.find(this.mediaUploadGateway, aCmd.videoId(), aCmd.mediaType(), aCmd.sessionId());
+        this.mediaUploadGateway.delete(aSession);
+    }
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.domain.video.MediaUploadGateway;
+
+import java.util.Objects;
+
+public class DefaultGetUploadSessionUseCase extends GetUploadSessionUseCase {
+
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultGetUploadSessionUseCase(final MediaUploadGateway mediaUploadGateway) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final UploadSessionCommand aCmd) {
+        final var aSession = UploadSessions.find(this.mediaUploadGateway, aCmd.videoId(), aCmd.mediaType(), aCmd.sessionId());
+        return UploadSessionOutput.from(aSession, this.mediaUploadGateway.findChunks(aSession));
+    }
+}
@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadGateway;
+
+import java.util.Objects;
+
+/**
+ * Re-sending a chunk number replaces it, so a client can retry any chunk whose response it did not receive. A chunk
+ * that arrives truncated, or with another checksum than the client announced, is discarded.
+ */
+public class DefaultUploadChunkUseCase extends UploadChunkUseCase {
+
+    static final int MAX_CHUNKS = 10_000;
+
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultUploadChunkUseCase(final MediaUploadGateway mediaUploadGateway) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public UploadChunkOutput execute(final UploadChunkCommand aCmd) {
+        final var aSession = UploadSessions.find(this.mediaUploadGateway, aCmd.videoId(), aCmd.mediaType(), aCmd.sessionId());
+        final var number = aCmd.number();
+
+        if (number < 1 || number > MAX_CHUNKS) {
+            throw DomainException.with(new Error("Chunk number must be between 1 and %d".formatted(MAX_CHUNKS)));
+        }
+
+        final var aChunk = this.mediaUploadGateway.storeChunk(aSession, number, aCmd.content(), aCmd.contentLength());
+
+        if (aCmd.contentLength() >= 0 && aChunk.size() != aCmd.contentLength()) {
+            this.mediaUploadGateway.discardChunk(aSession, number);
+            throw DomainException.with(new Error("Chunk %d is incomplete, expected %d bytes but received %d"
+                    .formatted(number, aCmd.contentLength(), aChunk.size())));
+        }
+
+        if (aCmd.checksum() != null && !aCmd.checksum().equalsIgnoreCase(aChunk.checksum())) {
+            this.mediaUploadGateway.discardChunk(aSession, number);
+            throw DomainException.with(new Error("Chunk %d checksum mismatch, expected %s but received %s"
+                    .formatted(number, aCmd.checksum(), aChunk.checksum())));
+        }
+
+        this.mediaUploadGateway.saveChunk(aSession, aChunk);
+        return UploadChunkOutput.from(aChunk);
+    }
+}
@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+import java.io.InputStream;
+
+public record UploadChunkCommand(
+        String videoId,
+        VideoMediaType mediaType,
+        String sessionId,
+        int number,
+        InputStream content,
+        long contentLength,
+        String checksum
+) {
+    public static UploadChunkCommand with(
+            final String aVideoId,
+            final VideoMediaType aType,
+            final String aSessionId,
+            final int aNumber,
+            final InputStream aContent,
+            final long aContentLength,
+            final String aChecksum
+    ) {
+        return new UploadChunkCommand(aVideoId, aType, aSessionId, aNumber, aContent, aContentLength, aChecksum);
+    }
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.domain.video.MediaUploadChunk;
+
+public record UploadChunkOutput(
+        int number,
+        String checksum,
+        long size
+) {
+    public static UploadChunkOutput from(final MediaUploadChunk aChunk) {
+        return new UploadChunkOutput(aChunk.number(), aChunk.checksum(), aChunk.size());
+    }
+}
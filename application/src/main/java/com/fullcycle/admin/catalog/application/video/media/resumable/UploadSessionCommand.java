@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+public record UploadSessionCommand(
+        String videoId,
+        VideoMediaType mediaType,
+        String sessionId
+) {
+    public static UploadSessionCommand with(final String aVideoId, final VideoMediaType aType, final String aSessionId) {
+        return new UploadSessionCommand(aVideoId, aType, aSessionId);
+    }
+}
@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.domain.video.MediaUploadChunk;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadSession;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+import java.util.List;
+
+public record UploadSessionOutput(
+        String sessionId,
+        String videoId,
+        VideoMediaType mediaType,
+        String contentType,
+        String fileName,
+        List<UploadChunkOutput> chunks
+) {
+    public static UploadSessionOutput from(final MediaUploadSession aSession, final List<MediaUploadChunk> chunks) {
+        return new UploadSessionOutput(
+                aSession.id(),
+                aSession.videoId().getValue(),
+                aSession.mediaType(),
+                aSession.contentType(),
+                aSession.fileName(),
+                chunks.stream().map(UploadChunkOutput::from).toList()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadSession;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+final class UploadSessions {
+
+    private UploadSessions() {
+    }
+
+    /**
+     * A session is only reachable through the video and media type it was created for.
+     */
+    static MediaUploadSession find(
+            final MediaUploadGateway aGateway,
+            final String aVideoId,
+            final VideoMediaType aType,
+            final String aSessionId
+    ) {
+        return aGateway.findById(aSessionId)
+                .filter(it -> it.belongsTo(VideoID.from(aVideoId), aType))
+                .orElseThrow(() -> NotFoundException.with(new Error("Upload session %s was not found".formatted(aSessionId))));
+    }
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalog.application.video.media.update;
+
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Applies a batch of status updates with a single read and a single write per video, in the order the commands
+ * were received. Commands for videos that no longer exist are reported instead of failing the whole batch.
+ */
+public class DefaultUpdateMediaStatusBatchUseCase extends UpdateMediaStatusBatchUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultUpdateMediaStatusBatchUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public UpdateMediaStatusBatchOutput execute(final List<UpdateMediaStatusCommand> aCommands) {
+        final var byVideo = aCommands.stream()
+                .collect(groupingBy(UpdateMediaStatusCommand::videoId, LinkedHashMap::new, toList()));
+
+        final var notFound = new ArrayList<String>();
+        var updated = 0;
+
+        for (final var entry : byVideo.entrySet()) {
+            final var aVideo = this.videoGateway.findById(VideoID.from(entry.getKey())).orElse(null);
+            if (aVideo == null) {
+                notFound.add(entry.getKey());
+                continue;
+            }
+
+            var changed = false;
+            for (final var aCmd : entry.getValue()) {
+                changed |= DefaultUpdateMediaStatusUseCase.apply(aVideo, aCmd);
+            }
+
+            if (changed) {
+                this.videoGateway.update(aVideo);
+                updated++;
+            }
+        }
+
+        return new UpdateMediaStatusBatchOutput(aCommands.size(), updated, notFound);
+    }
+}
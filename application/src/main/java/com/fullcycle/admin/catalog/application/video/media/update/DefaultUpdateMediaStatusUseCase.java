@@ -21,37 +21,56 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
     public void execute(final UpdateMediaStatusCommand aCmd) {
 
         final var anId = VideoID.from(aCmd.videoId());
-        final var aResourceId = aCmd.resourceId();
-        final var folder = aCmd.folder();
-        final var filename = aCmd.filename();
 
         final var aVideo = this.videoGateway.findById(anId)
                 .orElseThrow(() -> notFound(anId));
 
-        final var encodedPath = "%s/%s".formatted(folder, filename);
+        if (apply(aVideo, aCmd)) {
+            this.videoGateway.update(aVideo);
+        }
+    }
 
-        if (matches(aResourceId, aVideo.getVideo().orElse(null))) {
+    /**
+     * Applies the command to the media it refers to, returning whether it changed the video. Duplicated or out of
+     * order results, which would move the media backwards, are ignored.
+     */
+    static boolean apply(final Video aVideo, final UpdateMediaStatusCommand aCmd) {
+        final var aResourceId = aCmd.resourceId();
+        final var encodedPath = "%s/%s".formatted(aCmd.folder(), aCmd.filename());
+
+        if (matches(aResourceId, aCmd.status(), encodedPath, aVideo.getVideo().orElse(null))) {
             updateVideo(VIDEO, aCmd.status(), aVideo, encodedPath);
-        } else if (matches(aResourceId, aVideo.getTrailer().orElse(null))) {
+            return true;
+        } else if (matches(aResourceId, aCmd.status(), encodedPath, aVideo.getTrailer().orElse(null))) {
             updateVideo(TRAILER, aCmd.status(), aVideo, encodedPath);
+            return true;
         }
+        return false;
     }
 
-    private void updateVideo(final VideoMediaType aType, final MediaStatus status, final Video aVideo, final String encodedPath) {
+    private static void updateVideo(final VideoMediaType aType, final MediaStatus status, final Video aVideo, final String encodedPath) {
         switch (status) {
             case PENDING -> {
             }
             case PROCESSING -> aVideo.processing(aType);
             case COMPLETED -> aVideo.completed(aType, encodedPath);
         }
-        this.videoGateway.update(aVideo);
     }
 
-    private boolean matches(final String anId, final AudioVideoMedia aMedia) {
-        if (aMedia == null) {
+    private static boolean matches(
+            final String anId,
+            final MediaStatus aStatus,
+            final String encodedPath,
+            final AudioVideoMedia aMedia
+    ) {
+        if (aMedia == null || !aMedia.id().equals(anId)) {
+            return false;
+        }
+        if (aStatus != MediaStatus.PROCESSING && aStatus != MediaStatus.COMPLETED) {
             return false;
         }
-        return aMedia.id().equals(anId);
+        final var aLocation = aStatus == MediaStatus.COMPLETED ? encodedPath : aMedia.encodedLocation();
+        return aMedia.canTransitionTo(aStatus, aLocation);
     }
 
     private NotFoundException notFound(final VideoID anId) {
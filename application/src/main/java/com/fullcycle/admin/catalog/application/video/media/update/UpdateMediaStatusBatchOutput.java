@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.application.video.media.update;
+
+import java.util.List;
+
+public record UpdateMediaStatusBatchOutput(
+        int commands,
+        int videosUpdated,
+        List<String> videosNotFound
+) {
+}
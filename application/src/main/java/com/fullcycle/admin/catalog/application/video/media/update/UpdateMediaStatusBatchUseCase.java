@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.video.media.update;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+import java.util.List;
+
+public abstract class UpdateMediaStatusBatchUseCase
+        extends UseCase<List<UpdateMediaStatusCommand>, UpdateMediaStatusBatchOutput> {
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalog.application.video.retrieve.list;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
+
+public abstract class ListVideoFacetsUseCase
+        extends UseCase<VideoSearchQuery, VideoFacetsOutput> {
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalog.application.video.retrieve.list;
+
+import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.video.VideoFacets;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record VideoFacetsOutput(
+        Map<String, Long> categories,
+        Map<String, Long> genres,
+        Map<String, Long> castMembers
+) {
+
+    public static VideoFacetsOutput from(final VideoFacets aFacets) {
+        return new VideoFacetsOutput(
+                valuesOf(aFacets.categories()),
+                valuesOf(aFacets.genres()),
+                valuesOf(aFacets.castMembers())
+        );
+    }
+
+    private static Map<String, Long> valuesOf(final Map<? extends Identifier, Long> counts) {
+        final var values = new LinkedHashMap<String, Long>(counts.size());
+        counts.forEach((anId, count) -> values.put(anId.getValue(), count));
+        return values;
+    }
+}
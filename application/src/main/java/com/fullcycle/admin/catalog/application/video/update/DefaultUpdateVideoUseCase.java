@@ -1,6 +1,6 @@
 package com.fullcycle.admin.catalog.application.video.update;
 
-import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.application.video.validation.ReferenceValidationExecutor;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
@@ -9,22 +9,20 @@ import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
-import com.fullcycle.admin.catalog.domain.validation.Error;
-import com.fullcycle.admin.catalog.domain.validation.ValidationHandler;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalog.domain.video.*;
 
 import java.time.Year;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static com.fullcycle.admin.catalog.application.video.validation.ReferenceValidationExecutor.lookup;
 import static com.fullcycle.admin.catalog.domain.video.VideoMediaType.*;
 
 public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
@@ -34,19 +32,22 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
     private final CastMemberGateway castMemberGateway;
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final ReferenceValidationExecutor referenceValidationExecutor;
 
     public DefaultUpdateVideoUseCase(
             final VideoGateway videoGateway,
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
-            final MediaResourceGateway mediaResourceGateway
+            final MediaResourceGateway mediaResourceGateway,
+            final ReferenceValidationExecutor referenceValidationExecutor
     ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.referenceValidationExecutor = Objects.requireNonNull(referenceValidationExecutor);
     }
 
     @Override
@@ -61,9 +62,11 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         final var aVideo = this.videoGateway.findById(aVideoID).orElseThrow(notFoundException(aVideoID));
 
         final var notification = Notification.create();
-        notification.append(validateCategories(categories));
-        notification.append(validateGenres(genres));
-        notification.append(validateMembers(members));
+        notification.append(this.referenceValidationExecutor.validate(
+                lookup("categories", categories, this.categoryGateway::existsById),
+                lookup("genres", genres, this.genreGateway::existsById),
+                lookup("cast members", members, this.castMemberGateway::existsById)
+        ));
 
         aVideo.update(
                 aCommand.title(),
@@ -111,13 +114,19 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
                     .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL_HALF)))
                     .orElse(null);
 
-            return this.videoGateway.update(aVideo
+            aVideo
                     .updateVideoMedia(aVideoMedia)
                     .updateTrailerMedia(aTrailerMedia)
                     .updateBannerMedia(aBannerMedia)
                     .updateThumbnailMedia(aThumbnail)
-                    .updateThumbnailHalfMedia(aThumbnailHalf)
-            );
+                    .updateThumbnailHalfMedia(aThumbnailHalf);
+
+            final var expectedUpdatedAt = aCommand.expectedUpdatedAt();
+            return expectedUpdatedAt == null
+                    ? this.videoGateway.update(aVideo)
+                    : this.videoGateway.update(aVideo, expectedUpdatedAt);
+        } catch (final PreconditionFailedException e) {
+            throw e;
         } catch (final Throwable t) {
             throw InternalErrorException.with("An error on create video was observed [videoId:%s]".formatted(anId.getValue()),
                     t
@@ -129,45 +138,6 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         return () -> NotFoundException.with(Video.class, aVideoID);
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> ids) {
-        return validateAggregate("categories", ids, categoryGateway::existsById);
-    }
-
-
-    private ValidationHandler validateGenres(final Set<GenreID> ids) {
-        return validateAggregate("genres", ids, genreGateway::existsById);
-    }
-
-    private ValidationHandler validateMembers(final Set<CastMemberID> ids) {
-        return validateAggregate("cast members", ids, castMemberGateway::existsById);
-    }
-
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ) {
-        final var notification = Notification.create();
-
-        if (ids == null || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrievedIds = existsByIds.apply(ids);
-
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
-
-            final var missingIdsMessage = missingIds.stream().map(Identifier::getValue).collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
-        }
-
-        return notification;
-    }
-
     private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
         return ids.stream()
                 .map(mapper)
@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalog.application.video.update;
 
 import com.fullcycle.admin.catalog.domain.resource.Resource;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.Set;
 
@@ -21,7 +22,8 @@ public record UpdateVideoCommand(
         Resource trailer,
         Resource banner,
         Resource thumbnail,
-        Resource thumbnailHalf
+        Resource thumbnailHalf,
+        Instant expectedUpdatedAt
 ) {
 
     public static UpdateVideoCommand with(
@@ -38,6 +40,36 @@ public record UpdateVideoCommand(
             final Set<String> members
     ) {
         return with(
+                id,
+                title,
+                description,
+                launchedAt,
+                duration,
+                opened,
+                published,
+                rating,
+                categories,
+                genres,
+                members,
+                null
+        );
+    }
+
+    public static UpdateVideoCommand with(
+            final String id,
+            final String title,
+            final String description,
+            final Integer launchedAt,
+            final Double duration,
+            final Boolean opened,
+            final Boolean published,
+            final String rating,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> members,
+            final Instant expectedUpdatedAt
+    ) {
+        return new UpdateVideoCommand(
                 id,
                 title,
                 description,
@@ -53,7 +85,8 @@ public record UpdateVideoCommand(
                 null,
                 null,
                 null,
-                null
+                null,
+                expectedUpdatedAt
         );
     }
 
@@ -91,7 +124,8 @@ public record UpdateVideoCommand(
                 trailer,
                 banner,
                 thumbnail,
-                thumbnailHalf
+                thumbnailHalf,
+                null
         );
     }
 
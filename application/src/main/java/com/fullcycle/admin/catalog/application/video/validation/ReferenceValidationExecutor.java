@@ -0,0 +1,147 @@
+package com.fullcycle.admin.catalog.application.video.validation;
+
+import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Checks that the ids referenced by a command exist, one lookup per aggregate, running them concurrently: the first
+ * one on the calling thread, the others on a shared executor. The errors are merged in the order the lookups were
+ * given, whichever finishes first. When a lookup fails or the deadline expires, the others are cancelled.
+ * <p>
+ * The executor is expected to run a lookup it has no room for on the calling thread, rather than reject it.
+ */
+public class ReferenceValidationExecutor {
+
+    private final Executor executor;
+    private final Duration timeout;
+    private final Listener listener;
+
+    public ReferenceValidationExecutor(final Executor executor, final Duration timeout, final Listener listener) {
+        this.executor = Objects.requireNonNull(executor);
+        this.timeout = Objects.requireNonNull(timeout);
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    public static ReferenceValidationExecutor sameThread() {
+        return new ReferenceValidationExecutor(Runnable::run, Duration.ofDays(1), Listener.NOOP);
+    }
+
+    public static <T extends Identifier> Lookup<T> lookup(
+            final String aggregate,
+            final Set<T> ids,
+            final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        return new Lookup<>(aggregate, ids, existsByIds);
+    }
+
+    public ValidationHandler validate(final Lookup<?>... lookups) {
+        final var startedAt = System.nanoTime();
+        final var deadline = startedAt + this.timeout.toNanos();
+
+        final var pending = new ArrayList<Lookup<?>>(lookups.length);
+        for (final var lookup : lookups) {
+            if (lookup.ids() != null && !lookup.ids().isEmpty()) {
+                pending.add(lookup);
+            }
+        }
+
+        final var tasks = new ArrayList<FutureTask<Result>>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            final var task = new FutureTask<>(pending.get(i)::call);
+            tasks.add(task);
+            if (i > 0) {
+                this.executor.execute(task);
+            }
+        }
+
+        final var notification = Notification.create();
+        final var durations = new LinkedHashMap<String, Duration>(pending.size());
+        try {
+            if (!tasks.isEmpty()) {
+                tasks.get(0).run();
+            }
+            for (final var task : tasks) {
+                final var result = task.get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+                notification.append(result.errors());
+                durations.put(result.aggregate(), result.elapsed());
+            }
+        } catch (final ExecutionException e) {
+            cancel(tasks);
+            if (e.getCause() instanceof RuntimeException ex) {
+                throw ex;
+            }
+            throw InternalErrorException.with("Could not validate the references", e.getCause());
+        } catch (final TimeoutException e) {
+            cancel(tasks);
+            throw InternalErrorException.with("Validating the references did not complete within %s".formatted(this.timeout), e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(tasks);
+            throw InternalErrorException.with("Interrupted while validating the references", e);
+        }
+
+        this.listener.onComplete(durations, Duration.ofNanos(System.nanoTime() - startedAt));
+        return notification;
+    }
+
+    private static void cancel(final List<FutureTask<Result>> tasks) {
+        tasks.forEach(it -> it.cancel(true));
+    }
+
+    public interface Listener {
+        Listener NOOP = (lookups, elapsed) -> {};
+
+        /**
+         * @param lookups how long each lookup took, by aggregate, in the order they were given
+         * @param elapsed wall-clock time spent validating all of them
+         */
+        void onComplete(Map<String, Duration> lookups, Duration elapsed);
+    }
+
+    public record Lookup<T extends Identifier>(
+            String aggregate,
+            Set<T> ids,
+            Function<Iterable<T>, List<T>> existsByIds
+    ) {
+
+        private Result call() {
+            final var start = System.nanoTime();
+            final var notification = Notification.create();
+
+            final var retrievedIds = this.existsByIds.apply(this.ids);
+
+            if (this.ids.size() != retrievedIds.size()) {
+                final var missingIds = new ArrayList<>(this.ids);
+                missingIds.removeAll(retrievedIds);
+
+                final var missingIdsMessage = missingIds.stream().map(Identifier::getValue).collect(Collectors.joining(", "));
+
+                notification.append(new Error("Some %s could not be found: %s".formatted(this.aggregate, missingIdsMessage)));
+            }
+
+            return new Result(this.aggregate, notification, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private record Result(String aggregate, ValidationHandler errors, Duration elapsed) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.fullcycle.admin.catalog.application.castmember.create;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CreateCastMembersBulkUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateCastMembersBulkUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateBulk_shouldReportEachLineAndCreateTheValidOnesAtOnce() {
+        // given
+        final var expectedNameError = "'name' should not be null";
+        final var expectedTypeError = "'type' should not be null";
+
+        final var commands = List.of(
+                CreateCastMemberCommand.with("Wesley", CastMemberType.ACTOR),
+                CreateCastMemberCommand.with(null, CastMemberType.ACTOR),
+                CreateCastMemberCommand.with("Vicente", null),
+                CreateCastMemberCommand.with("Gabriel", CastMemberType.DIRECTOR)
+        );
+
+        when(castMemberGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutputs = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(4, actualOutputs.size());
+
+        Assertions.assertEquals(0, actualOutputs.get(0).index());
+        Assertions.assertTrue(actualOutputs.get(0).isCreated());
+
+        Assertions.assertEquals(1, actualOutputs.get(1).index());
+        Assertions.assertFalse(actualOutputs.get(1).isCreated());
+        Assertions.assertEquals(expectedNameError, actualOutputs.get(1).errors().get(0).message());
+
+        Assertions.assertEquals(2, actualOutputs.get(2).index());
+        Assertions.assertFalse(actualOutputs.get(2).isCreated());
+        Assertions.assertEquals(expectedTypeError, actualOutputs.get(2).errors().get(0).message());
+
+        Assertions.assertEquals(3, actualOutputs.get(3).index());
+        Assertions.assertTrue(actualOutputs.get(3).isCreated());
+
+        verify(castMemberGateway, times(1)).createAll(argThat(members ->
+                members.size() == 2
+                        && members.get(0).getId().getValue().equals(actualOutputs.get(0).id())
+                        && members.get(0).getName().equals("Wesley")
+                        && members.get(1).getId().getValue().equals(actualOutputs.get(3).id())
+                        && members.get(1).getType() == CastMemberType.DIRECTOR
+        ));
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsCreateBulk_shouldNotCallTheGateway() {
+        // given
+        final var commands = List.of(
+                CreateCastMemberCommand.with(" ", CastMemberType.ACTOR),
+                CreateCastMemberCommand.with(null, null)
+        );
+
+        // when
+        final var actualOutputs = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(2, actualOutputs.size());
+        Assertions.assertTrue(actualOutputs.stream().noneMatch(it -> it.isCreated()));
+        Assertions.assertTrue(actualOutputs.stream().allMatch(it -> !it.errors().isEmpty()));
+
+        verify(castMemberGateway, times(0)).createAll(any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateBulk_shouldFailEveryValidItem() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+
+        final var commands = List.of(
+                CreateCastMemberCommand.with("Wesley", CastMemberType.ACTOR),
+                CreateCastMemberCommand.with("Vicente", CastMemberType.DIRECTOR)
+        );
+
+        when(castMemberGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var actualOutputs = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(2, actualOutputs.size());
+        actualOutputs.forEach(it -> {
+            Assertions.assertFalse(it.isCreated());
+            Assertions.assertEquals(expectedErrorMessage, it.errors().get(0).message());
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.*;
+
+public class CreateCategoriesBulkUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateCategoriesBulkUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateBulk_shouldCreateTheValidOnesAtOnce() {
+        // given
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Séries", "Episódios", false)
+        );
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutputs = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(3, actualOutputs.size());
+
+        Assertions.assertEquals(0, actualOutputs.get(0).index());
+        Assertions.assertTrue(actualOutputs.get(0).isCreated());
+
+        Assertions.assertEquals(1, actualOutputs.get(1).index());
+        Assertions.assertFalse(actualOutputs.get(1).isCreated());
+        Assertions.assertEquals(expectedErrorMessage, actualOutputs.get(1).errors().get(0).message());
+
+        Assertions.assertEquals(2, actualOutputs.get(2).index());
+        Assertions.assertTrue(actualOutputs.get(2).isCreated());
+
+        Mockito.verify(categoryGateway, times(1)).createAll(argThat(categories ->
+                categories.size() == 2
+                        && categories.get(0).getId().getValue().equals(actualOutputs.get(0).id())
+                        && categories.get(1).getId().getValue().equals(actualOutputs.get(2).id())
+        ));
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateBulk_shouldFailEveryValidItem() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Séries", null, true)
+        );
+
+        when(categoryGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var actualOutputs = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(2, actualOutputs.size());
+        actualOutputs.forEach(it -> {
+            Assertions.assertFalse(it.isCreated());
+            Assertions.assertEquals(expectedErrorMessage, it.errors().get(0).message());
+        });
+    }
+}
@@ -5,6 +5,7 @@ import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -67,6 +68,43 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
     }
 
 
+    @Test
+    public void givenAnExpectedUpdatedAt_whenCallsUpdateCategory_shouldUpdateOnlyWhileItHolds() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+        final var expectedUpdatedAt = aCategory.getUpdatedAt();
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "filmes", null, true, expectedUpdatedAt);
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(Category.clone(aCategory)));
+
+        when(categoryGateway.update(any(), any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+
+        verify(categoryGateway, times(1)).update(argThat(aUpdateCategory -> Objects.equals(expectedId, aUpdateCategory.getId())), eq(expectedUpdatedAt));
+        verify(categoryGateway, times(0)).update(any());
+    }
+
+    @Test
+    public void givenAStaleExpectedUpdatedAt_whenCallsUpdateCategory_shouldThrowPreconditionFailedInsteadOfNotification() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+        final var expectedErrorMessage = "Category with ID %s was changed since it was read".formatted(expectedId.getValue());
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "filmes", null, true, aCategory.getUpdatedAt());
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(Category.clone(aCategory)));
+
+        when(categoryGateway.update(any(), any())).thenThrow(PreconditionFailedException.with(Category.class, expectedId));
+
+        final var actualException = Assertions.assertThrows(PreconditionFailedException.class, () -> useCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
     @Test
     public void givenAInvalidName_whenCallsUpdateCategory_thenShouldReturnDomainException() {
         final var aCategory = Category.newCategory("Film", null, true);
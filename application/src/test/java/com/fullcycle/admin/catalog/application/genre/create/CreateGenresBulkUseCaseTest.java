@@ -0,0 +1,98 @@
+package com.fullcycle.admin.catalog.application.genre.create;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CreateGenresBulkUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateGenresBulkUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @Test
+    public void givenCommandsWithCategories_whenCallsCreateBulk_shouldCheckTheCategoriesOnceForTheWholeBatch() {
+        // given
+        final var filmes = CategoryID.from("123");
+        final var series = CategoryID.from("456");
+        final var documentarios = CategoryID.from("789");
+
+        final var expectedErrorMessage = "Some categories could not be found: 789";
+
+        final var commands = List.of(
+                CreateGenreCommand.with("Ação", true, List.of(filmes.getValue())),
+                CreateGenreCommand.with("Drama", true, List.of(filmes.getValue(), series.getValue())),
+                CreateGenreCommand.with("Terror", true, List.of(documentarios.getValue()))
+        );
+
+        when(categoryGateway.existsById(any())).thenReturn(List.of(filmes, series));
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutputs = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(3, actualOutputs.size());
+        Assertions.assertTrue(actualOutputs.get(0).isCreated());
+        Assertions.assertTrue(actualOutputs.get(1).isCreated());
+        Assertions.assertFalse(actualOutputs.get(2).isCreated());
+        Assertions.assertEquals(expectedErrorMessage, actualOutputs.get(2).errors().get(0).message());
+
+        verify(categoryGateway, times(1)).existsById(argThat(ids ->
+                Set.of(filmes, series, documentarios).equals(toSet(ids))
+        ));
+        verify(genreGateway, times(1)).createAll(argThat(genres ->
+                genres.size() == 2
+                        && genres.get(0).getCategories().equals(List.of(filmes))
+                        && genres.get(1).getCategories().equals(List.of(filmes, series))
+        ));
+    }
+
+    @Test
+    public void givenCommandsWithoutCategories_whenCallsCreateBulk_shouldNotCheckCategories() {
+        // given
+        final var commands = List.of(
+                CreateGenreCommand.with("Ação", true, List.of()),
+                CreateGenreCommand.with("Drama", false, null)
+        );
+
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutputs = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(2, actualOutputs.size());
+        Assertions.assertTrue(actualOutputs.stream().allMatch(it -> it.isCreated()));
+
+        verify(categoryGateway, times(0)).existsById(any());
+    }
+
+    private static Set<CategoryID> toSet(final Iterable<CategoryID> ids) {
+        final var set = new HashSet<CategoryID>();
+        ids.forEach(set::add);
+        return set;
+    }
+}
@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalog.application.video.create;
 
 import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.application.video.media.MediaStorageExecutor;
+import com.fullcycle.admin.catalog.application.video.validation.ReferenceValidationExecutor;
 import com.fullcycle.admin.catalog.domain.Fixture;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 import java.time.Year;
 import java.util.ArrayList;
@@ -51,6 +54,12 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Spy
+    private MediaStorageExecutor mediaStorageExecutor = MediaStorageExecutor.sameThread();
+
+    @Spy
+    private ReferenceValidationExecutor referenceValidationExecutor = ReferenceValidationExecutor.sameThread();
+
 
     @Override
     protected List<Object> getMocks() {
@@ -778,6 +787,34 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     }
 
 
+    @Test
+    public void givenAValidCommand_whenCallsCreateVideoAndSomeMediaFailsToStore_shouldCallClearResources() {
+        //given
+        final var expectedErrorMessage = "An error on create video was observed [videoId:";
+        final var expectedCategories = Set.of(Fixture.Categories.aulas().getId());
+        final var expectedGenres = Set.of(Fixture.Genres.tech().getId());
+        final var expectedMembers = Set.of(Fixture.CastMembers.wesley().getId());
+        final Resource expectedVideo = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final Resource expectedBanner = Fixture.Videos.resource(VideoMediaType.BANNER);
+
+        final var aCommand = CreateVideoCommand.with(Fixture.title(), Fixture.Videos.description(), Fixture.year(), Fixture.duration(), Fixture.bool(), Fixture.bool(), Fixture.Videos.rating().getName(), asString(expectedCategories), asString(expectedGenres), asString(expectedMembers), expectedVideo, null, expectedBanner, null, null);
+
+        when(categoryGateway.existsById(any())).thenReturn(new ArrayList<>(expectedCategories));
+        when(castMemberGateway.existsById(any())).thenReturn(new ArrayList<>(expectedMembers));
+        when(genreGateway.existsById(any())).thenReturn(new ArrayList<>(expectedGenres));
+        mockAudioVideoMedia();
+        when(mediaResourceGateway.storeImage(any(), any())).thenThrow(new RuntimeException("Storage unavailable"));
+
+        //when
+        final var actualException = Assertions.assertThrows(InternalErrorException.class, () -> useCase.execute(aCommand));
+
+        //then
+        Assertions.assertTrue(actualException.getMessage().startsWith(expectedErrorMessage));
+
+        verify(mediaResourceGateway).clearResources(any());
+        verify(videoGateway, never()).create(any());
+    }
+
     private void mockImageMedia() {
         when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
             final var resource = t.getArgument(1, VideoResource.class);
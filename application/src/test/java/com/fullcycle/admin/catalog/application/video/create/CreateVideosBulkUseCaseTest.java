@@ -0,0 +1,196 @@
+package com.fullcycle.admin.catalog.application.video.create;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CreateVideosBulkUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateVideosBulkUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+    @Mock
+    private CastMemberGateway castMemberGateway;
+    @Mock
+    private GenreGateway genreGateway;
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, castMemberGateway, genreGateway, videoGateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateBulk_shouldReportEachLineAndCreateTheValidOnesAtOnce() {
+        // given
+        final var aulas = CategoryID.from("123");
+        final var lives = CategoryID.from("456");
+        final var tech = GenreID.from("789");
+        final var wesley = CastMemberID.from("321");
+
+        final var expectedRatingError = "'rating' should not be null";
+        final var expectedCategoriesError = "Some categories could not be found: 999";
+
+        final var commands = List.of(
+                commandWith("L", Set.of(aulas.getValue()), Set.of(tech.getValue()), Set.of(wesley.getValue())),
+                commandWith("unknown", Set.of(aulas.getValue()), Set.of(), Set.of()),
+                commandWith("12", Set.of(lives.getValue(), "999"), Set.of(), Set.of()),
+                commandWith("18", Set.of(lives.getValue()), Set.of(), null)
+        );
+
+        when(categoryGateway.existsById(any())).thenReturn(List.of(aulas, lives));
+        when(genreGateway.existsById(any())).thenReturn(List.of(tech));
+        when(castMemberGateway.existsById(any())).thenReturn(List.of(wesley));
+        when(videoGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutputs = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(4, actualOutputs.size());
+
+        Assertions.assertEquals(0, actualOutputs.get(0).index());
+        Assertions.assertTrue(actualOutputs.get(0).isCreated());
+
+        Assertions.assertEquals(1, actualOutputs.get(1).index());
+        Assertions.assertFalse(actualOutputs.get(1).isCreated());
+        Assertions.assertEquals(expectedRatingError, actualOutputs.get(1).errors().get(0).message());
+
+        Assertions.assertEquals(2, actualOutputs.get(2).index());
+        Assertions.assertFalse(actualOutputs.get(2).isCreated());
+        Assertions.assertEquals(expectedCategoriesError, actualOutputs.get(2).errors().get(0).message());
+
+        Assertions.assertEquals(3, actualOutputs.get(3).index());
+        Assertions.assertTrue(actualOutputs.get(3).isCreated());
+
+        verify(categoryGateway, times(1)).existsById(argThat(ids ->
+                Set.of(aulas, lives, CategoryID.from("999")).equals(toSet(ids))
+        ));
+        verify(genreGateway, times(1)).existsById(argThat(ids -> Set.of(tech).equals(toSet(ids))));
+        verify(castMemberGateway, times(1)).existsById(argThat(ids -> Set.of(wesley).equals(toSet(ids))));
+        verify(videoGateway, times(1)).createAll(argThat(videos ->
+                videos.size() == 2
+                        && videos.get(0).getId().getValue().equals(actualOutputs.get(0).id())
+                        && videos.get(0).getCategories().equals(Set.of(aulas))
+                        && videos.get(0).getGenres().equals(Set.of(tech))
+                        && videos.get(0).getCastMembers().equals(Set.of(wesley))
+                        && videos.get(1).getId().getValue().equals(actualOutputs.get(3).id())
+        ));
+    }
+
+    @Test
+    public void givenCommandsWithoutRelations_whenCallsCreateBulk_shouldNotLookThemUp() {
+        // given
+        final var commands = List.of(
+                commandWith("L", Set.of(), Set.of(), Set.of()),
+                commandWith("ER", null, null, null)
+        );
+
+        when(videoGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutputs = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(2, actualOutputs.size());
+        Assertions.assertTrue(actualOutputs.stream().allMatch(it -> it.isCreated()));
+
+        verify(categoryGateway, times(0)).existsById(any());
+        verify(genreGateway, times(0)).existsById(any());
+        verify(castMemberGateway, times(0)).existsById(any());
+        verify(videoGateway, times(1)).createAll(argThat(videos -> videos.size() == 2));
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsCreateBulk_shouldNotCallTheGateway() {
+        // given
+        final var expectedErrorMessage = "'rating' should not be null";
+
+        final var commands = List.of(
+                commandWith("unknown", Set.of(), Set.of(), Set.of()),
+                commandWith(null, Set.of(), Set.of(), Set.of())
+        );
+
+        // when
+        final var actualOutputs = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(2, actualOutputs.size());
+        actualOutputs.forEach(it -> {
+            Assertions.assertFalse(it.isCreated());
+            Assertions.assertEquals(expectedErrorMessage, it.errors().get(0).message());
+        });
+
+        verify(videoGateway, times(0)).createAll(any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateBulk_shouldFailEveryValidItem() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+
+        final var commands = List.of(
+                commandWith("L", Set.of(), Set.of(), Set.of()),
+                commandWith("10", Set.of(), Set.of(), Set.of())
+        );
+
+        when(videoGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var actualOutputs = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(2, actualOutputs.size());
+        actualOutputs.forEach(it -> {
+            Assertions.assertFalse(it.isCreated());
+            Assertions.assertEquals(expectedErrorMessage, it.errors().get(0).message());
+        });
+    }
+
+    private static CreateVideoCommand commandWith(
+            final String aRating,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> members
+    ) {
+        return CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                aRating,
+                categories,
+                genres,
+                members
+        );
+    }
+
+    private static <T> Set<T> toSet(final Iterable<T> ids) {
+        final var set = new HashSet<T>();
+        ids.forEach(set::add);
+        return set;
+    }
+}
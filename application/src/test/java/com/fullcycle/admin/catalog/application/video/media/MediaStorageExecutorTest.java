@@ -0,0 +1,163 @@
+package com.fullcycle.admin.catalog.application.video.media;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+public class MediaStorageExecutorTest extends UseCaseTest {
+
+    private final ExecutorService threadPool = Executors.newFixedThreadPool(4);
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        threadPool.shutdownNow();
+    }
+
+    @Test
+    public void givenConcurrentUploads_whenCallsAwait_shouldRunThemInParallelAndReportSavedTime() {
+        //given
+        final var expectedCount = 3;
+        final var allStarted = new CountDownLatch(expectedCount);
+        final var actualCount = new AtomicInteger();
+        final var actualElapsed = new AtomicReference<Duration>();
+        final var actualSerial = new AtomicReference<Duration>();
+        final var target = new MediaStorageExecutor(threadPool, Duration.ofSeconds(5), (count, elapsed, serial) -> {
+            actualCount.set(count);
+            actualElapsed.set(elapsed);
+            actualSerial.set(serial);
+        });
+
+        final var batch = target.newBatch();
+
+        //when
+        final var actualResults = List.of(
+                batch.submit(() -> awaitAll(allStarted, "video")),
+                batch.submit(() -> awaitAll(allStarted, "trailer")),
+                batch.submit(() -> awaitAll(allStarted, "banner"))
+        );
+        batch.await();
+
+        //then
+        Assertions.assertEquals(List.of("video", "trailer", "banner"), actualResults.stream().map(Supplier::get).toList());
+        Assertions.assertEquals(expectedCount, actualCount.get());
+        Assertions.assertTrue(actualSerial.get().compareTo(actualElapsed.get()) > 0);
+    }
+
+    @Test
+    public void givenAFailingUpload_whenCallsAwait_shouldCancelTheOthersAndThrow() {
+        //given
+        final var expectedErrorMessage = "Could not store media";
+        final var slowUploadInterrupted = new AtomicBoolean(false);
+        final var target = new MediaStorageExecutor(threadPool, Duration.ofSeconds(5), MediaStorageExecutor.Listener.NOOP);
+
+        final var batch = target.newBatch();
+        batch.submit(() -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (final InterruptedException e) {
+                slowUploadInterrupted.set(true);
+            }
+            return "video";
+        });
+        batch.submit(() -> {
+            throw new IllegalStateException("Storage unavailable");
+        });
+
+        //when
+        final var actualException = Assertions.assertThrows(InternalErrorException.class, batch::await);
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertEquals("Storage unavailable", actualException.getCause().getMessage());
+        Assertions.assertTrue(slowUploadInterrupted.get());
+    }
+
+    @Test
+    public void givenAnUploadSlowerThanTheDeadline_whenCallsAwait_shouldTimeout() {
+        //given
+        final var expectedErrorMessage = "Media storage did not complete within PT0.1S";
+        final var target = new MediaStorageExecutor(threadPool, Duration.ofMillis(100), MediaStorageExecutor.Listener.NOOP);
+
+        final var batch = target.newBatch();
+        batch.submit(() -> {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            return "video";
+        });
+
+        //when
+        final var actualException = Assertions.assertThrows(InternalErrorException.class, batch::await);
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenAnUploadStillQueued_whenAnotherFails_shouldNotWaitForThePoolToReachIt() {
+        //given
+        final var expectedErrorMessage = "Could not store media";
+        final var queuedUploadRan = new AtomicBoolean(false);
+
+        // The first call waits in the queue of a pool busy with other requests, the second one runs right away
+        final var queued = new LinkedBlockingQueue<Runnable>();
+        final var submitted = new AtomicInteger();
+        final Executor busyPool = task -> {
+            if (submitted.getAndIncrement() == 0) {
+                queued.add(task);
+            } else {
+                threadPool.execute(task);
+            }
+        };
+        final var target = new MediaStorageExecutor(busyPool, Duration.ofSeconds(30), MediaStorageExecutor.Listener.NOOP);
+
+        final var batch = target.newBatch();
+        batch.submit(() -> {
+            queuedUploadRan.set(true);
+            return "video";
+        });
+        batch.submit(() -> {
+            throw new IllegalStateException("Storage unavailable");
+        });
+
+        //when
+        final var start = System.nanoTime();
+        final var actualException = Assertions.assertThrows(InternalErrorException.class, batch::await);
+        final var actualElapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertTrue(actualElapsed.compareTo(Duration.ofSeconds(1)) < 0, () -> "Took " + actualElapsed);
+
+        // The pool finally reaches it
+        queued.forEach(Runnable::run);
+        Assertions.assertFalse(queuedUploadRan.get());
+    }
+
+    private static String awaitAll(final CountDownLatch allStarted, final String result) throws InterruptedException {
+        allStarted.countDown();
+        if (!allStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Uploads did not run concurrently");
+        }
+        Thread.sleep(50);
+        return result;
+    }
+}
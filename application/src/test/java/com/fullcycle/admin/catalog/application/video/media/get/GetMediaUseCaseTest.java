@@ -1,9 +1,12 @@
 package com.fullcycle.admin.catalog.application.video.media.get;
 
 import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
 import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -14,6 +17,9 @@ import java.util.Optional;
 
 import static com.fullcycle.admin.catalog.domain.Fixture.Videos.mediaType;
 import static com.fullcycle.admin.catalog.domain.Fixture.Videos.resource;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class GetMediaUseCaseTest extends UseCaseTest {
@@ -23,19 +29,27 @@ public class GetMediaUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Mock
+    private VideoGateway videoGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(mediaResourceGateway);
+        return List.of(mediaResourceGateway, videoGateway);
     }
 
 
     @Test
-    public void givenVideoIdAndType_whenIsValidCmd_shouldReturnResource() {
+    public void givenVideoIdAndType_whenIsValidCmd_shouldReturnResourceWithTheRecordedChecksum() {
         //given
-        final var expectedId = VideoID.unique();
-        final var expectedType = mediaType();
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedMedia = Fixture.Videos.image(expectedType);
+        final var aVideo = Fixture.video().updateBannerMedia(expectedMedia);
+        final var expectedId = aVideo.getId();
         final var expectedResource = resource(expectedType);
 
+        when(videoGateway.findById(expectedId))
+                .thenReturn(Optional.of(aVideo));
+
         when(mediaResourceGateway.getResource(expectedId, expectedType))
                 .thenReturn(Optional.of(expectedResource));
 
@@ -47,14 +61,44 @@ public class GetMediaUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedResource.name(), actualResult.name());
         Assertions.assertEquals(expectedResource.content(), actualResult.content());
         Assertions.assertEquals(expectedResource.contentType(), actualResult.contentType());
+        Assertions.assertEquals(expectedMedia.checksum(), actualResult.checksum());
+    }
+
+    @Test
+    public void givenAVideoWithoutTheMedia_whenCallsGetMedia_shouldReturnNotFoundWithoutReadingIt() {
+        //given
+        final var aVideo = Fixture.video();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedErrorMessage = "Resource TRAILER not found for video %s".formatted(expectedId.getValue());
+
+        when(videoGateway.findById(expectedId))
+                .thenReturn(Optional.of(aVideo));
+
+        final var aCmd = GetMediaCommand.with(expectedId.getValue(), expectedType.name());
+
+        //when
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> this.useCase.execute(aCmd));
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaResourceGateway, times(0)).getResource(any(), any());
     }
 
     @Test
     public void givenVideoIdAndType_whenIsNotFound_shouldReturnNotFoundException() {
         //given
-        final var expectedId = VideoID.unique();
         final var expectedType = mediaType();
-        final var expectedResource = resource(expectedType);
+        final var aVideo = Fixture.video()
+                .updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO))
+                .updateTrailerMedia(Fixture.Videos.audioVideo(VideoMediaType.TRAILER))
+                .updateBannerMedia(Fixture.Videos.image(VideoMediaType.BANNER))
+                .updateThumbnailMedia(Fixture.Videos.image(VideoMediaType.THUMBNAIL))
+                .updateThumbnailHalfMedia(Fixture.Videos.image(VideoMediaType.THUMBNAIL_HALF));
+        final var expectedId = aVideo.getId();
+
+        when(videoGateway.findById(expectedId))
+                .thenReturn(Optional.of(aVideo));
 
         when(mediaResourceGateway.getResource(expectedId, expectedType))
                 .thenReturn(Optional.empty());
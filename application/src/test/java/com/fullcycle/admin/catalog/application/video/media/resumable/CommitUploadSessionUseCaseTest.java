@@ -0,0 +1,121 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadChunk;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadSession;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class CommitUploadSessionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCommitUploadSessionUseCase useCase;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaUploadGateway, mediaResourceGateway, videoGateway);
+    }
+
+    @Test
+    public void givenContiguousChunks_whenCallsCommitUploadSession_shouldStoreTheMediaAndDeleteTheSession() {
+        //given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var aSession = MediaUploadSession.newSession(aVideo.getId(), expectedType, "video/mp4", "trailer.mp4");
+        final var chunks = List.of(MediaUploadChunk.with(1, "a", 5), MediaUploadChunk.with(2, "b", 3));
+        final var expectedResource = Fixture.Videos.resource(expectedType);
+        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+
+        when(mediaUploadGateway.findById(aSession.id()))
+                .thenReturn(Optional.of(aSession));
+
+        when(mediaUploadGateway.findChunks(aSession))
+                .thenReturn(chunks);
+
+        when(mediaUploadGateway.assemble(aSession, chunks))
+                .thenReturn(expectedResource);
+
+        when(videoGateway.findById(aVideo.getId()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any()))
+                .thenReturn(expectedMedia);
+
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var aCmd = UploadSessionCommand.with(aVideo.getId().getValue(), expectedType, aSession.id());
+
+        //when
+        final var actualOutput = useCase.execute(aCmd);
+
+        //then
+        Assertions.assertEquals(aVideo.getId().getValue(), actualOutput.videoId());
+        Assertions.assertEquals(expectedType, actualOutput.mediaType());
+
+        verify(mediaResourceGateway, times(1)).storeAudioVideo(
+                eq(aVideo.getId()),
+                argThat(it -> it.type() == expectedType && it.resource() == expectedResource)
+        );
+        verify(videoGateway, times(1)).update(argThat(actualVideo ->
+                Objects.equals(expectedMedia, actualVideo.getTrailer().get())
+                        && actualVideo.getVideo().isEmpty()
+        ));
+        verify(mediaUploadGateway, times(1)).delete(aSession);
+    }
+
+    @Test
+    public void givenAMissingChunk_whenCallsCommitUploadSession_shouldThrowErrorAndKeepTheSession() {
+        //given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var aSession = MediaUploadSession.newSession(aVideo.getId(), VideoMediaType.VIDEO, "video/mp4", "video.mp4");
+        final var expectedErrorMessage = "Upload session %s is missing chunk 2".formatted(aSession.id());
+
+        when(mediaUploadGateway.findById(aSession.id()))
+                .thenReturn(Optional.of(aSession));
+
+        when(mediaUploadGateway.findChunks(aSession))
+                .thenReturn(List.of(MediaUploadChunk.with(1, "a", 3), MediaUploadChunk.with(3, "c", 5)));
+
+        final var aCmd = UploadSessionCommand.with(aVideo.getId().getValue(), VideoMediaType.VIDEO, aSession.id());
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(aCmd)
+        );
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(mediaUploadGateway, never()).assemble(any(), any());
+        verify(mediaUploadGateway, never()).delete(any());
+        verifyNoInteractions(mediaResourceGateway, videoGateway);
+    }
+}
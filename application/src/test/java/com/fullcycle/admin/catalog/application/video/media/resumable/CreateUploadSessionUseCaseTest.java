@@ -0,0 +1,114 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CreateUploadSessionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateUploadSessionUseCase useCase;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaUploadGateway, videoGateway);
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateUploadSession_shouldReturnAnEmptySession() {
+        //given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.TRAILER;
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaUploadGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var aCmd = CreateUploadSessionCommand.with(expectedId.getValue(), expectedType, "video/mp4", "trailer.mp4");
+
+        //when
+        final var actualOutput = useCase.execute(aCmd);
+
+        //then
+        Assertions.assertNotNull(actualOutput.sessionId());
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
+        Assertions.assertEquals(expectedType, actualOutput.mediaType());
+        Assertions.assertEquals("video/mp4", actualOutput.contentType());
+        Assertions.assertEquals("trailer.mp4", actualOutput.fileName());
+        Assertions.assertTrue(actualOutput.chunks().isEmpty());
+
+        verify(mediaUploadGateway, times(1)).create(argThat(aSession ->
+                aSession.belongsTo(expectedId, expectedType)
+                        && aSession.id().equals(actualOutput.sessionId())
+        ));
+    }
+
+    @Test
+    public void givenAnImageTypeAndNoFileName_whenCallsCreateUploadSession_shouldReturnNotification() {
+        //given
+        final var expectedErrorCount = 2;
+        final var expectedFirstError = "Resumable uploads are only supported for [VIDEO, TRAILER]";
+        final var expectedSecondError = "'file_name' should not be empty";
+
+        final var aCmd = CreateUploadSessionCommand.with(VideoID.unique().getValue(), VideoMediaType.BANNER, "image/png", " ");
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> useCase.execute(aCmd)
+        );
+
+        //then
+        Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
+        Assertions.assertEquals(expectedFirstError, actualException.getErrors().get(0).message());
+        Assertions.assertEquals(expectedSecondError, actualException.getErrors().get(1).message());
+
+        verifyNoInteractions(videoGateway, mediaUploadGateway);
+    }
+
+    @Test
+    public void givenAnUnknownVideo_whenCallsCreateUploadSession_shouldThrowNotFound() {
+        //given
+        final var expectedErrorMessage = "Video with ID 123 was not found";
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        final var aCmd = CreateUploadSessionCommand.with("123", VideoMediaType.VIDEO, "video/mp4", "video.mp4");
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(aCmd)
+        );
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaUploadGateway, never()).create(any());
+    }
+}
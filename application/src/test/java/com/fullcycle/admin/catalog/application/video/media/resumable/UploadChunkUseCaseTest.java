@@ -0,0 +1,168 @@
+package com.fullcycle.admin.catalog.application.video.media.resumable;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadChunk;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadSession;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class UploadChunkUseCaseTest extends UseCaseTest {
+
+    private static final String CHECKSUM = "4a86036cb6f415fc8c8d3d3b681700784c9859be3d1c5657fb4fb905b16a78d3";
+
+    @InjectMocks
+    private DefaultUploadChunkUseCase useCase;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaUploadGateway);
+    }
+
+    @Test
+    public void givenAMatchingChunk_whenCallsUploadChunk_shouldSaveIt() {
+        //given
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video/mp4", "video.mp4");
+        final var aContent = "Conteudo".getBytes();
+        final var expectedChunk = MediaUploadChunk.with(2, CHECKSUM, aContent.length);
+
+        when(mediaUploadGateway.findById(aSession.id()))
+                .thenReturn(Optional.of(aSession));
+
+        when(mediaUploadGateway.storeChunk(eq(aSession), eq(2), any(), eq((long) aContent.length)))
+                .thenReturn(expectedChunk);
+
+        final var aCmd = commandOf(aSession, 2, aContent, CHECKSUM.toUpperCase());
+
+        //when
+        final var actualOutput = useCase.execute(aCmd);
+
+        //then
+        Assertions.assertEquals(UploadChunkOutput.from(expectedChunk), actualOutput);
+
+        verify(mediaUploadGateway, times(1)).saveChunk(aSession, expectedChunk);
+        verify(mediaUploadGateway, never()).discardChunk(any(), anyInt());
+    }
+
+    @Test
+    public void givenAWrongChecksum_whenCallsUploadChunk_shouldDiscardTheChunk() {
+        //given
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video/mp4", "video.mp4");
+        final var aContent = "Conteudo".getBytes();
+        final var expectedErrorMessage = "Chunk 1 checksum mismatch, expected 00000000 but received %s".formatted(CHECKSUM);
+
+        when(mediaUploadGateway.findById(aSession.id()))
+                .thenReturn(Optional.of(aSession));
+
+        when(mediaUploadGateway.storeChunk(any(), anyInt(), any(), anyLong()))
+                .thenReturn(MediaUploadChunk.with(1, CHECKSUM, aContent.length));
+
+        final var aCmd = commandOf(aSession, 1, aContent, "00000000");
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(aCmd)
+        );
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(mediaUploadGateway, times(1)).discardChunk(aSession, 1);
+        verify(mediaUploadGateway, never()).saveChunk(any(), any());
+    }
+
+    @Test
+    public void givenATruncatedChunk_whenCallsUploadChunk_shouldDiscardTheChunk() {
+        //given
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video/mp4", "video.mp4");
+        final var aContent = "Conteudo".getBytes();
+        final var expectedErrorMessage = "Chunk 1 is incomplete, expected 8 bytes but received 5";
+
+        when(mediaUploadGateway.findById(aSession.id()))
+                .thenReturn(Optional.of(aSession));
+
+        when(mediaUploadGateway.storeChunk(any(), anyInt(), any(), anyLong()))
+                .thenReturn(MediaUploadChunk.with(1, CHECKSUM, 5));
+
+        final var aCmd = commandOf(aSession, 1, aContent, null);
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(aCmd)
+        );
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(mediaUploadGateway, times(1)).discardChunk(aSession, 1);
+        verify(mediaUploadGateway, never()).saveChunk(any(), any());
+    }
+
+    @Test
+    public void givenASessionOfAnotherMediaType_whenCallsUploadChunk_shouldThrowNotFound() {
+        //given
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video/mp4", "video.mp4");
+        final var expectedErrorMessage = "Upload session %s was not found".formatted(aSession.id());
+
+        when(mediaUploadGateway.findById(aSession.id()))
+                .thenReturn(Optional.of(aSession));
+
+        final var aCmd = UploadChunkCommand.with(
+                aSession.videoId().getValue(),
+                VideoMediaType.TRAILER,
+                aSession.id(),
+                1,
+                new ByteArrayInputStream(new byte[0]),
+                0,
+                null
+        );
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(aCmd)
+        );
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaUploadGateway, never()).storeChunk(any(), anyInt(), any(), anyLong());
+    }
+
+    private static UploadChunkCommand commandOf(
+            final MediaUploadSession aSession,
+            final int number,
+            final byte[] content,
+            final String checksum
+    ) {
+        return UploadChunkCommand.with(
+                aSession.videoId().getValue(),
+                aSession.mediaType(),
+                aSession.id(),
+                number,
+                new ByteArrayInputStream(content),
+                content.length,
+                checksum
+        );
+    }
+}
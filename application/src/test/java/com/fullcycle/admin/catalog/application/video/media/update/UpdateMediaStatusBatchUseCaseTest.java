@@ -0,0 +1,113 @@
+package com.fullcycle.admin.catalog.application.video.media.update;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.video.MediaStatus;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UpdateMediaStatusBatchUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultUpdateMediaStatusBatchUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenCommandsForTheSameVideo_whenCallsExecute_shouldReadAndWriteTheVideoOnce() {
+        //given
+        final var expectedVideoMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedTrailerMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+
+        final var aVideo = Fixture.Videos.systemDesign()
+                .updateVideoMedia(expectedVideoMedia)
+                .updateTrailerMedia(expectedTrailerMedia);
+
+        final var expectedId = aVideo.getId();
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var commands = List.of(
+                UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, expectedId.getValue(), expectedVideoMedia.id(), null, null),
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedId.getValue(), expectedVideoMedia.id(), "encoded", "video.mp4"),
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedId.getValue(), expectedTrailerMedia.id(), "encoded", "trailer.mp4")
+        );
+
+        //when
+        final var actualOutput = this.useCase.execute(commands);
+
+        //then
+        Assertions.assertEquals(3, actualOutput.commands());
+        Assertions.assertEquals(1, actualOutput.videosUpdated());
+        Assertions.assertTrue(actualOutput.videosNotFound().isEmpty());
+
+        verify(videoGateway, Mockito.times(1)).findById(eq(expectedId));
+
+        final var captor = ArgumentCaptor.forClass(Video.class);
+        verify(videoGateway, Mockito.times(1)).update(captor.capture());
+
+        final var actualVideo = captor.getValue();
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualVideo.getVideo().get().status());
+        Assertions.assertEquals("encoded/video.mp4", actualVideo.getVideo().get().encodedLocation());
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualVideo.getTrailer().get().status());
+        Assertions.assertEquals("encoded/trailer.mp4", actualVideo.getTrailer().get().encodedLocation());
+    }
+
+    @Test
+    public void givenACommandForAnUnknownVideo_whenCallsExecute_shouldReportItAndUpdateTheOthers() {
+        //given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var aVideo = Fixture.video().updateVideoMedia(expectedMedia);
+        final var unknownId = VideoID.unique();
+
+        when(videoGateway.findById(eq(unknownId)))
+                .thenReturn(Optional.empty());
+
+        when(videoGateway.findById(eq(aVideo.getId())))
+                .thenReturn(Optional.of(aVideo));
+
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var commands = List.of(
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, unknownId.getValue(), "any_id", "encoded", "video.mp4"),
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, aVideo.getId().getValue(), expectedMedia.id(), "encoded", "video.mp4")
+        );
+
+        //when
+        final var actualOutput = this.useCase.execute(commands);
+
+        //then
+        Assertions.assertEquals(1, actualOutput.videosUpdated());
+        Assertions.assertEquals(List.of(unknownId.getValue()), actualOutput.videosNotFound());
+
+        verify(videoGateway, Mockito.times(1)).update(eq(aVideo));
+    }
+}
@@ -262,4 +262,55 @@ public class UpdateMediaStatusUSeCaseTest extends UseCaseTest {
 
         verify(videoGateway, Mockito.times(0)).update(any());
     }
+
+    @Test
+    public void givenALateProcessingForACompletedVideo_whenCallsExecute_shouldNotUpdate() {
+        //given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO).completed("encoded_media/filename.mp4");
+
+        final var aVideo = Fixture.Videos.systemDesign().updateVideoMedia(expectedMedia);
+
+        final var expectedId = aVideo.getId();
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        final var aCmd = UpdateMediaStatusCommand.with(
+                MediaStatus.PROCESSING,
+                expectedId.getValue(),
+                expectedMedia.id(),
+                null,
+                null
+        );
+        //when
+        this.useCase.execute(aCmd);
+        //then
+        verify(videoGateway, Mockito.times(0)).update(any());
+        Assertions.assertEquals(MediaStatus.COMPLETED, aVideo.getVideo().get().status());
+    }
+
+    @Test
+    public void givenARedeliveredCompletedResult_whenCallsExecute_shouldNotUpdate() {
+        //given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER).completed("encoded_media/filename.mp4");
+
+        final var aVideo = Fixture.Videos.systemDesign().updateTrailerMedia(expectedMedia);
+
+        final var expectedId = aVideo.getId();
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        final var aCmd = UpdateMediaStatusCommand.with(
+                MediaStatus.COMPLETED,
+                expectedId.getValue(),
+                expectedMedia.id(),
+                "encoded_media",
+                "filename.mp4"
+        );
+        //when
+        this.useCase.execute(aCmd);
+        //then
+        verify(videoGateway, Mockito.times(0)).update(any());
+    }
 }
@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalog.application.video.retrieve.list;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.video.VideoFacets;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ListVideoFacetsUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListVideoFacetsUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListVideoFacets_shouldReturnCountsByRelationId() {
+        //given
+        final var aCategory = CategoryID.unique();
+        final var aGenre = GenreID.unique();
+        final var aMember = CastMemberID.unique();
+
+        when(videoGateway.facets(any()))
+                .thenReturn(new VideoFacets(Map.of(aCategory, 3L), Map.of(aGenre, 2L), Map.of(aMember, 1L)));
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(aCategory), Set.of());
+
+        //when
+        final var actualOutput = useCase.execute(aQuery);
+
+        //then
+        Assertions.assertEquals(Map.of(aCategory.getValue(), 3L), actualOutput.categories());
+        Assertions.assertEquals(Map.of(aGenre.getValue(), 2L), actualOutput.genres());
+        Assertions.assertEquals(Map.of(aMember.getValue(), 1L), actualOutput.castMembers());
+
+        verify(videoGateway, times(1)).facets(eq(aQuery));
+    }
+}
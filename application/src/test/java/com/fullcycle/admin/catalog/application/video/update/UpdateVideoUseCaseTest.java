@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalog.application.video.update;
 
 import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.application.video.validation.ReferenceValidationExecutor;
 import com.fullcycle.admin.catalog.domain.Fixture;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 import java.time.Year;
 import java.util.*;
@@ -38,6 +40,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     private GenreGateway genreGateway;
     @Mock
     private MediaResourceGateway mediaResourceGateway;
+    @Spy
+    private ReferenceValidationExecutor referenceValidationExecutor = ReferenceValidationExecutor.sameThread();
 
     @Override
     protected List<Object> getMocks() {
@@ -0,0 +1,142 @@
+package com.fullcycle.admin.catalog.application.video.validation;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.fullcycle.admin.catalog.application.video.validation.ReferenceValidationExecutor.lookup;
+
+public class ReferenceValidationExecutorTest extends UseCaseTest {
+
+    private final ExecutorService threadPool = Executors.newFixedThreadPool(4);
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        threadPool.shutdownNow();
+    }
+
+    @Test
+    public void givenThreeLookups_whenCallsValidate_shouldRunThemConcurrentlyAndKeepTheErrorsInOrder() {
+        //given
+        final var allStarted = new CountDownLatch(3);
+        final var actualLookups = new AtomicReference<Map<String, Duration>>();
+        final var target = new ReferenceValidationExecutor(threadPool, Duration.ofSeconds(5), (lookups, elapsed) ->
+                actualLookups.set(lookups));
+
+        final var categories = Set.of(CategoryID.from("123"));
+        final var genres = Set.of(GenreID.from("456"));
+        final var members = Set.of(CastMemberID.from("789"));
+
+        //when
+        final var actualErrors = target.validate(
+                lookup("categories", categories, ids -> awaitAll(allStarted, List.<CategoryID>of())),
+                lookup("genres", genres, ids -> awaitAll(allStarted, List.<GenreID>of())),
+                lookup("cast members", members, ids -> awaitAll(allStarted, List.<CastMemberID>of()))
+        ).getErrors();
+
+        //then
+        Assertions.assertEquals(3, actualErrors.size());
+        Assertions.assertEquals("Some categories could not be found: 123", actualErrors.get(0).message());
+        Assertions.assertEquals("Some genres could not be found: 456", actualErrors.get(1).message());
+        Assertions.assertEquals("Some cast members could not be found: 789", actualErrors.get(2).message());
+        Assertions.assertEquals(List.of("categories", "genres", "cast members"), List.copyOf(actualLookups.get().keySet()));
+    }
+
+    @Test
+    public void givenEmptyIds_whenCallsValidate_shouldNotLookThemUp() {
+        //given
+        final var target = new ReferenceValidationExecutor(threadPool, Duration.ofSeconds(5), ReferenceValidationExecutor.Listener.NOOP);
+
+        //when
+        final var actualErrors = target.validate(
+                lookup("categories", Set.<CategoryID>of(), ids -> {
+                    throw new IllegalStateException("Should not be called");
+                }),
+                lookup("genres", Set.of(GenreID.from("456")), ids -> List.of(GenreID.from("456")))
+        ).getErrors();
+
+        //then
+        Assertions.assertTrue(actualErrors.isEmpty());
+    }
+
+    @Test
+    public void givenAFailingLookup_whenCallsValidate_shouldCancelTheOthersAndRethrow() {
+        //given
+        final var expectedErrorMessage = "Database unavailable";
+        final var target = new ReferenceValidationExecutor(threadPool, Duration.ofSeconds(5), ReferenceValidationExecutor.Listener.NOOP);
+
+        //when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> target.validate(
+                lookup("categories", Set.of(CategoryID.from("123")), ids -> {
+                    throw new IllegalStateException(expectedErrorMessage);
+                }),
+                lookup("genres", Set.of(GenreID.from("456")), ids -> {
+                    try {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return List.of();
+                })
+        ));
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenALookupSlowerThanTheDeadline_whenCallsValidate_shouldTimeout() {
+        //given
+        final var expectedErrorMessage = "Validating the references did not complete within PT0.1S";
+        final var target = new ReferenceValidationExecutor(threadPool, Duration.ofMillis(100), ReferenceValidationExecutor.Listener.NOOP);
+
+        //when
+        final var actualException = Assertions.assertThrows(InternalErrorException.class, () -> target.validate(
+                lookup("categories", Set.of(CategoryID.from("123")), ids -> List.of(CategoryID.from("123"))),
+                lookup("genres", Set.of(GenreID.from("456")), ids -> {
+                    try {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return List.of();
+                })
+        ));
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    private static <T> T awaitAll(final CountDownLatch allStarted, final T result) {
+        allStarted.countDown();
+        try {
+            if (!allStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Lookups did not run concurrently");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return result;
+    }
+}
@@ -3,18 +3,23 @@ package com.fullcycle.admin.catalog.domain.castmember;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 public interface CastMemberGateway {
     CastMember create(CastMember castMember);
 
+    List<CastMember> createAll(List<CastMember> someMembers);
+
     void deleteById(CastMemberID castMemberId);
 
     Optional<CastMember> findById(CastMemberID castMemberId);
 
     CastMember update(CastMember castMember);
 
+    CastMember update(CastMember castMember, Instant expectedUpdatedAt);
+
     Pagination<CastMember> findAll(SearchQuery aQuery);
     List<CastMemberID> existsById(Iterable<CastMemberID> ids);
 }
@@ -3,17 +3,29 @@ package com.fullcycle.admin.catalog.domain.category;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 public interface CategoryGateway {
     Category create(Category aCategory);
+
+    List<Category> createAll(List<Category> someCategories);
+
     void deleteById(CategoryID anId);
 
     Optional<Category> findById(CategoryID anId);
 
     Category update(Category aCategory);
 
+    /**
+     * Updates the category only while its stored last update is still {@code expectedUpdatedAt}, checked in the same
+     * transaction as the write.
+     *
+     * @throws com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException when it was updated since
+     */
+    Category update(Category aCategory, Instant expectedUpdatedAt);
+
     Pagination<Category> findAll(SearchQuery aQuery);
 
     List<CategoryID> existsById(Iterable<CategoryID> ids);
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalog.domain.exceptions;
+
+import com.fullcycle.admin.catalog.domain.AggregateRoot;
+import com.fullcycle.admin.catalog.domain.Identifier;
+
+import java.util.Collections;
+
+/**
+ * An update required the version of the aggregate it was read from, and the aggregate has changed since.
+ */
+public class PreconditionFailedException extends DomainException {
+    protected PreconditionFailedException(final String aMessage) {
+        super(aMessage, Collections.emptyList());
+    }
+
+    public static PreconditionFailedException with(final Class<? extends AggregateRoot<?>> anAggregate, final Identifier anId) {
+        final var anError = "%s with ID %s was changed since it was read".formatted(anAggregate.getSimpleName(), anId.getValue());
+        return new PreconditionFailedException(anError);
+    }
+
+    public static PreconditionFailedException with(final String aMessage) {
+        return new PreconditionFailedException(aMessage);
+    }
+}
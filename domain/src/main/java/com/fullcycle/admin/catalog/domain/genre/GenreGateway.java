@@ -3,18 +3,23 @@ package com.fullcycle.admin.catalog.domain.genre;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 public interface GenreGateway {
     Genre create(Genre genre);
 
+    List<Genre> createAll(List<Genre> someGenres);
+
     void deleteById(GenreID genreId);
 
     Optional<Genre> findById(GenreID genreId);
 
     Genre update(Genre genre);
 
+    Genre update(Genre genre, Instant expectedUpdatedAt);
+
     Pagination<Genre> findAll(SearchQuery aQuery);
 
     List<GenreID> existsById(Iterable<GenreID> ids);
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalog.domain.pagination;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * How the total of an offset page is computed. {@link #NONE} skips the count and only tells whether there is a
+ * next page, {@link #ESTIMATED} reuses a recent count of the same filters.
+ */
+public enum CountMode {
+    EXACT,
+    NONE,
+    ESTIMATED;
+
+    public static Optional<CountMode> of(final String label) {
+        return Arrays.stream(CountMode.values())
+                .filter(it -> it.name().equalsIgnoreCase(label))
+                .findFirst();
+    }
+
+    public static CountMode from(final String label) {
+        return of(label).orElseThrow(() -> DomainException.with(
+                new Error("Invalid count '%s', expected exact, none or estimated".formatted(label))));
+    }
+}
@@ -3,15 +3,32 @@ package com.fullcycle.admin.catalog.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * A page of items. Pages fetched with a cursor carry the cursor of the {@code next} page, which is null on the
+ * last one, and a {@code total} of -1 since they are not counted. Offset pages that are not counted carry the
+ * {@code nextPage} number instead, null on the last one, and never a cursor.
+ */
 public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String next,
+        Integer nextPage
 ) {
 
+    public static final long UNCOUNTED = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null, null);
+    }
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items, final String next) {
+        this(currentPage, perPage, total, items, next, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items().stream().map(mapper).toList();
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, next(), nextPage());
     }
 }
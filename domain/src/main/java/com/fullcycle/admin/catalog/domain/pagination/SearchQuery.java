@@ -1,9 +1,35 @@
 package com.fullcycle.admin.catalog.domain.pagination;
 
+/**
+ * A null {@code after} pages by offset. Any other value pages by cursor instead, starting after the item it
+ * encodes, or from the first item when blank. Cursor pages are never counted, whatever the {@code count}.
+ */
 public record SearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
-) {}
+        String direction,
+        String after,
+        CountMode count
+) {
+
+    public SearchQuery(final int page, final int perPage, final String terms, final String sort, final String direction) {
+        this(page, perPage, terms, sort, direction, null, CountMode.EXACT);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after
+    ) {
+        this(page, perPage, terms, sort, direction, after, CountMode.EXACT);
+    }
+
+    public boolean isKeyset() {
+        return after != null;
+    }
+}
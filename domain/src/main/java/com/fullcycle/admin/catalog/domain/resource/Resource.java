@@ -2,6 +2,11 @@ package com.fullcycle.admin.catalog.domain.resource;
 
 import com.fullcycle.admin.catalog.domain.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -18,6 +23,13 @@ public class Resource extends ValueObject {
         this.name = Objects.requireNonNull(name);
     }
 
+    protected Resource(final String contentType, final String name) {
+        this.checksum = null;
+        this.content = null;
+        this.contentType = Objects.requireNonNull(contentType);
+        this.name = Objects.requireNonNull(name);
+    }
+
     public static Resource with(final String checksum, final byte[] content, final String contentType, final String name) {
         return new Resource(checksum, content, contentType, name);
     }
@@ -30,6 +42,21 @@ public class Resource extends ValueObject {
         return content;
     }
 
+    public long contentLength() {
+        return content.length;
+    }
+
+    public InputStream openStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    public void transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+        final var buffer = ByteBuffer.wrap(content, Math.toIntExact(position), Math.toIntExact(count));
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
     public String contentType() {
         return contentType;
     }
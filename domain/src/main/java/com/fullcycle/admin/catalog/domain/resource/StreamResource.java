@@ -0,0 +1,212 @@
+package com.fullcycle.admin.catalog.domain.resource;
+
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link Resource} whose content is read on demand from a stream instead of being held in memory.
+ * The SHA-256 checksum, in lowercase hex, is computed while the content passes through {@link #openStream()}.
+ */
+public class StreamResource extends Resource {
+
+    private final Source source;
+    private final long contentLength;
+    private volatile String checksum;
+
+    private StreamResource(
+            final String checksum,
+            final Source source,
+            final long contentLength,
+            final String contentType,
+            final String name
+    ) {
+        super(contentType, name);
+        this.checksum = checksum;
+        this.source = Objects.requireNonNull(source);
+        this.contentLength = contentLength;
+    }
+
+    public static StreamResource with(
+            final Source source,
+            final long contentLength,
+            final String contentType,
+            final String name
+    ) {
+        return new StreamResource(null, source, contentLength, contentType, name);
+    }
+
+    public static StreamResource with(
+            final String checksum,
+            final Source source,
+            final long contentLength,
+            final String contentType,
+            final String name
+    ) {
+        return new StreamResource(Objects.requireNonNull(checksum), source, contentLength, contentType, name);
+    }
+
+    /**
+     * Returns the checksum computed by the last full read of the content.
+     * When the content was never fully read, it is streamed once just to compute it.
+     */
+    @Override
+    public String checksum() {
+        if (this.checksum == null) {
+            try (final var in = openStream()) {
+                in.transferTo(OutputStream.nullOutputStream());
+            } catch (final IOException e) {
+                throw InternalErrorException.with("Could not compute checksum of resource %s".formatted(name()), e);
+            }
+        }
+        return this.checksum;
+    }
+
+    /**
+     * The checksum when it was given or already computed by a full read, without reading the content for it.
+     */
+    public Optional<String> knownChecksum() {
+        return Optional.ofNullable(this.checksum);
+    }
+
+    /**
+     * Materializes the whole content in memory, prefer {@link #openStream()}.
+     */
+    @Override
+    public byte[] content() {
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not read resource %s".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public long contentLength() {
+        return this.contentLength;
+    }
+
+    @Override
+    public InputStream openStream() {
+        try {
+            return new ChecksumInputStream(this.source.open());
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not open resource %s".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public void transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+        this.source.transferTo(position, count, target);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final StreamResource that = (StreamResource) o;
+        return contentLength == that.contentLength
+                && Objects.equals(source, that.source)
+                && Objects.equals(contentType(), that.contentType())
+                && Objects.equals(name(), that.name());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, contentLength, contentType(), name());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw InternalErrorException.with("SHA-256 is not available", e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Source {
+        InputStream open() throws IOException;
+
+        default void transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+            try (final var in = open()) {
+                in.skipNBytes(position);
+
+                final var buffer = new byte[8192];
+                var remaining = count;
+                while (remaining > 0) {
+                    final int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read == -1) {
+                        break;
+                    }
+                    final var chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        target.write(chunk);
+                    }
+                    remaining -= read;
+                }
+            }
+        }
+    }
+
+    private class ChecksumInputStream extends DigestInputStream {
+
+        private boolean finished;
+
+        ChecksumInputStream(final InputStream in) {
+            super(in, sha256());
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b == -1) {
+                onEndOfStream();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] buf, final int off, final int len) throws IOException {
+            final int read = super.read(buf, off, len);
+            if (read == -1) {
+                onEndOfStream();
+            }
+            return read;
+        }
+
+        // Skipped bytes are read through, so they still count towards the digest
+        @Override
+        public long skip(final long n) throws IOException {
+            final var buffer = new byte[8192];
+            var skipped = 0L;
+            while (skipped < n) {
+                final int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read == -1) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        private void onEndOfStream() {
+            if (!finished) {
+                finished = true;
+                if (checksum == null) {
+                    checksum = HexFormat.of().formatHex(getMessageDigest().digest());
+                }
+            }
+        }
+    }
+}
@@ -90,6 +90,9 @@ public class AudioVideoMedia extends ValueObject {
     }
 
     public AudioVideoMedia processing() {
+        if (!canTransitionTo(MediaStatus.PROCESSING, encodedLocation())) {
+            return this;
+        }
         return AudioVideoMedia.with(
                 id(),
                 checksum(),
@@ -101,6 +104,9 @@ public class AudioVideoMedia extends ValueObject {
     }
 
     public AudioVideoMedia completed(String encodedPath) {
+        if (!canTransitionTo(MediaStatus.COMPLETED, encodedPath)) {
+            return this;
+        }
         return AudioVideoMedia.with(
                 id(),
                 checksum(),
@@ -111,6 +117,17 @@ public class AudioVideoMedia extends ValueObject {
         );
     }
 
+    /**
+     * Whether moving to the given status changes this media. Besides the forward moves of {@link MediaStatus},
+     * a completed media accepts a new encoded location, so that it can be re-encoded.
+     */
+    public boolean canTransitionTo(final MediaStatus aStatus, final String anEncodedLocation) {
+        if (this.status == MediaStatus.COMPLETED && aStatus == MediaStatus.COMPLETED) {
+            return !this.encodedLocation.equals(anEncodedLocation);
+        }
+        return this.status.canMoveTo(aStatus);
+    }
+
     public boolean isPendingEncode() {
         return MediaStatus.PENDING == this.status;
     }
@@ -1,5 +1,18 @@
 package com.fullcycle.admin.catalog.domain.video;
 
 public enum MediaStatus {
-    PENDING, PROCESSING, COMPLETED, ERROR
+    PENDING, PROCESSING, COMPLETED, ERROR;
+
+    /**
+     * Encoding only moves forward: a media never goes back to pending, a completed media stays completed and a
+     * failed one may only be encoded again.
+     */
+    public boolean canMoveTo(final MediaStatus next) {
+        return switch (this) {
+            case PENDING -> next != PENDING;
+            case PROCESSING -> next == COMPLETED || next == ERROR;
+            case COMPLETED -> false;
+            case ERROR -> next == PROCESSING || next == COMPLETED;
+        };
+    }
 }
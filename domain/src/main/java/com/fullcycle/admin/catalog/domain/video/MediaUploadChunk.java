@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalog.domain.video;
+
+/**
+ * A chunk received by a {@link MediaUploadSession}, with the SHA-256 checksum and the size of what arrived.
+ */
+public record MediaUploadChunk(
+        int number,
+        String checksum,
+        long size
+) {
+    public static MediaUploadChunk with(final int number, final String checksum, final long size) {
+        return new MediaUploadChunk(number, checksum, size);
+    }
+}
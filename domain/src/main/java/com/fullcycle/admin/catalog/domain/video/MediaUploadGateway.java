@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalog.domain.video;
+
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+public interface MediaUploadGateway {
+
+    MediaUploadSession create(MediaUploadSession aSession);
+
+    Optional<MediaUploadSession> findById(String anId);
+
+    /**
+     * The chunks recorded so far, ordered by number.
+     */
+    List<MediaUploadChunk> findChunks(MediaUploadSession aSession);
+
+    /**
+     * Streams a chunk into the storage, replacing any content stored under the same number, and reports what was
+     * received. The chunk is only listed by {@link #findChunks(MediaUploadSession)} once it is saved.
+     */
+    MediaUploadChunk storeChunk(MediaUploadSession aSession, int number, InputStream content, long contentLength);
+
+    void saveChunk(MediaUploadSession aSession, MediaUploadChunk aChunk);
+
+    void discardChunk(MediaUploadSession aSession, int number);
+
+    /**
+     * Joins the chunks, in the given order, into a single resource that streams from the storage. Its checksum is
+     * the SHA-256 of the joined content, like that of any other {@link Resource}.
+     */
+    Resource assemble(MediaUploadSession aSession, List<MediaUploadChunk> chunks);
+
+    void delete(MediaUploadSession aSession);
+}
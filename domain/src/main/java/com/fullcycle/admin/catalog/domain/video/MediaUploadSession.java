@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalog.domain.video;
+
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+
+import java.time.Instant;
+
+/**
+ * A resumable upload of a video media, receiving numbered chunks until it is committed or deleted.
+ */
+public record MediaUploadSession(
+        String id,
+        VideoID videoId,
+        VideoMediaType mediaType,
+        String contentType,
+        String fileName,
+        Instant createdAt
+) {
+
+    public static MediaUploadSession newSession(
+            final VideoID aVideoId,
+            final VideoMediaType aType,
+            final String aContentType,
+            final String aFileName
+    ) {
+        return new MediaUploadSession(IdUtils.uuid(), aVideoId, aType, aContentType, aFileName, InstantUtils.now());
+    }
+
+    public boolean belongsTo(final VideoID aVideoId, final VideoMediaType aType) {
+        return this.videoId.equals(aVideoId) && this.mediaType == aType;
+    }
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.domain.video;
+
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+
+import java.util.Map;
+
+/**
+ * How many of the videos matching a {@link VideoSearchQuery} are linked to each category, genre and cast member.
+ * Relations without any matching video are left out.
+ */
+public record VideoFacets(
+        Map<CategoryID, Long> categories,
+        Map<GenreID, Long> genres,
+        Map<CastMemberID, Long> castMembers
+) {
+
+    public static VideoFacets empty() {
+        return new VideoFacets(Map.of(), Map.of(), Map.of());
+    }
+}
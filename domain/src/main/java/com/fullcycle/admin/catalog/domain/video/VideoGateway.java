@@ -2,12 +2,17 @@ package com.fullcycle.admin.catalog.domain.video;
 
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface VideoGateway {
     Video create(Video aVideo);
+    List<Video> createAll(List<Video> someVideos);
     void deleteById(VideoID anId);
     Optional<Video> findById(VideoID anId);
     Video update(Video aVideo);
+    Video update(Video aVideo, Instant expectedUpdatedAt);
     Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
+    VideoFacets facets(VideoSearchQuery aQuery);
 }
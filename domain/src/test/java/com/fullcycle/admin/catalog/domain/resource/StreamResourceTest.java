@@ -0,0 +1,90 @@
+package com.fullcycle.admin.catalog.domain.resource;
+
+import com.fullcycle.admin.catalog.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StreamResourceTest extends UnitTest {
+
+    @Test
+    public void givenAStream_whenFullyRead_shouldComputeChecksum() throws IOException {
+        //given
+        final var content = "Conteudo".getBytes();
+        final var expectedChecksum = "4a86036cb6f415fc8c8d3d3b681700784c9859be3d1c5657fb4fb905b16a78d3";
+        final var opens = new AtomicInteger();
+
+        final var actualResource = StreamResource.with(
+                () -> {
+                    opens.incrementAndGet();
+                    return new ByteArrayInputStream(content);
+                },
+                content.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        //when
+        try (final var in = actualResource.openStream()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+
+        //then
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals(1, opens.get());
+        Assertions.assertEquals(content.length, actualResource.contentLength());
+        Assertions.assertEquals("video/mp4", actualResource.contentType());
+        Assertions.assertEquals("video.mp4", actualResource.name());
+    }
+
+    @Test
+    public void givenAStream_whenCallsChecksumBeforeReading_shouldStreamItOnce() {
+        //given
+        final var content = "Conteudo".getBytes();
+        final var expectedChecksum = "4a86036cb6f415fc8c8d3d3b681700784c9859be3d1c5657fb4fb905b16a78d3";
+        final var opens = new AtomicInteger();
+
+        final var actualResource = StreamResource.with(
+                () -> {
+                    opens.incrementAndGet();
+                    return new ByteArrayInputStream(content);
+                },
+                content.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        //when
+        final var actualChecksum = actualResource.checksum();
+
+        //then
+        Assertions.assertEquals(expectedChecksum, actualChecksum);
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals(1, opens.get());
+    }
+
+    @Test
+    public void givenAStream_whenCallsContent_shouldMaterializeIt() {
+        //given
+        final var content = "Conteudo".getBytes();
+
+        final var actualResource = StreamResource.with(() -> new ByteArrayInputStream(content), content.length, "video/mp4", "video.mp4");
+
+        //when
+        final var actualContent = actualResource.content();
+
+        //then
+        Assertions.assertArrayEquals(content, actualContent);
+    }
+
+    @Test
+    public void givenInvalidParams_whenCallsWith_shouldReturnError() {
+        Assertions.assertThrows(NullPointerException.class, () -> StreamResource.with(null, 1, "video/mp4", "video.mp4"));
+        Assertions.assertThrows(NullPointerException.class, () -> StreamResource.with(() -> null, 1, null, "video.mp4"));
+        Assertions.assertThrows(NullPointerException.class, () -> StreamResource.with(() -> null, 1, "video/mp4", null));
+    }
+}
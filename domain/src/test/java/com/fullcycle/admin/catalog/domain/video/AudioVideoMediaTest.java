@@ -54,5 +54,35 @@ class AudioVideoMediaTest extends UnitTest {
         Assertions.assertThrows(NullPointerException.class, () -> AudioVideoMedia.with("id", "abc", "Random", "/videos", "/videos", null));
     }
 
+    @Test
+    public void givenACompletedMedia_whenCallsProcessing_shouldKeepItCompleted() {
+        //given
+        final var aMedia = AudioVideoMedia.with("abc", "video.mp4", "/videos/abc")
+                .processing()
+                .completed("/encoded/abc");
+
+        //when
+        final var actualMedia = aMedia.processing();
+
+        //then
+        Assertions.assertSame(aMedia, actualMedia);
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualMedia.status());
+        Assertions.assertEquals("/encoded/abc", actualMedia.encodedLocation());
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void givenACompletedMedia_whenCallsCanTransitionTo_shouldOnlyAcceptANewEncodedLocation() {
+        //given
+        final var aMedia = AudioVideoMedia.with("abc", "video.mp4", "/videos/abc").completed("/encoded/abc");
+
+        //when
+        final var actualSameLocation = aMedia.canTransitionTo(MediaStatus.COMPLETED, "/encoded/abc");
+        final var actualNewLocation = aMedia.canTransitionTo(MediaStatus.COMPLETED, "/encoded/abc-v2");
+        final var actualBackwards = aMedia.canTransitionTo(MediaStatus.PROCESSING, "/encoded/abc");
+
+        //then
+        Assertions.assertFalse(actualSameLocation);
+        Assertions.assertTrue(actualNewLocation);
+        Assertions.assertFalse(actualBackwards);
+    }
+}
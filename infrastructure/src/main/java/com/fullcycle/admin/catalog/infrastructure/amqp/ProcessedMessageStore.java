@@ -0,0 +1,90 @@
+package com.fullcycle.admin.catalog.infrastructure.amqp;
+
+import com.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalog.domain.video.MediaStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.fullcycle.admin.catalog.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * Remembers, per encoded resource, the last status applied from the encoder, so that redelivered or out of order
+ * results can be acknowledged without reading the video. The store is local and bounded: a miss only means the
+ * result goes through the use case, where the media itself rejects stale statuses.
+ */
+public class ProcessedMessageStore {
+
+    private final Cache<String, Applied> applied;
+
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+
+    public ProcessedMessageStore(final long capacity, final Duration ttl) {
+        Objects.requireNonNull(ttl);
+        this.applied = Caffeine.newBuilder()
+                .maximumSize(capacity)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Whether the command may change the media, counting it as a duplicate or stale result otherwise.
+     */
+    public boolean isNew(final UpdateMediaStatusCommand aCmd) {
+        final var last = this.applied.getIfPresent(aCmd.resourceId());
+        if (last == null) {
+            return true;
+        }
+
+        final var next = Applied.from(aCmd);
+        if (last.equals(next)) {
+            this.duplicates.increment();
+            return false;
+        }
+        if (last.status() == MediaStatus.COMPLETED && next.status() == MediaStatus.COMPLETED) {
+            return true;
+        }
+        if (!last.status().canMoveTo(next.status())) {
+            this.stale.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records the commands once they are durable: after the commit when a transaction is active, right away
+     * otherwise.
+     */
+    public void markProcessed(final List<UpdateMediaStatusCommand> commands) {
+        afterCommit(() -> commands.forEach(this::record));
+    }
+
+    public long duplicates() {
+        return this.duplicates.sum();
+    }
+
+    public long stale() {
+        return this.stale.sum();
+    }
+
+    public long size() {
+        return this.applied.estimatedSize();
+    }
+
+    private void record(final UpdateMediaStatusCommand aCmd) {
+        this.applied.asMap().merge(aCmd.resourceId(), Applied.from(aCmd), (last, next) ->
+                last.status().canMoveTo(next.status()) || next.status() == MediaStatus.COMPLETED ? next : last);
+    }
+
+    private record Applied(MediaStatus status, String folder, String filename) {
+
+        private static Applied from(final UpdateMediaStatusCommand aCmd) {
+            return new Applied(aCmd.status(), aCmd.folder(), aCmd.filename());
+        }
+    }
+}
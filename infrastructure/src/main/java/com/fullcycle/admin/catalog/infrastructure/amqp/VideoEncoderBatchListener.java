@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalog.infrastructure.amqp;
+
+import com.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusBatchUseCase;
+import com.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoEncodedQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Batch mode of the {@link VideoEncoderListener}: every batch delivered by the container is applied in a single
+ * transaction, so a failure rolls back and rejects the whole batch. Malformed messages are skipped one by one
+ * instead of failing it, and results already applied are dropped before the batch reaches the database.
+ */
+@Component
+@ConditionalOnProperty(name = "amqp.listeners.video-encoded.batch-enabled", havingValue = "true")
+public class VideoEncoderBatchListener {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoEncoderBatchListener.class);
+    static final String LISTENER_ID = "videoEncodedBatchListener";
+    private final UpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase;
+    private final ProcessedMessageStore processedMessages;
+
+    public VideoEncoderBatchListener(
+            final UpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase,
+            @VideoEncodedQueue final ProcessedMessageStore processedMessages
+    ) {
+        this.updateMediaStatusBatchUseCase = Objects.requireNonNull(updateMediaStatusBatchUseCase);
+        this.processedMessages = Objects.requireNonNull(processedMessages);
+    }
+
+    @Transactional
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${amqp.queues.video-encoded.queue}",
+            containerFactory = "videoEncodedListenerContainerFactory"
+    )
+    public void onVideoEncodedMessages(@Payload final List<String> messages) {
+        final var commands = messages.stream()
+                .map(VideoEncoderListener::commandOf)
+                .flatMap(Optional::stream)
+                .filter(this.processedMessages::isNew)
+                .toList();
+
+        if (commands.isEmpty()) {
+            log.info("[message:video.listener.batch] [status:skipped] [messages:{}] [duplicates:{}] [stale:{}]",
+                    messages.size(), this.processedMessages.duplicates(), this.processedMessages.stale());
+            return;
+        }
+
+        final var anOutput = this.updateMediaStatusBatchUseCase.execute(commands);
+        this.processedMessages.markProcessed(commands);
+
+        if (!anOutput.videosNotFound().isEmpty()) {
+            log.warn("[message:video.listener.batch] [status:not_found] [videos:{}]", anOutput.videosNotFound());
+        }
+        log.info("[message:video.listener.batch] [messages:{}] [commands:{}] [videos:{}] [duplicates:{}] [stale:{}]",
+                messages.size(), anOutput.commands(), anOutput.videosUpdated(),
+                this.processedMessages.duplicates(), this.processedMessages.stale());
+    }
+}
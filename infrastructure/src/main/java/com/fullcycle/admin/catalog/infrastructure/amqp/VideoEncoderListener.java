@@ -4,6 +4,7 @@ package com.fullcycle.admin.catalog.infrastructure.amqp;
 import com.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusCommand;
 import com.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalog.domain.video.MediaStatus;
+import com.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
 import com.fullcycle.admin.catalog.infrastructure.video.models.VideoEncoderCompleted;
 import com.fullcycle.admin.catalog.infrastructure.video.models.VideoEncoderError;
@@ -11,34 +12,76 @@ import com.fullcycle.admin.catalog.infrastructure.video.models.VideoEncoderResul
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 @Component
+@ConditionalOnProperty(name = "amqp.listeners.video-encoded.batch-enabled", havingValue = "false", matchIfMissing = true)
 public class VideoEncoderListener {
 
     private static final Logger log = LoggerFactory.getLogger(VideoEncoderListener.class);
     static final String LISTENER_ID = "videoEncodedListener";
     private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+    private final ProcessedMessageStore processedMessages;
 
-    public VideoEncoderListener(final UpdateMediaStatusUseCase updateMediaStatusUseCase) {
+    public VideoEncoderListener(
+            final UpdateMediaStatusUseCase updateMediaStatusUseCase,
+            @VideoEncodedQueue final ProcessedMessageStore processedMessages
+    ) {
         this.updateMediaStatusUseCase = Objects.requireNonNull(updateMediaStatusUseCase);
+        this.processedMessages = Objects.requireNonNull(processedMessages);
     }
 
-    @RabbitListener(id = LISTENER_ID, queues = "${amqp.queues.video-encoded.queue}")
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${amqp.queues.video-encoded.queue}",
+            containerFactory = "videoEncodedListenerContainerFactory"
+    )
     public void onVideoEncodedMessage(@Payload final String message) {
+        final var aCmd = commandOf(message).orElse(null);
+        if (aCmd == null) {
+            return;
+        }
+
+        if (!this.processedMessages.isNew(aCmd)) {
+            log.info("[message:video.listener.income] [status:skipped] [duplicates:{}] [stale:{}] [resource:{}]",
+                    this.processedMessages.duplicates(), this.processedMessages.stale(), aCmd.resourceId());
+            return;
+        }
+
+        this.updateMediaStatusUseCase.execute(aCmd);
+        this.processedMessages.markProcessed(List.of(aCmd));
+    }
+
+    /**
+     * Empty for results that change nothing, and for malformed messages, which are logged and dropped since no
+     * redelivery would ever parse them.
+     */
+    static Optional<UpdateMediaStatusCommand> commandOf(final String message) {
+        try {
+            return parse(message);
+        } catch (final RuntimeException e) {
+            log.error("[message:video.listener.income] [status:malformed] [payload:{}]", message, e);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<UpdateMediaStatusCommand> parse(final String message) {
         final var aResult = Json.readValue(message, VideoEncoderResult.class);
 
         if (aResult instanceof VideoEncoderCompleted dto) {
             log.error("[message:video.listener.income] [status:completed] [payload:{}]", message);
-            final var aCmd = new UpdateMediaStatusCommand(MediaStatus.COMPLETED, dto.id(), dto.video().resourceId(), dto.video().encodedVideoFolder(), dto.video().filePath());
-            this.updateMediaStatusUseCase.execute(aCmd);
+            return Optional.of(new UpdateMediaStatusCommand(MediaStatus.COMPLETED, dto.id(), dto.video().resourceId(), dto.video().encodedVideoFolder(), dto.video().filePath()));
         } else if (aResult instanceof VideoEncoderError) {
             log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
         } else {
             log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
         }
+        return Optional.empty();
     }
 }
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.infrastructure.amqp.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record ListenerMetricsResponse(
+        @JsonProperty("remembered") long remembered,
+        @JsonProperty("duplicates") long duplicates,
+        @JsonProperty("stale") long stale
+) {
+}
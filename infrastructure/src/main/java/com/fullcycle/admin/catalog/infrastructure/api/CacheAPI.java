@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalog.infrastructure.api;
+
+import com.fullcycle.admin.catalog.infrastructure.cache.models.CacheMetricsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+
+@RequestMapping(value = "caches")
+@Tag(name = "Caches")
+public interface CacheAPI {
+
+    @GetMapping(value = "metrics", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Hits, misses and evictions of the category, genre and cast member caches, by id and by existence")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Metrics retrieved"),
+            @ApiResponse(responseCode = "500", description = "An internal error was thrown")
+    })
+    List<CacheMetricsResponse> metrics();
+}
@@ -9,11 +9,16 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
 @RequestMapping(value = "cast_members")
 @Tag(name = "Cast Member")
 public interface CastMemberAPI {
@@ -29,6 +34,27 @@ public interface CastMemberAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateCastMemberRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Create cast members in bulk from newline delimited JSON, answering one result line per request")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every line was processed, see the errors of each result"),
+            @ApiResponse(responseCode = "500", description = "An internal error occurred")
+    })
+    void createBulk(HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all cast members as newline delimited JSON, one per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streamed successfully"),
+            @ApiResponse(responseCode = "503", description = "Too many exports are running"),
+            @ApiResponse(responseCode = "500", description = "An internal error occurred")
+    })
+    void export(HttpServletResponse response) throws IOException;
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "List all cast members")
     @ApiResponses(value = {
@@ -40,17 +66,23 @@ public interface CastMemberAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count
     );
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a cast member by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member retrieved"),
+            @ApiResponse(responseCode = "304", description = "Cast member did not change since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Cast member was not found"),
             @ApiResponse(responseCode = "500", description = "An internal error was thrown")
     })
-    CastMemberResponse getById(@PathVariable String id);
+    ResponseEntity<CastMemberResponse> getById(
+            @PathVariable String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 
 
     @PutMapping(value = "{id}",
@@ -61,10 +93,15 @@ public interface CastMemberAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member updated"),
             @ApiResponse(responseCode = "404", description = "Cast member was not found"),
+            @ApiResponse(responseCode = "412", description = "Cast member changed since the given ETag"),
             @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
             @ApiResponse(responseCode = "500", description = "An internal error was thrown")
     })
-    ResponseEntity<?> updateById(@PathVariable String id, @RequestBody UpdateCastMemberRequest aBody);
+    ResponseEntity<?> updateById(
+            @PathVariable String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateCastMemberRequest aBody
+    );
 
 
     @DeleteMapping(value = "{id}")
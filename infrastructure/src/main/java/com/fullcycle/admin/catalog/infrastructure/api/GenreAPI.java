@@ -10,11 +10,16 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
 @RequestMapping(value = "genres")
 @Tag(name = "Genre")
 public interface GenreAPI {
@@ -31,6 +36,27 @@ public interface GenreAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateGenreRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Create genres in bulk from newline delimited JSON, answering one result line per request")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every line was processed, see the errors of each result"),
+            @ApiResponse(responseCode = "500", description = "An internal error occurred")
+    })
+    void createBulk(HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all genres as newline delimited JSON, one per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streamed successfully"),
+            @ApiResponse(responseCode = "503", description = "Too many exports are running"),
+            @ApiResponse(responseCode = "500", description = "An internal error occurred")
+    })
+    void export(HttpServletResponse response) throws IOException;
+
     @GetMapping
     @Operation(summary = "List all genres paginated")
     @ApiResponses(value = {
@@ -43,7 +69,9 @@ public interface GenreAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count
     );
 
     @GetMapping(
@@ -53,10 +81,14 @@ public interface GenreAPI {
     @Operation(summary = "Get a genre by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Genre did not change since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
             @ApiResponse(responseCode = "500", description = "An internal error occurred")
     })
-    GenreResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<GenreResponse> getById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 
     @PutMapping(
             value = "{id}",
@@ -67,9 +99,14 @@ public interface GenreAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre updated successfully"),
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
+            @ApiResponse(responseCode = "412", description = "Genre changed since the given ETag"),
             @ApiResponse(responseCode = "500", description = "An internal error occurred")
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateGenreRequest input);
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateGenreRequest input
+    );
 
 
     @DeleteMapping(value = "{id}")
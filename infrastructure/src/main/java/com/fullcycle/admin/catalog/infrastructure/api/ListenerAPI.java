@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.infrastructure.api;
+
+import com.fullcycle.admin.catalog.infrastructure.amqp.models.ListenerMetricsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@RequestMapping(value = "listeners")
+@Tag(name = "Listeners")
+public interface ListenerAPI {
+
+    @GetMapping(value = "video-encoded/metrics", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Encoder results remembered by the video encoded listener, and the redelivered or stale ones it skipped")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Metrics retrieved"),
+            @ApiResponse(responseCode = "500", description = "An internal error was thrown")
+    })
+    ListenerMetricsResponse videoEncodedMetrics();
+}
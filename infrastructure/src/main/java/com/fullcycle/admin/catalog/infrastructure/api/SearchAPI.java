@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalog.infrastructure.api;
+
+import com.fullcycle.admin.catalog.infrastructure.search.models.SearchHitResponse;
+import com.fullcycle.admin.catalog.infrastructure.search.models.SearchIndexMetricsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@RequestMapping(value = "search")
+@Tag(name = "Search")
+public interface SearchAPI {
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Typeahead over video titles and category, genre and cast member names")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matches retrieved"),
+            @ApiResponse(responseCode = "422", description = "An unknown type was given"),
+            @ApiResponse(responseCode = "500", description = "An internal error was thrown")
+    })
+    List<SearchHitResponse> search(
+            @RequestParam(name = "q", required = false, defaultValue = "") final String query,
+            @RequestParam(name = "types", required = false, defaultValue = "") final List<String> types,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
+    );
+
+    @GetMapping(value = "metrics", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Size and usage of the in-memory search index")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Metrics retrieved"),
+            @ApiResponse(responseCode = "500", description = "An internal error was thrown")
+    })
+    SearchIndexMetricsResponse metrics();
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.infrastructure.api;
+
+import com.fullcycle.admin.catalog.infrastructure.video.models.ReferenceValidationMetricsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@RequestMapping(value = "validations")
+@Tag(name = "Validations")
+public interface ValidationAPI {
+
+    @GetMapping(value = "metrics", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Latency percentiles of validating the references of a video create or update, overall and by aggregate")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Metrics retrieved"),
+            @ApiResponse(responseCode = "500", description = "An internal error was thrown")
+    })
+    ReferenceValidationMetricsResponse metrics();
+}
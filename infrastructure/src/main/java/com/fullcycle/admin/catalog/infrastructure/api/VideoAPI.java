@@ -1,20 +1,26 @@
 package com.fullcycle.admin.catalog.infrastructure.api;
 
-import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infrastructure.video.models.CreateUploadSessionRequest;
 import com.fullcycle.admin.catalog.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalog.infrastructure.video.models.UpdateVideoRequest;
-import com.fullcycle.admin.catalog.infrastructure.video.models.VideoListResponse;
+import com.fullcycle.admin.catalog.infrastructure.video.models.UploadChunkResponse;
+import com.fullcycle.admin.catalog.infrastructure.video.models.UploadSessionResponse;
+import com.fullcycle.admin.catalog.infrastructure.video.models.VideoPageResponse;
 import com.fullcycle.admin.catalog.infrastructure.video.models.VideoResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Set;
 
 @RequestMapping(value = "videos")
@@ -28,7 +34,7 @@ public interface VideoAPI {
             @ApiResponse(responseCode = "422", description = "A Query param was invalid"),
             @ApiResponse(responseCode = "500", description = "An internal error occurred")
     })
-    Pagination<VideoListResponse> list(
+    VideoPageResponse list(
             @RequestParam(name = "search", required = false, defaultValue = "") String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "25") int perPage,
@@ -36,7 +42,10 @@ public interface VideoAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") String dir,
             @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
             @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
-            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") String count,
+            @RequestParam(name = "facets", required = false, defaultValue = "false") boolean facets
     );
 
     @PostMapping(
@@ -80,15 +89,40 @@ public interface VideoAPI {
     })
     ResponseEntity<?> createPartial(@RequestBody CreateVideoRequest payload);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Create videos without media in bulk from newline delimited JSON, answering one result line per request")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every line was processed, see the errors of each result"),
+            @ApiResponse(responseCode = "500", description = "An internal error occurred")
+    })
+    void createBulk(HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all videos, with the ids of their categories, genres and cast members, as newline delimited JSON, one per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streamed successfully"),
+            @ApiResponse(responseCode = "503", description = "Too many exports are running"),
+            @ApiResponse(responseCode = "500", description = "An internal error occurred")
+    })
+    void export(HttpServletResponse response) throws IOException;
+
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a video by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Video retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Video did not change since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Video was not found"),
             @ApiResponse(responseCode = "500", description = "An internal error occurred")
     })
-    VideoResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<VideoResponse> getById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 
 
     @PutMapping(
@@ -100,10 +134,15 @@ public interface VideoAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Video updated successfully"),
             @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "412", description = "Video changed since the given ETag"),
             @ApiResponse(responseCode = "422", description = "A validation was thrown"),
             @ApiResponse(responseCode = "500", description = "An internal error occurred")
     })
-    ResponseEntity<?> update(@PathVariable(name = "id") String id, @RequestBody UpdateVideoRequest payload);
+    ResponseEntity<?> update(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateVideoRequest payload
+    );
 
 
     @DeleteMapping(value = "{id}")
@@ -120,13 +159,18 @@ public interface VideoAPI {
     @Operation(summary = "Get a video media by it`s type")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "Media range retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range not satisfiable"),
             @ApiResponse(responseCode = "500", description = "An internal error occurred")
     })
-    ResponseEntity<byte[]> getMediaByType(
+    void getMediaByType(
             @PathVariable(name = "id") String id,
-            @PathVariable(name = "type") String type
-    );
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            HttpServletResponse response
+    ) throws IOException;
 
 
     @PostMapping(value = "{id}/medias/{type}")
@@ -141,4 +185,89 @@ public interface VideoAPI {
             @PathVariable(name = "type") String type,
             @RequestParam("media_file") MultipartFile media
     );
+
+
+    @PostMapping(
+            value = "{id}/medias/{type}/uploads",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Start a resumable upload of a video media by it`s type")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload session created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal error occurred")
+    })
+    ResponseEntity<?> createUploadSession(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CreateUploadSessionRequest payload
+    );
+
+
+    @GetMapping(value = "{id}/medias/{type}/uploads/{sessionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a resumable upload with the chunks received so far")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload session retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal error occurred")
+    })
+    UploadSessionResponse getUploadSession(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "sessionId") String sessionId
+    );
+
+
+    @PutMapping(
+            value = "{id}/medias/{type}/uploads/{sessionId}/chunks/{number}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Upload a chunk of a resumable upload, replacing any chunk with the same number")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk stored successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "422", description = "The chunk was incomplete or its SHA-256 did not match X-Chunk-Checksum"),
+            @ApiResponse(responseCode = "500", description = "An internal error occurred")
+    })
+    UploadChunkResponse uploadChunk(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "sessionId") String sessionId,
+            @PathVariable(name = "number") int number,
+            @RequestHeader(name = "X-Chunk-Checksum", required = false) String checksum,
+            HttpServletRequest request
+    ) throws IOException;
+
+
+    @PostMapping(value = "{id}/medias/{type}/uploads/{sessionId}/commit", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Assemble the chunks of a resumable upload into the video media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media created successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "422", description = "Chunks are missing"),
+            @ApiResponse(responseCode = "500", description = "An internal error occurred")
+    })
+    ResponseEntity<?> commitUploadSession(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "sessionId") String sessionId
+    );
+
+
+    @DeleteMapping(value = "{id}/medias/{type}/uploads/{sessionId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Abort a resumable upload, discarding its chunks")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Upload session deleted"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal error occurred")
+    })
+    void deleteUploadSession(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "sessionId") String sessionId
+    );
 }
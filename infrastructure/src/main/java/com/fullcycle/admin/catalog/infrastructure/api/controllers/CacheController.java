@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalog.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalog.infrastructure.api.CacheAPI;
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateCaches;
+import com.fullcycle.admin.catalog.infrastructure.cache.models.CacheMetricsResponse;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class CacheController implements CacheAPI {
+
+    private final AggregateCaches caches;
+
+    public CacheController(final AggregateCaches caches) {
+        this.caches = Objects.requireNonNull(caches);
+    }
+
+    @Override
+    public List<CacheMetricsResponse> metrics() {
+        return this.caches.metrics().stream()
+                .map(it -> new CacheMetricsResponse(
+                        it.name(),
+                        this.caches.isEnabled(),
+                        it.size(),
+                        it.hits(),
+                        it.misses(),
+                        it.evictions(),
+                        it.hitRate()
+                ))
+                .toList();
+    }
+}
@@ -2,22 +2,33 @@ package com.fullcycle.admin.catalog.infrastructure.api.controllers;
 
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberCommand;
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMembersBulkUseCase;
 import com.fullcycle.admin.catalog.application.castmember.delete.DeleteCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.CastMemberOutput;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberCommand;
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.admin.catalog.domain.pagination.CountMode;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infrastructure.api.CastMemberAPI;
+import com.fullcycle.admin.catalog.infrastructure.bulk.NdjsonBulkImporter;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CastMemberResponse;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.fullcycle.admin.catalog.infrastructure.castmember.presenter.CastMemberPresenter;
+import com.fullcycle.admin.catalog.infrastructure.export.NdjsonCatalogExporter;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
 import java.util.Objects;
 
@@ -29,19 +40,28 @@ public class CastMemberController implements CastMemberAPI {
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final CreateCastMembersBulkUseCase createCastMembersBulkUseCase;
+    private final NdjsonBulkImporter bulkImporter;
+    private final NdjsonCatalogExporter catalogExporter;
 
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
             final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final CreateCastMembersBulkUseCase createCastMembersBulkUseCase,
+            final NdjsonBulkImporter bulkImporter,
+            final NdjsonCatalogExporter catalogExporter
     ) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.createCastMembersBulkUseCase = Objects.requireNonNull(createCastMembersBulkUseCase);
+        this.bulkImporter = Objects.requireNonNull(bulkImporter);
+        this.catalogExporter = Objects.requireNonNull(catalogExporter);
     }
 
 
@@ -54,25 +74,57 @@ public class CastMemberController implements CastMemberAPI {
         return ResponseEntity.created(URI.create("/cast_members/" + output.id())).body(output);
     }
 
+    @Override
+    public void createBulk(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        this.bulkImporter.run(
+                request.getInputStream(),
+                response.getOutputStream(),
+                CreateCastMemberRequest.class,
+                input -> CreateCastMemberCommand.with(input.name(), input.type()),
+                this.createCastMembersBulkUseCase::execute
+        );
+    }
+
+    @Override
+    public void export(final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        if (!this.catalogExporter.exportCastMembers(response.getOutputStream())) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
     @Override
     public Pagination<CastMemberListResponse> list(
             final String search,
             final  int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String after,
+            final String count
     ) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page,perPage,search,sort,direction)).map(CastMemberPresenter::present);
+        return this.listCastMembersUseCase.execute(new SearchQuery(page,perPage,search,sort,direction,after,CountMode.from(count))).map(CastMemberPresenter::present);
     }
 
     @Override
-    public CastMemberResponse getById(String id) {
-        return CastMemberPresenter.present(this.getCastMemberByIdUseCase.execute(id));
+    public ResponseEntity<CastMemberResponse> getById(final String id, final String ifNoneMatch) {
+        final var aMember = this.getCastMemberByIdUseCase.execute(id);
+        final var eTag = eTagOf(aMember);
+        if (ETagUtils.isNotModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(CastMemberPresenter.present(aMember));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCastMemberRequest aBody) {
-        final var aCommand = UpdateCastMemberCommand.with(id, aBody.name(), aBody.type());
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateCastMemberRequest aBody) {
+        final var aCommand = UpdateCastMemberCommand.with(
+                id,
+                aBody.name(),
+                aBody.type(),
+                ETagUtils.updatedAtOf(ifMatch).orElse(null)
+        );
 
         final var output = this.updateCastMemberUseCase.execute(aCommand);
         return ResponseEntity.ok(output);
@@ -82,4 +134,8 @@ public class CastMemberController implements CastMemberAPI {
     public void deleteById(final String id) {
         this.deleteCastMemberUseCase.execute(id);
     }
+
+    private static String eTagOf(final CastMemberOutput aMember) {
+        return ETagUtils.of(aMember.updatedAt());
+    }
 }
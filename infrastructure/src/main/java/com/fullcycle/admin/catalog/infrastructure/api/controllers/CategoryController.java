@@ -1,26 +1,37 @@
 package com.fullcycle.admin.catalog.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoriesBulkUseCase;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
 import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.CountMode;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalog.infrastructure.api.CategoryAPI;
+import com.fullcycle.admin.catalog.infrastructure.bulk.NdjsonBulkImporter;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CategoryResponse;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalog.infrastructure.category.models.UpdateCategoryRequest;
 import com.fullcycle.admin.catalog.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalog.infrastructure.export.NdjsonCatalogExporter;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
 import java.util.Objects;
 import java.util.function.Function;
@@ -38,28 +49,35 @@ public class CategoryController implements CategoryAPI {
 
     private final ListCategoriesUseCase listCategoriesUseCase;
 
+    private final CreateCategoriesBulkUseCase createCategoriesBulkUseCase;
+
+    private final NdjsonBulkImporter bulkImporter;
+    private final NdjsonCatalogExporter catalogExporter;
+
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final CreateCategoriesBulkUseCase createCategoriesBulkUseCase,
+            final NdjsonBulkImporter bulkImporter,
+            final NdjsonCatalogExporter catalogExporter
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.createCategoriesBulkUseCase = Objects.requireNonNull(createCategoriesBulkUseCase);
+        this.bulkImporter = Objects.requireNonNull(bulkImporter);
+        this.catalogExporter = Objects.requireNonNull(catalogExporter);
     }
 
 
     @Override
     public ResponseEntity<?> createCategory(final CreateCategoryRequest input) {
-        final var aCommand = CreateCategoryCommand.with(
-                input.name(),
-                input.description(),
-                input.active() != null ? input.active() : true
-        );
+        final var aCommand = toCommand(input);
 
         final Function<Notification, ResponseEntity<?>> onError = ResponseEntity.unprocessableEntity()::body;
 
@@ -69,29 +87,57 @@ public class CategoryController implements CategoryAPI {
         return this.createCategoryUseCase.execute(aCommand).fold(onError, onSuccess);
     }
 
+    @Override
+    public void createBulk(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        this.bulkImporter.run(
+                request.getInputStream(),
+                response.getOutputStream(),
+                CreateCategoryRequest.class,
+                CategoryController::toCommand,
+                this.createCategoriesBulkUseCase::execute
+        );
+    }
+
+    @Override
+    public void export(final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        if (!this.catalogExporter.exportCategories(response.getOutputStream())) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String after,
+            final String count
     ) {
-        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction)).map(CategoryApiPresenter::present);
+        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, after, CountMode.from(count))).map(CategoryApiPresenter::present);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public ResponseEntity<CategoryResponse> getById(final String id, final String ifNoneMatch) {
+        final var aCategory = this.getCategoryByIdUseCase.execute(id);
+        final var eTag = eTagOf(aCategory);
+        if (ETagUtils.isNotModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(CategoryApiPresenter.present(aCategory));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateCategoryRequest input) {
         final var aCommand = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.active() != null ? input.active() : true
+                input.active() != null ? input.active() : true,
+                ETagUtils.updatedAtOf(ifMatch).orElse(null)
         );
 
         final Function<Notification, ResponseEntity<?>> onError = ResponseEntity.unprocessableEntity()::body;
@@ -105,4 +151,16 @@ public class CategoryController implements CategoryAPI {
     public void deleteById(final String id) {
         this.deleteCategoryUseCase.execute(id);
     }
+
+    private static String eTagOf(final CategoryOutput aCategory) {
+        return ETagUtils.of(aCategory.updatedAt());
+    }
+
+    private static CreateCategoryCommand toCommand(final CreateCategoryRequest input) {
+        return CreateCategoryCommand.with(
+                input.name(),
+                input.description(),
+                input.active() != null ? input.active() : true
+        );
+    }
 }
@@ -2,22 +2,33 @@ package com.fullcycle.admin.catalog.infrastructure.api.controllers;
 
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreCommand;
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenresBulkUseCase;
 import com.fullcycle.admin.catalog.application.genre.delete.DeleteGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrieve.get.GenreOutput;
 import com.fullcycle.admin.catalog.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreCommand;
 import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalog.domain.pagination.CountMode;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infrastructure.api.GenreAPI;
+import com.fullcycle.admin.catalog.infrastructure.bulk.NdjsonBulkImporter;
+import com.fullcycle.admin.catalog.infrastructure.export.NdjsonCatalogExporter;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.GenreListResponse;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.GenreResponse;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.UpdateGenreRequest;
 import com.fullcycle.admin.catalog.infrastructure.genre.presenters.GenreApiPresenter;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
 
 @RestController
@@ -27,19 +38,28 @@ public class GenreController implements GenreAPI {
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final ListGenreUseCase listGenreUseCase;
+    private final CreateGenresBulkUseCase createGenresBulkUseCase;
+    private final NdjsonBulkImporter bulkImporter;
+    private final NdjsonCatalogExporter catalogExporter;
 
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
             final GetGenreByIdUseCase getGenreByIdUseCase,
             final UpdateGenreUseCase updateGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
-            final ListGenreUseCase listGenreUseCase
+            final ListGenreUseCase listGenreUseCase,
+            final CreateGenresBulkUseCase createGenresBulkUseCase,
+            final NdjsonBulkImporter bulkImporter,
+            final NdjsonCatalogExporter catalogExporter
     ) {
         this.createGenreUseCase = createGenreUseCase;
         this.getGenreByIdUseCase = getGenreByIdUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
         this.listGenreUseCase = listGenreUseCase;
+        this.createGenresBulkUseCase = createGenresBulkUseCase;
+        this.bulkImporter = bulkImporter;
+        this.catalogExporter = catalogExporter;
     }
 
     @Override
@@ -55,29 +75,57 @@ public class GenreController implements GenreAPI {
         return ResponseEntity.created(URI.create("/genres/" + output.id())).body(output);
     }
 
+    @Override
+    public void createBulk(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        this.bulkImporter.run(
+                request.getInputStream(),
+                response.getOutputStream(),
+                CreateGenreRequest.class,
+                input -> CreateGenreCommand.with(input.name(), input.isActive(), input.categories()),
+                this.createGenresBulkUseCase::execute
+        );
+    }
+
+    @Override
+    public void export(final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        if (!this.catalogExporter.exportGenres(response.getOutputStream())) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
     @Override
     public Pagination<GenreListResponse> list(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String after,
+            final String count
     ) {
-        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction)).map(GenreApiPresenter::present);
+        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, after, CountMode.from(count))).map(GenreApiPresenter::present);
     }
 
     @Override
-    public GenreResponse getById(final String id) {
-        return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
+    public ResponseEntity<GenreResponse> getById(final String id, final String ifNoneMatch) {
+        final var aGenre = this.getGenreByIdUseCase.execute(id);
+        final var eTag = eTagOf(aGenre);
+        if (ETagUtils.isNotModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(GenreApiPresenter.present(aGenre));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateGenreRequest input) {
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateGenreRequest input) {
         final var aCommand = UpdateGenreCommand.with(
                 id,
                 input.name(),
                 input.isActive(),
-                input.categories()
+                input.categories(),
+                ETagUtils.updatedAtOf(ifMatch).orElse(null)
         );
 
         final var output = this.updateGenreUseCase.execute(aCommand);
@@ -89,4 +137,8 @@ public class GenreController implements GenreAPI {
     public void deleteById(final String id) {
         this.deleteGenreUseCase.execute(id);
     }
+
+    private static String eTagOf(final GenreOutput aGenre) {
+        return ETagUtils.of(aGenre.updatedAt());
+    }
 }
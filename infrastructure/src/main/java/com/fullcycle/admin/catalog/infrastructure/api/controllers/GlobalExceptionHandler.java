@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalog.infrastructure.api.controllers;
 
 import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException;
 import com.fullcycle.admin.catalog.domain.validation.Error;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +24,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = PreconditionFailedException.class)
+    public ResponseEntity<?> handlePreconditionFailedException(final PreconditionFailedException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ApiError.from(ex));
+    }
+
 
     record ApiError(String message, List<Error> errors) {
         static ApiError from(final DomainException ex) {
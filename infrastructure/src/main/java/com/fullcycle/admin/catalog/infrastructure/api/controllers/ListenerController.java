@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalog.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalog.infrastructure.amqp.ProcessedMessageStore;
+import com.fullcycle.admin.catalog.infrastructure.amqp.models.ListenerMetricsResponse;
+import com.fullcycle.admin.catalog.infrastructure.api.ListenerAPI;
+import com.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoEncodedQueue;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+@RestController
+public class ListenerController implements ListenerAPI {
+
+    private final ProcessedMessageStore videoEncodedMessages;
+
+    public ListenerController(@VideoEncodedQueue final ProcessedMessageStore videoEncodedMessages) {
+        this.videoEncodedMessages = Objects.requireNonNull(videoEncodedMessages);
+    }
+
+    @Override
+    public ListenerMetricsResponse videoEncodedMetrics() {
+        return new ListenerMetricsResponse(
+                this.videoEncodedMessages.size(),
+                this.videoEncodedMessages.duplicates(),
+                this.videoEncodedMessages.stale()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalog.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalog.infrastructure.api.PublisherAPI;
+import com.fullcycle.admin.catalog.infrastructure.services.impl.BatchingRabbitEventService;
+import com.fullcycle.admin.catalog.infrastructure.services.models.PublisherMetricsResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class PublisherController implements PublisherAPI {
+
+    private final ObjectProvider<BatchingRabbitEventService> publishers;
+
+    public PublisherController(final ObjectProvider<BatchingRabbitEventService> publishers) {
+        this.publishers = Objects.requireNonNull(publishers);
+    }
+
+    @Override
+    public List<PublisherMetricsResponse> metrics() {
+        return this.publishers.orderedStream()
+                .map(it -> new PublisherMetricsResponse(
+                        it.routingKey(),
+                        it.backlog(),
+                        it.inFlight(),
+                        it.published(),
+                        it.confirmed(),
+                        it.retried(),
+                        it.failed()
+                ))
+                .toList();
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalog.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalog.infrastructure.api.SearchAPI;
+import com.fullcycle.admin.catalog.infrastructure.search.CatalogSearchIndex;
+import com.fullcycle.admin.catalog.infrastructure.search.SearchDocumentType;
+import com.fullcycle.admin.catalog.infrastructure.search.models.SearchHitResponse;
+import com.fullcycle.admin.catalog.infrastructure.search.models.SearchIndexMetricsResponse;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+@RestController
+public class SearchController implements SearchAPI {
+
+    private final CatalogSearchIndex searchIndex;
+
+    public SearchController(final CatalogSearchIndex searchIndex) {
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+    }
+
+    @Override
+    public List<SearchHitResponse> search(final String query, final List<String> types, final int limit) {
+        final var someTypes = EnumSet.noneOf(SearchDocumentType.class);
+        for (final var type : types) {
+            if (!type.isBlank()) {
+                someTypes.add(SearchDocumentType.from(type.strip()));
+            }
+        }
+
+        return this.searchIndex.search(query, someTypes, limit).stream()
+                .map(it -> new SearchHitResponse(it.type().name().toLowerCase(Locale.ROOT), it.id(), it.label()))
+                .toList();
+    }
+
+    @Override
+    public SearchIndexMetricsResponse metrics() {
+        final var metrics = this.searchIndex.metrics();
+        return new SearchIndexMetricsResponse(
+                metrics.enabled(),
+                metrics.ready(),
+                metrics.documents(),
+                metrics.terms(),
+                metrics.postings(),
+                metrics.estimatedBytes(),
+                metrics.searches(),
+                metrics.averageSearchMicros()
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalog.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalog.infrastructure.api.ValidationAPI;
+import com.fullcycle.admin.catalog.infrastructure.utils.LatencyHistogram;
+import com.fullcycle.admin.catalog.infrastructure.video.ReferenceValidationMetrics;
+import com.fullcycle.admin.catalog.infrastructure.video.models.LatencyResponse;
+import com.fullcycle.admin.catalog.infrastructure.video.models.ReferenceValidationMetricsResponse;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+import java.util.TreeMap;
+
+@RestController
+public class ValidationController implements ValidationAPI {
+
+    private final ReferenceValidationMetrics metrics;
+
+    public ValidationController(final ReferenceValidationMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public ReferenceValidationMetricsResponse metrics() {
+        final var lookups = new TreeMap<String, LatencyResponse>();
+        this.metrics.lookups().forEach((aggregate, histogram) -> lookups.put(aggregate, present(histogram)));
+
+        return new ReferenceValidationMetricsResponse(present(this.metrics.elapsed()), lookups);
+    }
+
+    private static LatencyResponse present(final LatencyHistogram aHistogram) {
+        return new LatencyResponse(
+                aHistogram.count(),
+                aHistogram.percentile(50).toNanos() / 1_000,
+                aHistogram.percentile(95).toNanos() / 1_000,
+                aHistogram.percentile(99).toNanos() / 1_000
+        );
+    }
+}
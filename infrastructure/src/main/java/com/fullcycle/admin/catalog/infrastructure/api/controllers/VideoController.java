@@ -2,12 +2,23 @@ package com.fullcycle.admin.catalog.infrastructure.api.controllers;
 
 import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
 import com.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideosBulkUseCase;
 import com.fullcycle.admin.catalog.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalog.application.video.media.get.GetMediaCommand;
 import com.fullcycle.admin.catalog.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.CommitUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.CreateUploadSessionCommand;
+import com.fullcycle.admin.catalog.application.video.media.resumable.CreateUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.DeleteUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.GetUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.UploadChunkCommand;
+import com.fullcycle.admin.catalog.application.video.media.resumable.UploadChunkUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.UploadSessionCommand;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaUseCase;
 import com.fullcycle.admin.catalog.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.fullcycle.admin.catalog.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalog.application.video.retrieve.list.ListVideoFacetsUseCase;
 import com.fullcycle.admin.catalog.application.video.retrieve.list.ListVideosUseCase;
 import com.fullcycle.admin.catalog.application.video.update.UpdateVideoCommand;
 import com.fullcycle.admin.catalog.application.video.update.UpdateVideoUseCase;
@@ -15,26 +26,39 @@ import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
-import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.CountMode;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.StreamResource;
 import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalog.domain.video.VideoResource;
 import com.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
 import com.fullcycle.admin.catalog.infrastructure.api.VideoAPI;
-import com.fullcycle.admin.catalog.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalog.infrastructure.bulk.NdjsonBulkImporter;
+import com.fullcycle.admin.catalog.infrastructure.export.NdjsonCatalogExporter;
+import com.fullcycle.admin.catalog.infrastructure.video.models.CreateUploadSessionRequest;
 import com.fullcycle.admin.catalog.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalog.infrastructure.video.models.UpdateVideoRequest;
-import com.fullcycle.admin.catalog.infrastructure.video.models.VideoListResponse;
+import com.fullcycle.admin.catalog.infrastructure.video.models.UploadChunkResponse;
+import com.fullcycle.admin.catalog.infrastructure.video.models.UploadSessionResponse;
+import com.fullcycle.admin.catalog.infrastructure.video.models.VideoPageResponse;
 import com.fullcycle.admin.catalog.infrastructure.video.models.VideoResponse;
 import com.fullcycle.admin.catalog.infrastructure.video.presenters.VideoApiPresenter;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -48,8 +72,17 @@ public class VideoController implements VideoAPI {
     private final UpdateVideoUseCase updateVideoUseCase;
     private final DeleteVideoUseCase deleteVideoUseCase;
     private final ListVideosUseCase listVideosUseCase;
+    private final ListVideoFacetsUseCase listVideoFacetsUseCase;
     private final GetMediaUseCase getMediaUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final CreateUploadSessionUseCase createUploadSessionUseCase;
+    private final GetUploadSessionUseCase getUploadSessionUseCase;
+    private final UploadChunkUseCase uploadChunkUseCase;
+    private final CommitUploadSessionUseCase commitUploadSessionUseCase;
+    private final DeleteUploadSessionUseCase deleteUploadSessionUseCase;
+    private final CreateVideosBulkUseCase createVideosBulkUseCase;
+    private final NdjsonBulkImporter bulkImporter;
+    private final NdjsonCatalogExporter catalogExporter;
 
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
@@ -57,21 +90,39 @@ public class VideoController implements VideoAPI {
             final UpdateVideoUseCase updateVideoUseCase,
             final DeleteVideoUseCase deleteVideoUseCase,
             final ListVideosUseCase listVideosUseCase,
+            final ListVideoFacetsUseCase listVideoFacetsUseCase,
             final GetMediaUseCase getMediaUseCase,
-            final UploadMediaUseCase uploadMediaUseCase
+            final UploadMediaUseCase uploadMediaUseCase,
+            final CreateUploadSessionUseCase createUploadSessionUseCase,
+            final GetUploadSessionUseCase getUploadSessionUseCase,
+            final UploadChunkUseCase uploadChunkUseCase,
+            final CommitUploadSessionUseCase commitUploadSessionUseCase,
+            final DeleteUploadSessionUseCase deleteUploadSessionUseCase,
+            final CreateVideosBulkUseCase createVideosBulkUseCase,
+            final NdjsonBulkImporter bulkImporter,
+            final NdjsonCatalogExporter catalogExporter
     ) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
         this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
+        this.listVideoFacetsUseCase = Objects.requireNonNull(listVideoFacetsUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.createUploadSessionUseCase = Objects.requireNonNull(createUploadSessionUseCase);
+        this.getUploadSessionUseCase = Objects.requireNonNull(getUploadSessionUseCase);
+        this.uploadChunkUseCase = Objects.requireNonNull(uploadChunkUseCase);
+        this.commitUploadSessionUseCase = Objects.requireNonNull(commitUploadSessionUseCase);
+        this.deleteUploadSessionUseCase = Objects.requireNonNull(deleteUploadSessionUseCase);
+        this.createVideosBulkUseCase = Objects.requireNonNull(createVideosBulkUseCase);
+        this.bulkImporter = Objects.requireNonNull(bulkImporter);
+        this.catalogExporter = Objects.requireNonNull(catalogExporter);
     }
 
 
     @Override
-    public Pagination<VideoListResponse> list(
+    public VideoPageResponse list(
             final String search,
             final int page,
             final int perPage,
@@ -79,7 +130,10 @@ public class VideoController implements VideoAPI {
             final String dir,
             final Set<String> castMembers,
             final Set<String> categories,
-            final Set<String> genres
+            final Set<String> genres,
+            final String after,
+            final String count,
+            final boolean facets
     ) {
         final var aQuery = new VideoSearchQuery(
                 page,
@@ -89,9 +143,14 @@ public class VideoController implements VideoAPI {
                 dir,
                 mapTo(castMembers, CastMemberID::from),
                 mapTo(categories, CategoryID::from),
-                mapTo(genres, GenreID::from)
+                mapTo(genres, GenreID::from),
+                after,
+                CountMode.from(count)
+        );
+        return VideoApiPresenter.present(
+                this.listVideosUseCase.execute(aQuery),
+                facets ? this.listVideoFacetsUseCase.execute(aQuery) : null
         );
-        return VideoApiPresenter.present(this.listVideosUseCase.execute(aQuery));
     }
 
     @Override
@@ -136,30 +195,44 @@ public class VideoController implements VideoAPI {
 
     @Override
     public ResponseEntity<?> createPartial(final CreateVideoRequest payload) {
-        final var aCmd = CreateVideoCommand.with(
-                payload.title(),
-                payload.description(),
-                payload.yearLaunched(),
-                payload.duration(),
-                payload.opened(),
-                payload.published(),
-                payload.rating(),
-                payload.categories(),
-                payload.genres(),
-                payload.castMembers()
-        );
+        final var aCmd = toCommand(payload);
 
         final var output = this.createVideoUseCase.execute(aCmd);
         return ResponseEntity.created(URI.create("/videos/" + output.id())).body(output);
     }
 
     @Override
-    public VideoResponse getById(final String anId) {
-        return VideoApiPresenter.present(this.getVideoByIdUseCase.execute(anId));
+    public void createBulk(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        this.bulkImporter.run(
+                request.getInputStream(),
+                response.getOutputStream(),
+                CreateVideoRequest.class,
+                VideoController::toCommand,
+                this.createVideosBulkUseCase::execute
+        );
+    }
+
+    @Override
+    public void export(final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        if (!this.catalogExporter.exportVideos(response.getOutputStream())) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
+    @Override
+    public ResponseEntity<VideoResponse> getById(final String anId, final String ifNoneMatch) {
+        final var aVideo = this.getVideoByIdUseCase.execute(anId);
+        final var eTag = eTagOf(aVideo);
+        if (ETagUtils.isNotModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(VideoApiPresenter.present(aVideo));
     }
 
     @Override
-    public ResponseEntity<?> update(final String id, UpdateVideoRequest payload) {
+    public ResponseEntity<?> update(final String id, final String ifMatch, UpdateVideoRequest payload) {
         final var aCmd = UpdateVideoCommand.with(
                 id,
                 payload.title(),
@@ -171,7 +244,8 @@ public class VideoController implements VideoAPI {
                 payload.rating(),
                 payload.categories(),
                 payload.genres(),
-                payload.castMembers()
+                payload.castMembers(),
+                ETagUtils.updatedAtOf(ifMatch).orElse(null)
         );
         final var output = this.updateVideoUseCase.execute(aCmd);
         return ResponseEntity.ok().location(URI.create("/videos/" + output.id())).body(VideoApiPresenter.present(output));
@@ -183,34 +257,109 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(String id, String type) {
+    public void getMediaByType(
+            final String id,
+            final String type,
+            final String range,
+            final String ifRange,
+            final HttpServletResponse response
+    ) throws IOException {
         final var aCommand = GetMediaCommand.with(id, type);
         final var aMedia = this.getMediaUseCase.execute(aCommand);
-        return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(aMedia.contentType()))
-                .contentLength(aMedia.content().length)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-                .body(aMedia.content());
+        final var length = aMedia.contentLength();
+        final var eTag = "\"%s\"".formatted(aMedia.checksum());
+
+        response.setContentType(aMedia.contentType());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()));
+
+        final var aRange = byteRangeOf(range, ifRange, eTag, length);
+
+        if (aRange != null && !aRange.isSatisfiable(length)) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(length));
+            return;
+        }
+
+        final var start = aRange != null ? aRange.start() : 0;
+        final var count = aRange != null ? aRange.end() - start + 1 : length;
+
+        if (aRange != null) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, start + count - 1, length));
+        }
+
+        response.setContentLengthLong(count);
+        aMedia.resource().transferTo(start, count, Channels.newChannel(response.getOutputStream()));
     }
 
     @Override
     public ResponseEntity<?> uploadMediaByType(final String id, final String type, final MultipartFile media) {
-        final var aType = VideoMediaType.of(type)
-                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for VideoMediaType".formatted(type))));
-        final var aCommand = UploadMediaCommand.with(id, VideoResource.with(resourceOf(media), aType));
+        final var aCommand = UploadMediaCommand.with(id, VideoResource.with(resourceOf(media), mediaTypeOf(type)));
         final var output = this.uploadMediaUseCase.execute(aCommand);
         return ResponseEntity.created(URI.create("/videos/%s/medias/%s".formatted(id, type))).body(VideoApiPresenter.present(output));
     }
 
+    @Override
+    public ResponseEntity<?> createUploadSession(final String id, final String type, final CreateUploadSessionRequest payload) {
+        final var aCommand = CreateUploadSessionCommand.with(id, mediaTypeOf(type), payload.contentType(), payload.fileName());
+        final var output = this.createUploadSessionUseCase.execute(aCommand);
+        return ResponseEntity.created(URI.create("/videos/%s/medias/%s/uploads/%s".formatted(id, type, output.sessionId())))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public UploadSessionResponse getUploadSession(final String id, final String type, final String sessionId) {
+        return VideoApiPresenter.present(this.getUploadSessionUseCase.execute(UploadSessionCommand.with(id, mediaTypeOf(type), sessionId)));
+    }
+
+    @Override
+    public UploadChunkResponse uploadChunk(
+            final String id,
+            final String type,
+            final String sessionId,
+            final int number,
+            final String checksum,
+            final HttpServletRequest request
+    ) throws IOException {
+        final var aCommand = UploadChunkCommand.with(
+                id,
+                mediaTypeOf(type),
+                sessionId,
+                number,
+                request.getInputStream(),
+                request.getContentLengthLong(),
+                checksum
+        );
+        return VideoApiPresenter.present(this.uploadChunkUseCase.execute(aCommand));
+    }
+
+    @Override
+    public ResponseEntity<?> commitUploadSession(final String id, final String type, final String sessionId) {
+        final var output = this.commitUploadSessionUseCase.execute(UploadSessionCommand.with(id, mediaTypeOf(type), sessionId));
+        return ResponseEntity.created(URI.create("/videos/%s/medias/%s".formatted(id, type))).body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public void deleteUploadSession(final String id, final String type, final String sessionId) {
+        this.deleteUploadSessionUseCase.execute(UploadSessionCommand.with(id, mediaTypeOf(type), sessionId));
+    }
+
+    private VideoMediaType mediaTypeOf(final String type) {
+        return VideoMediaType.of(type)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for VideoMediaType".formatted(type))));
+    }
+
     private Resource resourceOf(final MultipartFile part) {
         if (part == null) {
             return null;
         }
 
         try {
-            return Resource.with(
-                    HashingUtils.checksum(part.getBytes()),
-                    part.getBytes(),
+            return StreamResource.with(
+                    part::getInputStream,
+                    part.getSize(),
                     part.getContentType(),
                     part.getOriginalFilename()
             );
@@ -218,4 +367,56 @@ public class VideoController implements VideoAPI {
             throw new RuntimeException(t);
         }
     }
+
+    private ByteRange byteRangeOf(final String range, final String ifRange, final String eTag, final long length) {
+        if (range == null || range.isBlank()) {
+            return null;
+        }
+
+        // A range is only honored while the client still holds the current representation
+        if (ifRange != null && !ifRange.equals(eTag)) {
+            return null;
+        }
+
+        final List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(range);
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+
+        // Multipart/byteranges responses are not supported, the full content is served instead
+        if (ranges.size() != 1) {
+            return null;
+        }
+
+        final var aRange = ranges.get(0);
+        return new ByteRange(aRange.getRangeStart(length), aRange.getRangeEnd(length));
+    }
+
+    private record ByteRange(long start, long end) {
+
+        boolean isSatisfiable(final long length) {
+            return start >= 0 && start < length && start <= end;
+        }
+    }
+
+    private static String eTagOf(final VideoOutput aVideo) {
+        return ETagUtils.of(aVideo.updatedAt());
+    }
+
+    private static CreateVideoCommand toCommand(final CreateVideoRequest payload) {
+        return CreateVideoCommand.with(
+                payload.title(),
+                payload.description(),
+                payload.yearLaunched(),
+                payload.duration(),
+                payload.opened(),
+                payload.published(),
+                payload.rating(),
+                payload.categories(),
+                payload.genres(),
+                payload.castMembers()
+        );
+    }
 }
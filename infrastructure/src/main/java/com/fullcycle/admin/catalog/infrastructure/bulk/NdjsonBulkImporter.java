@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalog.infrastructure.bulk;
+
+import com.fullcycle.admin.catalog.application.bulk.BulkItemOutput;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads newline delimited JSON requests and hands them to a bulk use case {@code batchSize} at a time, writing one
+ * {@link BulkItemOutput} line per request as soon as its batch is done. Blank lines are skipped and do not take an
+ * index; a line that is not a valid request fails on its own.
+ */
+public class NdjsonBulkImporter {
+
+    private final int batchSize;
+
+    public NdjsonBulkImporter(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public <T, C> void run(
+            final InputStream in,
+            final OutputStream out,
+            final Class<T> aType,
+            final Function<T, C> toCommand,
+            final Function<List<C>, List<BulkItemOutput>> aBatch
+    ) throws IOException {
+        final var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        final var batch = new Batch<C>(this.batchSize);
+
+        var index = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            final var aLine = line;
+            final var notification = Notification.create();
+            final var aCommand = notification.validate(() -> toCommand.apply(Json.readValue(aLine, aType)));
+            if (aCommand == null) {
+                if (!notification.hasError()) {
+                    notification.append(new Error("Empty request"));
+                }
+                batch.failed(BulkItemOutput.failed(index, notification));
+            } else {
+                batch.add(index, aCommand);
+            }
+            index++;
+
+            if (batch.isFull()) {
+                batch.flush(aBatch, writer);
+            }
+        }
+        batch.flush(aBatch, writer);
+    }
+
+    private static final class Batch<C> {
+
+        private final int size;
+        private final List<Integer> indexes;
+        private final List<C> commands;
+        private final List<BulkItemOutput> failures = new ArrayList<>();
+
+        private Batch(final int size) {
+            this.size = size;
+            this.indexes = new ArrayList<>(size);
+            this.commands = new ArrayList<>(size);
+        }
+
+        private void add(final int index, final C aCommand) {
+            this.indexes.add(index);
+            this.commands.add(aCommand);
+        }
+
+        private void failed(final BulkItemOutput anOutput) {
+            this.failures.add(anOutput);
+        }
+
+        private boolean isFull() {
+            return this.commands.size() + this.failures.size() >= this.size;
+        }
+
+        private void flush(
+                final Function<List<C>, List<BulkItemOutput>> aBatch,
+                final BufferedWriter writer
+        ) throws IOException {
+            final var outputs = new ArrayList<>(this.failures);
+            if (!this.commands.isEmpty()) {
+                for (final var it : aBatch.apply(List.copyOf(this.commands))) {
+                    outputs.add(new BulkItemOutput(this.indexes.get(it.index()), it.id(), it.errors()));
+                }
+            }
+            outputs.sort(Comparator.comparingInt(BulkItemOutput::index));
+
+            for (final var it : outputs) {
+                writer.write(Json.writeValueAsString(it));
+                writer.write('\n');
+            }
+            writer.flush();
+
+            this.indexes.clear();
+            this.commands.clear();
+            this.failures.clear();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static com.fullcycle.admin.catalog.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * Aggregates read by id, bounded by size with W-TinyLFU eviction and expired after a while. Aggregates are mutable,
+ * so callers only ever get copies of the cached instance. Ids that do not exist are not cached. Writes of other
+ * instances are only picked up once the entry expires.
+ */
+public class AggregateCache<K, V> {
+
+    private final String name;
+    private final UnaryOperator<V> copy;
+    private final Cache<K, V> cache;
+
+    public AggregateCache(
+            final String name,
+            final long maximumSize,
+            final Duration ttl,
+            final UnaryOperator<V> copy
+    ) {
+        this.name = Objects.requireNonNull(name);
+        this.copy = Objects.requireNonNull(copy);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Objects.requireNonNull(ttl))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<V> get(final K anId, final Function<K, Optional<V>> aLoader) {
+        return Optional.ofNullable(this.cache.get(anId, it -> aLoader.apply(it).orElse(null)))
+                .map(this.copy);
+    }
+
+    /**
+     * Drops the entry now and once more after the current transaction commits, so a read that raced with the
+     * write cannot keep the previous state around.
+     */
+    public void invalidate(final K anId) {
+        this.cache.invalidate(anId);
+        afterCommit(() -> this.cache.invalidate(anId));
+    }
+
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+        afterCommit(this.cache::invalidateAll);
+    }
+
+    public CacheMetrics metrics() {
+        final var stats = this.cache.stats();
+        return new CacheMetrics(
+                this.name,
+                this.cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                stats.hitRate()
+        );
+    }
+}
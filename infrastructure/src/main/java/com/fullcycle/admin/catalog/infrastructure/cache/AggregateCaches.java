@@ -0,0 +1,108 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import com.fullcycle.admin.catalog.domain.castmember.CastMember;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.infrastructure.castmember.CachedCastMemberGateway;
+import com.fullcycle.admin.catalog.infrastructure.category.CachedCategoryGateway;
+import com.fullcycle.admin.catalog.infrastructure.genre.CachedGenreGateway;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The caches shared by every decorated gateway of an aggregate, whichever configuration wraps it.
+ * <p>
+ * Only the writes of this instance invalidate them. With more than one instance running, a read may return an
+ * aggregate as it was up to {@code ttl} ago, and callers of a decorated gateway have to accept that.
+ */
+public class AggregateCaches {
+
+    private final boolean enabled;
+    private final AggregateCache<CategoryID, Category> categories;
+    private final AggregateCache<GenreID, Genre> genres;
+    private final AggregateCache<CastMemberID, CastMember> castMembers;
+    private final ExistenceCache<CategoryID> categoryIds;
+    private final ExistenceCache<GenreID> genreIds;
+    private final ExistenceCache<CastMemberID> castMemberIds;
+
+    public AggregateCaches(final boolean enabled, final Settings settings) {
+        this.enabled = enabled;
+        this.categories = new AggregateCache<>("categories", settings.maximumSize(), settings.ttl(), it -> it.clone());
+        this.genres = new AggregateCache<>("genres", settings.maximumSize(), settings.ttl(), Genre::with);
+        this.castMembers = new AggregateCache<>("cast_members", settings.maximumSize(), settings.ttl(), CastMember::with);
+        this.categoryIds = existenceCache("category_ids", settings);
+        this.genreIds = existenceCache("genre_ids", settings);
+        this.castMemberIds = existenceCache("cast_member_ids", settings);
+    }
+
+    public CategoryGateway wrap(final CategoryGateway aGateway) {
+        return this.enabled ? new CachedCategoryGateway(aGateway, this) : aGateway;
+    }
+
+    public GenreGateway wrap(final GenreGateway aGateway) {
+        return this.enabled ? new CachedGenreGateway(aGateway, this) : aGateway;
+    }
+
+    public CastMemberGateway wrap(final CastMemberGateway aGateway) {
+        return this.enabled ? new CachedCastMemberGateway(aGateway, this) : aGateway;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public AggregateCache<CategoryID, Category> categories() {
+        return this.categories;
+    }
+
+    public AggregateCache<GenreID, Genre> genres() {
+        return this.genres;
+    }
+
+    public AggregateCache<CastMemberID, CastMember> castMembers() {
+        return this.castMembers;
+    }
+
+    public ExistenceCache<CategoryID> categoryIds() {
+        return this.categoryIds;
+    }
+
+    public ExistenceCache<GenreID> genreIds() {
+        return this.genreIds;
+    }
+
+    public ExistenceCache<CastMemberID> castMemberIds() {
+        return this.castMemberIds;
+    }
+
+    public List<CacheMetrics> metrics() {
+        return List.of(
+                this.categories.metrics(),
+                this.genres.metrics(),
+                this.castMembers.metrics(),
+                this.categoryIds.metrics(),
+                this.genreIds.metrics(),
+                this.castMemberIds.metrics()
+        );
+    }
+
+    private static <K> ExistenceCache<K> existenceCache(final String name, final Settings settings) {
+        return new ExistenceCache<>(name, settings.existenceMaximumSize(), settings.existenceTtl(), settings.negativeTtl());
+    }
+
+    public record Settings(
+            long maximumSize,
+            Duration ttl,
+            long existenceMaximumSize,
+            Duration existenceTtl,
+            Duration negativeTtl
+    ) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+public record CacheMetrics(
+        String name,
+        long size,
+        long hits,
+        long misses,
+        long evictions,
+        double hitRate
+) {
+}
@@ -0,0 +1,120 @@
+package com.fullcycle.admin.catalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static com.fullcycle.admin.catalog.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * Whether ids exist, so validating references usually needs no query. Ids found are remembered for {@code ttl} and
+ * ids not found for {@code negativeTtl}: writes of other instances never reach this cache, so both bound how long
+ * an id deleted or created elsewhere keeps its previous answer. Only the ids missing from the cache are looked up,
+ * all of them in a single call, and the answer is only kept when no write of this instance happened meanwhile.
+ */
+public class ExistenceCache<K> {
+
+    private final String name;
+    private final Cache<K, Boolean> cache;
+
+    // Bumped by every create and delete, so a lookup that raced with one cannot cache what it read before it
+    private final AtomicLong writes = new AtomicLong();
+
+    public ExistenceCache(
+            final String name,
+            final long maximumSize,
+            final Duration ttl,
+            final Duration negativeTtl
+    ) {
+        this.name = Objects.requireNonNull(name);
+        final var positiveNanos = ttl.toNanos();
+        final var negativeNanos = negativeTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<K, Boolean>() {
+                    @Override
+                    public long expireAfterCreate(final K key, final Boolean exists, final long currentTime) {
+                        return exists ? positiveNanos : negativeNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(final K key, final Boolean exists, final long currentTime, final long currentDuration) {
+                        return exists ? positiveNanos : negativeNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(final K key, final Boolean exists, final long currentTime, final long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    public List<K> existing(final Iterable<K> ids, final Function<Iterable<K>, List<K>> aLookup) {
+        final var wanted = new LinkedHashSet<K>();
+        ids.forEach(wanted::add);
+        if (wanted.isEmpty()) {
+            return List.of();
+        }
+
+        final var known = new HashMap<K, Boolean>(this.cache.getAllPresent(wanted));
+        final var unknown = wanted.stream().filter(it -> !known.containsKey(it)).toList();
+        if (!unknown.isEmpty()) {
+            final var writesBefore = this.writes.get();
+            unknown.forEach(it -> known.put(it, false));
+            aLookup.apply(unknown).forEach(it -> known.put(it, true));
+            if (this.writes.get() == writesBefore) {
+                unknown.forEach(it -> this.cache.put(it, known.get(it)));
+            }
+        }
+
+        final var result = new ArrayList<K>(wanted.size());
+        for (final var id : wanted) {
+            if (known.get(id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Records ids that were just created, once the transaction creating them commits.
+     */
+    public void created(final Iterable<K> ids) {
+        afterCommit(() -> {
+            this.writes.incrementAndGet();
+            ids.forEach(it -> this.cache.put(it, true));
+        });
+    }
+
+    public void deleted(final K anId) {
+        this.writes.incrementAndGet();
+        this.cache.invalidate(anId);
+        afterCommit(() -> {
+            this.writes.incrementAndGet();
+            this.cache.invalidate(anId);
+        });
+    }
+
+    public CacheMetrics metrics() {
+        final var stats = this.cache.stats();
+        return new CacheMetrics(
+                this.name,
+                this.cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                stats.hitRate()
+        );
+    }
+}
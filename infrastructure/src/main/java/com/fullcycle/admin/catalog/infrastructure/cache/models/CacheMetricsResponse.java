@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalog.infrastructure.cache.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CacheMetricsResponse(
+        @JsonProperty("name") String name,
+        @JsonProperty("enabled") boolean enabled,
+        @JsonProperty("size") long size,
+        @JsonProperty("hits") long hits,
+        @JsonProperty("misses") long misses,
+        @JsonProperty("evictions") long evictions,
+        @JsonProperty("hit_rate") double hitRate
+) {
+}
@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalog.infrastructure.castmember;
+
+import com.fullcycle.admin.catalog.domain.castmember.CastMember;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateCaches;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class CachedCastMemberGateway implements CastMemberGateway {
+
+    private final CastMemberGateway delegate;
+    private final AggregateCaches caches;
+
+    public CachedCastMemberGateway(final CastMemberGateway delegate, final AggregateCaches caches) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.caches = Objects.requireNonNull(caches);
+    }
+
+    @Override
+    public CastMember create(final CastMember castMember) {
+        final var result = this.delegate.create(castMember);
+        this.caches.castMemberIds().created(List.of(result.getId()));
+        return result;
+    }
+
+    @Override
+    public List<CastMember> createAll(final List<CastMember> someMembers) {
+        final var results = this.delegate.createAll(someMembers);
+        this.caches.castMemberIds().created(results.stream().map(CastMember::getId).toList());
+        return results;
+    }
+
+    @Override
+    public void deleteById(final CastMemberID castMemberId) {
+        this.delegate.deleteById(castMemberId);
+        this.caches.castMembers().invalidate(castMemberId);
+        this.caches.castMemberIds().deleted(castMemberId);
+    }
+
+    @Override
+    public Optional<CastMember> findById(final CastMemberID castMemberId) {
+        return this.caches.castMembers().get(castMemberId, this.delegate::findById);
+    }
+
+    @Override
+    public CastMember update(final CastMember castMember) {
+        final var result = this.delegate.update(castMember);
+        this.caches.castMembers().invalidate(castMember.getId());
+        return result;
+    }
+
+    @Override
+    public CastMember update(final CastMember castMember, final Instant expectedUpdatedAt) {
+        try {
+            return this.delegate.update(castMember, expectedUpdatedAt);
+        } finally {
+            this.caches.castMembers().invalidate(castMember.getId());
+        }
+    }
+
+    @Override
+    public Pagination<CastMember> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<CastMemberID> existsById(final Iterable<CastMemberID> ids) {
+        return this.caches.castMemberIds().existing(ids, this.delegate::existsById);
+    }
+}
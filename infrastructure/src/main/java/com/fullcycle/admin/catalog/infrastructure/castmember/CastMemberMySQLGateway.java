@@ -3,16 +3,29 @@ package com.fullcycle.admin.catalog.infrastructure.castmember;
 import com.fullcycle.admin.catalog.domain.castmember.CastMember;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.pagination.CountMode;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.search.SearchProperties;
+import com.fullcycle.admin.catalog.infrastructure.search.CatalogSearchIndex;
+import com.fullcycle.admin.catalog.infrastructure.search.SearchDocumentType;
+import com.fullcycle.admin.catalog.infrastructure.utils.EstimatedCounts;
+import com.fullcycle.admin.catalog.infrastructure.utils.FullTextUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.PageUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.PreconditionUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.SqlUtils;
 import com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -22,9 +35,23 @@ import java.util.stream.StreamSupport;
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
     private final CastMemberRepository castMemberRepository;
-
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private final EntityManager entityManager;
+    private final EstimatedCounts estimatedCounts;
+    private final SearchProperties searchProperties;
+    private final CatalogSearchIndex searchIndex;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final EntityManager entityManager,
+            final EstimatedCounts estimatedCounts,
+            final SearchProperties searchProperties,
+            final CatalogSearchIndex searchIndex
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.estimatedCounts = Objects.requireNonNull(estimatedCounts);
+        this.searchProperties = Objects.requireNonNull(searchProperties);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
     }
 
     @Override
@@ -32,12 +59,24 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         return save(aCastMember);
     }
 
+    @Override
+    @Transactional
+    public List<CastMember> createAll(final List<CastMember> someMembers) {
+        final var entities = someMembers.stream().map(CastMemberJpaEntity::from).toList();
+        entities.forEach(this.entityManager::persist);
+
+        final var results = entities.stream().map(CastMemberJpaEntity::toAggregate).toList();
+        results.forEach(it -> this.searchIndex.put(SearchDocumentType.CAST_MEMBER, it.getId().getValue(), it.getName()));
+        return results;
+    }
+
     @Override
     public void deleteById(final CastMemberID aMemberId) {
         final var anId = aMemberId.getValue();
 
         if (this.castMemberRepository.existsById(anId)) {
             this.castMemberRepository.deleteById(anId);
+            this.searchIndex.remove(SearchDocumentType.CAST_MEMBER, anId);
         }
     }
 
@@ -51,19 +90,42 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         return save(aCastMember);
     }
 
+    @Override
+    @Transactional
+    public CastMember update(final CastMember aCastMember, final Instant expectedUpdatedAt) {
+        PreconditionUtils.requireUpdatedAt(
+                this.entityManager,
+                CastMemberJpaEntity.class,
+                CastMember.class,
+                aCastMember.getId(),
+                expectedUpdatedAt,
+                aCastMember.getUpdatedAt()
+        );
+        return save(aCastMember);
+    }
+
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
+        if (aQuery.isKeyset()) {
+            return findAllAfter(aQuery);
+        }
+
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+                FullTextUtils.sort(
+                        Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort()),
+                        aQuery.sort(),
+                        this.searchProperties.useFullText(aQuery.terms())
+                )
         );
 
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(terms -> !terms.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+        final var where = search(aQuery);
+
 
+        if (aQuery.count() != CountMode.EXACT) {
+            return findAllUncounted(aQuery, Specification.where(where));
+        }
 
         final var pageResult = this.castMemberRepository.findAll(where, page);
         return new Pagination<>(
@@ -80,11 +142,55 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         return this.castMemberRepository.existsByIds(ids).stream().map(CastMemberID::from).toList();
     }
 
+    private Pagination<CastMember> findAllUncounted(final SearchQuery aQuery, final Specification<CastMemberJpaEntity> where) {
+        final var sort = FullTextUtils.sort(
+                KeysetUtils.sort(aQuery.sort(), aQuery.direction()),
+                aQuery.sort(),
+                this.searchProperties.useFullText(aQuery.terms())
+        );
+        final var slice = PageUtils.findSlice(
+                this.entityManager,
+                CastMemberJpaEntity.class,
+                where,
+                PageRequest.of(aQuery.page(), aQuery.perPage(), sort)
+        );
+        final var signature = EstimatedCounts.signature("cast_members", SqlUtils.upper(aQuery.terms()));
+        return PageUtils.page(slice, aQuery.count(), () -> this.estimatedCounts.get(signature, () -> this.castMemberRepository.count(where)))
+                .map(CastMemberJpaEntity::toAggregate);
+    }
+
+    private Pagination<CastMember> findAllAfter(final SearchQuery aQuery) {
+        final var aPage = KeysetUtils.findAllAfter(
+                this.entityManager,
+                CastMemberJpaEntity.class,
+                search(aQuery),
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.after(),
+                aQuery.sort(),
+                aQuery.direction()
+        );
+        return aPage.map(CastMemberJpaEntity::toAggregate);
+    }
+
+    private Specification<CastMemberJpaEntity> search(final SearchQuery aQuery) {
+        final var terms = aQuery.terms();
+        if (terms == null || terms.isBlank()) {
+            return null;
+        }
+        if (this.searchProperties.useFullText(terms)) {
+            return FullTextUtils.match(terms, FullTextUtils.isRelevance(aQuery.sort()), "name");
+        }
+        return assembleSpecification(terms);
+    }
+
     private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
         return SpecificationUtils.like("name", terms);
     }
 
     private CastMember save(final CastMember aCastMember) {
-        return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember)).toAggregate();
+        final var result = this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember)).toAggregate();
+        this.searchIndex.put(SearchDocumentType.CAST_MEMBER, result.getId().getValue(), result.getName());
+        return result;
     }
 }
@@ -0,0 +1,82 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateCaches;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Answers {@link #findById(CategoryID)} and {@link #existsById(Iterable)} from the caches. Deleting a category also
+ * drops its rows from every genre, so it clears the genre cache as well.
+ */
+public class CachedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final AggregateCaches caches;
+
+    public CachedCategoryGateway(final CategoryGateway delegate, final AggregateCaches caches) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.caches = Objects.requireNonNull(caches);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var result = this.delegate.create(aCategory);
+        this.caches.categoryIds().created(List.of(result.getId()));
+        return result;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> someCategories) {
+        final var results = this.delegate.createAll(someCategories);
+        this.caches.categoryIds().created(results.stream().map(Category::getId).toList());
+        return results;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.delegate.deleteById(anId);
+        this.caches.categories().invalidate(anId);
+        this.caches.categoryIds().deleted(anId);
+        this.caches.genres().invalidateAll();
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.caches.categories().get(anId, this.delegate::findById);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var result = this.delegate.update(aCategory);
+        this.caches.categories().invalidate(aCategory.getId());
+        return result;
+    }
+
+    @Override
+    public Category update(final Category aCategory, final Instant expectedUpdatedAt) {
+        try {
+            return this.delegate.update(aCategory, expectedUpdatedAt);
+        } finally {
+            // Also after a failed precondition, which tells the cached copy may be older than the row
+            this.caches.categories().invalidate(aCategory.getId());
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<CategoryID> existsById(final Iterable<CategoryID> ids) {
+        return this.caches.categoryIds().existing(ids, this.delegate::existsById);
+    }
+}
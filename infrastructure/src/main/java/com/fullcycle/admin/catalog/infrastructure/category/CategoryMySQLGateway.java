@@ -3,16 +3,29 @@ package com.fullcycle.admin.catalog.infrastructure.category;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.pagination.CountMode;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.search.SearchProperties;
+import com.fullcycle.admin.catalog.infrastructure.search.CatalogSearchIndex;
+import com.fullcycle.admin.catalog.infrastructure.search.SearchDocumentType;
+import com.fullcycle.admin.catalog.infrastructure.utils.EstimatedCounts;
+import com.fullcycle.admin.catalog.infrastructure.utils.FullTextUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.PageUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.PreconditionUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.SqlUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -22,9 +35,23 @@ import static com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtil
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
     private final CategoryRepository repository;
-
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    private final EntityManager entityManager;
+    private final EstimatedCounts estimatedCounts;
+    private final SearchProperties searchProperties;
+    private final CatalogSearchIndex searchIndex;
+
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final EntityManager entityManager,
+            final EstimatedCounts estimatedCounts,
+            final SearchProperties searchProperties,
+            final CatalogSearchIndex searchIndex
+    ) {
         this.repository = repository;
+        this.entityManager = entityManager;
+        this.estimatedCounts = estimatedCounts;
+        this.searchProperties = searchProperties;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -32,8 +59,25 @@ public class CategoryMySQLGateway implements CategoryGateway {
         return save(aCategory);
     }
 
+    /**
+     * Persists the new rows in one transaction, without the select a merge would run for each of them, so the
+     * inserts go out in JDBC batches.
+     */
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> someCategories) {
+        final var entities = someCategories.stream().map(CategoryJpaEntity::from).toList();
+        entities.forEach(this.entityManager::persist);
+
+        final var results = entities.stream().map(CategoryJpaEntity::toAggregate).toList();
+        results.forEach(it -> this.searchIndex.put(SearchDocumentType.CATEGORY, it.getId().getValue(), it.getName()));
+        return results;
+    }
+
     private Category save(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        final var result = this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        this.searchIndex.put(SearchDocumentType.CATEGORY, result.getId().getValue(), result.getName());
+        return result;
     }
 
     @Override
@@ -41,6 +85,7 @@ public class CategoryMySQLGateway implements CategoryGateway {
         String anIdValue = anId.getValue();
         if (this.repository.existsById(anIdValue)) {
             this.repository.deleteById(anIdValue);
+            this.searchIndex.remove(SearchDocumentType.CATEGORY, anIdValue);
         }
     }
 
@@ -54,21 +99,44 @@ public class CategoryMySQLGateway implements CategoryGateway {
         return save(aCategory);
     }
 
+    @Override
+    @Transactional
+    public Category update(final Category aCategory, final Instant expectedUpdatedAt) {
+        PreconditionUtils.requireUpdatedAt(
+                this.entityManager,
+                CategoryJpaEntity.class,
+                Category.class,
+                aCategory.getId(),
+                expectedUpdatedAt,
+                aCategory.getUpdatedAt()
+        );
+        return save(aCategory);
+    }
+
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
+        if (aQuery.isKeyset()) {
+            return findAllAfter(aQuery);
+        }
+
         // Paginacao
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
+                FullTextUtils.sort(
+                        Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort()),
+                        aQuery.sort(),
+                        this.searchProperties.useFullText(aQuery.terms())
+                )
         );
 
         // Busca dinamica pelo criterio terms (name ou description)
 
-        final var specifications = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+        final var specifications = search(aQuery);
+
+        if (aQuery.count() != CountMode.EXACT) {
+            return findAllUncounted(aQuery, Specification.where(specifications));
+        }
 
         final var pageResult = this.repository.findAll(Specification.where(specifications), page);
         return new Pagination<>(
@@ -85,6 +153,52 @@ public class CategoryMySQLGateway implements CategoryGateway {
         return this.repository.existsByIds(ids).stream().map(CategoryID::from).toList();
     }
 
+    /**
+     * Offset pages without the exact count: one extra row tells whether there is a next page, and the estimated
+     * total is counted once per TTL for the same terms.
+     */
+    private Pagination<Category> findAllUncounted(final SearchQuery aQuery, final Specification<CategoryJpaEntity> where) {
+        final var sort = FullTextUtils.sort(
+                KeysetUtils.sort(aQuery.sort(), aQuery.direction()),
+                aQuery.sort(),
+                this.searchProperties.useFullText(aQuery.terms())
+        );
+        final var slice = PageUtils.findSlice(
+                this.entityManager,
+                CategoryJpaEntity.class,
+                where,
+                PageRequest.of(aQuery.page(), aQuery.perPage(), sort)
+        );
+        final var signature = EstimatedCounts.signature("categories", SqlUtils.upper(aQuery.terms()));
+        return PageUtils.page(slice, aQuery.count(), () -> this.estimatedCounts.get(signature, () -> this.repository.count(where)))
+                .map(CategoryJpaEntity::toAggregate);
+    }
+
+    private Pagination<Category> findAllAfter(final SearchQuery aQuery) {
+        final var aPage = KeysetUtils.findAllAfter(
+                this.entityManager,
+                CategoryJpaEntity.class,
+                search(aQuery),
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.after(),
+                aQuery.sort(),
+                aQuery.direction()
+        );
+        return aPage.map(CategoryJpaEntity::toAggregate);
+    }
+
+    private Specification<CategoryJpaEntity> search(final SearchQuery aQuery) {
+        final var terms = aQuery.terms();
+        if (terms == null || terms.isBlank()) {
+            return null;
+        }
+        if (this.searchProperties.useFullText(terms)) {
+            return FullTextUtils.match(terms, FullTextUtils.isRelevance(aQuery.sort()), "name", "description");
+        }
+        return assembleSpecification(terms);
+    }
+
     private Specification<CategoryJpaEntity> assembleSpecification(final String str) {
         final Specification<CategoryJpaEntity> nameLike = like("name", str);
         final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
@@ -1,11 +1,17 @@
 package com.fullcycle.admin.catalog.infrastructure.configuration;
 
 
+import com.fullcycle.admin.catalog.infrastructure.amqp.ProcessedMessageStore;
 import com.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoEvents;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.ListenerProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.PublisherProperties;
 import com.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.QueueProperties;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,6 +33,58 @@ public class AmqpConfig {
         return new QueueProperties();
     }
 
+    @Bean
+    @ConfigurationProperties("amqp.listeners.video-encoded")
+    @VideoEncodedQueue
+    public ListenerProperties videoEncodedListenerProperties() {
+        return new ListenerProperties();
+    }
+
+    /**
+     * Container for the video encoded listener. In batch mode each consumer receives up to {@code batchSize}
+     * messages, or whatever arrived within {@code receiveTimeout}, and acknowledges them together.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory videoEncodedListenerContainerFactory(
+            final ConnectionFactory connectionFactory,
+            @VideoEncodedQueue final ListenerProperties props
+    ) {
+        final var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(props.getConcurrency());
+        factory.setMaxConcurrentConsumers(Math.max(props.getConcurrency(), props.getMaxConcurrency()));
+        factory.setPrefetchCount(Math.max(props.getPrefetch(), props.isBatchEnabled() ? props.getBatchSize() : 1));
+        // A rejected delivery goes to the dead letter exchange of the queue policy, when there is one, instead of
+        // coming straight back and failing the same batch forever
+        factory.setDefaultRequeueRejected(false);
+
+        if (props.isBatchEnabled()) {
+            factory.setBatchListener(true);
+            factory.setConsumerBatchEnabled(true);
+            factory.setBatchSize(props.getBatchSize());
+            factory.setReceiveTimeout(props.getReceiveTimeout().toMillis());
+        }
+        return factory;
+    }
+
+    @Bean
+    @VideoEncodedQueue
+    public ProcessedMessageStore videoEncodedProcessedMessages(@VideoEncodedQueue final ListenerProperties props) {
+        return new ProcessedMessageStore(props.getProcessedCapacity(), props.getProcessedTtl());
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.outbox")
+    public OutboxProperties outboxProperties() {
+        return new OutboxProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.publisher")
+    public PublisherProperties publisherProperties() {
+        return new PublisherProperties();
+    }
+
 
     @Configuration
     static class Admin {
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import com.fullcycle.admin.catalog.infrastructure.bulk.NdjsonBulkImporter;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.bulk.BulkProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BulkConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "bulk")
+    public BulkProperties bulkProperties() {
+        return new BulkProperties();
+    }
+
+    @Bean
+    public NdjsonBulkImporter ndjsonBulkImporter(final BulkProperties props) {
+        return new NdjsonBulkImporter(props.getBatchSize());
+    }
+}
@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateCaches;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.cache.AggregateCacheProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "cache.aggregates")
+    public AggregateCacheProperties aggregateCacheProperties() {
+        return new AggregateCacheProperties();
+    }
+
+    @Bean
+    public AggregateCaches aggregateCaches(final AggregateCacheProperties props) {
+        return new AggregateCaches(
+                props.isEnabled(),
+                new AggregateCaches.Settings(
+                        props.getMaximumSize(),
+                        props.getTtl(),
+                        props.getExistenceMaximumSize(),
+                        props.getExistenceTtl(),
+                        props.getNegativeTtl()
+                )
+        );
+    }
+}
@@ -1,22 +1,106 @@
 package com.fullcycle.admin.catalog.infrastructure.configuration;
 
 import com.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.PublisherProperties;
 import com.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.fullcycle.admin.catalog.infrastructure.outbox.OutboxEventService;
+import com.fullcycle.admin.catalog.infrastructure.outbox.OutboxRelay;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
 import com.fullcycle.admin.catalog.infrastructure.services.EventService;
+import com.fullcycle.admin.catalog.infrastructure.services.impl.BatchingRabbitEventService;
 import com.fullcycle.admin.catalog.infrastructure.services.impl.RabbitEventService;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.List;
 
 @Configuration
 public class EventConfig {
 
     @Bean
     @VideoCreatedQueue
+    @ConditionalOnProperty(value = "amqp.publisher.mode", havingValue = "batching", matchIfMissing = true)
+    BatchingRabbitEventService videoCreatedBatchingEventService(
+            @VideoCreatedQueue final QueueProperties properties,
+            final PublisherProperties publisherProperties,
+            final RabbitOperations ops
+    ) {
+        return new BatchingRabbitEventService(
+                properties.getExchange(),
+                properties.getRoutingKey(),
+                ops,
+                new BatchingRabbitEventService.Settings(
+                        publisherProperties.getBatchSize(),
+                        publisherProperties.getLinger(),
+                        publisherProperties.getMaxInFlight(),
+                        publisherProperties.getBacklogCapacity(),
+                        publisherProperties.getMaxRetries(),
+                        publisherProperties.getConfirmTimeout()
+                )
+        );
+    }
+
+    @Bean
+    @VideoCreatedQueue
+    @ConditionalOnProperty(value = "amqp.publisher.mode", havingValue = "simple")
     EventService videoCreatedEventService(
             @VideoCreatedQueue final QueueProperties properties,
+            final PublisherProperties publisherProperties,
             final RabbitOperations ops
     ) {
-        return new RabbitEventService(properties.getExchange(), properties.getRoutingKey(), ops);
+        return new RabbitEventService(
+                properties.getExchange(),
+                properties.getRoutingKey(),
+                ops,
+                publisherProperties.getConfirmTimeout()
+        );
+    }
+
+    @Bean
+    OutboxEventService videoCreatedOutbox(
+            @VideoCreatedQueue final QueueProperties properties,
+            final OutboxEventRepository outboxEventRepository
+    ) {
+        return new OutboxEventService(properties.getRoutingKey(), outboxEventRepository);
+    }
+
+    @Bean
+    OutboxRelay videoCreatedOutboxRelay(
+            @VideoCreatedQueue final QueueProperties properties,
+            @VideoCreatedQueue final EventService eventService,
+            final OutboxEventRepository outboxEventRepository,
+            final OutboxProperties outboxProperties
+    ) {
+        return new OutboxRelay(
+                properties.getRoutingKey(),
+                eventService,
+                outboxEventRepository,
+                outboxProperties.getBatchSize()
+        );
+    }
+
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(value = "amqp.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+    static class OutboxRelayScheduling implements SchedulingConfigurer {
+
+        private final List<OutboxRelay> relays;
+        private final OutboxProperties properties;
+
+        OutboxRelayScheduling(final List<OutboxRelay> relays, final OutboxProperties properties) {
+            this.relays = relays;
+            this.properties = properties;
+        }
+
+        @Override
+        public void configureTasks(final ScheduledTaskRegistrar registrar) {
+            this.relays.forEach(relay -> registrar.addFixedDelayTask(relay::drain, this.properties.getPollInterval().toMillis()));
+        }
     }
 }
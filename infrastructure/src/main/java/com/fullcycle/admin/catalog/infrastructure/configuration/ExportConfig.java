@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.export.ExportProperties;
+import com.fullcycle.admin.catalog.infrastructure.export.NdjsonCatalogExporter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class ExportConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "export")
+    public ExportProperties exportProperties() {
+        return new ExportProperties();
+    }
+
+    @Bean
+    public NdjsonCatalogExporter ndjsonCatalogExporter(final DataSource dataSource, final ExportProperties props) {
+        return new NdjsonCatalogExporter(dataSource, props.getFetchSize(), props.getMaxConcurrent());
+    }
+}
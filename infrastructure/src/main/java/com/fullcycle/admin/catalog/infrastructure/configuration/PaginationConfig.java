@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.pagination.EstimatedCountProperties;
+import com.fullcycle.admin.catalog.infrastructure.utils.EstimatedCounts;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PaginationConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "pagination.estimated-counts")
+    public EstimatedCountProperties estimatedCountProperties() {
+        return new EstimatedCountProperties();
+    }
+
+    @Bean
+    public EstimatedCounts estimatedCounts(final EstimatedCountProperties props) {
+        return new EstimatedCounts(props.getCapacity(), props.getTtl());
+    }
+}
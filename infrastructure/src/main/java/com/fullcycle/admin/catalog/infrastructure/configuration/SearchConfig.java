@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.search.SearchIndexProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.search.SearchProperties;
+import com.fullcycle.admin.catalog.infrastructure.search.CatalogSearchIndex;
+import com.fullcycle.admin.catalog.infrastructure.search.CatalogSearchIndexLoader;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManager;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "search")
+    public SearchProperties searchProperties() {
+        return new SearchProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "search.index")
+    public SearchIndexProperties searchIndexProperties() {
+        return new SearchIndexProperties();
+    }
+
+    @Bean
+    public CatalogSearchIndex catalogSearchIndex(final SearchIndexProperties props) {
+        return new CatalogSearchIndex(props.isEnabled(), props.getMaxResults());
+    }
+
+    @Bean
+    public CatalogSearchIndexLoader catalogSearchIndexLoader(
+            final CatalogSearchIndex index,
+            final EntityManager entityManager,
+            final SearchIndexProperties props
+    ) {
+        return new CatalogSearchIndexLoader(index, entityManager, props.getBatchSize());
+    }
+}
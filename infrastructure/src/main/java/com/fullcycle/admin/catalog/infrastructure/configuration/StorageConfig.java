@@ -1,18 +1,33 @@
 package com.fullcycle.admin.catalog.infrastructure.configuration;
 
 
+import com.fullcycle.admin.catalog.application.video.media.MediaStorageExecutor;
 import com.fullcycle.admin.catalog.infrastructure.configuration.properties.google.GoogleStorageProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.LocalStorageProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaUploadProperties;
 import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.admin.catalog.infrastructure.services.StorageService;
 import com.fullcycle.admin.catalog.infrastructure.services.impl.GCStorageService;
+import com.fullcycle.admin.catalog.infrastructure.services.impl.MediaStorageMetrics;
 import com.fullcycle.admin.catalog.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalog.infrastructure.services.local.LocalFileSystemStorageService;
 import com.google.cloud.storage.Storage;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 public class StorageConfig {
 
@@ -22,8 +37,56 @@ public class StorageConfig {
         return new StorageProperties();
     }
 
+    @Bean
+    @ConfigurationProperties(value = "storage.catalog-videos.local")
+    public LocalStorageProperties localStorageProperties() {
+        return new LocalStorageProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "storage.catalog-videos.upload")
+    public MediaUploadProperties mediaUploadProperties() {
+        return new MediaUploadProperties();
+    }
+
+    @Bean
+    public ExecutorService mediaStorageThreadPool(final MediaUploadProperties props) {
+        final var counter = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final var thread = new Thread(runnable, "media-storage-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        // When the pool and its queue are full, the request thread stores the media itself
+        return new ThreadPoolExecutor(
+                props.getThreads(),
+                props.getThreads(),
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(props.getQueueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @Bean
+    public MediaStorageMetrics mediaStorageMetrics() {
+        return new MediaStorageMetrics();
+    }
+
+    @Bean
+    public MediaStorageExecutor mediaStorageExecutor(
+            @Qualifier("mediaStorageThreadPool") final ExecutorService mediaStorageThreadPool,
+            final MediaUploadProperties props,
+            final MediaStorageMetrics metrics
+    ) {
+        return new MediaStorageExecutor(mediaStorageThreadPool, props.getTimeout(), metrics);
+    }
+
     @Bean(name = "storageService")
     @Profile({"development", "production"})
+    @ConditionalOnProperty(value = "storage.catalog-videos.backend", havingValue = "gcs", matchIfMissing = true)
     public StorageService gcStorageService(
             final GoogleStorageProperties props,
             final Storage storage
@@ -31,6 +94,16 @@ public class StorageConfig {
         return new GCStorageService(props.getBucket(), storage);
     }
 
+    @Bean(name = "storageService")
+    @ConditionalOnProperty(value = "storage.catalog-videos.backend", havingValue = "local")
+    public StorageService localFileSystemStorageService(final LocalStorageProperties props) {
+        return new LocalFileSystemStorageService(
+                Path.of(props.getRoot()),
+                props.getFsync(),
+                props.isMemoryMapImages()
+        );
+    }
+
 
     @Bean(name = "storageService")
     @ConditionalOnMissingBean
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import com.fullcycle.admin.catalog.application.video.validation.ReferenceValidationExecutor;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.validation.ReferenceValidationProperties;
+import com.fullcycle.admin.catalog.infrastructure.video.ReferenceValidationMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ValidationConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "validation.references")
+    public ReferenceValidationProperties referenceValidationProperties() {
+        return new ReferenceValidationProperties();
+    }
+
+    @Bean
+    public ReferenceValidationMetrics referenceValidationMetrics() {
+        return new ReferenceValidationMetrics();
+    }
+
+    @Bean
+    public ExecutorService referenceValidationThreadPool(final ReferenceValidationProperties props) {
+        final var counter = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final var thread = new Thread(runnable, "reference-validation-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        // When the pool and its queue are full, the request thread runs the lookup itself
+        return new ThreadPoolExecutor(
+                props.getThreads(),
+                props.getThreads(),
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(props.getQueueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @Bean
+    public ReferenceValidationExecutor referenceValidationExecutor(
+            @Qualifier("referenceValidationThreadPool") final ExecutorService threadPool,
+            final ReferenceValidationProperties props,
+            final ReferenceValidationMetrics metrics
+    ) {
+        return new ReferenceValidationExecutor(threadPool, props.getTimeout(), metrics);
+    }
+}
@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.video.RelationIndexProperties;
+import com.fullcycle.admin.catalog.infrastructure.video.index.VideoRelationIndex;
+import com.fullcycle.admin.catalog.infrastructure.video.index.VideoRelationIndexLoader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import javax.persistence.EntityManager;
+
+@Configuration
+public class VideoIndexConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "videos.relation-index")
+    public RelationIndexProperties relationIndexProperties() {
+        return new RelationIndexProperties();
+    }
+
+    @Bean
+    public VideoRelationIndex videoRelationIndex(final RelationIndexProperties props) {
+        return new VideoRelationIndex(props.isEnabled(), props.getMaxCandidates());
+    }
+
+    @Bean
+    public VideoRelationIndexLoader videoRelationIndexLoader(
+            final VideoRelationIndex index,
+            final EntityManager entityManager,
+            final RelationIndexProperties props
+    ) {
+        return new VideoRelationIndexLoader(index, entityManager, props.getBatchSize());
+    }
+
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(value = "videos.relation-index.enabled", havingValue = "true")
+    static class RelationIndexRebuildScheduling implements SchedulingConfigurer {
+
+        private final VideoRelationIndexLoader loader;
+        private final RelationIndexProperties properties;
+
+        RelationIndexRebuildScheduling(final VideoRelationIndexLoader loader, final RelationIndexProperties properties) {
+            this.loader = loader;
+            this.properties = properties;
+        }
+
+        @Override
+        public void configureTasks(final ScheduledTaskRegistrar registrar) {
+            // The first rebuild runs once the application is ready
+            final var interval = this.properties.getRebuildInterval().toMillis();
+            registrar.addFixedDelayTask(new IntervalTask(this.loader::rebuild, interval, interval));
+        }
+    }
+}
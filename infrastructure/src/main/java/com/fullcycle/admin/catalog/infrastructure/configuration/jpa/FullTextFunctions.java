@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.jpa;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Makes MySQL {@code MATCH ... AGAINST} available to JPQL and Criteria queries, returning the relevance. Registered
+ * through {@code hibernate.metadata_builder_contributor}; the columns need a FULLTEXT index over exactly them.
+ */
+public class FullTextFunctions implements MetadataBuilderContributor {
+
+    public static final String MATCH = "fulltext_match";
+    public static final String MATCH_2 = "fulltext_match_2";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(
+                MATCH,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "match(?1) against (?2 in boolean mode)")
+        );
+        metadataBuilder.applySqlFunction(
+                MATCH_2,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "match(?1, ?2) against (?3 in boolean mode)")
+        );
+    }
+}
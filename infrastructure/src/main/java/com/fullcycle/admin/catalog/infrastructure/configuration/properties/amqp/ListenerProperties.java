@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ListenerProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ListenerProperties.class);
+
+    private boolean batchEnabled = false;
+    private int batchSize = 100;
+    private Duration receiveTimeout = Duration.ofSeconds(1);
+    private int concurrency = 1;
+    private int maxConcurrency = 1;
+    private int prefetch = 250;
+    private long processedCapacity = 100_000;
+    private Duration processedTtl = Duration.ofHours(6);
+
+    public ListenerProperties() {
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerProperties{" +
+                "batchEnabled=" + batchEnabled +
+                ", batchSize=" + batchSize +
+                ", receiveTimeout=" + receiveTimeout +
+                ", concurrency=" + concurrency +
+                ", maxConcurrency=" + maxConcurrency +
+                ", prefetch=" + prefetch +
+                ", processedCapacity=" + processedCapacity +
+                ", processedTtl=" + processedTtl +
+                '}';
+    }
+
+    public boolean isBatchEnabled() {
+        return batchEnabled;
+    }
+
+    public void setBatchEnabled(boolean batchEnabled) {
+        this.batchEnabled = batchEnabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getReceiveTimeout() {
+        return receiveTimeout;
+    }
+
+    public void setReceiveTimeout(Duration receiveTimeout) {
+        this.receiveTimeout = receiveTimeout;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public long getProcessedCapacity() {
+        return processedCapacity;
+    }
+
+    public void setProcessedCapacity(long processedCapacity) {
+        this.processedCapacity = processedCapacity;
+    }
+
+    public Duration getProcessedTtl() {
+        return processedTtl;
+    }
+
+    public void setProcessedTtl(Duration processedTtl) {
+        this.processedTtl = processedTtl;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+}
@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class OutboxProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxProperties.class);
+
+    private boolean relayEnabled = true;
+    private int batchSize = 500;
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    public OutboxProperties() {
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxProperties{" +
+                "relayEnabled=" + relayEnabled +
+                ", batchSize=" + batchSize +
+                ", pollInterval=" + pollInterval +
+                '}';
+    }
+
+    public boolean isRelayEnabled() {
+        return relayEnabled;
+    }
+
+    public void setRelayEnabled(boolean relayEnabled) {
+        this.relayEnabled = relayEnabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+}
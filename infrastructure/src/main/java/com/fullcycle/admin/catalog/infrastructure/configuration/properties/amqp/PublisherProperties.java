@@ -0,0 +1,97 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class PublisherProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PublisherProperties.class);
+
+    private String mode = "batching";
+    private int batchSize = 100;
+    private Duration linger = Duration.ofMillis(5);
+    private int maxInFlight = 1000;
+    private int backlogCapacity = 10000;
+    private int maxRetries = 3;
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+
+    public PublisherProperties() {
+    }
+
+    @Override
+    public String toString() {
+        return "PublisherProperties{" +
+                "mode='" + mode + '\'' +
+                ", batchSize=" + batchSize +
+                ", linger=" + linger +
+                ", maxInFlight=" + maxInFlight +
+                ", backlogCapacity=" + backlogCapacity +
+                ", maxRetries=" + maxRetries +
+                ", confirmTimeout=" + confirmTimeout +
+                '}';
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getLinger() {
+        return linger;
+    }
+
+    public void setLinger(Duration linger) {
+        this.linger = linger;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public int getBacklogCapacity() {
+        return backlogCapacity;
+    }
+
+    public void setBacklogCapacity(int backlogCapacity) {
+        this.backlogCapacity = backlogCapacity;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public Duration getConfirmTimeout() {
+        return confirmTimeout;
+    }
+
+    public void setConfirmTimeout(Duration confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+}
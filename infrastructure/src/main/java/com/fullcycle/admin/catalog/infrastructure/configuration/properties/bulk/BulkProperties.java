@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.bulk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class BulkProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkProperties.class);
+
+    private int batchSize = 500;
+
+    public BulkProperties() {
+    }
+
+    @Override
+    public String toString() {
+        return "BulkProperties{" +
+                "batchSize=" + batchSize +
+                '}';
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+}
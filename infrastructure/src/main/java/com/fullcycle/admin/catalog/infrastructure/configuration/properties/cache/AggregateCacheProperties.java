@@ -0,0 +1,87 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class AggregateCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AggregateCacheProperties.class);
+
+    private boolean enabled = true;
+    private long maximumSize = 10000;
+    private Duration ttl = Duration.ofMinutes(5);
+    private long existenceMaximumSize = 100000;
+    private Duration existenceTtl = Duration.ofSeconds(10);
+    private Duration negativeTtl = Duration.ofSeconds(5);
+
+    public AggregateCacheProperties() {
+    }
+
+    @Override
+    public String toString() {
+        return "AggregateCacheProperties{" +
+                "enabled=" + enabled +
+                ", maximumSize=" + maximumSize +
+                ", ttl=" + ttl +
+                ", existenceMaximumSize=" + existenceMaximumSize +
+                ", existenceTtl=" + existenceTtl +
+                ", negativeTtl=" + negativeTtl +
+                '}';
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getExistenceMaximumSize() {
+        return existenceMaximumSize;
+    }
+
+    public void setExistenceMaximumSize(long existenceMaximumSize) {
+        this.existenceMaximumSize = existenceMaximumSize;
+    }
+
+    public Duration getExistenceTtl() {
+        return existenceTtl;
+    }
+
+    public void setExistenceTtl(Duration existenceTtl) {
+        this.existenceTtl = existenceTtl;
+    }
+
+    public Duration getNegativeTtl() {
+        return negativeTtl;
+    }
+
+    public void setNegativeTtl(Duration negativeTtl) {
+        this.negativeTtl = negativeTtl;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+}
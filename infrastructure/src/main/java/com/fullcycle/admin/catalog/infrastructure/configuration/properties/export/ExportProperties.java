@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.export;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ExportProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportProperties.class);
+
+    private int fetchSize = 1000;
+    private int maxConcurrent = 2;
+
+    public ExportProperties() {
+    }
+
+    @Override
+    public String toString() {
+        return "ExportProperties{" +
+                "fetchSize=" + fetchSize +
+                ", maxConcurrent=" + maxConcurrent +
+                '}';
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+}
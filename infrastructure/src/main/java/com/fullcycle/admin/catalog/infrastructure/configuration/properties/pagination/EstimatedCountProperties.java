@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.pagination;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class EstimatedCountProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(EstimatedCountProperties.class);
+
+    private long capacity = 10_000;
+    private Duration ttl = Duration.ofSeconds(30);
+
+    public EstimatedCountProperties() {
+    }
+
+    @Override
+    public String toString() {
+        return "EstimatedCountProperties{" +
+                "capacity=" + capacity +
+                ", ttl=" + ttl +
+                '}';
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(long capacity) {
+        this.capacity = capacity;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class SearchIndexProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexProperties.class);
+
+    private boolean enabled = true;
+    private int batchSize = 5000;
+    private int maxResults = 50;
+
+    public SearchIndexProperties() {
+    }
+
+    @Override
+    public String toString() {
+        return "SearchIndexProperties{" +
+                "enabled=" + enabled +
+                ", batchSize=" + batchSize +
+                ", maxResults=" + maxResults +
+                '}';
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    public void setMaxResults(int maxResults) {
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+}
@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class SearchProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchProperties.class);
+
+    private boolean fullText = false;
+    private int minTermLength = 2;
+
+    public SearchProperties() {
+    }
+
+    /**
+     * Whether the terms go through the FULLTEXT indexes. Shorter terms than the n-gram size cannot match any
+     * token, so they keep using LIKE.
+     */
+    public boolean useFullText(final String terms) {
+        return this.fullText && terms != null && terms.strip().length() >= this.minTermLength;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchProperties{" +
+                "fullText=" + fullText +
+                ", minTermLength=" + minTermLength +
+                '}';
+    }
+
+    public boolean isFullText() {
+        return fullText;
+    }
+
+    public void setFullText(boolean fullText) {
+        this.fullText = fullText;
+    }
+
+    public int getMinTermLength() {
+        return minTermLength;
+    }
+
+    public void setMinTermLength(int minTermLength) {
+        this.minTermLength = minTermLength;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+}
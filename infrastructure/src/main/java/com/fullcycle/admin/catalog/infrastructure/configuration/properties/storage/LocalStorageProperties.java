@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage;
+
+import com.fullcycle.admin.catalog.infrastructure.services.local.LocalFileSystemStorageService.FsyncPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class LocalStorageProperties implements InitializingBean {
+    private static final Logger log = LoggerFactory.getLogger(LocalStorageProperties.class);
+    private String root;
+    private FsyncPolicy fsync = FsyncPolicy.FILE_AND_DIRECTORY;
+    private boolean memoryMapImages = true;
+
+    public LocalStorageProperties() {}
+
+    public String getRoot() {
+        return root;
+    }
+
+    public void setRoot(String root) {
+        this.root = root;
+    }
+
+    public FsyncPolicy getFsync() {
+        return fsync;
+    }
+
+    public void setFsync(FsyncPolicy fsync) {
+        this.fsync = fsync;
+    }
+
+    public boolean isMemoryMapImages() {
+        return memoryMapImages;
+    }
+
+    public void setMemoryMapImages(boolean memoryMapImages) {
+        this.memoryMapImages = memoryMapImages;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "LocalStorageProperties{" +
+                "root='" + root + '\'' +
+                ", fsync=" + fsync +
+                ", memoryMapImages=" + memoryMapImages +
+                '}';
+    }
+}
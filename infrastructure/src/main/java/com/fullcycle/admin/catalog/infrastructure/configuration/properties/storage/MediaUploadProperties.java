@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class MediaUploadProperties implements InitializingBean {
+    private static final Logger log = LoggerFactory.getLogger(MediaUploadProperties.class);
+    private int threads = 8;
+    private int queueCapacity = 64;
+    private Duration timeout = Duration.ofMinutes(10);
+
+    public MediaUploadProperties() {}
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "MediaUploadProperties{" +
+                "threads=" + threads +
+                ", queueCapacity=" + queueCapacity +
+                ", timeout=" + timeout +
+                '}';
+    }
+}
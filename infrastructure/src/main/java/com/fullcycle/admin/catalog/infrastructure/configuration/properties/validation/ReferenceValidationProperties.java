@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ReferenceValidationProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceValidationProperties.class);
+
+    private int threads = 8;
+    private int queueCapacity = 64;
+    private Duration timeout = Duration.ofSeconds(2);
+
+    public ReferenceValidationProperties() {
+    }
+
+    @Override
+    public String toString() {
+        return "ReferenceValidationProperties{" +
+                "threads=" + threads +
+                ", queueCapacity=" + queueCapacity +
+                ", timeout=" + timeout +
+                '}';
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+}
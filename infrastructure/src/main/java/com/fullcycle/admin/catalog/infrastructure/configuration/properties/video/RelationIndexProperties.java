@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.video;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class RelationIndexProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RelationIndexProperties.class);
+
+    private boolean enabled = false;
+    private int batchSize = 1000;
+    private int maxCandidates = 1000;
+    private Duration rebuildInterval = Duration.ofMinutes(5);
+
+    public RelationIndexProperties() {
+    }
+
+    @Override
+    public String toString() {
+        return "RelationIndexProperties{" +
+                "enabled=" + enabled +
+                ", batchSize=" + batchSize +
+                ", maxCandidates=" + maxCandidates +
+                ", rebuildInterval=" + rebuildInterval +
+                '}';
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxCandidates() {
+        return maxCandidates;
+    }
+
+    public void setMaxCandidates(int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    public Duration getRebuildInterval() {
+        return rebuildInterval;
+    }
+
+    public void setRebuildInterval(Duration rebuildInterval) {
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+}
@@ -1,7 +1,9 @@
 package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
 
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMembersBulkUseCase;
 import com.fullcycle.admin.catalog.application.castmember.create.DefaultCreateCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.create.DefaultCreateCastMembersBulkUseCase;
 import com.fullcycle.admin.catalog.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.delete.DeleteCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
@@ -11,6 +13,7 @@ import com.fullcycle.admin.catalog.application.castmember.retrieve.list.ListCast
 import com.fullcycle.admin.catalog.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberUseCase;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateCaches;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,8 +23,8 @@ import java.util.Objects;
 public class CastMemberUseCaseConfig {
     private final CastMemberGateway castMemberGateway;
 
-    public CastMemberUseCaseConfig(final CastMemberGateway castMemberGateway) {
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    public CastMemberUseCaseConfig(final CastMemberGateway castMemberGateway, final AggregateCaches caches) {
+        this.castMemberGateway = caches.wrap(Objects.requireNonNull(castMemberGateway));
     }
 
     @Bean
@@ -29,6 +32,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultCreateCastMemberUseCase(castMemberGateway);
     }
 
+    @Bean
+    public CreateCastMembersBulkUseCase createCastMembersBulkUseCase() {
+        return new DefaultCreateCastMembersBulkUseCase(castMemberGateway);
+    }
+
     @Bean
     public DeleteCastMemberUseCase deleteCastMemberUseCase() {
         return new DefaultDeleteCastMemberUseCase(castMemberGateway);
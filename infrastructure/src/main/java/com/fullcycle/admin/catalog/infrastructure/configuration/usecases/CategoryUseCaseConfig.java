@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoriesBulkUseCase;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.create.DefaultCreateCategoriesBulkUseCase;
 import com.fullcycle.admin.catalog.application.category.create.DefaultCreateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoryUseCase;
@@ -11,6 +13,7 @@ import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCatego
 import com.fullcycle.admin.catalog.application.category.update.DefaultUpdateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateCaches;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,8 +23,8 @@ public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
-        this.categoryGateway = categoryGateway;
+    public CategoryUseCaseConfig(final CategoryGateway categoryGateway, final AggregateCaches caches) {
+        this.categoryGateway = caches.wrap(categoryGateway);
     }
 
     @Bean
@@ -29,6 +32,11 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public CreateCategoriesBulkUseCase createCategoriesBulkUseCase() {
+        return new DefaultCreateCategoriesBulkUseCase(categoryGateway);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
@@ -1,7 +1,9 @@
 package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
 
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenresBulkUseCase;
 import com.fullcycle.admin.catalog.application.genre.create.DefaultCreateGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.create.DefaultCreateGenresBulkUseCase;
 import com.fullcycle.admin.catalog.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.delete.DeleteGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
@@ -12,6 +14,7 @@ import com.fullcycle.admin.catalog.application.genre.update.DefaultUpdateGenreUs
 import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreUseCase;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateCaches;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -23,9 +26,13 @@ public class GenreUseCaseConfig {
     private final CategoryGateway categoryGateway;
     private final GenreGateway genreGateway;
 
-    public GenreUseCaseConfig(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
+    public GenreUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final AggregateCaches caches
+    ) {
+        this.categoryGateway = caches.wrap(Objects.requireNonNull(categoryGateway));
+        this.genreGateway = caches.wrap(Objects.requireNonNull(genreGateway));
     }
 
 
@@ -34,6 +41,11 @@ public class GenreUseCaseConfig {
         return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
     }
 
+    @Bean
+    public CreateGenresBulkUseCase createGenresBulkUseCase() {
+        return new DefaultCreateGenresBulkUseCase(categoryGateway, genreGateway);
+    }
+
     @Bean
     public DeleteGenreUseCase deleteGenreUseCase() {
         return new DefaultDeleteGenreUseCase(genreGateway);
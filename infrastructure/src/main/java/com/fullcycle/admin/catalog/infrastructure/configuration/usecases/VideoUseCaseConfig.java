@@ -1,26 +1,46 @@
 package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
 
 import com.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideosBulkUseCase;
 import com.fullcycle.admin.catalog.application.video.create.DefaultCreateVideoUseCase;
+import com.fullcycle.admin.catalog.application.video.create.DefaultCreateVideosBulkUseCase;
 import com.fullcycle.admin.catalog.application.video.delete.DefaultDeleteVideoUseCase;
 import com.fullcycle.admin.catalog.application.video.delete.DeleteVideoUseCase;
+import com.fullcycle.admin.catalog.application.video.media.MediaStorageExecutor;
 import com.fullcycle.admin.catalog.application.video.media.get.DefaultGetMediaUseCase;
 import com.fullcycle.admin.catalog.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.CommitUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.CreateUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.DefaultCommitUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.DefaultCreateUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.DefaultDeleteUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.DefaultGetUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.DefaultUploadChunkUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.DeleteUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.GetUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.UploadChunkUseCase;
+import com.fullcycle.admin.catalog.application.video.media.update.DefaultUpdateMediaStatusBatchUseCase;
 import com.fullcycle.admin.catalog.application.video.media.update.DefaultUpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusBatchUseCase;
 import com.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalog.application.video.media.upload.DefaultUploadMediaUseCase;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaUseCase;
 import com.fullcycle.admin.catalog.application.video.retrieve.get.DefaultGetVideoByIdUseCase;
 import com.fullcycle.admin.catalog.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.fullcycle.admin.catalog.application.video.retrieve.list.DefaultListVideoFacetsUseCase;
 import com.fullcycle.admin.catalog.application.video.retrieve.list.DefaultListVideosUseCase;
+import com.fullcycle.admin.catalog.application.video.retrieve.list.ListVideoFacetsUseCase;
 import com.fullcycle.admin.catalog.application.video.retrieve.list.ListVideosUseCase;
 import com.fullcycle.admin.catalog.application.video.update.DefaultUpdateVideoUseCase;
 import com.fullcycle.admin.catalog.application.video.update.UpdateVideoUseCase;
+import com.fullcycle.admin.catalog.application.video.validation.ReferenceValidationExecutor;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadGateway;
 import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateCaches;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -32,6 +52,9 @@ public class VideoUseCaseConfig {
     private final CastMemberGateway castMemberGateway;
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final MediaStorageExecutor mediaStorageExecutor;
+    private final MediaUploadGateway mediaUploadGateway;
+    private final ReferenceValidationExecutor referenceValidationExecutor;
     private final VideoGateway videoGateway;
 
 
@@ -40,12 +63,19 @@ public class VideoUseCaseConfig {
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final VideoGateway videoGateway
+            final MediaStorageExecutor mediaStorageExecutor,
+            final MediaUploadGateway mediaUploadGateway,
+            final ReferenceValidationExecutor referenceValidationExecutor,
+            final VideoGateway videoGateway,
+            final AggregateCaches caches
     ) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.categoryGateway = caches.wrap(Objects.requireNonNull(categoryGateway));
+        this.castMemberGateway = caches.wrap(Objects.requireNonNull(castMemberGateway));
+        this.genreGateway = caches.wrap(Objects.requireNonNull(genreGateway));
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaStorageExecutor = Objects.requireNonNull(mediaStorageExecutor);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.referenceValidationExecutor = Objects.requireNonNull(referenceValidationExecutor);
         this.videoGateway = Objects.requireNonNull(videoGateway);
     }
 
@@ -56,6 +86,18 @@ public class VideoUseCaseConfig {
                 castMemberGateway,
                 genreGateway,
                 mediaResourceGateway,
+                mediaStorageExecutor,
+                referenceValidationExecutor,
+                videoGateway
+        );
+    }
+
+    @Bean
+    public CreateVideosBulkUseCase createVideosBulkUseCase() {
+        return new DefaultCreateVideosBulkUseCase(
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
                 videoGateway
         );
     }
@@ -67,7 +109,8 @@ public class VideoUseCaseConfig {
                 categoryGateway,
                 castMemberGateway,
                 genreGateway,
-                mediaResourceGateway
+                mediaResourceGateway,
+                referenceValidationExecutor
         );
     }
 
@@ -83,7 +126,7 @@ public class VideoUseCaseConfig {
 
     @Bean
     public GetMediaUseCase getMediaUseCase() {
-        return new DefaultGetMediaUseCase(mediaResourceGateway);
+        return new DefaultGetMediaUseCase(mediaResourceGateway, videoGateway);
     }
 
     @Bean
@@ -91,13 +134,48 @@ public class VideoUseCaseConfig {
         return new DefaultUploadMediaUseCase(mediaResourceGateway, videoGateway);
     }
 
+    @Bean
+    public CreateUploadSessionUseCase createUploadSessionUseCase() {
+        return new DefaultCreateUploadSessionUseCase(mediaUploadGateway, videoGateway);
+    }
+
+    @Bean
+    public GetUploadSessionUseCase getUploadSessionUseCase() {
+        return new DefaultGetUploadSessionUseCase(mediaUploadGateway);
+    }
+
+    @Bean
+    public UploadChunkUseCase uploadChunkUseCase() {
+        return new DefaultUploadChunkUseCase(mediaUploadGateway);
+    }
+
+    @Bean
+    public CommitUploadSessionUseCase commitUploadSessionUseCase() {
+        return new DefaultCommitUploadSessionUseCase(mediaUploadGateway, mediaResourceGateway, videoGateway);
+    }
+
+    @Bean
+    public DeleteUploadSessionUseCase deleteUploadSessionUseCase() {
+        return new DefaultDeleteUploadSessionUseCase(mediaUploadGateway);
+    }
+
     @Bean
     public ListVideosUseCase listVideosUseCase() {
         return new DefaultListVideosUseCase(videoGateway);
     }
 
+    @Bean
+    public ListVideoFacetsUseCase listVideoFacetsUseCase() {
+        return new DefaultListVideoFacetsUseCase(videoGateway);
+    }
+
     @Bean
     public UpdateMediaStatusUseCase updateMediaStatusUseCase() {
         return new DefaultUpdateMediaStatusUseCase(videoGateway);
     }
+
+    @Bean
+    public UpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase() {
+        return new DefaultUpdateMediaStatusBatchUseCase(videoGateway);
+    }
 }
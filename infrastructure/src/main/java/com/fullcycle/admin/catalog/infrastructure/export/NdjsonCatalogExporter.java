@@ -0,0 +1,235 @@
+package com.fullcycle.admin.catalog.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Writes whole tables of the catalog as newline delimited JSON, with the field names of the API responses, reading
+ * them through forward-only cursors so memory stays flat however large the catalog is.
+ * <p>
+ * Each aggregate is read by a single statement on a single connection, its related ids folded into a column per
+ * relation by a correlated subquery, so every line comes from the same snapshot of the database.
+ */
+public class NdjsonCatalogExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(NdjsonCatalogExporter.class);
+
+    // Room for the ids of about thirty thousand relations of a single aggregate, past the 1024 bytes of the default
+    private static final int GROUP_CONCAT_MAX_LEN = 1 << 20;
+
+    private static final String ID_SEPARATOR = ",";
+
+    private final JsonFactory jsonFactory = Json.mapper().getFactory();
+
+    private final DataSource dataSource;
+    private final int fetchSize;
+    private final Semaphore permits;
+
+    public NdjsonCatalogExporter(final DataSource dataSource, final int fetchSize, final int maxConcurrent) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be positive");
+        }
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.fetchSize = fetchSize;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * @return false, writing nothing, when {@code maxConcurrent} exports are already running
+     */
+    public boolean exportCategories(final OutputStream out) throws IOException {
+        return export(
+                out,
+                "categories",
+                "select id, name, description, active, created_at, updated_at, deleted_at from categories order by id",
+                List.of(),
+                (json, row) -> {
+                    json.writeStringField("name", row.getString("name"));
+                    json.writeStringField("description", row.getString("description"));
+                    json.writeBooleanField("is_active", row.getBoolean("active"));
+                    writeInstant(json, "created_at", row.getTimestamp("created_at"));
+                    writeInstant(json, "updated_at", row.getTimestamp("updated_at"));
+                    writeInstant(json, "deleted_at", row.getTimestamp("deleted_at"));
+                }
+        );
+    }
+
+    public boolean exportGenres(final OutputStream out) throws IOException {
+        return export(
+                out,
+                "genres",
+                "select g.id, g.name, g.active, g.created_at, g.updated_at, g.deleted_at, "
+                        + idsOf("genres_categories", "genre_id", "category_id", "g", "categories_id")
+                        + " from genres g order by g.id",
+                List.of("categories_id"),
+                (json, row) -> {
+                    json.writeStringField("name", row.getString("name"));
+                    json.writeBooleanField("is_active", row.getBoolean("active"));
+                    writeInstant(json, "created_at", row.getTimestamp("created_at"));
+                    writeInstant(json, "updated_at", row.getTimestamp("updated_at"));
+                    writeInstant(json, "deleted_at", row.getTimestamp("deleted_at"));
+                }
+        );
+    }
+
+    public boolean exportCastMembers(final OutputStream out) throws IOException {
+        return export(
+                out,
+                "cast_members",
+                "select id, name, type, created_at, updated_at from cast_members order by id",
+                List.of(),
+                (json, row) -> {
+                    json.writeStringField("name", row.getString("name"));
+                    json.writeStringField("type", row.getString("type"));
+                    writeInstant(json, "created_at", row.getTimestamp("created_at"));
+                    writeInstant(json, "updated_at", row.getTimestamp("updated_at"));
+                }
+        );
+    }
+
+    public boolean exportVideos(final OutputStream out) throws IOException {
+        return export(
+                out,
+                "videos",
+                "select v.id, v.title, v.description, v.year_launched, v.duration, v.opened, v.published, v.rating, "
+                        + "v.created_at, v.updated_at, "
+                        + idsOf("videos_categories", "video_id", "category_id", "v", "categories_id") + ", "
+                        + idsOf("videos_genres", "video_id", "genre_id", "v", "genres_id") + ", "
+                        + idsOf("videos_cast_members", "video_id", "cast_member_id", "v", "cast_members_id")
+                        + " from videos v order by v.id",
+                List.of("categories_id", "genres_id", "cast_members_id"),
+                (json, row) -> {
+                    json.writeStringField("title", row.getString("title"));
+                    json.writeStringField("description", row.getString("description"));
+                    json.writeNumberField("year_launched", row.getInt("year_launched"));
+                    json.writeNumberField("duration", row.getDouble("duration"));
+                    json.writeBooleanField("opened", row.getBoolean("opened"));
+                    json.writeBooleanField("published", row.getBoolean("published"));
+                    json.writeStringField("rating", row.getString("rating"));
+                    writeInstant(json, "created_at", row.getTimestamp("created_at"));
+                    writeInstant(json, "updated_at", row.getTimestamp("updated_at"));
+                }
+        );
+    }
+
+    private boolean export(
+            final OutputStream out,
+            final String aName,
+            final String aQuery,
+            final List<String> relations,
+            final RowWriter aWriter
+    ) throws IOException {
+        if (!this.permits.tryAcquire()) {
+            return false;
+        }
+
+        final var start = System.nanoTime();
+        var count = 0L;
+        try (
+                final var json = this.jsonFactory.createGenerator(out);
+                final var connection = this.dataSource.getConnection()
+        ) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // A failure leaves the last line cut short instead of closing it into a valid looking record
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            json.setRootValueSeparator(null);
+
+            connection.setReadOnly(true);
+
+            // Connector/J reads the whole result up front unless the fetch size is Integer.MIN_VALUE, which streams
+            // it a row at a time instead
+            final var isMySQL = "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+            if (isMySQL) {
+                execute(connection, "set session group_concat_max_len = " + GROUP_CONCAT_MAX_LEN);
+            }
+
+            try (final var statement = connection.prepareStatement(aQuery, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(isMySQL ? Integer.MIN_VALUE : this.fetchSize);
+
+                try (final var rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        json.writeStartObject();
+                        json.writeStringField("id", rows.getString("id"));
+                        aWriter.write(json, rows);
+                        for (final var relation : relations) {
+                            writeIds(json, relation, rows.getString(relation));
+                        }
+                        json.writeEndObject();
+                        json.writeRaw('\n');
+                        count++;
+                    }
+                }
+            } finally {
+                // The connection goes back to the pool with the session as it was handed out
+                if (isMySQL) {
+                    execute(connection, "set session group_concat_max_len = default");
+                }
+            }
+        } catch (final SQLException e) {
+            throw InternalErrorException.with("Failed to export %s".formatted(aName), e);
+        } finally {
+            this.permits.release();
+        }
+
+        log.info("Exported {} {} in {} ms", count, aName, (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * A column with the ids related to each row of {@code anAlias}, comma separated and ordered, null when none.
+     */
+    private static String idsOf(
+            final String aTable,
+            final String aKey,
+            final String aColumn,
+            final String anAlias,
+            final String aField
+    ) {
+        return "(select group_concat(r.%3$s order by r.%3$s separator '%5$s') from %1$s r where r.%2$s = %4$s.id) as %6$s"
+                .formatted(aTable, aKey, aColumn, anAlias, ID_SEPARATOR, aField);
+    }
+
+    private static void execute(final Connection connection, final String aStatement) throws SQLException {
+        try (final var statement = connection.createStatement()) {
+            statement.execute(aStatement);
+        }
+    }
+
+    private static void writeIds(final JsonGenerator json, final String aField, final String ids) throws IOException {
+        json.writeArrayFieldStart(aField);
+        if (ids != null) {
+            for (final var id : ids.split(ID_SEPARATOR)) {
+                json.writeString(id);
+            }
+        }
+        json.writeEndArray();
+    }
+
+    private static void writeInstant(final JsonGenerator json, final String aField, final Timestamp aTimestamp) throws IOException {
+        if (aTimestamp == null) {
+            json.writeNullField(aField);
+        } else {
+            json.writeStringField(aField, aTimestamp.toInstant().toString());
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(JsonGenerator json, ResultSet row) throws IOException, SQLException;
+    }
+}
@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalog.infrastructure.genre;
+
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateCaches;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class CachedGenreGateway implements GenreGateway {
+
+    private final GenreGateway delegate;
+    private final AggregateCaches caches;
+
+    public CachedGenreGateway(final GenreGateway delegate, final AggregateCaches caches) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.caches = Objects.requireNonNull(caches);
+    }
+
+    @Override
+    public Genre create(final Genre genre) {
+        final var result = this.delegate.create(genre);
+        this.caches.genreIds().created(List.of(result.getId()));
+        return result;
+    }
+
+    @Override
+    public List<Genre> createAll(final List<Genre> someGenres) {
+        final var results = this.delegate.createAll(someGenres);
+        this.caches.genreIds().created(results.stream().map(Genre::getId).toList());
+        return results;
+    }
+
+    @Override
+    public void deleteById(final GenreID genreId) {
+        this.delegate.deleteById(genreId);
+        this.caches.genres().invalidate(genreId);
+        this.caches.genreIds().deleted(genreId);
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID genreId) {
+        return this.caches.genres().get(genreId, this.delegate::findById);
+    }
+
+    @Override
+    public Genre update(final Genre genre) {
+        final var result = this.delegate.update(genre);
+        this.caches.genres().invalidate(genre.getId());
+        return result;
+    }
+
+    @Override
+    public Genre update(final Genre genre, final Instant expectedUpdatedAt) {
+        try {
+            return this.delegate.update(genre, expectedUpdatedAt);
+        } finally {
+            this.caches.genres().invalidate(genre.getId());
+        }
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<GenreID> existsById(final Iterable<GenreID> ids) {
+        return this.caches.genreIds().existing(ids, this.delegate::existsById);
+    }
+}
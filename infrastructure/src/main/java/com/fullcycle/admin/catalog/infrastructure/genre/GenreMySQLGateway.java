@@ -1,19 +1,36 @@
 package com.fullcycle.admin.catalog.infrastructure.genre;
 
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.CountMode;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.search.SearchProperties;
+import com.fullcycle.admin.catalog.infrastructure.search.CatalogSearchIndex;
+import com.fullcycle.admin.catalog.infrastructure.search.SearchDocumentType;
+import com.fullcycle.admin.catalog.infrastructure.utils.EstimatedCounts;
+import com.fullcycle.admin.catalog.infrastructure.utils.FullTextUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.PageUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.PreconditionUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.SqlUtils;
 import com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -22,22 +39,49 @@ import java.util.stream.StreamSupport;
 public class GenreMySQLGateway implements GenreGateway {
 
     private final GenreRepository genreRepository;
-
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    private final EntityManager entityManager;
+    private final EstimatedCounts estimatedCounts;
+    private final SearchProperties searchProperties;
+    private final CatalogSearchIndex searchIndex;
+
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final EntityManager entityManager,
+            final EstimatedCounts estimatedCounts,
+            final SearchProperties searchProperties,
+            final CatalogSearchIndex searchIndex
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.estimatedCounts = Objects.requireNonNull(estimatedCounts);
+        this.searchProperties = Objects.requireNonNull(searchProperties);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
     }
 
     @Override
+    @Transactional
     public Genre create(Genre genre) {
         return save(genre);
     }
 
+    @Override
+    @Transactional
+    public List<Genre> createAll(final List<Genre> someGenres) {
+        final var entities = someGenres.stream().map(GenreJpaEntity::from).toList();
+        entities.forEach(this.entityManager::persist);
+
+        final var results = entities.stream().map(GenreJpaEntity::toAggregate).toList();
+        results.forEach(it -> this.searchIndex.put(SearchDocumentType.GENRE, it.getId().getValue(), it.getName()));
+        return results;
+    }
+
 
     @Override
     public void deleteById(GenreID genreId) {
         final var aGenreId = genreId.getValue();
         if (this.genreRepository.existsById(aGenreId)) {
             this.genreRepository.deleteById(aGenreId);
+            this.searchIndex.remove(SearchDocumentType.GENRE, aGenreId);
         }
     }
 
@@ -48,29 +92,53 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
+    @Transactional
     public Genre update(final Genre aGenre) {
         return save(aGenre);
     }
 
+    @Override
+    @Transactional
+    public Genre update(final Genre aGenre, final Instant expectedUpdatedAt) {
+        PreconditionUtils.requireUpdatedAt(
+                this.entityManager,
+                GenreJpaEntity.class,
+                Genre.class,
+                aGenre.getId(),
+                expectedUpdatedAt,
+                aGenre.getUpdatedAt()
+        );
+        return save(aGenre);
+    }
+
     @Override
     public Pagination<Genre> findAll(SearchQuery aQuery) {
+        if (aQuery.isKeyset()) {
+            return findAllAfter(aQuery);
+        }
+
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+                FullTextUtils.sort(
+                        Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort()),
+                        aQuery.sort(),
+                        this.searchProperties.useFullText(aQuery.terms())
+                )
         );
 
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isEmpty())
-                .map(this::assembleSpecification)
-                .orElse(null);
+        final var where = search(aQuery);
+        if (aQuery.count() != CountMode.EXACT) {
+            return findAllUncounted(aQuery, Specification.where(where));
+        }
+
         final var pageResult = this.genreRepository.findAll(Specification.where(where), page);
 
         return new Pagination<>(
                 pageResult.getNumber(),
                 pageResult.getSize(),
                 pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
+                toAggregates(pageResult.getContent())
         );
     }
 
@@ -80,11 +148,91 @@ public class GenreMySQLGateway implements GenreGateway {
         return this.genreRepository.existsByIds(ids).stream().map(GenreID::from).toList();
     }
 
+    private Pagination<Genre> findAllUncounted(final SearchQuery aQuery, final Specification<GenreJpaEntity> where) {
+        final var sort = FullTextUtils.sort(
+                KeysetUtils.sort(aQuery.sort(), aQuery.direction()),
+                aQuery.sort(),
+                this.searchProperties.useFullText(aQuery.terms())
+        );
+        final var slice = PageUtils.findSlice(
+                this.entityManager,
+                GenreJpaEntity.class,
+                where,
+                PageRequest.of(aQuery.page(), aQuery.perPage(), sort)
+        );
+        final var signature = EstimatedCounts.signature("genres", SqlUtils.upper(aQuery.terms()));
+        final var categories = categoriesOf(slice.getContent());
+        return PageUtils.page(slice, aQuery.count(), () -> this.estimatedCounts.get(signature, () -> this.genreRepository.count(where)))
+                .map(it -> it.toAggregate(categories.getOrDefault(it.getId(), List.of())));
+    }
+
+    private Pagination<Genre> findAllAfter(final SearchQuery aQuery) {
+        final var aPage = KeysetUtils.findAllAfter(
+                this.entityManager,
+                GenreJpaEntity.class,
+                search(aQuery),
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.after(),
+                aQuery.sort(),
+                aQuery.direction()
+        );
+        final var categories = categoriesOf(aPage.items());
+        return aPage.map(it -> it.toAggregate(categories.getOrDefault(it.getId(), List.of())));
+    }
+
+    private List<Genre> toAggregates(final List<GenreJpaEntity> genres) {
+        final var categories = categoriesOf(genres);
+        return genres.stream()
+                .map(it -> it.toAggregate(categories.getOrDefault(it.getId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * The category ids of a whole page of genres in a single query, so listing never initializes the lazy
+     * collection of each genre on its own.
+     */
+    private Map<String, List<CategoryID>> categoriesOf(final List<GenreJpaEntity> genres) {
+        if (genres.isEmpty()) {
+            return Map.of();
+        }
+
+        final var ids = genres.stream().map(GenreJpaEntity::getId).toList();
+        final var categories = new HashMap<String, List<CategoryID>>(ids.size());
+        for (final var it : this.genreRepository.findCategoriesByGenreIds(ids)) {
+            categories.computeIfAbsent(it.getGenreId(), key -> new ArrayList<>()).add(CategoryID.from(it.getCategoryId()));
+        }
+        return categories;
+    }
+
+    private Specification<GenreJpaEntity> search(final SearchQuery aQuery) {
+        final var terms = aQuery.terms();
+        if (terms == null || terms.isBlank()) {
+            return null;
+        }
+        if (this.searchProperties.useFullText(terms)) {
+            return FullTextUtils.match(terms, FullTextUtils.isRelevance(aQuery.sort()), "name");
+        }
+        return assembleSpecification(terms);
+    }
+
     private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
         return SpecificationUtils.like("name", terms);
     }
 
     private Genre save(final Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre)).toAggregate();
+        final var current = this.entityManager.find(GenreJpaEntity.class, aGenre.getId().getValue());
+        final GenreJpaEntity anEntity;
+        if (current == null) {
+            anEntity = GenreJpaEntity.from(aGenre);
+            this.entityManager.persist(anEntity);
+        } else {
+            current.update(aGenre);
+            anEntity = current;
+        }
+
+        final var result = anEntity.toAggregate();
+        this.searchIndex.put(SearchDocumentType.GENRE, result.getId().getValue(), result.getName());
+        return result;
     }
 }
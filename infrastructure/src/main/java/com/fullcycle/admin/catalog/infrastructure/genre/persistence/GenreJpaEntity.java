@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalog.infrastructure.genre.persistence;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.infrastructure.utils.RelationUtils;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -11,7 +12,7 @@ import java.util.List;
 import java.util.Set;
 
 import static javax.persistence.CascadeType.ALL;
-import static javax.persistence.FetchType.EAGER;
+import static javax.persistence.FetchType.LAZY;
 
 @Entity(name = "Genre")
 @Table(name = "genres")
@@ -23,7 +24,7 @@ public class GenreJpaEntity {
     private String name;
     @Column(name = "active", nullable = false)
     private boolean active;
-    @OneToMany(mappedBy = "genre", cascade = ALL, fetch = EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "genre", cascade = ALL, fetch = LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant createdAt;
@@ -68,17 +69,38 @@ public class GenreJpaEntity {
     }
 
     public Genre toAggregate() {
+        return toAggregate(getCategoriesIDs());
+    }
+
+    /**
+     * Builds the aggregate with categories loaded apart from the entity, leaving the lazy collection untouched.
+     */
+    public Genre toAggregate(final List<CategoryID> categories) {
         return Genre.with(
                 GenreID.from(getId()),
                 getName(),
                 isActive(),
-                getCategoriesIDs(),
+                categories,
                 getCreatedAt(),
                 getUpdatedAt(),
                 getDeletedAt()
         );
     }
 
+    /**
+     * Copies the state of the genre over this managed row, adding and removing only the categories that changed.
+     */
+    public void update(final Genre aGenre) {
+        this.name = aGenre.getName();
+        this.active = aGenre.isActive();
+        this.createdAt = aGenre.getCreatedAt();
+        this.updatedAt = aGenre.getUpdatedAt();
+        this.deletedAt = aGenre.getDeletedAt();
+
+        RelationUtils.sync(this.categories, new HashSet<>(aGenre.getCategories()),
+                it -> CategoryID.from(it.getId().getCategoryId()), it -> GenreCategoryJpaEntity.from(this, it));
+    }
+
     public List<CategoryID> getCategoriesIDs() {
         return getCategories().stream().map(it -> CategoryID.from(it.getId().getCategoryId())).toList();
     }
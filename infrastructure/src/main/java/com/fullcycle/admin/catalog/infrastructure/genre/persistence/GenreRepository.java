@@ -3,15 +3,25 @@ package com.fullcycle.admin.catalog.infrastructure.genre.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
 
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<GenreJpaEntity> findById(String id);
+
     @Query(value = "select g.id from Genre g WHERE g.id IN :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select gc.id from GenreCategoryJpaEntity gc WHERE gc.id.genreId IN :ids")
+    List<GenreCategoryID> findCategoriesByGenreIds(@Param("ids") Collection<String> ids);
 }
@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox;
+
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalog.infrastructure.services.EventService;
+
+import java.util.Objects;
+
+/**
+ * Writes events to the {@code events_outbox} table in the caller's transaction instead of sending them, so an event
+ * exists if and only if the change that raised it was committed. The {@link OutboxRelay} forwards them to the broker.
+ */
+public class OutboxEventService implements EventService {
+
+    private final String destination;
+    private final OutboxEventRepository outboxEventRepository;
+
+    public OutboxEventService(final String destination, final OutboxEventRepository outboxEventRepository) {
+        this.destination = Objects.requireNonNull(destination);
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+    }
+
+    @Override
+    public void send(final Object event) {
+        this.outboxEventRepository.save(OutboxEventJpaEntity.with(
+                this.destination,
+                event.getClass().getName(),
+                Json.writeValueAsString(event),
+                InstantUtils.now()
+        ));
+    }
+}
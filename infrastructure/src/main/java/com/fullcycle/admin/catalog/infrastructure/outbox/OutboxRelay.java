@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalog.infrastructure.services.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Drains the outbox of a destination in insertion order, a batch at a time, sending each payload as the JSON it was
+ * stored with. Rows are only deleted after the target accepted the whole batch, so a crash or a broker failure in
+ * between sends them again: delivery is at-least-once.
+ * <p>
+ * Rows are not claimed, so relays running on several instances may send the same rows before one of them deletes
+ * them. Consumers must tolerate duplicates, unless {@code amqp.outbox.relay-enabled} is only true on one instance.
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final String destination;
+    private final EventService target;
+    private final OutboxEventRepository outboxEventRepository;
+    private final int batchSize;
+
+    public OutboxRelay(
+            final String destination,
+            final EventService target,
+            final OutboxEventRepository outboxEventRepository,
+            final int batchSize
+    ) {
+        this.destination = Objects.requireNonNull(destination);
+        this.target = Objects.requireNonNull(target);
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return how many events were relayed, stopping at the first batch the target did not accept
+     */
+    public int drain() {
+        var relayed = 0;
+        while (true) {
+            final var batch = this.outboxEventRepository.findOldest(this.destination, PageRequest.of(0, this.batchSize));
+            if (batch.isEmpty()) {
+                return relayed;
+            }
+
+            final var events = new ArrayList<RawValue>(batch.size());
+            final var ids = new ArrayList<Long>(batch.size());
+            for (final var row : batch) {
+                ids.add(row.getId());
+                // Written out verbatim by the target, the payload is already the event as JSON
+                events.add(new RawValue(row.getPayload()));
+            }
+
+            try {
+                this.target.sendAll(events);
+            } catch (final RuntimeException e) {
+                log.warn("Could not relay {} events to {}, retrying on the next run", events.size(), this.destination, e);
+                return relayed;
+            }
+
+            this.outboxEventRepository.deleteAllByIdInBatch(ids);
+            relayed += events.size();
+
+            if (batch.size() < this.batchSize) {
+                return relayed;
+            }
+        }
+    }
+}
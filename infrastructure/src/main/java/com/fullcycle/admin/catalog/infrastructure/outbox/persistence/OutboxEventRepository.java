@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    @Query("select e from OutboxEvent e where e.destination = :destination order by e.id")
+    List<OutboxEventJpaEntity> findOldest(@Param("destination") String destination, Pageable page);
+}
@@ -0,0 +1,126 @@
+package com.fullcycle.admin.catalog.infrastructure.search;
+
+import com.fullcycle.admin.catalog.infrastructure.search.InvertedIndex.SearchHit;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.fullcycle.admin.catalog.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * Typeahead over the names of the catalog, kept in memory. The gateways report every write, applied once it
+ * commits, while {@link CatalogSearchIndexLoader} fills the index from the database at startup; a write seen during
+ * the load always wins over the row the loader read.
+ */
+public class CatalogSearchIndex {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    private final boolean enabled;
+    private final int maxResults;
+
+    private final Set<String> removedWhileLoading = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading;
+    private volatile boolean ready;
+
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder searchNanos = new LongAdder();
+
+    public CatalogSearchIndex(final boolean enabled, final int maxResults) {
+        this.enabled = enabled;
+        this.maxResults = maxResults;
+    }
+
+    public void put(final SearchDocumentType type, final String id, final String label) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(id);
+        if (this.enabled) {
+            afterCommit(() -> this.index.put(type, id, label == null ? "" : label));
+        }
+    }
+
+    public void remove(final SearchDocumentType type, final String id) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(id);
+        if (this.enabled) {
+            afterCommit(() -> {
+                if (this.loading) {
+                    this.removedWhileLoading.add(keyOf(type, id));
+                }
+                this.index.remove(type, id);
+            });
+        }
+    }
+
+    public void beginLoad() {
+        this.removedWhileLoading.clear();
+        this.loading = true;
+    }
+
+    /**
+     * Indexes a row read by the loader, unless a newer write already indexed or removed it.
+     */
+    public void load(final SearchDocumentType type, final String id, final String label) {
+        if (!this.removedWhileLoading.contains(keyOf(type, id))) {
+            this.index.putIfAbsent(type, id, label == null ? "" : label);
+        }
+    }
+
+    public void endLoad() {
+        this.loading = false;
+        this.removedWhileLoading.clear();
+        this.ready = true;
+    }
+
+    public List<SearchHit> search(final String query, final Set<SearchDocumentType> types, final int limit) {
+        final var start = System.nanoTime();
+        try {
+            return this.index.search(query, types, Math.min(limit, this.maxResults));
+        } finally {
+            this.searches.increment();
+            this.searchNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    public Metrics metrics() {
+        final var stats = this.index.stats();
+        final var count = this.searches.sum();
+        return new Metrics(
+                this.enabled,
+                this.ready,
+                stats.documents(),
+                stats.terms(),
+                stats.postings(),
+                stats.estimatedBytes(),
+                count,
+                count == 0 ? 0 : this.searchNanos.sum() / count / 1_000
+        );
+    }
+
+    private static String keyOf(final SearchDocumentType type, final String id) {
+        return type.name() + ':' + id;
+    }
+
+    public record Metrics(
+            boolean enabled,
+            boolean ready,
+            int documents,
+            int terms,
+            long postings,
+            long estimatedBytes,
+            long searches,
+            long averageSearchMicros
+    ) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.fullcycle.admin.catalog.infrastructure.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import javax.persistence.EntityManager;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Fills the {@link CatalogSearchIndex} once the application is ready, reading only the id and the label of each
+ * row in batches ordered by id.
+ */
+public class CatalogSearchIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSearchIndexLoader.class);
+
+    private static final Map<SearchDocumentType, String> SOURCES = Map.of(
+            SearchDocumentType.VIDEO, "select e.id, e.title from Video e where e.id > :after order by e.id",
+            SearchDocumentType.CATEGORY, "select e.id, e.name from Category e where e.id > :after order by e.id",
+            SearchDocumentType.GENRE, "select e.id, e.name from Genre e where e.id > :after order by e.id",
+            SearchDocumentType.CAST_MEMBER, "select e.id, e.name from CastMember e where e.id > :after order by e.id"
+    );
+
+    private final CatalogSearchIndex index;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public CatalogSearchIndexLoader(final CatalogSearchIndex index, final EntityManager entityManager, final int batchSize) {
+        this.index = Objects.requireNonNull(index);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!this.index.isEnabled()) {
+            return;
+        }
+
+        final var start = System.nanoTime();
+        this.index.beginLoad();
+        try {
+            for (final var type : SearchDocumentType.values()) {
+                final var rows = load(type, SOURCES.get(type));
+                log.debug("Indexed {} {} documents for search", rows, type);
+            }
+        } finally {
+            this.index.endLoad();
+        }
+
+        final var metrics = this.index.metrics();
+        log.info("Loaded the search index: {} documents, {} terms, ~{} KB in {} ms",
+                metrics.documents(), metrics.terms(), metrics.estimatedBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private long load(final SearchDocumentType type, final String jpql) {
+        var after = "";
+        var rows = 0L;
+        while (true) {
+            final var batch = this.entityManager.createQuery(jpql, Object[].class)
+                    .setParameter("after", after)
+                    .setMaxResults(this.batchSize)
+                    .getResultList();
+
+            for (final var row : batch) {
+                this.index.load(type, (String) row[0], (String) row[1]);
+            }
+            rows += batch.size();
+
+            if (batch.size() < this.batchSize) {
+                return rows;
+            }
+            after = (String) batch.get(batch.size() - 1)[0];
+        }
+    }
+}
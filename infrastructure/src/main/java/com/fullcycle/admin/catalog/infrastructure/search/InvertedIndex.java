@@ -0,0 +1,366 @@
+package com.fullcycle.admin.catalog.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index from normalized tokens (lower case, without accents) to sorted {@code int} posting lists of
+ * document numbers, with a forward index from each document to its postings so that updates and removals only touch
+ * the lists of its own tokens. Document numbers of removed documents are reused.
+ * <p>
+ * The last token of a query is a prefix while it is still being typed, that is, unless the query ends with a
+ * separator; the other tokens must match exactly.
+ */
+public class InvertedIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Rough HotSpot sizes with compressed references, for the footprint estimate
+    private static final int OBJECT_HEADER = 16;
+    private static final int STRING = 40;
+    private static final int REFERENCE = 4;
+    private static final int MAP_ENTRY = 40;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<SearchDocumentType, Map<String, Integer>> documents = new EnumMap<>(SearchDocumentType.class);
+
+    private SearchDocumentType[] types = new SearchDocumentType[INITIAL_CAPACITY];
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private String[] labels = new String[INITIAL_CAPACITY];
+    private Postings[][] forward = new Postings[INITIAL_CAPACITY][];
+
+    private int[] free = new int[16];
+    private int freeCount;
+    private int maxDocument;
+    private long postings;
+
+    public InvertedIndex() {
+        for (final var type : SearchDocumentType.values()) {
+            this.documents.put(type, new HashMap<>());
+        }
+    }
+
+    public void put(final SearchDocumentType type, final String id, final String label) {
+        this.lock.writeLock().lock();
+        try {
+            removeDocument(type, id);
+            addDocument(type, id, label);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public boolean putIfAbsent(final SearchDocumentType type, final String id, final String label) {
+        this.lock.writeLock().lock();
+        try {
+            if (this.documents.get(type).containsKey(id)) {
+                return false;
+            }
+            addDocument(type, id, label);
+            return true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(final SearchDocumentType type, final String id) {
+        this.lock.writeLock().lock();
+        try {
+            return removeDocument(type, id);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} documents of the given types, all of them when empty, containing every token of the
+     * query. Documents come in document order, and for a lone prefix in the order of the matching tokens, so that
+     * an exact token comes first.
+     */
+    public List<SearchHit> search(final String query, final Set<SearchDocumentType> types, final int limit) {
+        final var tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        final var last = query.charAt(query.length() - 1);
+        final var prefix = Character.isLetterOrDigit(last) ? tokens.remove(tokens.size() - 1) : null;
+
+        this.lock.readLock().lock();
+        try {
+            final var exact = new ArrayList<Postings>(tokens.size());
+            for (final var token : tokens) {
+                final var aPostings = this.terms.get(token);
+                if (aPostings == null) {
+                    return List.of();
+                }
+                exact.add(aPostings);
+            }
+
+            final var hits = new ArrayList<SearchHit>(Math.min(limit, 16));
+            if (exact.isEmpty()) {
+                return startingWith(prefix, types, limit, hits);
+            }
+
+            // Rarest first, so the candidates only shrink from the smallest list
+            exact.sort(Comparator.comparingInt(it -> it.size));
+            final var candidates = Arrays.copyOf(exact.get(0).documents, exact.get(0).size);
+            var count = candidates.length;
+            for (int i = 1; i < exact.size() && count > 0; i++) {
+                count = intersect(candidates, count, exact.get(i));
+            }
+
+            for (int i = 0; i < count && hits.size() < limit; i++) {
+                final var document = candidates[i];
+                if (accepts(document, types) && (prefix == null || hasPrefix(document, prefix))) {
+                    hits.add(hitOf(document));
+                }
+            }
+            return hits;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        this.lock.readLock().lock();
+        try {
+            var bytes = (long) this.types.length * REFERENCE * 4 + (long) this.free.length * Integer.BYTES + OBJECT_HEADER * 5;
+
+            for (final var aPostings : this.terms.values()) {
+                bytes += MAP_ENTRY + STRING + aPostings.term.length()
+                        + OBJECT_HEADER * 2 + (long) aPostings.documents.length * Integer.BYTES;
+            }
+            for (int document = 0; document < this.maxDocument; document++) {
+                if (this.ids[document] != null) {
+                    bytes += STRING * 2 + this.ids[document].length() + this.labels[document].length()
+                            + OBJECT_HEADER + (long) this.forward[document].length * REFERENCE
+                            + MAP_ENTRY + OBJECT_HEADER;
+                }
+            }
+
+            return new Stats(size(), this.terms.size(), this.postings, bytes);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public static List<String> tokenize(final String text) {
+        if (text == null || text.isBlank()) {
+            return new ArrayList<>();
+        }
+
+        final var normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        final var tokens = new LinkedHashSet<String>();
+        for (final var token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private int size() {
+        return this.maxDocument - this.freeCount;
+    }
+
+    private List<SearchHit> startingWith(
+            final String prefix,
+            final Set<SearchDocumentType> types,
+            final int limit,
+            final List<SearchHit> hits
+    ) {
+        final var seen = new BitSet();
+        for (final var aPostings : this.terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (int i = 0; i < aPostings.size; i++) {
+                final var document = aPostings.documents[i];
+                if (!seen.get(document) && accepts(document, types)) {
+                    seen.set(document);
+                    hits.add(hitOf(document));
+                    if (hits.size() == limit) {
+                        return hits;
+                    }
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Keeps in {@code candidates} the ones also in the postings, probing them by binary search when they are much
+     * longer than the candidates.
+     */
+    private static int intersect(final int[] candidates, final int count, final Postings aPostings) {
+        var kept = 0;
+        if (aPostings.size > count * 8) {
+            for (int i = 0; i < count; i++) {
+                if (Arrays.binarySearch(aPostings.documents, 0, aPostings.size, candidates[i]) >= 0) {
+                    candidates[kept++] = candidates[i];
+                }
+            }
+            return kept;
+        }
+
+        int i = 0, j = 0;
+        while (i < count && j < aPostings.size) {
+            final var left = candidates[i];
+            final var right = aPostings.documents[j];
+            if (left == right) {
+                candidates[kept++] = left;
+                i++;
+                j++;
+            } else if (left < right) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return kept;
+    }
+
+    private boolean accepts(final int document, final Set<SearchDocumentType> types) {
+        return types.isEmpty() || types.contains(this.types[document]);
+    }
+
+    private boolean hasPrefix(final int document, final String prefix) {
+        for (final var aPostings : this.forward[document]) {
+            if (aPostings.term.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private SearchHit hitOf(final int document) {
+        return new SearchHit(this.types[document], this.ids[document], this.labels[document]);
+    }
+
+    private void addDocument(final SearchDocumentType type, final String id, final String label) {
+        final var document = this.freeCount > 0 ? this.free[--this.freeCount] : this.maxDocument++;
+        ensureCapacity(document + 1);
+
+        final var tokens = tokenize(label);
+        final var documentPostings = new Postings[tokens.size()];
+        for (int i = 0; i < tokens.size(); i++) {
+            final var aPostings = this.terms.computeIfAbsent(tokens.get(i), Postings::new);
+            aPostings.add(document);
+            documentPostings[i] = aPostings;
+        }
+
+        this.types[document] = type;
+        this.ids[document] = id;
+        this.labels[document] = label;
+        this.forward[document] = documentPostings;
+        this.documents.get(type).put(id, document);
+        this.postings += documentPostings.length;
+    }
+
+    private boolean removeDocument(final SearchDocumentType type, final String id) {
+        final var document = this.documents.get(type).remove(id);
+        if (document == null) {
+            return false;
+        }
+
+        for (final var aPostings : this.forward[document]) {
+            aPostings.remove(document);
+            if (aPostings.size == 0) {
+                this.terms.remove(aPostings.term);
+            }
+        }
+        this.postings -= this.forward[document].length;
+
+        this.types[document] = null;
+        this.ids[document] = null;
+        this.labels[document] = null;
+        this.forward[document] = null;
+
+        if (this.freeCount == this.free.length) {
+            this.free = Arrays.copyOf(this.free, this.free.length * 2);
+        }
+        this.free[this.freeCount++] = document;
+        return true;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= this.ids.length) {
+            return;
+        }
+        final var newCapacity = Math.max(capacity, this.ids.length + (this.ids.length >> 1));
+        this.types = Arrays.copyOf(this.types, newCapacity);
+        this.ids = Arrays.copyOf(this.ids, newCapacity);
+        this.labels = Arrays.copyOf(this.labels, newCapacity);
+        this.forward = Arrays.copyOf(this.forward, newCapacity);
+    }
+
+    public record SearchHit(SearchDocumentType type, String id, String label) {
+    }
+
+    public record Stats(int documents, int terms, long postings, long estimatedBytes) {
+    }
+
+    /**
+     * Sorted document numbers of a token.
+     */
+    private static final class Postings {
+
+        private final String term;
+        private int[] documents = new int[2];
+        private int size;
+
+        private Postings(final String term) {
+            this.term = term;
+        }
+
+        private void add(final int document) {
+            final var index = Arrays.binarySearch(this.documents, 0, this.size, document);
+            if (index >= 0) {
+                return;
+            }
+
+            final var insertion = -index - 1;
+            if (this.size == this.documents.length) {
+                this.documents = Arrays.copyOf(this.documents, this.size + (this.size >> 1) + 1);
+            }
+            System.arraycopy(this.documents, insertion, this.documents, insertion + 1, this.size - insertion);
+            this.documents[insertion] = document;
+            this.size++;
+        }
+
+        private void remove(final int document) {
+            final var index = Arrays.binarySearch(this.documents, 0, this.size, document);
+            if (index < 0) {
+                return;
+            }
+
+            System.arraycopy(this.documents, index + 1, this.documents, index, this.size - index - 1);
+            this.size--;
+
+            if (this.documents.length > 8 && this.size < this.documents.length / 4) {
+                this.documents = Arrays.copyOf(this.documents, this.documents.length / 2);
+            }
+        }
+    }
+}
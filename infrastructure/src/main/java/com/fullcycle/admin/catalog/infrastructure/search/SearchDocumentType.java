@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalog.infrastructure.search;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum SearchDocumentType {
+    VIDEO,
+    CATEGORY,
+    GENRE,
+    CAST_MEMBER;
+
+    public static Optional<SearchDocumentType> of(final String label) {
+        return Arrays.stream(SearchDocumentType.values())
+                .filter(it -> it.name().equalsIgnoreCase(label))
+                .findFirst();
+    }
+
+    public static SearchDocumentType from(final String label) {
+        return of(label).orElseThrow(() -> DomainException.with(
+                new Error("Invalid type '%s', expected video, category, genre or cast_member".formatted(label))));
+    }
+}
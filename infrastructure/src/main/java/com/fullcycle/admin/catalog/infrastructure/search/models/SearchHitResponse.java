@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.infrastructure.search.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record SearchHitResponse(
+        @JsonProperty("type") String type,
+        @JsonProperty("id") String id,
+        @JsonProperty("label") String label
+) {
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalog.infrastructure.search.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record SearchIndexMetricsResponse(
+        @JsonProperty("enabled") boolean enabled,
+        @JsonProperty("ready") boolean ready,
+        @JsonProperty("documents") int documents,
+        @JsonProperty("terms") int terms,
+        @JsonProperty("postings") long postings,
+        @JsonProperty("estimated_bytes") long estimatedBytes,
+        @JsonProperty("searches") long searches,
+        @JsonProperty("average_search_micros") long averageSearchMicros
+) {
+}
@@ -1,5 +1,14 @@
 package com.fullcycle.admin.catalog.infrastructure.services;
 
+import java.util.List;
+
 public interface EventService {
     void send(Object event);
+
+    /**
+     * Sends the events in order and only returns once all of them were accepted, throwing otherwise.
+     */
+    default void sendAll(final List<?> events) {
+        events.forEach(this::send);
+    }
 }
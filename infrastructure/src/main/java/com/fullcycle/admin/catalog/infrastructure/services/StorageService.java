@@ -1,8 +1,13 @@
 package com.fullcycle.admin.catalog.infrastructure.services;
 
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.StreamResource;
 
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.util.Collection;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +19,39 @@ public interface StorageService {
 
     List<String> list(String prefix);
 
+    Optional<Resource> stream(String name);
+
     void store(String name, Resource resource);
 
+    /**
+     * Stores under {@code name} the concatenation of the {@code sources}, in order. The default implementation
+     * streams the sources back through {@link #store(String, Resource)}, opening one source at a time.
+     */
+    default void compose(final String name, final List<String> sources, final String contentType) {
+        final var resources = sources.stream()
+                .map(source -> stream(source).orElseThrow(() -> InternalErrorException.with(
+                        "Could not compose %s, %s was not found".formatted(name, source), null
+                )))
+                .toList();
+
+        final var contentLength = resources.stream().mapToLong(Resource::contentLength).sum();
+
+        final StreamResource.Source concatenation = () -> {
+            final var iterator = resources.iterator();
+            return new SequenceInputStream(new Enumeration<InputStream>() {
+                @Override
+                public boolean hasMoreElements() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public InputStream nextElement() {
+                    return iterator.next().openStream();
+                }
+            });
+        };
+
+        store(name, StreamResource.with(concatenation, contentLength, contentType, name));
+    }
+
 }
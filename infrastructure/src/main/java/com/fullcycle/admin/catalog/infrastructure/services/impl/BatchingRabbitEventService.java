@@ -0,0 +1,279 @@
+package com.fullcycle.admin.catalog.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.services.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * High-throughput publisher. Events are serialized once and queued in a bounded backlog, from which a dispatcher
+ * thread takes batches of up to {@code batchSize} events, waiting at most {@code linger} for a batch to fill, and
+ * publishes each batch on a single channel without waiting for the broker. Confirms are correlated per event and
+ * arrive asynchronously: at most {@code maxInFlight} events may be unconfirmed at once, and nacked events go back
+ * to the backlog up to {@code maxRetries} times, so retried events may be delivered out of order.
+ * <p>
+ * Requires the connection factory to be in correlated confirm mode.
+ */
+public class BatchingRabbitEventService implements EventService, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingRabbitEventService.class);
+    private static final Duration IDLE_POLL = Duration.ofMillis(100);
+
+    private final String exchange;
+    private final String routingKey;
+    private final RabbitOperations ops;
+    private final Settings settings;
+
+    private final BlockingQueue<Pending> backlog;
+    private final Semaphore inFlight;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder confirmed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public BatchingRabbitEventService(
+            final String exchange,
+            final String routingKey,
+            final RabbitOperations ops,
+            final Settings settings
+    ) {
+        this.exchange = Objects.requireNonNull(exchange);
+        this.routingKey = Objects.requireNonNull(routingKey);
+        this.ops = Objects.requireNonNull(ops);
+        this.settings = Objects.requireNonNull(settings);
+        this.backlog = new ArrayBlockingQueue<>(settings.backlogCapacity());
+        this.inFlight = new Semaphore(settings.maxInFlight());
+
+        this.dispatcher = new Thread(this::dispatch, "rabbit-publisher-" + routingKey);
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    public record Settings(
+            int batchSize,
+            Duration linger,
+            int maxInFlight,
+            int backlogCapacity,
+            int maxRetries,
+            Duration confirmTimeout
+    ) {
+    }
+
+    /**
+     * Queues the event and returns without waiting for the broker, blocking only while the backlog is full.
+     */
+    @Override
+    public void send(final Object event) {
+        enqueue(new Pending(Json.writeValueAsString(event)));
+    }
+
+    /**
+     * Queues the events and waits until the broker confirmed all of them.
+     */
+    @Override
+    public void sendAll(final List<?> events) {
+        final var pending = new ArrayList<Pending>(events.size());
+        for (final var event : events) {
+            final var aPending = new Pending(Json.writeValueAsString(event));
+            enqueue(aPending);
+            pending.add(aPending);
+        }
+
+        try {
+            CompletableFuture.allOf(pending.stream().map(Pending::confirmed).toArray(CompletableFuture[]::new))
+                    .get(this.settings.confirmTimeout().toMillis(), MILLISECONDS);
+        } catch (final ExecutionException e) {
+            throw InternalErrorException.with("Could not publish %d events to %s".formatted(events.size(), this.routingKey), e.getCause());
+        } catch (final TimeoutException e) {
+            throw InternalErrorException.with("Events to %s were not confirmed within %s".formatted(this.routingKey, this.settings.confirmTimeout()), e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw InternalErrorException.with("Interrupted while publishing events to %s".formatted(this.routingKey), e);
+        }
+    }
+
+    public String routingKey() {
+        return this.routingKey;
+    }
+
+    public int backlog() {
+        return this.backlog.size();
+    }
+
+    public int inFlight() {
+        return this.settings.maxInFlight() - this.inFlight.availablePermits();
+    }
+
+    public long published() {
+        return this.published.sum();
+    }
+
+    public long confirmed() {
+        return this.confirmed.sum();
+    }
+
+    public long retried() {
+        return this.retried.sum();
+    }
+
+    public long failed() {
+        return this.failed.sum();
+    }
+
+    /**
+     * Stops accepting events and waits, up to the confirm timeout, for the backlog and the in-flight events.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        this.running = false;
+        this.dispatcher.join(this.settings.confirmTimeout().toMillis());
+
+        if (this.inFlight.tryAcquire(this.settings.maxInFlight(), this.settings.confirmTimeout().toMillis(), MILLISECONDS)) {
+            this.inFlight.release(this.settings.maxInFlight());
+        } else {
+            log.warn("Stopped publishing to {} with {} events unconfirmed and {} in the backlog", this.routingKey, inFlight(), backlog());
+        }
+    }
+
+    private void enqueue(final Pending aPending) {
+        if (!this.running) {
+            throw new IllegalStateException("Publisher to %s is shut down".formatted(this.routingKey));
+        }
+
+        try {
+            this.backlog.put(aPending);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw InternalErrorException.with("Interrupted while queueing an event to %s".formatted(this.routingKey), e);
+        }
+    }
+
+    private void dispatch() {
+        final var batch = new ArrayList<Pending>(this.settings.batchSize());
+        while (this.running || !this.backlog.isEmpty()) {
+            try {
+                final var first = this.backlog.poll(IDLE_POLL.toNanos(), NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                final var deadline = System.nanoTime() + this.settings.linger().toNanos();
+                while (batch.size() < this.settings.batchSize()) {
+                    final var next = this.backlog.poll(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                publish(batch);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(it -> it.confirmed().completeExceptionally(e));
+                return;
+            } catch (final RuntimeException e) {
+                log.error("Could not publish a batch of {} events to {}", batch.size(), this.routingKey, e);
+                batch.forEach(it -> onConfirm(it, false, e.getMessage()));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publish(final List<Pending> batch) throws InterruptedException {
+        // Permits are taken before the batch is published, so a failed publish can release exactly those
+        this.inFlight.acquire(batch.size());
+
+        this.ops.invoke(operations -> {
+            for (final var aPending : batch) {
+                final var correlation = new CorrelationData();
+                correlation.getFuture().addCallback(
+                        confirm -> onConfirm(aPending, confirm != null && confirm.isAck(), confirm != null ? confirm.getReason() : null),
+                        error -> onConfirm(aPending, false, error.getMessage())
+                );
+                operations.convertAndSend(this.exchange, this.routingKey, aPending.payload(), correlation);
+            }
+            return null;
+        });
+
+        this.published.add(batch.size());
+        log.debug("Published {} events to {}, {} in flight and {} in the backlog", batch.size(), this.routingKey, inFlight(), backlog());
+    }
+
+    private void onConfirm(final Pending aPending, final boolean ack, final String reason) {
+        // A confirm and a channel failure may both report the same publish, possibly on different threads
+        if (!aPending.settled.compareAndSet(false, true)) {
+            return;
+        }
+        this.inFlight.release();
+
+        if (ack) {
+            this.confirmed.increment();
+            aPending.confirmed().complete(null);
+            return;
+        }
+
+        // Runs on the connection thread, so a full backlog fails the event instead of blocking
+        if (this.running && aPending.attempts < this.settings.maxRetries() && this.backlog.offer(aPending.retry())) {
+            this.retried.increment();
+            return;
+        }
+
+        this.failed.increment();
+        log.error("Event to {} was not confirmed after {} attempts: {}", this.routingKey, aPending.attempts + 1, reason);
+        aPending.confirmed().completeExceptionally(new IllegalStateException("Event was nacked: %s".formatted(reason)));
+    }
+
+    private static class Pending {
+        private final String payload;
+        private final CompletableFuture<Void> confirmed;
+        private final int attempts;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private Pending(final String payload) {
+            this(payload, new CompletableFuture<>(), 0);
+        }
+
+        private Pending(final String payload, final CompletableFuture<Void> confirmed, final int attempts) {
+            this.payload = payload;
+            this.confirmed = confirmed;
+            this.attempts = attempts;
+        }
+
+        private String payload() {
+            return this.payload;
+        }
+
+        private CompletableFuture<Void> confirmed() {
+            return this.confirmed;
+        }
+
+        private Pending retry() {
+            return new Pending(this.payload, this.confirmed, this.attempts + 1);
+        }
+    }
+}
@@ -1,18 +1,35 @@
 package com.fullcycle.admin.catalog.infrastructure.services.impl;
 
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.StreamResource;
 import com.fullcycle.admin.catalog.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.HashingUtils;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.common.io.ByteStreams;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
+/**
+ * The SHA-256 checksum of each object is kept in its custom metadata, since GCS only computes CRC32C and MD5.
+ * Objects without it, such as composed ones, have it computed from their content when asked.
+ */
 public class GCStorageService implements StorageService {
 
+    private static final int MAX_COMPOSE_SOURCES = 32;
+    private static final String CHECKSUM_METADATA = "sha256";
+
     private final String bucket;
     private final Storage storage;
 
@@ -30,12 +47,15 @@ public class GCStorageService implements StorageService {
     @Override
     public Optional<Resource> get(final String name) {
         return Optional.ofNullable(this.storage.get(this.bucket, name))
-                .map(blob -> Resource.with(
-                        blob.getCrc32cToHexString(),
-                        blob.getContent(),
-                        blob.getContentType(),
-                        blob.getName()
-                ));
+                .map(blob -> {
+                    final var content = blob.getContent();
+                    return Resource.with(
+                            checksumOf(blob).orElseGet(() -> HashingUtils.checksum(content)),
+                            content,
+                            blob.getContentType(),
+                            blob.getName()
+                    );
+                });
     }
 
     @Override
@@ -48,12 +68,115 @@ public class GCStorageService implements StorageService {
 
     }
 
+    @Override
+    public Optional<Resource> stream(final String name) {
+        return Optional.ofNullable(this.storage.get(this.bucket, name))
+                .map(blob -> checksumOf(blob)
+                        .map(checksum -> StreamResource.with(
+                                checksum,
+                                new BlobSource(blob.getBlobId()),
+                                blob.getSize(),
+                                blob.getContentType(),
+                                blob.getName()
+                        ))
+                        .orElseGet(() -> StreamResource.with(
+                                new BlobSource(blob.getBlobId()),
+                                blob.getSize(),
+                                blob.getContentType(),
+                                blob.getName()
+                        )));
+    }
+
     @Override
     public void store(final String name, final Resource resource) {
+        if (resource instanceof StreamResource aStream) {
+            storeStream(name, aStream);
+            return;
+        }
+
         final var blobInfo = BlobInfo.newBuilder(this.bucket, name)
                 .setContentType(resource.contentType())
-                .setCrc32cFromHexString(resource.checksum())
+                .setMetadata(Map.of(CHECKSUM_METADATA, resource.checksum()))
                 .build();
         this.storage.create(blobInfo, resource.content());
     }
+
+    @Override
+    public void compose(final String name, final List<String> sources, final String contentType) {
+        // A compose request accepts at most 32 sources, longer lists are reduced through intermediate objects
+        final var intermediates = new ArrayList<String>();
+        var current = sources;
+        while (current.size() > MAX_COMPOSE_SOURCES) {
+            final var next = new ArrayList<String>();
+            for (int i = 0; i < current.size(); i += MAX_COMPOSE_SOURCES) {
+                final var intermediate = "%s.part-%d".formatted(name, intermediates.size());
+                composeOnce(intermediate, current.subList(i, Math.min(i + MAX_COMPOSE_SOURCES, current.size())), contentType);
+                intermediates.add(intermediate);
+                next.add(intermediate);
+            }
+            current = next;
+        }
+
+        composeOnce(name, current, contentType);
+
+        if (!intermediates.isEmpty()) {
+            deleteAll(intermediates);
+        }
+    }
+
+    private void composeOnce(final String name, final List<String> sources, final String contentType) {
+        final var target = BlobInfo.newBuilder(this.bucket, name)
+                .setContentType(contentType)
+                .build();
+
+        this.storage.compose(Storage.ComposeRequest.newBuilder()
+                .addSource(sources)
+                .setTarget(target)
+                .build());
+    }
+
+    /**
+     * The checksum is written with the object, when known before the upload, so no object is ever left without it
+     * by a crash. Streams whose checksum is only known once read, such as upload chunks, are stored without it.
+     */
+    private void storeStream(final String name, final StreamResource resource) {
+        final var builder = BlobInfo.newBuilder(this.bucket, name)
+                .setContentType(resource.contentType());
+        resource.knownChecksum().ifPresent(checksum -> builder.setMetadata(Map.of(CHECKSUM_METADATA, checksum)));
+
+        try (
+                final var in = Channels.newChannel(resource.openStream());
+                final var writer = this.storage.writer(builder.build())
+        ) {
+            ByteStreams.copy(in, writer);
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not store resource %s".formatted(name), e);
+        }
+    }
+
+    private static Optional<String> checksumOf(final BlobInfo blob) {
+        return Optional.ofNullable(blob.getMetadata()).map(it -> it.get(CHECKSUM_METADATA));
+    }
+
+    private class BlobSource implements StreamResource.Source {
+
+        private final BlobId blobId;
+
+        private BlobSource(final BlobId blobId) {
+            this.blobId = blobId;
+        }
+
+        @Override
+        public InputStream open() {
+            return Channels.newInputStream(storage.reader(this.blobId));
+        }
+
+        @Override
+        public void transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+            try (final var reader = storage.reader(this.blobId)) {
+                reader.seek(position);
+                ByteStreams.copy(reader.limit(position + count), target);
+            }
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalog.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalog.application.video.media.MediaStorageExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of how much wall-clock time storing medias concurrently saved compared to storing them one by one.
+ */
+public class MediaStorageMetrics implements MediaStorageExecutor.Listener {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaStorageMetrics.class);
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder uploads = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+    private final LongAdder serialNanos = new LongAdder();
+
+    @Override
+    public void onComplete(final int count, final Duration elapsed, final Duration serial) {
+        this.requests.increment();
+        this.uploads.add(count);
+        this.elapsedNanos.add(elapsed.toNanos());
+        this.serialNanos.add(serial.toNanos());
+
+        log.debug("Stored {} medias in {} ms, {} ms sequentially ({} ms saved)",
+                count, elapsed.toMillis(), serial.toMillis(), serial.minus(elapsed).toMillis());
+    }
+
+    public long requests() {
+        return this.requests.sum();
+    }
+
+    public long uploads() {
+        return this.uploads.sum();
+    }
+
+    public Duration elapsed() {
+        return Duration.ofNanos(this.elapsedNanos.sum());
+    }
+
+    public Duration serial() {
+        return Duration.ofNanos(this.serialNanos.sum());
+    }
+
+    public Duration saved() {
+        return serial().minus(elapsed());
+    }
+}
@@ -1,28 +1,78 @@
 package com.fullcycle.admin.catalog.infrastructure.services.impl;
 
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
 import com.fullcycle.admin.catalog.infrastructure.services.EventService;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public class RabbitEventService implements EventService {
     private final String exchange;
     private final String routingKey;
     private final RabbitOperations ops;
+    private final Duration confirmTimeout;
 
     public RabbitEventService(
             final String exchange,
             final String routingKey,
-            final RabbitOperations ops
+            final RabbitOperations ops,
+            final Duration confirmTimeout
     ) {
         this.exchange = Objects.requireNonNull(exchange);
         this.routingKey = Objects.requireNonNull(routingKey);
         this.ops = Objects.requireNonNull(ops);
+        this.confirmTimeout = Objects.requireNonNull(confirmTimeout);
     }
 
     @Override
     public void send(Object event) {
         this.ops.convertAndSend(this.exchange, this.routingKey, Json.writeValueAsString(event));
     }
+
+    /**
+     * Publishes the whole batch on a single channel, each event with its own correlation, and then waits once for
+     * the broker to confirm all of them, which requires the connection factory to be in correlated confirm mode.
+     */
+    @Override
+    public void sendAll(final List<?> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        final var correlations = new ArrayList<CorrelationData>(events.size());
+        this.ops.invoke(operations -> {
+            for (final var event : events) {
+                final var correlation = new CorrelationData();
+                correlations.add(correlation);
+                operations.convertAndSend(this.exchange, this.routingKey, Json.writeValueAsString(event), correlation);
+            }
+            return null;
+        });
+
+        final var deadline = System.nanoTime() + this.confirmTimeout.toNanos();
+        try {
+            for (final var correlation : correlations) {
+                final var confirm = correlation.getFuture().get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+                if (!confirm.isAck()) {
+                    throw InternalErrorException.with("Event to %s was nacked: %s".formatted(this.routingKey, confirm.getReason()), null);
+                }
+            }
+        } catch (final ExecutionException e) {
+            throw InternalErrorException.with("Could not publish %d events to %s".formatted(events.size(), this.routingKey), e.getCause());
+        } catch (final TimeoutException e) {
+            throw InternalErrorException.with("Events to %s were not confirmed within %s".formatted(this.routingKey, this.confirmTimeout), e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw InternalErrorException.with("Interrupted while publishing events to %s".formatted(this.routingKey), e);
+        }
+    }
 }
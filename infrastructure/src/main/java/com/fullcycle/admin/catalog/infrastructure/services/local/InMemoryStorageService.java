@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalog.infrastructure.services.local;
 
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.StreamResource;
 import com.fullcycle.admin.catalog.infrastructure.services.StorageService;
 
 import java.util.*;
@@ -43,8 +44,21 @@ public class InMemoryStorageService implements StorageService {
                 .toList();
     }
 
+    @Override
+    public Optional<Resource> stream(final String name) {
+        return get(name);
+    }
+
     @Override
     public void store(final String name, final Resource resource) {
-        this.storage.put(name, resource);
+        this.storage.put(name, inMemory(resource));
+    }
+
+    private Resource inMemory(final Resource resource) {
+        if (resource instanceof StreamResource) {
+            final var content = resource.content();
+            return Resource.with(resource.checksum(), content, resource.contentType(), resource.name());
+        }
+        return resource;
     }
 }
@@ -0,0 +1,296 @@
+package com.fullcycle.admin.catalog.infrastructure.services.local;
+
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.StreamResource;
+import com.fullcycle.admin.catalog.infrastructure.services.StorageService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Stores each resource as a file under {@code root}, with its checksum, content type and name
+ * kept in a {@code .meta} sidecar. Writes go to a temp file in the same directory and are renamed
+ * into place, so readers never observe a partially written file. A sidecar older than its file is
+ * left over from a store that did not finish, and the resource reads as missing.
+ */
+public class LocalFileSystemStorageService implements StorageService {
+
+    private static final String METADATA_SUFFIX = ".meta";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path root;
+    private final FsyncPolicy fsync;
+    private final boolean memoryMapImages;
+
+    public LocalFileSystemStorageService(final Path root, final FsyncPolicy fsync, final boolean memoryMapImages) {
+        this.root = Objects.requireNonNull(root).toAbsolutePath().normalize();
+        this.fsync = Objects.requireNonNull(fsync);
+        this.memoryMapImages = memoryMapImages;
+
+        try {
+            Files.createDirectories(this.root);
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not create storage root %s".formatted(this.root), e);
+        }
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> names) {
+        for (final var name : names) {
+            final var path = pathOf(name);
+            try {
+                Files.deleteIfExists(path);
+                Files.deleteIfExists(metadataOf(path));
+            } catch (final IOException e) {
+                throw InternalErrorException.with("Could not delete resource %s".formatted(name), e);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final var path = pathOf(name);
+        return readMetadata(path).map(metadata -> Resource.with(
+                metadata.checksum(),
+                readAll(path),
+                metadata.contentType(),
+                metadata.name()
+        ));
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        if (prefix == null) {
+            return Collections.emptyList();
+        }
+
+        final var separator = prefix.lastIndexOf('/');
+        final var start = separator < 0 ? this.root : pathOf(prefix.substring(0, separator));
+        if (!Files.isDirectory(start)) {
+            return Collections.emptyList();
+        }
+
+        try (final var paths = Files.walk(start)) {
+            return paths
+                    .filter(Files::isRegularFile)
+                    .filter(it -> !isInternal(it))
+                    .map(this::nameOf)
+                    .filter(it -> it.startsWith(prefix))
+                    .toList();
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not list resources with prefix %s".formatted(prefix), e);
+        }
+    }
+
+    @Override
+    public Optional<Resource> stream(final String name) {
+        final var path = pathOf(name);
+        return readMetadata(path).map(metadata -> StreamResource.with(
+                metadata.checksum(),
+                new FileSource(path, this.memoryMapImages && metadata.isImage()),
+                sizeOf(path),
+                metadata.contentType(),
+                metadata.name()
+        ));
+    }
+
+    @Override
+    public void store(final String name, final Resource resource) {
+        final var path = pathOf(name);
+        try {
+            final var directory = Files.createDirectories(path.getParent());
+            final var temp = tempFileFor(path);
+            final var metadataTemp = tempFileFor(metadataOf(path));
+            try {
+                try (
+                        final var in = resource.openStream();
+                        final var channel = FileChannel.open(temp, WRITE)
+                ) {
+                    in.transferTo(Channels.newOutputStream(channel));
+                    if (this.fsync != FsyncPolicy.NEVER) {
+                        channel.force(true);
+                    }
+                }
+
+                // The content was fully read above, so stream resources already know their checksum
+                writeMetadata(metadataTemp, new Metadata(resource.checksum(), resource.contentType(), resource.name()));
+
+                // The content is renamed first, so a crash in between leaves the new file next to no sidecar or
+                // the previous one. The sidecar was written after the file and renames keep modification times,
+                // so readMetadata tells the previous sidecar apart by it being older than the file
+                Files.move(temp, path, ATOMIC_MOVE, REPLACE_EXISTING);
+                Files.move(metadataTemp, metadataOf(path), ATOMIC_MOVE, REPLACE_EXISTING);
+
+                if (this.fsync == FsyncPolicy.FILE_AND_DIRECTORY) {
+                    forceDirectory(directory);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+                Files.deleteIfExists(metadataTemp);
+            }
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not store resource %s".formatted(name), e);
+        }
+    }
+
+    private void writeMetadata(final Path temp, final Metadata metadata) throws IOException {
+        final var properties = new Properties();
+        properties.setProperty("checksum", metadata.checksum());
+        properties.setProperty("contentType", metadata.contentType());
+        properties.setProperty("name", metadata.name());
+
+        final var out = new ByteArrayOutputStream();
+        properties.store(out, null);
+
+        try (final var channel = FileChannel.open(temp, WRITE)) {
+            final var buffer = ByteBuffer.wrap(out.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (this.fsync != FsyncPolicy.NEVER) {
+                channel.force(true);
+            }
+        }
+    }
+
+    private Optional<Metadata> readMetadata(final Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        final var metadata = metadataOf(path);
+        final var properties = new Properties();
+        try {
+            if (Files.getLastModifiedTime(metadata).compareTo(Files.getLastModifiedTime(path)) < 0) {
+                return Optional.empty();
+            }
+            try (final var in = Files.newInputStream(metadata)) {
+                properties.load(in);
+            }
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not read metadata of %s".formatted(nameOf(path)), e);
+        }
+
+        return Optional.of(new Metadata(
+                properties.getProperty("checksum"),
+                properties.getProperty("contentType"),
+                properties.getProperty("name")
+        ));
+    }
+
+    private byte[] readAll(final Path path) {
+        try (final var channel = FileChannel.open(path, READ)) {
+            final var buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // keep reading until the buffer is full
+            }
+            return buffer.array();
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not read resource %s".formatted(nameOf(path)), e);
+        }
+    }
+
+    private long sizeOf(final Path path) {
+        try {
+            return Files.size(path);
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not read resource %s".formatted(nameOf(path)), e);
+        }
+    }
+
+    private Path pathOf(final String name) {
+        final var path = this.root.resolve(Objects.requireNonNull(name)).normalize();
+        if (!path.startsWith(this.root) || path.equals(this.root) || name.endsWith(METADATA_SUFFIX)) {
+            throw new IllegalArgumentException("Invalid resource name %s".formatted(name));
+        }
+        return path;
+    }
+
+    private String nameOf(final Path path) {
+        return this.root.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private static Path metadataOf(final Path path) {
+        return path.resolveSibling(path.getFileName() + METADATA_SUFFIX);
+    }
+
+    private static Path tempFileFor(final Path path) throws IOException {
+        return Files.createTempFile(path.getParent(), "." + path.getFileName(), TEMP_SUFFIX);
+    }
+
+    private static boolean isInternal(final Path path) {
+        final var filename = path.getFileName().toString();
+        return filename.endsWith(METADATA_SUFFIX) || (filename.startsWith(".") && filename.endsWith(TEMP_SUFFIX));
+    }
+
+    private static void forceDirectory(final Path directory) throws IOException {
+        try (final var channel = FileChannel.open(directory, READ)) {
+            channel.force(true);
+        }
+    }
+
+    public enum FsyncPolicy {
+        NEVER,
+        FILE,
+        FILE_AND_DIRECTORY
+    }
+
+    private record Metadata(String checksum, String contentType, String name) {
+        boolean isImage() {
+            return contentType != null && contentType.startsWith("image/");
+        }
+    }
+
+    private record FileSource(Path path, boolean memoryMapped) implements StreamResource.Source {
+
+        @Override
+        public InputStream open() throws IOException {
+            return Channels.newInputStream(FileChannel.open(this.path, READ));
+        }
+
+        @Override
+        public void transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+            try (final var channel = FileChannel.open(this.path, READ)) {
+                if (this.memoryMapped) {
+                    final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, count);
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    return;
+                }
+
+                var transferred = 0L;
+                while (transferred < count) {
+                    final var written = channel.transferTo(position + transferred, count - transferred, target);
+                    if (written <= 0) {
+                        break;
+                    }
+                    transferred += written;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalog.infrastructure.services.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record PublisherMetricsResponse(
+        @JsonProperty("routing_key") String routingKey,
+        @JsonProperty("backlog") int backlog,
+        @JsonProperty("in_flight") int inFlight,
+        @JsonProperty("published") long published,
+        @JsonProperty("confirmed") long confirmed,
+        @JsonProperty("retried") long retried,
+        @JsonProperty("failed") long failed
+) {
+}
@@ -0,0 +1,80 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Strong entity tags of single aggregate responses, made of the last update, so they can be compared before the
+ * response is built and an If-Match header tells which version an update expects to replace.
+ */
+public final class ETagUtils {
+
+    private static final Pattern TAG = Pattern.compile("\"(\\d+)\\.(\\d{9})\"");
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETagUtils() {
+    }
+
+    public static String of(final Instant updatedAt) {
+        return "\"%d.%09d\"".formatted(updatedAt.getEpochSecond(), updatedAt.getNano());
+    }
+
+    /**
+     * Whether an If-None-Match header lists the tag, with the weak comparison of RFC 7232.
+     */
+    public static boolean isNotModified(final String ifNoneMatch, final String anETag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (final var candidate : ifNoneMatch.split(",")) {
+            final var tag = candidate.strip();
+            if (tag.equals("*") || stripWeak(tag).equals(stripWeak(anETag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The last update an If-Match header requires the resource to still have, with the strong comparison of
+     * RFC 7232. Empty when the header is missing or {@code *}, which set no version.
+     *
+     * @throws PreconditionFailedException when no tag of the header can match, being weak or not issued by
+     *                                     {@link #of(Instant)}, or when it lists more than one version
+     */
+    public static Optional<Instant> updatedAtOf(final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return Optional.empty();
+        }
+
+        Instant updatedAt = null;
+        for (final var candidate : ifMatch.split(",")) {
+            final var tag = candidate.strip();
+            if (tag.equals("*")) {
+                return Optional.empty();
+            }
+
+            final var matcher = TAG.matcher(tag);
+            if (!matcher.matches()) {
+                continue;
+            }
+            if (updatedAt != null) {
+                throw PreconditionFailedException.with("If-Match may list a single version only");
+            }
+            updatedAt = Instant.ofEpochSecond(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)));
+        }
+
+        if (updatedAt == null) {
+            throw PreconditionFailedException.with("If-Match does not list a current version");
+        }
+        return Optional.of(updatedAt);
+    }
+
+    private static String stripWeak(final String aTag) {
+        return aTag.startsWith(WEAK_PREFIX) ? aTag.substring(WEAK_PREFIX.length()) : aTag;
+    }
+}
@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Recent totals per filter signature, so that paging through the same filters counts them once per TTL. The
+ * totals are stale by up to the TTL, which is what callers asking for an estimate accept.
+ */
+public class EstimatedCounts {
+
+    private final Cache<List<?>, Long> totals;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public EstimatedCounts(final long capacity, final Duration ttl) {
+        Objects.requireNonNull(ttl);
+        this.totals = CacheBuilder.newBuilder()
+                .maximumSize(capacity)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public static List<?> signature(final Object... parts) {
+        return Arrays.asList(parts.clone());
+    }
+
+    public long get(final List<?> aSignature, final LongSupplier count) {
+        final var cached = this.totals.getIfPresent(aSignature);
+        if (cached != null) {
+            this.hits.increment();
+            return cached;
+        }
+
+        // Concurrent misses may count the same filters twice, which is cheaper than holding them back
+        this.misses.increment();
+        final var total = count.getAsLong();
+        this.totals.put(aSignature, total);
+        return total;
+    }
+
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    public long misses() {
+        return this.misses.sum();
+    }
+}
@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import com.fullcycle.admin.catalog.infrastructure.configuration.jpa.FullTextFunctions;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Expression;
+import java.util.ArrayList;
+
+/**
+ * Search through the FULLTEXT n-gram indexes. The terms are matched as one boolean mode phrase, which with the
+ * n-gram parser finds them anywhere in the text, as the LIKE search does, but from the index.
+ */
+public final class FullTextUtils {
+
+    public static final String RELEVANCE = "relevance";
+
+    private static final String OPERATORS = "[+\\-<>()~*\"@]";
+
+    private FullTextUtils() {
+    }
+
+    public static boolean isRelevance(final String sort) {
+        return RELEVANCE.equalsIgnoreCase(sort);
+    }
+
+    /**
+     * The requested order, unless sorting by relevance: then the order is set by {@link #match}, or by id when the
+     * terms do not go through the FULLTEXT indexes, since every item is then equally relevant.
+     */
+    public static Sort sort(final Sort requested, final String sort, final boolean fullText) {
+        if (!isRelevance(sort)) {
+            return requested;
+        }
+        return fullText ? Sort.unsorted() : Sort.by("id");
+    }
+
+    public static String against(final String terms) {
+        return "\"" + terms.replaceAll(OPERATORS, " ").strip() + "\"";
+    }
+
+    /**
+     * Items matching the terms in the attributes, one or two, ordered by relevance when asked to. The order is
+     * left out of count queries.
+     */
+    public static <T> Specification<T> match(final String terms, final boolean byRelevance, final String... attributes) {
+        return (root, query, cb) -> {
+            final var arguments = new ArrayList<Expression<?>>();
+            for (final var attribute : attributes) {
+                arguments.add(root.get(attribute));
+            }
+            arguments.add(cb.literal(against(terms)));
+
+            final var function = attributes.length == 1 ? FullTextFunctions.MATCH : FullTextFunctions.MATCH_2;
+            final var score = cb.function(function, Double.class, arguments.toArray(Expression[]::new));
+
+            if (byRelevance && !Long.class.equals(query.getResultType())) {
+                query.orderBy(cb.desc(score), cb.asc(root.get("id")));
+            }
+            return cb.greaterThan(score, 0D);
+        };
+    }
+}
@@ -5,11 +5,14 @@ import com.google.common.hash.Hashing;
 
 public final class HashingUtils {
 
-    private static final HashFunction CHECKSUM = Hashing.crc32();
+    private static final HashFunction CHECKSUM = Hashing.sha256();
 
     private HashingUtils() {
     }
 
+    /**
+     * The SHA-256 of the content in lowercase hex, the same checksum {@code StreamResource} computes.
+     */
     public static String checksum(final byte[] content) {
         return CHECKSUM.hashBytes(content).toString();
     }
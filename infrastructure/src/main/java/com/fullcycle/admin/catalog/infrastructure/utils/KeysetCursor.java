@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Position of the last item of a page: the value of the sort key and the id that breaks ties. Clients only see it
+ * as an opaque token.
+ */
+public record KeysetCursor(
+        String sort,
+        String direction,
+        String value,
+        String id
+) {
+
+    public static KeysetCursor of(final String sort, final String direction, final Object value, final String id) {
+        return new KeysetCursor(sort, direction.toLowerCase(), format(value), id);
+    }
+
+    /**
+     * Decodes the token of a request, empty when the request asks for the first page.
+     */
+    public static Optional<KeysetCursor> decode(final String token, final String sort, final String direction) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        final KeysetCursor aCursor;
+        try {
+            aCursor = Json.readValue(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8), KeysetCursor.class);
+        } catch (final RuntimeException e) {
+            throw DomainException.with(new Error("Invalid 'after' cursor"));
+        }
+
+        if (aCursor.id() == null || !sort.equals(aCursor.sort()) || !direction.equalsIgnoreCase(aCursor.direction())) {
+            throw DomainException.with(new Error("Cursor was issued for %s %s, expected %s %s"
+                    .formatted(aCursor.sort(), aCursor.direction(), sort, direction.toLowerCase())));
+        }
+        return Optional.of(aCursor);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Json.writeValueAsString(this).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The sort key value as the type of the attribute it is compared against.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object valueAs(final Class<?> aType) {
+        if (this.value == null || aType == String.class) {
+            return this.value;
+        }
+        if (aType == Instant.class) {
+            return Instant.parse(this.value);
+        }
+        if (aType.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) aType, this.value);
+        }
+        if (aType == Boolean.class || aType == boolean.class) {
+            return Boolean.valueOf(this.value);
+        }
+        if (aType == Integer.class || aType == int.class) {
+            return Integer.valueOf(this.value);
+        }
+        if (aType == Long.class || aType == long.class) {
+            return Long.valueOf(this.value);
+        }
+        if (aType == Double.class || aType == double.class) {
+            return Double.valueOf(this.value);
+        }
+        throw DomainException.with(new Error("Cursor pagination is not supported when sorting by '%s'".formatted(this.sort)));
+    }
+
+    private static String format(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Enum<?> anEnum) {
+            return anEnum.name();
+        }
+        return value.toString();
+    }
+}
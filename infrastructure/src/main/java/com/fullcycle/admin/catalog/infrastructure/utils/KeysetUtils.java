@@ -0,0 +1,208 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.Expression;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cursor pagination: pages are read by seeking past the last item with {@code (key, id) > (value, lastId)},
+ * which stays an index range scan at any depth, and without counting.
+ */
+public final class KeysetUtils {
+
+    private KeysetUtils() {
+    }
+
+    /**
+     * The page of {@code anEntity} after the {@code after} token, with the rows matching {@code where} sorted by
+     * {@code sort} then id. The first page when there is no token.
+     */
+    public static <T> Pagination<T> findAllAfter(
+            final EntityManager em,
+            final Class<T> anEntity,
+            final Specification<T> where,
+            final int currentPage,
+            final int perPage,
+            final String after,
+            final String sort,
+            final String direction
+    ) {
+        keyType(em, anEntity, sort);
+
+        var seek = Specification.where(where);
+
+        final var aCursor = KeysetCursor.decode(after, sort, direction);
+        if (aCursor.isPresent()) {
+            seek = seek.and(after(aCursor.get()));
+        }
+
+        final var rows = findAll(em, anEntity, seek, sort(sort, direction), perPage + 1);
+        return page(rows, currentPage, perPage, KeysetUtils.<T>cursorOf(sort, direction));
+    }
+
+    /**
+     * The same page as {@link #findAllAfter(EntityManager, Class, Specification, int, int, String, String, String)},
+     * of ids only, for a JPQL {@code from} clause over {@code alias} ending in its where clause. {@code bind} sets
+     * the parameters of that clause.
+     */
+    public static Pagination<String> findIdsAfter(
+            final EntityManager em,
+            final Class<?> anEntity,
+            final String alias,
+            final String fromWhere,
+            final UnaryOperator<TypedQuery<Object[]>> bind,
+            final int currentPage,
+            final int perPage,
+            final String after,
+            final String sort,
+            final String direction
+    ) {
+        final var keyType = keyType(em, anEntity, sort);
+        final var order = Sort.Direction.fromString(direction).name().toLowerCase();
+
+        final var aCursor = KeysetCursor.decode(after, sort, direction);
+
+        final var jpql = new StringBuilder("select %1$s.id, %1$s.%2$s ".formatted(alias, sort)).append(fromWhere);
+        aCursor.ifPresent(it -> jpql.append(" and ").append(after(alias, it)));
+        jpql.append(" order by %1$s.%2$s %3$s, %1$s.id %3$s".formatted(alias, sort, order));
+
+        final var query = bind.apply(em.createQuery(jpql.toString(), Object[].class)).setMaxResults(perPage + 1);
+        aCursor.ifPresent(it -> {
+            query.setParameter("afterId", it.id());
+            if (it.value() != null) {
+                query.setParameter("afterValue", it.valueAs(keyType));
+            }
+        });
+
+        return page(query.getResultList(), currentPage, perPage, row -> KeysetCursor.of(sort, direction, row[1], (String) row[0]))
+                .map(row -> (String) row[0]);
+    }
+
+    /**
+     * The type of the sort key, failing for keys that are not a single attribute of the entity.
+     */
+    public static Class<?> keyType(final EntityManager em, final Class<?> anEntity, final String sort) {
+        try {
+            return em.getMetamodel().entity(anEntity).getSingularAttribute(sort).getJavaType();
+        } catch (final IllegalArgumentException e) {
+            throw DomainException.with(new Error("Cannot sort by '%s'".formatted(sort)));
+        }
+    }
+
+    public static Sort sort(final String sort, final String direction) {
+        final var aDirection = Sort.Direction.fromString(direction);
+        return Sort.by(aDirection, sort).and(Sort.by(aDirection, "id"));
+    }
+
+    /**
+     * Seek predicate for the items after the cursor. Nulls sort first, as in MySQL.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(final KeysetCursor aCursor) {
+        return (root, query, cb) -> {
+            final Expression<Comparable> key = root.get(aCursor.sort());
+            final Expression<String> id = root.get("id");
+            final var value = (Comparable) aCursor.valueAs(key.getJavaType());
+            final var ascending = Sort.Direction.fromString(aCursor.direction()).isAscending();
+
+            final var nextId = ascending ? cb.greaterThan(id, aCursor.id()) : cb.lessThan(id, aCursor.id());
+
+            if (value == null) {
+                final var sameKey = cb.and(cb.isNull(key), nextId);
+                return ascending ? cb.or(sameKey, cb.isNotNull(key)) : sameKey;
+            }
+
+            final var nextKey = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+            final var sameKey = cb.and(cb.equal(key, value), nextId);
+            return ascending ? cb.or(nextKey, sameKey) : cb.or(nextKey, sameKey, cb.isNull(key));
+        };
+    }
+
+    /**
+     * The same seek predicate as {@link #after(KeysetCursor)}, in JPQL over {@code alias}, binding
+     * {@code :afterValue} and {@code :afterId}.
+     */
+    public static String after(final String alias, final KeysetCursor aCursor) {
+        final var key = alias + "." + aCursor.sort();
+        final var id = alias + ".id";
+        final var ascending = Sort.Direction.fromString(aCursor.direction()).isAscending();
+        final var op = ascending ? ">" : "<";
+
+        if (aCursor.value() == null) {
+            final var sameKey = "(%s is null and %s %s :afterId)".formatted(key, id, op);
+            return ascending ? "(%s or %s is not null)".formatted(sameKey, key) : sameKey;
+        }
+
+        final var seek = "(%s %s :afterValue or (%s = :afterValue and %s %s :afterId)".formatted(key, op, key, id, op);
+        return ascending ? seek + ")" : seek + " or %s is null)".formatted(key);
+    }
+
+    public static <T> List<T> findAll(
+            final EntityManager em,
+            final Class<T> anEntity,
+            final Specification<T> where,
+            final Sort sort,
+            final int limit
+    ) {
+        return findAll(em, anEntity, where, sort, 0, limit);
+    }
+
+    public static <T> List<T> findAll(
+            final EntityManager em,
+            final Class<T> anEntity,
+            final Specification<T> where,
+            final Sort sort,
+            final int offset,
+            final int limit
+    ) {
+        final var cb = em.getCriteriaBuilder();
+        final var query = cb.createQuery(anEntity);
+        final var root = query.from(anEntity);
+
+        final var predicate = where.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return em.createQuery(query).setFirstResult(offset).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Builds the page from {@code perPage + 1} rows, the extra one only telling whether there is a next page.
+     */
+    public static <T> Pagination<T> page(
+            final List<T> rows,
+            final int currentPage,
+            final int perPage,
+            final Function<T, KeysetCursor> cursorOf
+    ) {
+        final var hasNext = rows.size() > perPage && perPage > 0;
+        final var items = hasNext ? rows.subList(0, perPage) : rows;
+        final var next = hasNext ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new Pagination<>(currentPage, perPage, Pagination.UNCOUNTED, List.copyOf(items), next);
+    }
+
+    /**
+     * Cursor of an entity, reading the sort key and the id from its fields.
+     */
+    public static <T> Function<T, KeysetCursor> cursorOf(final String sort, final String direction) {
+        return anEntity -> {
+            final var fields = PropertyAccessorFactory.forDirectFieldAccess(anEntity);
+            return KeysetCursor.of(sort, direction, fields.getPropertyValue(sort), (String) fields.getPropertyValue("id"));
+        };
+    }
+}
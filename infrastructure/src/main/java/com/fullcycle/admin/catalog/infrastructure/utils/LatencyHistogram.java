@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts durations in power of two buckets of microseconds, cheap enough to record on every request. Percentiles
+ * are the upper bound of the bucket they fall in, so they are at most twice the actual value.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 32;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts[i] = new LongAdder();
+        }
+    }
+
+    public void record(final Duration aDuration) {
+        final var micros = Math.max(1, aDuration.toNanos() / 1_000);
+        final var bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros - 1));
+        this.counts[bucket].increment();
+        this.count.increment();
+    }
+
+    public long count() {
+        return this.count.sum();
+    }
+
+    public Duration percentile(final double aPercentile) {
+        final var total = count();
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        final var rank = (long) Math.ceil(total * aPercentile / 100.0);
+        var seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts[i].sum();
+            if (seen >= rank) {
+                return Duration.ofNanos((1L << i) * 1_000);
+            }
+        }
+        return Duration.ofNanos((1L << (BUCKETS - 1)) * 1_000);
+    }
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import com.fullcycle.admin.catalog.domain.pagination.CountMode;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import java.util.function.LongSupplier;
+
+/**
+ * Offset pages that are not counted exactly: a slice of {@code perPage + 1} rows tells whether there is a next
+ * page, and the total is either left out or estimated.
+ */
+public final class PageUtils {
+
+    private PageUtils() {
+    }
+
+    public static <T> Slice<T> findSlice(
+            final EntityManager em,
+            final Class<T> anEntity,
+            final Specification<T> where,
+            final Pageable page
+    ) {
+        final var rows = KeysetUtils.findAll(em, anEntity, where, page.getSort(), (int) page.getOffset(), page.getPageSize() + 1);
+        final var hasNext = rows.size() > page.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, page.getPageSize()) : rows, page, hasNext);
+    }
+
+    /**
+     * The total is only counted when the slice does not settle it: a last page with items gives it exactly, and
+     * any total must reach past a page that has a next one. {@link CountMode#NONE} pages are never counted.
+     */
+    public static <T> Pagination<T> page(final Slice<T> aSlice, final CountMode mode, final LongSupplier count) {
+        final var seen = aSlice.getPageable().getOffset() + aSlice.getNumberOfElements();
+
+        final long total;
+        if (mode == CountMode.NONE) {
+            total = Pagination.UNCOUNTED;
+        } else if (aSlice.hasNext()) {
+            total = Math.max(seen + 1, count.getAsLong());
+        } else if (aSlice.hasContent() || aSlice.isFirst()) {
+            total = seen;
+        } else {
+            total = count.getAsLong();
+        }
+
+        final var nextPage = mode != CountMode.EXACT && aSlice.hasNext() ? aSlice.getNumber() + 1 : null;
+        return new Pagination<>(aSlice.getNumber(), aSlice.getSize(), total, aSlice.getContent(), null, nextPage);
+    }
+}
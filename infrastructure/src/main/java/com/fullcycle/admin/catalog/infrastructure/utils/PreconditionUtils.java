@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import com.fullcycle.admin.catalog.domain.AggregateRoot;
+import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException;
+
+import javax.persistence.EntityManager;
+import java.time.Instant;
+
+public final class PreconditionUtils {
+
+    private PreconditionUtils() {
+    }
+
+    /**
+     * Moves the row to its new last update only while it still has the expected one. The row stays locked until the
+     * transaction ends, so the write that follows in it cannot interleave with another update.
+     *
+     * @param anEntity a mapped entity with {@code id} and {@code updatedAt} attributes
+     * @throws PreconditionFailedException when the row was updated since, or is gone
+     */
+    public static void requireUpdatedAt(
+            final EntityManager entityManager,
+            final Class<?> anEntity,
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier anId,
+            final Instant expectedUpdatedAt,
+            final Instant updatedAt
+    ) {
+        final var anEntityName = entityManager.getMetamodel().entity(anEntity).getName();
+        final var updated = entityManager
+                .createQuery("update %s e set e.updatedAt = :updatedAt where e.id = :id and e.updatedAt = :expectedUpdatedAt".formatted(anEntityName))
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", anId.getValue())
+                .setParameter("expectedUpdatedAt", expectedUpdatedAt)
+                .executeUpdate();
+
+        if (updated == 0) {
+            throw PreconditionFailedException.with(anAggregate, anId);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class RelationUtils {
+
+    private RelationUtils() {
+    }
+
+    /**
+     * Makes a managed one-to-many hold exactly the {@code wanted} keys by removing the rows whose key is gone and
+     * adding rows only for the new keys, so a flush writes the difference instead of replacing the whole set.
+     */
+    public static <T, K> void sync(
+            final Collection<T> current,
+            final Set<K> wanted,
+            final Function<T, K> keyOf,
+            final Function<K, T> create
+    ) {
+        final var existing = new HashSet<K>(current.size());
+        current.removeIf(it -> {
+            final var key = keyOf.apply(it);
+            if (wanted.contains(key)) {
+                existing.add(key);
+                return false;
+            }
+            return true;
+        });
+
+        for (final var key : wanted) {
+            if (!existing.contains(key)) {
+                current.add(create.apply(key));
+            }
+        }
+    }
+}
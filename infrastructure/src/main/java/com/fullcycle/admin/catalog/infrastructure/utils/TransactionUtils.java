@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * Runs the action once the current transaction commits, or right away outside of one, so in-memory views
+     * never show writes that were rolled back.
+     */
+    public static void afterCommit(final Runnable anAction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    anAction.run();
+                }
+            });
+        } else {
+            anAction.run();
+        }
+    }
+}
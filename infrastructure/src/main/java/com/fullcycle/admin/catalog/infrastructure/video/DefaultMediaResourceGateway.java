@@ -1,51 +1,167 @@
 package com.fullcycle.admin.catalog.infrastructure.video;
 
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
 import com.fullcycle.admin.catalog.domain.video.*;
 import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.admin.catalog.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.MediaBlobRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaBlobID;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaBlobJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaBlobRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+import static com.fullcycle.admin.catalog.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * Media is stored content-addressed under {@code blobs/{sha256}-{length}}, so the same upload shared
+ * by several videos is written once. Each video references its blobs through {@code videos_media_blobs}
+ * and a blob is only deleted when its reference count in {@code media_blobs} drops to zero.
+ * <p>
+ * Objects are uploaded before any transaction starts, so a long upload holds neither a connection nor a blob row,
+ * and only the reference counting runs in a short transaction afterwards. An upload whose rows never commit leaves
+ * its object behind, to be reused by the next upload of the same content.
+ * <p>
+ * Objects are deleted once the release commits, so a rollback never leaves a row pointing at a deleted object.
+ */
 @Component
 public class DefaultMediaResourceGateway implements MediaResourceGateway {
+    private static final String BLOB_FOLDER = "blobs";
+    private static final int MAX_STORE_ATTEMPTS = 3;
+
     private final String filenamePattern;
     private final String locationPattern;
     private final StorageService storageService;
+    private final MediaBlobRepository mediaBlobRepository;
+    private final VideoMediaBlobRepository videoMediaBlobRepository;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate newTransaction;
 
-    public DefaultMediaResourceGateway(final StorageProperties props, final StorageService storageService) {
+    public DefaultMediaResourceGateway(
+            final StorageProperties props,
+            final StorageService storageService,
+            final MediaBlobRepository mediaBlobRepository,
+            final VideoMediaBlobRepository videoMediaBlobRepository,
+            final PlatformTransactionManager transactionManager
+    ) {
         this.filenamePattern = props.getFilenamePattern();
         this.locationPattern = props.getLocationPattern();
-        this.storageService = storageService;
+        this.storageService = Objects.requireNonNull(storageService);
+        this.mediaBlobRepository = Objects.requireNonNull(mediaBlobRepository);
+        this.videoMediaBlobRepository = Objects.requireNonNull(videoMediaBlobRepository);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Override
     public AudioVideoMedia storeAudioVideo(final VideoID anId, final VideoResource videoResource) {
-        final var filepath = filepath(anId, videoResource.type());
         final var aResource = videoResource.resource();
-        store(filepath, aResource);
+        final var filepath = store(anId, videoResource.type(), aResource);
         return AudioVideoMedia.with(aResource.checksum(), aResource.name(), filepath);
     }
 
 
     @Override
     public ImageMedia storeImage(final VideoID anId, final VideoResource videoResource) {
-        final var filepath = filepath(anId, videoResource.type());
         final var aResource = videoResource.resource();
-        store(filepath, aResource);
+        final var filepath = store(anId, videoResource.type(), aResource);
         return ImageMedia.with(aResource.checksum(), aResource.name(), filepath);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Resource> getResource(final VideoID anId, final VideoMediaType aType) {
-        return this.storageService.get(filepath(anId, aType));
+        final var filepath = this.videoMediaBlobRepository.findById(VideoMediaBlobID.from(anId.getValue(), aType.name()))
+                .map(VideoMediaBlobJpaEntity::getBlobId)
+                .map(this::blobpath)
+                // media stored before deduplication still lives under the video folder
+                .orElseGet(() -> filepath(anId, aType));
+
+        return this.storageService.stream(filepath);
     }
 
     @Override
+    @Transactional
     public void clearResources(final VideoID anId) {
-        final var ids = this.storageService.list(folder(anId));
-        this.storageService.deleteAll(ids);
+        final var references = this.videoMediaBlobRepository.findAllByIdVideoId(anId.getValue());
+        this.videoMediaBlobRepository.deleteAllInBatch(references);
+        references.forEach(it -> release(it.getBlobId()));
+
+        final var legacy = this.storageService.list(folder(anId));
+        if (!legacy.isEmpty()) {
+            afterCommit(() -> this.storageService.deleteAll(legacy));
+        }
+    }
+
+    private String store(final VideoID anId, final VideoMediaType aType, final Resource aResource) {
+        final var blobId = "%s-%d".formatted(aResource.checksum(), aResource.contentLength());
+        final var blobpath = blobpath(blobId);
+        final var referenceId = VideoMediaBlobID.from(anId.getValue(), aType.name());
+
+        final var previousBlobId = this.videoMediaBlobRepository.findById(referenceId)
+                .map(VideoMediaBlobJpaEntity::getBlobId);
+
+        if (previousBlobId.filter(blobId::equals).isPresent()) {
+            return blobpath;
+        }
+
+        for (var attempt = 1; ; attempt++) {
+            if (!exists(blobpath)) {
+                this.storageService.store(blobpath, aResource);
+            }
+
+            final boolean referenced = this.transaction.execute(status -> {
+                // The upsert keeps the blob row locked until commit, so a concurrent release can't delete it under
+                // us. One that committed before it may have deleted the object uploaded above, though.
+                this.mediaBlobRepository.acquire(blobId, aResource.checksum(), aResource.contentLength(), blobpath);
+                if (!exists(blobpath)) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+
+                this.videoMediaBlobRepository.saveAndFlush(VideoMediaBlobJpaEntity.from(referenceId, blobId));
+                previousBlobId.ifPresent(this::release);
+                return true;
+            });
+
+            if (referenced) {
+                return blobpath;
+            }
+            if (attempt == MAX_STORE_ATTEMPTS) {
+                throw InternalErrorException.with("Blob %s was collected while being stored".formatted(blobId), null);
+            }
+        }
+    }
+
+    private boolean exists(final String blobpath) {
+        return this.storageService.stream(blobpath).isPresent();
+    }
+
+    private void release(final String blobId) {
+        this.mediaBlobRepository.release(blobId);
+        afterCommit(() -> collect(blobId));
+    }
+
+    /**
+     * Deletes the object of a blob nobody references anymore, then its row. The row stays locked meanwhile, so an
+     * upload of the same content waits and stores it again instead of pointing at the object being deleted.
+     */
+    private void collect(final String blobId) {
+        this.newTransaction.executeWithoutResult(status -> this.mediaBlobRepository.lockById(blobId)
+                .filter(it -> it.getRefCount() <= 0)
+                .ifPresent(it -> {
+                    this.storageService.deleteAll(List.of(it.getFilePath()));
+                    this.mediaBlobRepository.delete(it);
+                }));
     }
 
     private String filename(final VideoMediaType type) {
@@ -62,7 +178,9 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
                 .concat(filename(aType));
     }
 
-    private void store(final String filepath, final Resource aResource) {
-        this.storageService.store(filepath, aResource);
+    private String blobpath(final String blobId) {
+        return BLOB_FOLDER
+                .concat("/")
+                .concat(blobId);
     }
 }
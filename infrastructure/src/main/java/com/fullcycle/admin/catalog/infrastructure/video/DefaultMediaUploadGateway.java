@@ -0,0 +1,140 @@
+package com.fullcycle.admin.catalog.infrastructure.video;
+
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.StreamResource;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadChunk;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadSession;
+import com.fullcycle.admin.catalog.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.UploadChunkID;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.UploadChunkJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.UploadChunkRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.UploadSessionJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.UploadSessionRepository;
+import com.google.common.io.CountingInputStream;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Chunks are stored through the {@link StorageService} under {@code uploads/{sessionId}/} as soon as they arrive and
+ * recorded in {@code videos_upload_chunks}; on assembly they are composed into a single object in the same folder.
+ */
+@Component
+public class DefaultMediaUploadGateway implements MediaUploadGateway {
+
+    private static final String UPLOAD_FOLDER = "uploads";
+
+    private final StorageService storageService;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadChunkRepository uploadChunkRepository;
+
+    public DefaultMediaUploadGateway(
+            final StorageService storageService,
+            final UploadSessionRepository uploadSessionRepository,
+            final UploadChunkRepository uploadChunkRepository
+    ) {
+        this.storageService = Objects.requireNonNull(storageService);
+        this.uploadSessionRepository = Objects.requireNonNull(uploadSessionRepository);
+        this.uploadChunkRepository = Objects.requireNonNull(uploadChunkRepository);
+    }
+
+    @Override
+    public MediaUploadSession create(final MediaUploadSession aSession) {
+        return this.uploadSessionRepository.save(UploadSessionJpaEntity.from(aSession)).toSession();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MediaUploadSession> findById(final String anId) {
+        return this.uploadSessionRepository.findById(anId).map(UploadSessionJpaEntity::toSession);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MediaUploadChunk> findChunks(final MediaUploadSession aSession) {
+        return this.uploadChunkRepository.findAllByIdSessionIdOrderByIdNumber(aSession.id()).stream()
+                .map(UploadChunkJpaEntity::toChunk)
+                .toList();
+    }
+
+    @Override
+    public MediaUploadChunk storeChunk(
+            final MediaUploadSession aSession,
+            final int number,
+            final InputStream content,
+            final long contentLength
+    ) {
+        final var aName = chunkName(aSession.id(), number);
+        final var counting = new CountingInputStream(content);
+        final var aChunk = StreamResource.with(() -> counting, contentLength, aSession.contentType(), aName);
+
+        this.storageService.store(aName, aChunk);
+
+        // The content was read to the end by the store, so its checksum is known by now
+        return MediaUploadChunk.with(number, aChunk.checksum(), counting.getCount());
+    }
+
+    @Override
+    public void saveChunk(final MediaUploadSession aSession, final MediaUploadChunk aChunk) {
+        this.uploadChunkRepository.save(UploadChunkJpaEntity.from(aSession.id(), aChunk));
+    }
+
+    @Override
+    @Transactional
+    public void discardChunk(final MediaUploadSession aSession, final int number) {
+        this.storageService.deleteAll(List.of(chunkName(aSession.id(), number)));
+
+        final var anId = UploadChunkID.from(aSession.id(), number);
+        if (this.uploadChunkRepository.existsById(anId)) {
+            this.uploadChunkRepository.deleteById(anId);
+        }
+    }
+
+    @Override
+    public Resource assemble(final MediaUploadSession aSession, final List<MediaUploadChunk> chunks) {
+        final var contentName = folder(aSession.id()).concat("/content");
+        final var chunkNames = chunks.stream()
+                .map(it -> chunkName(aSession.id(), it.number()))
+                .toList();
+
+        this.storageService.compose(contentName, chunkNames, aSession.contentType());
+
+        final var aContent = this.storageService.stream(contentName)
+                .orElseThrow(() -> InternalErrorException.with("Could not read composed upload %s".formatted(contentName), null));
+
+        // A server-side composed object carries no SHA-256 of its own, so asking for it reads the content once
+        return StreamResource.with(
+                aContent.checksum(),
+                aContent::openStream,
+                aContent.contentLength(),
+                aSession.contentType(),
+                aSession.fileName()
+        );
+    }
+
+    @Override
+    @Transactional
+    public void delete(final MediaUploadSession aSession) {
+        final var names = this.storageService.list(folder(aSession.id()).concat("/"));
+        if (!names.isEmpty()) {
+            this.storageService.deleteAll(names);
+        }
+
+        this.uploadChunkRepository.deleteAllBySessionId(aSession.id());
+        this.uploadSessionRepository.deleteById(aSession.id());
+    }
+
+    private String folder(final String sessionId) {
+        return UPLOAD_FOLDER.concat("/").concat(sessionId);
+    }
+
+    private String chunkName(final String sessionId, final int number) {
+        return "%s/chunk-%05d".formatted(folder(sessionId), number);
+    }
+}
@@ -1,20 +1,43 @@
 package com.fullcycle.admin.catalog.infrastructure.video;
 
 import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.CountMode;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.video.*;
-import com.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoCreatedQueue;
-import com.fullcycle.admin.catalog.infrastructure.services.EventService;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.search.SearchProperties;
+import com.fullcycle.admin.catalog.infrastructure.outbox.OutboxEventService;
+import com.fullcycle.admin.catalog.infrastructure.search.CatalogSearchIndex;
+import com.fullcycle.admin.catalog.infrastructure.search.SearchDocumentType;
+import com.fullcycle.admin.catalog.infrastructure.utils.EstimatedCounts;
+import com.fullcycle.admin.catalog.infrastructure.utils.FullTextUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.PageUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.PreconditionUtils;
 import com.fullcycle.admin.catalog.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalog.infrastructure.video.index.VideoRelationIndex;
 import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 import static com.fullcycle.admin.catalog.domain.utils.CollectionUtils.mapTo;
 import static com.fullcycle.admin.catalog.domain.utils.CollectionUtils.nullIfEmpty;
@@ -22,16 +45,57 @@ import static com.fullcycle.admin.catalog.domain.utils.CollectionUtils.nullIfEmp
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
+    private static final String CATEGORY_FACETS = """
+            select c.id.categoryId, count(c.id.videoId) from VideoCategory c
+            where c.id.videoId in ( %s )
+            group by c.id.categoryId
+            order by count(c.id.videoId) desc, c.id.categoryId asc
+            """;
+
+    private static final String GENRE_FACETS = """
+            select g.id.genreId, count(g.id.videoId) from VideoGenre g
+            where g.id.videoId in ( %s )
+            group by g.id.genreId
+            order by count(g.id.videoId) desc, g.id.genreId asc
+            """;
+
+    private static final String CAST_MEMBER_FACETS = """
+            select m.id.castMemberId, count(m.id.videoId) from VideoCastMember m
+            where m.id.videoId in ( %s )
+            group by m.id.castMemberId
+            order by count(m.id.videoId) desc, m.id.castMemberId asc
+            """;
+
     private final VideoRepository videoRepository;
 
-    private final EventService eventService;
+    private final OutboxEventService videoCreatedOutbox;
+
+    private final EntityManager entityManager;
+
+    private final EstimatedCounts estimatedCounts;
+
+    private final SearchProperties searchProperties;
+
+    private final CatalogSearchIndex searchIndex;
+
+    private final VideoRelationIndex relationIndex;
 
     public DefaultVideoGateway(
             final VideoRepository videoRepository,
-            @VideoCreatedQueue final EventService eventService
+            final OutboxEventService videoCreatedOutbox,
+            final EntityManager entityManager,
+            final EstimatedCounts estimatedCounts,
+            final SearchProperties searchProperties,
+            final CatalogSearchIndex searchIndex,
+            final VideoRelationIndex relationIndex
     ) {
         this.videoRepository = Objects.requireNonNull(videoRepository);
-        this.eventService = Objects.requireNonNull(eventService);
+        this.videoCreatedOutbox = Objects.requireNonNull(videoCreatedOutbox);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.estimatedCounts = Objects.requireNonNull(estimatedCounts);
+        this.searchProperties = Objects.requireNonNull(searchProperties);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.relationIndex = Objects.requireNonNull(relationIndex);
     }
 
     @Override
@@ -40,12 +104,26 @@ public class DefaultVideoGateway implements VideoGateway {
         return save(aVideo);
     }
 
+    @Override
+    @Transactional
+    public List<Video> createAll(final List<Video> someVideos) {
+        final var results = new ArrayList<Video>(someVideos.size());
+        for (final var aVideo : someVideos) {
+            final var anEntity = VideoJpaEntity.from(aVideo);
+            this.entityManager.persist(anEntity);
+            results.add(saved(aVideo, anEntity.toAggregate()));
+        }
+        return results;
+    }
+
 
     @Override
     public void deleteById(final VideoID anId) {
         final var aVideoId = anId.getValue();
         if (this.videoRepository.existsById(aVideoId)) {
             this.videoRepository.deleteById(aVideoId);
+            this.searchIndex.remove(SearchDocumentType.VIDEO, aVideoId);
+            this.relationIndex.remove(aVideoId);
         }
     }
 
@@ -62,37 +140,286 @@ public class DefaultVideoGateway implements VideoGateway {
     }
 
     @Override
+    @Transactional
+    public Video update(final Video aVideo, final Instant expectedUpdatedAt) {
+        PreconditionUtils.requireUpdatedAt(
+                this.entityManager,
+                VideoJpaEntity.class,
+                Video.class,
+                aVideo.getId(),
+                expectedUpdatedAt,
+                aVideo.getUpdatedAt()
+        );
+        return save(aVideo);
+    }
+
+    /**
+     * Fetches the page of ids first and then only the rows of that page, so sorting and paging never touch the
+     * preview columns of videos outside the page.
+     */
+    @Override
+    @Transactional(readOnly = true)
     public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
+        if (aQuery.isKeyset()) {
+            return findAllAfter(aQuery);
+        }
+
+        if (aQuery.terms() == null || aQuery.terms().isBlank()) {
+            final var aMatch = this.relationIndex.match(
+                    mapTo(aQuery.castMembers(), Identifier::getValue),
+                    mapTo(aQuery.categories(), Identifier::getValue),
+                    mapTo(aQuery.genres(), Identifier::getValue)
+            );
+            if (aMatch.isPresent() && aMatch.get().isResolved()) {
+                return findAllIn(aQuery, aMatch.get());
+            }
+        }
+
+        if (this.searchProperties.useFullText(aQuery.terms())) {
+            return findAllByFullText(aQuery);
+        }
+
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+                FullTextUtils.sort(
+                        Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort()).and(Sort.by("id")),
+                        aQuery.sort(),
+                        false
+                )
         );
 
-        final var actualPage = this.videoRepository.findAll(
-                SqlUtils.like(SqlUtils.upper(aQuery.terms())),
-                nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue)),
-                page
-        );
+        final var terms = SqlUtils.like(SqlUtils.upper(aQuery.terms()));
+        final var castMembers = nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue));
+        final var categories = nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue));
+        final var genres = nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue));
+
+        if (aQuery.count() != CountMode.EXACT) {
+            // Only the estimate counts, and at most once per TTL for the same filters
+            final var slice = this.videoRepository.findIdSlice(terms, castMembers, categories, genres, page);
+            final var signature = EstimatedCounts.signature("videos", terms, castMembers, categories, genres);
+            final var ids = PageUtils.page(
+                    slice,
+                    aQuery.count(),
+                    () -> this.estimatedCounts.get(signature, () -> this.videoRepository.countIds(terms, castMembers, categories, genres))
+            );
+            return hydrate(ids);
+        }
+
+        final var actualPage = this.videoRepository.findIds(terms, castMembers, categories, genres, page);
         return new Pagination<>(
                 actualPage.getNumber(),
                 actualPage.getSize(),
                 actualPage.getTotalElements(),
-                actualPage.toList()
+                hydrate(actualPage.getContent())
         );
     }
 
+    /**
+     * Counts the videos matching the filters of the query per relation. Without terms the bitmaps of the
+     * {@link VideoRelationIndex} answer it; otherwise one grouped query per kind of relation runs over the ids the
+     * listing would page through.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public VideoFacets facets(final VideoSearchQuery aQuery) {
+        if (aQuery.terms() == null || aQuery.terms().isBlank()) {
+            final var inMemory = this.relationIndex.facets(
+                    mapTo(aQuery.castMembers(), Identifier::getValue),
+                    mapTo(aQuery.categories(), Identifier::getValue),
+                    mapTo(aQuery.genres(), Identifier::getValue)
+            );
+            if (inMemory.isPresent()) {
+                return inMemory.get();
+            }
+        }
+
+        final var fullText = this.searchProperties.useFullText(aQuery.terms());
+        final var matching = "select v.id from Video v "
+                + (fullText ? VideoRepository.FULL_TEXT_FILTER : VideoRepository.SEARCH_FILTER);
+        final var terms = fullText ? FullTextUtils.against(aQuery.terms()) : SqlUtils.like(SqlUtils.upper(aQuery.terms()));
+
+        final Function<String, Map<String, Long>> countBy = relation -> {
+            final var jpql = relation.formatted(matching);
+            final var counts = new LinkedHashMap<String, Long>();
+            filter(this.entityManager.createQuery(jpql, Object[].class), aQuery, terms)
+                    .getResultList()
+                    .forEach(row -> counts.put((String) row[0], (Long) row[1]));
+            return counts;
+        };
+
+        return new VideoFacets(
+                mapKeys(countBy.apply(CATEGORY_FACETS), CategoryID::from),
+                mapKeys(countBy.apply(GENRE_FACETS), GenreID::from),
+                mapKeys(countBy.apply(CAST_MEMBER_FACETS), CastMemberID::from)
+        );
+    }
+
+    /**
+     * Relationship filters answered by the {@link VideoRelationIndex}: MySQL only sorts and pages the matching ids,
+     * whose number is the total.
+     */
+    private Pagination<VideoPreview> findAllIn(final VideoSearchQuery aQuery, final VideoRelationIndex.Match aMatch) {
+        final String orderBy;
+        if (FullTextUtils.isRelevance(aQuery.sort())) {
+            orderBy = " order by v.id asc";
+        } else {
+            KeysetUtils.keyType(this.entityManager, VideoJpaEntity.class, aQuery.sort());
+            final var direction = Sort.Direction.fromString(aQuery.direction()).name().toLowerCase();
+            orderBy = " order by v.%s %s, v.id asc".formatted(aQuery.sort(), direction);
+        }
+
+        final var page = PageRequest.of(aQuery.page(), aQuery.perPage());
+        final List<String> rows = aMatch.count() == 0 ? List.of() : this.entityManager
+                .createQuery("select v.id from Video v where v.id in :ids" + orderBy, String.class)
+                .setParameter("ids", aMatch.ids())
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize() + 1)
+                .getResultList();
+
+        final var hasNext = rows.size() > page.getPageSize();
+        final var slice = new SliceImpl<>(hasNext ? rows.subList(0, page.getPageSize()) : rows, page, hasNext);
+
+        final var ids = PageUtils.page(slice, aQuery.count(), aMatch::count);
+        return hydrate(ids);
+    }
+
+    /**
+     * Cursor mode of {@link #findAll(VideoSearchQuery)}: the same filters, seeking past the cursor instead of
+     * skipping rows, and fetching one extra id instead of counting.
+     */
+    private Pagination<VideoPreview> findAllAfter(final VideoSearchQuery aQuery) {
+        final var fullText = this.searchProperties.useFullText(aQuery.terms());
+        final var terms = fullText ? FullTextUtils.against(aQuery.terms()) : SqlUtils.like(SqlUtils.upper(aQuery.terms()));
+
+        final var ids = KeysetUtils.findIdsAfter(
+                this.entityManager,
+                VideoJpaEntity.class,
+                "v",
+                "from Video v " + (fullText ? VideoRepository.FULL_TEXT_FILTER : VideoRepository.SEARCH_FILTER),
+                query -> filter(query, aQuery, terms),
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.after(),
+                aQuery.sort(),
+                aQuery.direction()
+        );
+
+        return hydrate(ids);
+    }
+
+    /**
+     * Search mode of {@link #findAll(VideoSearchQuery)}: the terms are matched through the FULLTEXT index instead of
+     * scanning every title, and sorting by relevance puts the best matches first.
+     */
+    private Pagination<VideoPreview> findAllByFullText(final VideoSearchQuery aQuery) {
+        final var terms = FullTextUtils.against(aQuery.terms());
+
+        final String orderBy;
+        if (FullTextUtils.isRelevance(aQuery.sort())) {
+            orderBy = " order by fulltext_match_2(v.title, v.description, :terms) desc, v.id asc";
+        } else {
+            KeysetUtils.keyType(this.entityManager, VideoJpaEntity.class, aQuery.sort());
+            final var direction = Sort.Direction.fromString(aQuery.direction()).name().toLowerCase();
+            orderBy = " order by v.%s %s, v.id asc".formatted(aQuery.sort(), direction);
+        }
+
+        final var page = PageRequest.of(aQuery.page(), aQuery.perPage());
+        final var jpql = "select v.id from Video v " + VideoRepository.FULL_TEXT_FILTER + orderBy;
+        final var rows = filter(this.entityManager.createQuery(jpql, String.class), aQuery, terms)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize() + 1)
+                .getResultList();
+
+        final var hasNext = rows.size() > page.getPageSize();
+        final var slice = new SliceImpl<>(hasNext ? rows.subList(0, page.getPageSize()) : rows, page, hasNext);
+
+        final var countJpql = "select count(v.id) from Video v " + VideoRepository.FULL_TEXT_FILTER;
+        final LongSupplier count = () -> filter(this.entityManager.createQuery(countJpql, Long.class), aQuery, terms).getSingleResult();
+        final var signature = EstimatedCounts.signature(
+                "videos", "full-text", terms, aQuery.castMembers(), aQuery.categories(), aQuery.genres()
+        );
+
+        final var ids = PageUtils.page(
+                slice,
+                aQuery.count(),
+                aQuery.count() == CountMode.EXACT ? count : () -> this.estimatedCounts.get(signature, count)
+        );
+        return hydrate(ids);
+    }
+
+    private static <T> TypedQuery<T> filter(final TypedQuery<T> query, final VideoSearchQuery aQuery, final String terms) {
+        return query
+                .setParameter("terms", terms)
+                .setParameter("castMembers", nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)))
+                .setParameter("categories", nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)))
+                .setParameter("genres", nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue)));
+    }
+
+    private static <K> Map<K, Long> mapKeys(final Map<String, Long> counts, final Function<String, K> mapper) {
+        final var mapped = new LinkedHashMap<K, Long>(counts.size());
+        counts.forEach((anId, count) -> mapped.put(mapper.apply(anId), count));
+        return mapped;
+    }
+
+    private Pagination<VideoPreview> hydrate(final Pagination<String> ids) {
+        return new Pagination<>(ids.currentPage(), ids.perPage(), ids.total(), hydrate(ids.items()), ids.next(), ids.nextPage());
+    }
+
+    private List<VideoPreview> hydrate(final List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var previews = this.videoRepository.findPreviews(ids).stream()
+                .collect(Collectors.toMap(VideoPreview::id, Function.identity()));
+
+        return ids.stream()
+                .map(previews::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
     private Video save(final Video aVideo) {
-        final var result = this.videoRepository.save(VideoJpaEntity.from(aVideo))
-                .toAggregate();
+        return saved(aVideo, persist(VideoJpaEntity.from(aVideo)).toAggregate());
+    }
 
-        aVideo.publishDomainEvents(this.eventService::send);
+    private Video saved(final Video aVideo, final Video result) {
+        // Recorded in the same transaction, the relay sends them to the broker once it commits
+        aVideo.publishDomainEvents(this.videoCreatedOutbox::send);
+        this.searchIndex.put(SearchDocumentType.VIDEO, result.getId().getValue(), result.getTitle());
+        this.relationIndex.put(
+                result.getId().getValue(),
+                mapTo(result.getCategories(), Identifier::getValue),
+                mapTo(result.getGenres(), Identifier::getValue),
+                mapTo(result.getCastMembers(), Identifier::getValue)
+        );
 
         return result;
     }
 
+    /**
+     * Inserts a new video, or applies the update to the managed row so only the changed relations are written,
+     * where a merge would select every join row and replace the whole set.
+     */
+    private VideoJpaEntity persist(final VideoJpaEntity anEntity) {
+        final var current = this.entityManager.find(VideoJpaEntity.class, anEntity.getId());
+        if (current == null) {
+            this.entityManager.persist(anEntity);
+            return anEntity;
+        }
 
+        anEntity.setVideo(merge(anEntity.getVideo()));
+        anEntity.setTrailer(merge(anEntity.getTrailer()));
+        anEntity.setBanner(merge(anEntity.getBanner()));
+        anEntity.setThumbnail(merge(anEntity.getThumbnail()));
+        anEntity.setThumbnailHalf(merge(anEntity.getThumbnailHalf()));
+
+        current.update(anEntity);
+        return current;
+    }
+
+    private <T> T merge(final T aMedia) {
+        return aMedia == null ? null : this.entityManager.merge(aMedia);
+    }
 }
@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalog.infrastructure.video;
+
+import com.fullcycle.admin.catalog.application.video.validation.ReferenceValidationExecutor;
+import com.fullcycle.admin.catalog.infrastructure.utils.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency of validating the references of a video create or update, overall and broken down by aggregate.
+ */
+public class ReferenceValidationMetrics implements ReferenceValidationExecutor.Listener {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceValidationMetrics.class);
+
+    private final LatencyHistogram elapsed = new LatencyHistogram();
+    private final Map<String, LatencyHistogram> lookups = new ConcurrentHashMap<>();
+
+    @Override
+    public void onComplete(final Map<String, Duration> someLookups, final Duration anElapsed) {
+        this.elapsed.record(anElapsed);
+        someLookups.forEach((aggregate, duration) ->
+                this.lookups.computeIfAbsent(aggregate, it -> new LatencyHistogram()).record(duration));
+
+        log.debug("Validated the references in {} micros: {}", anElapsed.toNanos() / 1_000, someLookups);
+    }
+
+    public LatencyHistogram elapsed() {
+        return this.elapsed;
+    }
+
+    public Map<String, LatencyHistogram> lookups() {
+        return Map.copyOf(this.lookups);
+    }
+}
@@ -0,0 +1,337 @@
+package com.fullcycle.admin.catalog.infrastructure.video.index;
+
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.video.VideoFacets;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.fullcycle.admin.catalog.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * The categories, genres and cast members of every video as compressed bitmaps of video ordinals, one bitmap per
+ * related id, so the relationship filters of a listing become unions and intersections in memory instead of
+ * semi-joins. Ordinals are dense: the ones of removed videos are handed out again.
+ * <p>
+ * Writes are applied once they commit. While {@link #rebuild()} replaces the whole index, the writes seen in the
+ * meantime are replayed on top of what was read from the database. Writes that do not go through this instance, from
+ * other replicas or cascading deletes, only show up with the next rebuild.
+ */
+public class VideoRelationIndex {
+
+    public enum Relation {
+        CATEGORY,
+        GENRE,
+        CAST_MEMBER
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final boolean enabled;
+    private final int maxCandidates;
+
+    private State state = new State();
+    private List<Consumer<State>> journal;
+    private volatile boolean ready;
+
+    public VideoRelationIndex(final boolean enabled, final int maxCandidates) {
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+    }
+
+    public void put(
+            final String videoId,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers
+    ) {
+        Objects.requireNonNull(videoId);
+        final var relations = new EnumMap<Relation, Set<String>>(Relation.class);
+        relations.put(Relation.CATEGORY, Set.copyOf(categories));
+        relations.put(Relation.GENRE, Set.copyOf(genres));
+        relations.put(Relation.CAST_MEMBER, Set.copyOf(castMembers));
+
+        write(aState -> aState.put(videoId, relations));
+    }
+
+    public void remove(final String videoId) {
+        Objects.requireNonNull(videoId);
+        write(aState -> aState.remove(videoId));
+    }
+
+    /**
+     * The videos linked to any of the given ids of every non empty set, resolved to their ids when there are at most
+     * {@code maxCandidates} of them. Empty while the index is not ready, or when there is no relation to filter by.
+     */
+    public Optional<Match> match(final Set<String> castMembers, final Set<String> categories, final Set<String> genres) {
+        if (!this.ready || (castMembers.isEmpty() && categories.isEmpty() && genres.isEmpty())) {
+            return Optional.empty();
+        }
+
+        this.lock.readLock().lock();
+        try {
+            final var matching = this.state.matching(castMembers, categories, genres);
+            final var count = matching.getCardinality();
+            if (count > this.maxCandidates) {
+                return Optional.of(new Match(count, null));
+            }
+
+            final var ids = new ArrayList<String>(count);
+            matching.forEach((int ordinal) -> ids.add(this.state.ids.get(ordinal)));
+            return Optional.of(new Match(count, ids));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the videos matching the filters per related id, by intersecting them with the bitmap of each id.
+     */
+    public Optional<VideoFacets> facets(final Set<String> castMembers, final Set<String> categories, final Set<String> genres) {
+        if (!this.ready) {
+            return Optional.empty();
+        }
+
+        this.lock.readLock().lock();
+        try {
+            final var matching = this.state.matching(castMembers, categories, genres);
+            return Optional.of(new VideoFacets(
+                    this.state.counts(Relation.CATEGORY, matching, CategoryID::from),
+                    this.state.counts(Relation.GENRE, matching, GenreID::from),
+                    this.state.counts(Relation.CAST_MEMBER, matching, CastMemberID::from)
+            ));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts replacing the index with what the returned builder is fed, see {@link Rebuild#finish()}.
+     */
+    public Rebuild rebuild() {
+        this.lock.writeLock().lock();
+        try {
+            this.journal = new ArrayList<>();
+            return new Rebuild(new State());
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    public Stats stats() {
+        this.lock.readLock().lock();
+        try {
+            return this.state.stats();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void write(final Consumer<State> anUpdate) {
+        if (!this.enabled) {
+            return;
+        }
+
+        afterCommit(() -> {
+            this.lock.writeLock().lock();
+            try {
+                anUpdate.accept(this.state);
+                if (this.journal != null) {
+                    this.journal.add(anUpdate);
+                }
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * How many videos matched, and their ids unless there were too many to resolve.
+     */
+    public record Match(int count, List<String> ids) {
+
+        public boolean isResolved() {
+            return ids != null;
+        }
+    }
+
+    public record Stats(int videos, int relations, long bitmapBytes) {
+    }
+
+    public final class Rebuild {
+
+        private final State next;
+
+        private Rebuild(final State next) {
+            this.next = next;
+        }
+
+        public void put(final String videoId, final Map<Relation, Set<String>> relations) {
+            this.next.put(videoId, relations);
+        }
+
+        /**
+         * Replays the writes committed since the rebuild started and swaps the index.
+         */
+        public void finish() {
+            this.next.optimize();
+
+            lock.writeLock().lock();
+            try {
+                journal.forEach(it -> it.accept(this.next));
+                journal = null;
+                state = this.next;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static final class State {
+
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final List<String> ids = new ArrayList<>();
+        private final List<Map<Relation, Set<String>>> relations = new ArrayList<>();
+        private final RoaringBitmap live = new RoaringBitmap();
+        private final RoaringBitmap free = new RoaringBitmap();
+        private final Map<Relation, Map<String, RoaringBitmap>> bitmaps = new EnumMap<>(Relation.class);
+
+        private State() {
+            for (final var relation : Relation.values()) {
+                this.bitmaps.put(relation, new HashMap<>());
+            }
+        }
+
+        private void put(final String videoId, final Map<Relation, Set<String>> someRelations) {
+            remove(videoId);
+
+            final int ordinal;
+            if (this.free.isEmpty()) {
+                ordinal = this.ids.size();
+                this.ids.add(videoId);
+                this.relations.add(someRelations);
+            } else {
+                ordinal = this.free.first();
+                this.free.remove(ordinal);
+                this.ids.set(ordinal, videoId);
+                this.relations.set(ordinal, someRelations);
+            }
+
+            this.ordinals.put(videoId, ordinal);
+            this.live.add(ordinal);
+            someRelations.forEach((relation, relatedIds) -> relatedIds.forEach(relatedId ->
+                    this.bitmaps.get(relation).computeIfAbsent(relatedId, it -> new RoaringBitmap()).add(ordinal)));
+        }
+
+        private void remove(final String videoId) {
+            final var ordinal = this.ordinals.remove(videoId);
+            if (ordinal == null) {
+                return;
+            }
+
+            this.relations.get(ordinal).forEach((relation, relatedIds) -> {
+                final var byId = this.bitmaps.get(relation);
+                for (final var relatedId : relatedIds) {
+                    final var bitmap = byId.get(relatedId);
+                    bitmap.remove(ordinal);
+                    if (bitmap.isEmpty()) {
+                        byId.remove(relatedId);
+                    }
+                }
+            });
+
+            this.ids.set(ordinal, null);
+            this.relations.set(ordinal, null);
+            this.live.remove(ordinal);
+            this.free.add(ordinal);
+        }
+
+        /**
+         * Any of the ids within a relation, every relation with ids. All the videos when no relation has ids.
+         */
+        private RoaringBitmap matching(final Set<String> castMembers, final Set<String> categories, final Set<String> genres) {
+            var matching = this.live;
+            for (final var filter : List.of(
+                    Map.entry(Relation.CAST_MEMBER, castMembers),
+                    Map.entry(Relation.CATEGORY, categories),
+                    Map.entry(Relation.GENRE, genres)
+            )) {
+                if (filter.getValue().isEmpty()) {
+                    continue;
+                }
+
+                final var byId = this.bitmaps.get(filter.getKey());
+                final var anyOf = new RoaringBitmap();
+                for (final var relatedId : filter.getValue()) {
+                    final var bitmap = byId.get(relatedId);
+                    if (bitmap != null) {
+                        anyOf.or(bitmap);
+                    }
+                }
+                matching = RoaringBitmap.and(matching, anyOf);
+            }
+            return matching;
+        }
+
+        private <K> Map<K, Long> counts(
+                final Relation relation,
+                final RoaringBitmap matching,
+                final Function<String, K> idMapper
+        ) {
+            final var counts = new ArrayList<Map.Entry<String, Long>>();
+            this.bitmaps.get(relation).forEach((relatedId, bitmap) -> {
+                final var count = RoaringBitmap.andCardinality(matching, bitmap);
+                if (count > 0) {
+                    counts.add(Map.entry(relatedId, (long) count));
+                }
+            });
+
+            counts.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()));
+
+            final var result = new LinkedHashMap<K, Long>(counts.size());
+            counts.forEach(it -> result.put(idMapper.apply(it.getKey()), it.getValue()));
+            return result;
+        }
+
+        private void optimize() {
+            this.bitmaps.values().forEach(byId -> byId.values().forEach(RoaringBitmap::runOptimize));
+        }
+
+        private Stats stats() {
+            var bytes = this.live.getLongSizeInBytes() + this.free.getLongSizeInBytes();
+            var count = 0;
+            for (final var byId : this.bitmaps.values()) {
+                count += byId.size();
+                for (final var bitmap : byId.values()) {
+                    bytes += bitmap.getLongSizeInBytes();
+                }
+            }
+            return new Stats(this.ordinals.size(), count, bytes);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalog.infrastructure.video.index;
+
+import com.fullcycle.admin.catalog.infrastructure.video.index.VideoRelationIndex.Relation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import javax.persistence.EntityManager;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Rebuilds the {@link VideoRelationIndex} from the join tables, a batch of video ids at a time, once the application
+ * is ready and then every {@code videos.relation-index.rebuild-interval}, since the index only sees the writes of this
+ * instance's gateway.
+ */
+public class VideoRelationIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoRelationIndexLoader.class);
+
+    private static final Map<Relation, String> SOURCES = Map.of(
+            Relation.CATEGORY, "select r.id.videoId, r.id.categoryId from VideoCategory r where r.id.videoId in :ids",
+            Relation.GENRE, "select r.id.videoId, r.id.genreId from VideoGenre r where r.id.videoId in :ids",
+            Relation.CAST_MEMBER, "select r.id.videoId, r.id.castMemberId from VideoCastMember r where r.id.videoId in :ids"
+    );
+
+    private final VideoRelationIndex index;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public VideoRelationIndexLoader(final VideoRelationIndex index, final EntityManager entityManager, final int batchSize) {
+        this.index = Objects.requireNonNull(index);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        if (!this.index.isEnabled()) {
+            return;
+        }
+
+        final var start = System.nanoTime();
+        final var aRebuild = this.index.rebuild();
+
+        var after = "";
+        while (true) {
+            final var ids = this.entityManager
+                    .createQuery("select v.id from Video v where v.id > :after order by v.id", String.class)
+                    .setParameter("after", after)
+                    .setMaxResults(this.batchSize)
+                    .getResultList();
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            relationsOf(ids).forEach(aRebuild::put);
+
+            if (ids.size() < this.batchSize) {
+                break;
+            }
+            after = ids.get(ids.size() - 1);
+        }
+
+        aRebuild.finish();
+
+        final var stats = this.index.stats();
+        log.info("Rebuilt the video relation index: {} videos, {} relations, ~{} KB in {} ms",
+                stats.videos(), stats.relations(), stats.bitmapBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Map<String, Map<Relation, Set<String>>> relationsOf(final List<String> ids) {
+        final var relations = new LinkedHashMap<String, Map<Relation, Set<String>>>(ids.size());
+        for (final var id : ids) {
+            final var empty = new EnumMap<Relation, Set<String>>(Relation.class);
+            for (final var relation : Relation.values()) {
+                empty.put(relation, new HashSet<>());
+            }
+            relations.put(id, empty);
+        }
+
+        SOURCES.forEach((relation, jpql) -> this.entityManager.createQuery(jpql, Object[].class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(row -> relations.get((String) row[0]).get(relation).add((String) row[1])));
+
+        return relations;
+    }
+}
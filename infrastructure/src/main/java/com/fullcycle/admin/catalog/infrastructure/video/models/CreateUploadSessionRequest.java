@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateUploadSessionRequest(
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("file_name") String fileName
+) {
+}
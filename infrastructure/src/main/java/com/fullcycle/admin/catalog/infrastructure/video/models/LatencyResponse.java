@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record LatencyResponse(
+        @JsonProperty("count") long count,
+        @JsonProperty("p50_micros") long p50Micros,
+        @JsonProperty("p95_micros") long p95Micros,
+        @JsonProperty("p99_micros") long p99Micros
+) {
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+public record ReferenceValidationMetricsResponse(
+        @JsonProperty("elapsed") LatencyResponse elapsed,
+        @JsonProperty("lookups") Map<String, LatencyResponse> lookups
+) {
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record UploadChunkResponse(
+        @JsonProperty("number") int number,
+        @JsonProperty("checksum") String checksum,
+        @JsonProperty("size") long size
+) {
+}
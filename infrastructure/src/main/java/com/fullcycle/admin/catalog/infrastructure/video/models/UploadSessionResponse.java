@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+import java.util.List;
+
+public record UploadSessionResponse(
+        @JsonProperty("session_id") String sessionId,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") VideoMediaType mediaType,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("file_name") String fileName,
+        @JsonProperty("chunks") List<UploadChunkResponse> chunks
+) {
+}
@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+public record VideoFacetsResponse(
+        @JsonProperty("categories") Map<String, Long> categories,
+        @JsonProperty("genres") Map<String, Long> genres,
+        @JsonProperty("cast_members") Map<String, Long> castMembers
+) {
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * A page of videos, with the facets of the whole listing when they were asked for.
+ */
+public record VideoPageResponse(
+        @JsonProperty("current_page") int currentPage,
+        @JsonProperty("per_page") int perPage,
+        @JsonProperty("total") long total,
+        @JsonProperty("items") List<VideoListResponse> items,
+        @JsonProperty("next") String next,
+        @JsonProperty("next_page") Integer nextPage,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("facets") VideoFacetsResponse facets
+) {
+}
@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity(name = "MediaBlob")
+@Table(name = "media_blobs")
+public class MediaBlobJpaEntity {
+    @Id
+    private String id;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "content_length", nullable = false)
+    private long contentLength;
+
+    @Column(name = "file_path", nullable = false)
+    private String filePath;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    public MediaBlobJpaEntity() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public void setContentLength(long contentLength) {
+        this.contentLength = contentLength;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public void setRefCount(int refCount) {
+        this.refCount = refCount;
+    }
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface MediaBlobRepository extends JpaRepository<MediaBlobJpaEntity, String> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO media_blobs (id, checksum, content_length, file_path, ref_count)
+            VALUES (:id, :checksum, :contentLength, :filePath, 1)
+            ON DUPLICATE KEY UPDATE ref_count = ref_count + 1
+            """, nativeQuery = true)
+    int acquire(
+            @Param("id") String id,
+            @Param("checksum") String checksum,
+            @Param("contentLength") long contentLength,
+            @Param("filePath") String filePath
+    );
+
+    @Query("select b.refCount from MediaBlob b where b.id = :id")
+    int refCountOf(@Param("id") String id);
+
+    @Modifying
+    @Query("update MediaBlob b set b.refCount = b.refCount - 1 where b.id = :id")
+    int release(@Param("id") String id);
+
+    /**
+     * Holds the row until commit, so a concurrent {@link #acquire} waits instead of reusing a blob being deleted.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from MediaBlob b where b.id = :id")
+    Optional<MediaBlobJpaEntity> lockById(@Param("id") String id);
+}
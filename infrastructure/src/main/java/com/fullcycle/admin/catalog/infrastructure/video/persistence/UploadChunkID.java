@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class UploadChunkID implements Serializable {
+    @Column(name = "session_id", nullable = false)
+    private String sessionId;
+
+    @Column(name = "chunk_number", nullable = false)
+    private int number;
+
+    public UploadChunkID() {
+    }
+
+    private UploadChunkID(
+            final String sessionId,
+            final int number
+    ) {
+        this.sessionId = sessionId;
+        this.number = number;
+    }
+
+
+    public static UploadChunkID from(final String sessionId,
+                                     final int number
+    ) {
+        return new UploadChunkID(
+                sessionId,
+                number
+        );
+    }
+
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        UploadChunkID that = (UploadChunkID) o;
+        return getNumber() == that.getNumber() && Objects.equals(getSessionId(), that.getSessionId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getSessionId(), getNumber());
+    }
+}
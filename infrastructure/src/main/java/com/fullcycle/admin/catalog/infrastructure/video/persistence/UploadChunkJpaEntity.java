@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalog.domain.video.MediaUploadChunk;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+@Entity(name = "UploadChunk")
+@Table(name = "videos_upload_chunks")
+public class UploadChunkJpaEntity {
+    @EmbeddedId
+    private UploadChunkID id;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "chunk_size", nullable = false)
+    private long size;
+
+    public UploadChunkJpaEntity() {
+    }
+
+    private UploadChunkJpaEntity(final UploadChunkID id, final String checksum, final long size) {
+        this.id = id;
+        this.checksum = checksum;
+        this.size = size;
+    }
+
+    public static UploadChunkJpaEntity from(final String sessionId, final MediaUploadChunk aChunk) {
+        return new UploadChunkJpaEntity(UploadChunkID.from(sessionId, aChunk.number()), aChunk.checksum(), aChunk.size());
+    }
+
+    public MediaUploadChunk toChunk() {
+        return MediaUploadChunk.with(getId().getNumber(), getChecksum(), getSize());
+    }
+
+    public UploadChunkID getId() {
+        return id;
+    }
+
+    public void setId(UploadChunkID id) {
+        this.id = id;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+}
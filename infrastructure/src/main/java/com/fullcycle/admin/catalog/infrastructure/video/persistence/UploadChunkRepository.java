@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface UploadChunkRepository extends JpaRepository<UploadChunkJpaEntity, UploadChunkID> {
+
+    List<UploadChunkJpaEntity> findAllByIdSessionIdOrderByIdNumber(String sessionId);
+
+    @Modifying
+    @Query("delete from UploadChunk c where c.id.sessionId = :sessionId")
+    void deleteAllBySessionId(@Param("sessionId") String sessionId);
+}
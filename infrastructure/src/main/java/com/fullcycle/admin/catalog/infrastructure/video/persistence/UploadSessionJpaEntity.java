@@ -0,0 +1,120 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalog.domain.video.MediaUploadSession;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+@Entity(name = "UploadSession")
+@Table(name = "videos_upload_sessions")
+public class UploadSessionJpaEntity {
+    @Id
+    private String id;
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Column(name = "media_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private VideoMediaType mediaType;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public UploadSessionJpaEntity() {
+    }
+
+    private UploadSessionJpaEntity(
+            final String id,
+            final String videoId,
+            final VideoMediaType mediaType,
+            final String contentType,
+            final String fileName,
+            final Instant createdAt
+    ) {
+        this.id = id;
+        this.videoId = videoId;
+        this.mediaType = mediaType;
+        this.contentType = contentType;
+        this.fileName = fileName;
+        this.createdAt = createdAt;
+    }
+
+    public static UploadSessionJpaEntity from(final MediaUploadSession aSession) {
+        return new UploadSessionJpaEntity(
+                aSession.id(),
+                aSession.videoId().getValue(),
+                aSession.mediaType(),
+                aSession.contentType(),
+                aSession.fileName(),
+                aSession.createdAt()
+        );
+    }
+
+    public MediaUploadSession toSession() {
+        return new MediaUploadSession(
+                getId(),
+                VideoID.from(getVideoId()),
+                getMediaType(),
+                getContentType(),
+                getFileName(),
+                getCreatedAt()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public VideoMediaType getMediaType() {
+        return mediaType;
+    }
+
+    public void setMediaType(VideoMediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSessionJpaEntity, String> {
+}
@@ -7,6 +7,7 @@ import com.fullcycle.admin.catalog.domain.utils.CollectionUtils;
 import com.fullcycle.admin.catalog.domain.video.Rating;
 import com.fullcycle.admin.catalog.domain.video.Video;
 import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.infrastructure.utils.RelationUtils;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -184,6 +185,34 @@ public class VideoJpaEntity {
         this.castMembers.add(VideoCastMemberJpaEntity.from(this, anId));
     }
 
+    /**
+     * Copies the state of {@code anUpdate} over this managed video. The media must already be managed, and only the
+     * relations that were added or removed are touched.
+     */
+    public void update(final VideoJpaEntity anUpdate) {
+        this.title = anUpdate.getTitle();
+        this.description = anUpdate.getDescription();
+        this.yearLaunched = anUpdate.getYearLaunched();
+        this.opened = anUpdate.isOpened();
+        this.published = anUpdate.isPublished();
+        this.rating = anUpdate.getRating();
+        this.duration = anUpdate.getDuration();
+        this.createdAt = anUpdate.getCreatedAt();
+        this.updatedAt = anUpdate.getUpdatedAt();
+        this.video = anUpdate.getVideo();
+        this.trailer = anUpdate.getTrailer();
+        this.banner = anUpdate.getBanner();
+        this.thumbnail = anUpdate.getThumbnail();
+        this.thumbnailHalf = anUpdate.getThumbnailHalf();
+
+        RelationUtils.sync(this.categories, anUpdate.getCategoriesID(),
+                it -> CategoryID.from(it.getId().getCategoryId()), it -> VideoCategoryJpaEntity.from(this, it));
+        RelationUtils.sync(this.genres, anUpdate.getGenresID(),
+                it -> GenreID.from(it.getId().getGenreId()), it -> VideoGenreJpaEntity.from(this, it));
+        RelationUtils.sync(this.castMembers, anUpdate.getCastMembersId(),
+                it -> CastMemberID.from(it.getId().getCastMemberId()), it -> VideoCastMemberJpaEntity.from(this, it));
+    }
+
     public String getId() {
         return id;
     }
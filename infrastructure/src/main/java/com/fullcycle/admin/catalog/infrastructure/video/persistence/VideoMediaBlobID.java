@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class VideoMediaBlobID implements Serializable {
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Column(name = "media_type", nullable = false)
+    private String mediaType;
+
+    public VideoMediaBlobID() {
+    }
+
+    private VideoMediaBlobID(
+            final String videoId,
+            final String mediaType
+    ) {
+        this.videoId = videoId;
+        this.mediaType = mediaType;
+    }
+
+
+    public static VideoMediaBlobID from(final String videoId,
+                                        final String mediaType
+    ) {
+        return new VideoMediaBlobID(
+                videoId,
+                mediaType
+        );
+    }
+
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public void setMediaType(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        VideoMediaBlobID that = (VideoMediaBlobID) o;
+        return Objects.equals(getVideoId(), that.getVideoId()) && Objects.equals(getMediaType(), that.getMediaType());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getVideoId(), getMediaType());
+    }
+}
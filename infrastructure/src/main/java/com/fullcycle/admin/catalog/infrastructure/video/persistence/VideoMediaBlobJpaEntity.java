@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+@Entity(name = "VideoMediaBlob")
+@Table(name = "videos_media_blobs")
+public class VideoMediaBlobJpaEntity {
+    @EmbeddedId
+    private VideoMediaBlobID id;
+
+    @Column(name = "blob_id", nullable = false)
+    private String blobId;
+
+    public VideoMediaBlobJpaEntity() {
+    }
+
+    private VideoMediaBlobJpaEntity(final VideoMediaBlobID id, final String blobId) {
+        this.id = id;
+        this.blobId = blobId;
+    }
+
+    public static VideoMediaBlobJpaEntity from(final VideoMediaBlobID id, final String blobId) {
+        return new VideoMediaBlobJpaEntity(id, blobId);
+    }
+
+    public VideoMediaBlobID getId() {
+        return id;
+    }
+
+    public void setId(VideoMediaBlobID id) {
+        this.id = id;
+    }
+
+    public String getBlobId() {
+        return blobId;
+    }
+
+    public void setBlobId(String blobId) {
+        this.blobId = blobId;
+    }
+}
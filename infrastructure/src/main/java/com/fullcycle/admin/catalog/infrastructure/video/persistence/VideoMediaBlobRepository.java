@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface VideoMediaBlobRepository extends JpaRepository<VideoMediaBlobJpaEntity, VideoMediaBlobID> {
+
+    List<VideoMediaBlobJpaEntity> findAllByIdVideoId(String videoId);
+}
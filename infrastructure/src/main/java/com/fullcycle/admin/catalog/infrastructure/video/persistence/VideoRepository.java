@@ -3,35 +3,65 @@ package com.fullcycle.admin.catalog.infrastructure.video.persistence;
 import com.fullcycle.admin.catalog.domain.video.VideoPreview;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
-    @Query("""
-            select distinct new com.fullcycle.admin.catalog.domain.video.VideoPreview(
-                v.id as id,
-                v.title as title,
-                v.description as description,
-                v.createdAt as createdAt,
-                v.updatedAt as updatedAt
-            )
-            from Video v
-                    left join v.castMembers members
-                    left join v.categories categories
-                    left join v.genres genres
-            where
-                ( :terms is null or UPPER(v.title) like :terms )
+
+    /**
+     * Relationship filters are semi-joins, so neither the page nor its count fan out over the join tables.
+     */
+    String RELATIONS_FILTER = """
             and
-                ( :castMembers is null or members.id.castMemberId in :castMembers )
+                ( :castMembers is null or exists (
+                    select members.id.videoId from VideoCastMember members
+                    where members.id.videoId = v.id and members.id.castMemberId in :castMembers
+                ) )
             and
-                ( :categories is null or categories.id.categoryId in :categories )
+                ( :categories is null or exists (
+                    select categories.id.videoId from VideoCategory categories
+                    where categories.id.videoId = v.id and categories.id.categoryId in :categories
+                ) )
             and
-                ( :genres is null or genres.id.genreId in :genres )
-            """)
-    Page<VideoPreview> findAll(
+                ( :genres is null or exists (
+                    select genres.id.videoId from VideoGenre genres
+                    where genres.id.videoId = v.id and genres.id.genreId in :genres
+                ) )
+            """;
+
+    String SEARCH_FILTER = """
+            where
+                ( :terms is null or UPPER(v.title) like :terms )
+            """ + RELATIONS_FILTER;
+
+    /**
+     * The same filter, with the terms matched through the FULLTEXT index over title and description.
+     */
+    String FULL_TEXT_FILTER = """
+            where
+                fulltext_match_2(v.title, v.description, :terms) > 0
+            """ + RELATIONS_FILTER;
+
+    @Query(
+            value = "select v.id from Video v " + SEARCH_FILTER,
+            countQuery = "select count(v.id) from Video v " + SEARCH_FILTER
+    )
+    Page<String> findIds(
+            @Param("terms") String terms,
+            @Param("castMembers") Set<String> castMembers,
+            @Param("categories") Set<String> categories,
+            @Param("genres") Set<String> genres,
+            Pageable page
+    );
+
+    @Query("select v.id from Video v " + SEARCH_FILTER)
+    Slice<String> findIdSlice(
             @Param("terms") String terms,
             @Param("castMembers") Set<String> castMembers,
             @Param("categories") Set<String> categories,
@@ -39,4 +69,25 @@ public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
             Pageable page
     );
 
+    @Query("select count(v.id) from Video v " + SEARCH_FILTER)
+    long countIds(
+            @Param("terms") String terms,
+            @Param("castMembers") Set<String> castMembers,
+            @Param("categories") Set<String> categories,
+            @Param("genres") Set<String> genres
+    );
+
+    @Query("""
+            select new com.fullcycle.admin.catalog.domain.video.VideoPreview(
+                v.id as id,
+                v.title as title,
+                v.description as description,
+                v.createdAt as createdAt,
+                v.updatedAt as updatedAt
+            )
+            from Video v
+            where v.id in :ids
+            """)
+    List<VideoPreview> findPreviews(@Param("ids") Collection<String> ids);
+
 }
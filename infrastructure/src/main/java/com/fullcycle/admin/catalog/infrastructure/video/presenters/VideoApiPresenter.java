@@ -1,7 +1,10 @@
 package com.fullcycle.admin.catalog.infrastructure.video.presenters;
 
+import com.fullcycle.admin.catalog.application.video.media.resumable.UploadChunkOutput;
+import com.fullcycle.admin.catalog.application.video.media.resumable.UploadSessionOutput;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
 import com.fullcycle.admin.catalog.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalog.application.video.retrieve.list.VideoFacetsOutput;
 import com.fullcycle.admin.catalog.application.video.retrieve.list.VideoListOutput;
 import com.fullcycle.admin.catalog.application.video.update.UpdateVideoOutput;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
@@ -79,7 +82,38 @@ public interface VideoApiPresenter {
         return page.map(VideoApiPresenter::present);
     }
 
+    static VideoPageResponse present(final Pagination<VideoListOutput> page, final VideoFacetsOutput facets) {
+        return new VideoPageResponse(
+                page.currentPage(),
+                page.perPage(),
+                page.total(),
+                page.items().stream().map(VideoApiPresenter::present).toList(),
+                page.next(),
+                page.nextPage(),
+                facets == null ? null : present(facets)
+        );
+    }
+
+    static VideoFacetsResponse present(final VideoFacetsOutput output) {
+        return new VideoFacetsResponse(output.categories(), output.genres(), output.castMembers());
+    }
+
     static UploadMediaResponse present(final UploadMediaOutput output) {
         return new UploadMediaResponse(output.videoId(), output.mediaType());
     }
+
+    static UploadSessionResponse present(final UploadSessionOutput output) {
+        return new UploadSessionResponse(
+                output.sessionId(),
+                output.videoId(),
+                output.mediaType(),
+                output.contentType(),
+                output.fileName(),
+                output.chunks().stream().map(VideoApiPresenter::present).toList()
+        );
+    }
+
+    static UploadChunkResponse present(final UploadChunkOutput output) {
+        return new UploadChunkResponse(output.number(), output.checksum(), output.size());
+    }
 }
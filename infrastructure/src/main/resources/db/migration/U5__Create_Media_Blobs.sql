@@ -0,0 +1,2 @@
+DROP TABLE videos_media_blobs;
+DROP TABLE media_blobs;
\ No newline at end of file
@@ -0,0 +1,2 @@
+DROP TABLE videos_upload_chunks;
+DROP TABLE videos_upload_sessions;
\ No newline at end of file
@@ -0,0 +1,16 @@
+
+CREATE TABLE media_blobs (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    checksum VARCHAR(255) NOT NULL,
+    content_length BIGINT NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    ref_count INT NOT NULL
+);
+
+CREATE TABLE videos_media_blobs (
+    video_id CHAR(32) NOT NULL,
+    media_type VARCHAR(50) NOT NULL,
+    blob_id VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_vmb_video_type PRIMARY KEY (video_id, media_type),
+    CONSTRAINT fk_vmb_blob_id FOREIGN KEY (blob_id) REFERENCES media_blobs (id)
+);
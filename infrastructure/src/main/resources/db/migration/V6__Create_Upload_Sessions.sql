@@ -0,0 +1,19 @@
+
+CREATE TABLE videos_upload_sessions (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    video_id CHAR(32) NOT NULL,
+    media_type VARCHAR(50) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_vus_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE
+);
+
+CREATE TABLE videos_upload_chunks (
+    session_id CHAR(32) NOT NULL,
+    chunk_number INT NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    chunk_size BIGINT NOT NULL,
+    CONSTRAINT pk_vuc_session_chunk PRIMARY KEY (session_id, chunk_number),
+    CONSTRAINT fk_vuc_session_id FOREIGN KEY (session_id) REFERENCES videos_upload_sessions (id) ON DELETE CASCADE
+);
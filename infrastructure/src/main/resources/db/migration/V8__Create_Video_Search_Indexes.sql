@@ -0,0 +1,6 @@
+-- Covering indexes for the EXISTS filters of the video listing, probed by relation id and returning the video id
+CREATE INDEX idx_vcs_category_video ON videos_categories (category_id, video_id);
+CREATE INDEX idx_vgs_genre_video ON videos_genres (genre_id, video_id);
+CREATE INDEX idx_vcms_member_video ON videos_cast_members (cast_member_id, video_id);
+
+CREATE INDEX idx_videos_created_at ON videos (created_at, id);
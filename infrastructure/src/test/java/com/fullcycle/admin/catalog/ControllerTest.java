@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalog;
 
+import com.fullcycle.admin.catalog.infrastructure.configuration.BulkConfig;
 import com.fullcycle.admin.catalog.infrastructure.configuration.ObjectMapperConfig;
 import org.junit.jupiter.api.Tag;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -14,7 +15,7 @@ import java.lang.annotation.*;
 @Inherited
 @ActiveProfiles("test-integration")
 @WebMvcTest
-@Import(ObjectMapperConfig.class)
+@Import({ObjectMapperConfig.class, BulkConfig.class})
 @Tag("integrationTest")
 public @interface ControllerTest {
     @AliasFor(annotation = WebMvcTest.class, attribute = "controllers")
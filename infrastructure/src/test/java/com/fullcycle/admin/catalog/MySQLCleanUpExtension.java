@@ -3,6 +3,11 @@ package com.fullcycle.admin.catalog;
 import com.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.MediaBlobRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.UploadChunkRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.UploadSessionRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaBlobRepository;
 import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -20,7 +25,12 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
 
 
         cleanUp(List.of(
+                appContext.getBean(OutboxEventRepository.class),
+                appContext.getBean(UploadChunkRepository.class),
+                appContext.getBean(UploadSessionRepository.class),
                 appContext.getBean(VideoRepository.class),
+                appContext.getBean(VideoMediaBlobRepository.class),
+                appContext.getBean(MediaBlobRepository.class),
                 appContext.getBean(CastMemberRepository.class),
                 appContext.getBean(GenreRepository.class),
                 appContext.getBean(CategoryRepository.class)
@@ -0,0 +1,133 @@
+package com.fullcycle.admin.catalog.infrastructure.amqp;
+
+import com.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusBatchOutput;
+import com.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusBatchUseCase;
+import com.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
+import com.fullcycle.admin.catalog.domain.video.MediaStatus;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.video.models.VideoEncoderCompleted;
+import com.fullcycle.admin.catalog.infrastructure.video.models.VideoEncoderError;
+import com.fullcycle.admin.catalog.infrastructure.video.models.VideoMessage;
+import com.fullcycle.admin.catalog.infrastructure.video.models.VideoMetadata;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class VideoEncoderBatchListenerTest {
+
+    private final UpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase = Mockito.mock(UpdateMediaStatusBatchUseCase.class);
+
+    private final ProcessedMessageStore processedMessages = new ProcessedMessageStore(100, Duration.ofHours(1));
+
+    private final VideoEncoderBatchListener target = new VideoEncoderBatchListener(updateMediaStatusBatchUseCase, processedMessages);
+
+    @Test
+    public void givenABatchOfResults_whenCallsListener_shouldApplyTheCompletedOnesTogether() {
+        //given
+        final var expectedId = IdUtils.uuid();
+        final var expectedVideo = new VideoMetadata("any-folder", IdUtils.uuid(), "video.mp4");
+        final var expectedTrailer = new VideoMetadata("any-folder", IdUtils.uuid(), "trailer.mp4");
+
+        final var messages = List.of(
+                Json.writeValueAsString(new VideoEncoderCompleted(expectedId, "codeeducationtest", expectedVideo)),
+                Json.writeValueAsString(new VideoEncoderError(new VideoMessage("123", "abc"), "Video Not Found")),
+                Json.writeValueAsString(new VideoEncoderCompleted(expectedId, "codeeducationtest", expectedTrailer))
+        );
+
+        when(updateMediaStatusBatchUseCase.execute(anyList()))
+                .thenReturn(new UpdateMediaStatusBatchOutput(2, 1, List.of()));
+
+        //when
+        this.target.onVideoEncodedMessages(messages);
+
+        //then
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<UpdateMediaStatusCommand>> captor = ArgumentCaptor.forClass(List.class);
+        verify(updateMediaStatusBatchUseCase, times(1)).execute(captor.capture());
+
+        final var actualCommands = captor.getValue();
+        Assertions.assertEquals(2, actualCommands.size());
+        Assertions.assertTrue(actualCommands.stream().allMatch(it -> it.videoId().equals(expectedId)));
+        Assertions.assertTrue(actualCommands.stream().allMatch(it -> it.status() == MediaStatus.COMPLETED));
+        Assertions.assertEquals(expectedVideo.resourceId(), actualCommands.get(0).resourceId());
+        Assertions.assertEquals(expectedTrailer.resourceId(), actualCommands.get(1).resourceId());
+        Assertions.assertEquals(expectedTrailer.filePath(), actualCommands.get(1).filename());
+    }
+
+    @Test
+    public void givenAMalformedMessageInTheBatch_whenCallsListener_shouldSkipItAndApplyTheOthers() {
+        //given
+        final var expectedId = IdUtils.uuid();
+        final var expectedVideo = new VideoMetadata("any-folder", IdUtils.uuid(), "video.mp4");
+
+        final var messages = List.of(
+                "{not json",
+                Json.writeValueAsString(new VideoEncoderCompleted(expectedId, "codeeducationtest", expectedVideo))
+        );
+
+        when(updateMediaStatusBatchUseCase.execute(anyList()))
+                .thenReturn(new UpdateMediaStatusBatchOutput(1, 1, List.of()));
+
+        //when
+        this.target.onVideoEncodedMessages(messages);
+
+        //then
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<UpdateMediaStatusCommand>> captor = ArgumentCaptor.forClass(List.class);
+        verify(updateMediaStatusBatchUseCase, times(1)).execute(captor.capture());
+
+        final var actualCommands = captor.getValue();
+        Assertions.assertEquals(1, actualCommands.size());
+        Assertions.assertEquals(expectedVideo.resourceId(), actualCommands.get(0).resourceId());
+    }
+
+    @Test
+    public void givenOnlyErrorResults_whenCallsListener_shouldNotCallUseCase() {
+        //given
+        final var messages = List.of(
+                Json.writeValueAsString(new VideoEncoderError(new VideoMessage("123", "abc"), "Video Not Found"))
+        );
+
+        //when
+        this.target.onVideoEncodedMessages(messages);
+
+        //then
+        verify(updateMediaStatusBatchUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenRedeliveredAndStaleResults_whenCallsListener_shouldSkipThemAndCount() {
+        //given
+        final var expectedId = IdUtils.uuid();
+        final var expectedResourceId = IdUtils.uuid();
+        final var completed = Json.writeValueAsString(new VideoEncoderCompleted(
+                expectedId,
+                "codeeducationtest",
+                new VideoMetadata("any-folder", expectedResourceId, "video.mp4")
+        ));
+
+        when(updateMediaStatusBatchUseCase.execute(anyList()))
+                .thenReturn(new UpdateMediaStatusBatchOutput(1, 1, List.of()));
+
+        this.target.onVideoEncodedMessages(List.of(completed));
+
+        final var staleProcessing = UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, expectedId, expectedResourceId, null, null);
+
+        //when
+        this.target.onVideoEncodedMessages(List.of(completed, completed));
+        final var actualStaleIsNew = this.processedMessages.isNew(staleProcessing);
+
+        //then
+        verify(updateMediaStatusBatchUseCase, times(1)).execute(anyList());
+        Assertions.assertFalse(actualStaleIsNew);
+        Assertions.assertEquals(2, this.processedMessages.duplicates());
+        Assertions.assertEquals(1, this.processedMessages.stale());
+    }
+}
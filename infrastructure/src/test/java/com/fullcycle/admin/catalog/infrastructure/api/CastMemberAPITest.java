@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalog.ControllerTest;
 import com.fullcycle.admin.catalog.domain.Fixture;
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberOutput;
+import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMembersBulkUseCase;
 import com.fullcycle.admin.catalog.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.CastMemberOutput;
@@ -17,13 +18,17 @@ import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberType;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.UpdateCastMemberRequest;
+import com.fullcycle.admin.catalog.infrastructure.export.NdjsonCatalogExporter;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -61,6 +66,12 @@ public class CastMemberAPITest {
     @MockBean
     private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
+    @MockBean
+    private CreateCastMembersBulkUseCase createCastMembersBulkUseCase;
+
+    @MockBean
+    private NdjsonCatalogExporter catalogExporter;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCastMember_shouldReturnItsIdentifier() throws Exception {
         //given
@@ -178,6 +189,28 @@ public class CastMemberAPITest {
     }
 
 
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallsGetById_shouldReturnNotModified() throws Exception {
+        //given
+        final var aMember = CastMember.newMember(Fixture.name(), Fixture.CastMembers.type());
+        final var expectedID = aMember.getId().getValue();
+        final var expectedETag = ETagUtils.of(aMember.getUpdatedAt());
+
+        when(getCastMemberByIdUseCase.execute(any())).thenReturn(CastMemberOutput.from(aMember));
+
+        //when
+        final var aRequest = get("/cast_members/{id}", expectedID)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/" + expectedETag);
+
+        final var response = this.mvc.perform(aRequest);
+        //then
+
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+    }
+
+
     @Test
     public void givenAValidCommand_whenCallsUpdateCastMember_shouldReturnItsIdentifier() throws Exception {
         //given
@@ -284,6 +317,61 @@ public class CastMemberAPITest {
         ));
     }
 
+    @Test
+    public void givenAStaleIfMatch_whenCallsUpdateCastMember_shouldReturnPreconditionFailed() throws Exception {
+        //given
+        final var aMember = CastMember.newMember(Fixture.name(), Fixture.CastMembers.type());
+        final var expectedId = aMember.getId();
+        final var expectedErrorMessage = "CastMember with ID %s was changed since it was read".formatted(expectedId.getValue());
+
+        final var aCommand = new UpdateCastMemberRequest(aMember.getName(), aMember.getType());
+
+        when(updateCastMemberUseCase.execute(any())).thenThrow(PreconditionFailedException.with(CastMember.class, expectedId));
+
+        //when
+        final var aRequest = put("/cast_members/{id}", expectedId.getValue())
+                .header(HttpHeaders.IF_MATCH, ETagUtils.of(aMember.getUpdatedAt()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aCommand));
+
+
+        final var response = this.mvc.perform(aRequest).andDo(print());
+
+        //then
+
+        response.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(updateCastMemberUseCase).execute(argThat(actualCmd ->
+                Objects.equals(expectedId.getValue(), actualCmd.id()) &&
+                        Objects.equals(aMember.getUpdatedAt(), actualCmd.expectedUpdatedAt())
+        ));
+    }
+
+    @Test
+    public void givenAWeakIfMatch_whenCallsUpdateCastMember_shouldReturnPreconditionFailed() throws Exception {
+        //given
+        final var aMember = CastMember.newMember(Fixture.name(), Fixture.CastMembers.type());
+        final var expectedId = aMember.getId();
+
+        final var aCommand = new UpdateCastMemberRequest(aMember.getName(), aMember.getType());
+
+        //when
+        final var aRequest = put("/cast_members/{id}", expectedId.getValue())
+                .header(HttpHeaders.IF_MATCH, "W/" + ETagUtils.of(aMember.getUpdatedAt()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aCommand));
+
+
+        final var response = this.mvc.perform(aRequest).andDo(print());
+
+        //then
+
+        response.andExpect(status().isPreconditionFailed());
+
+        verify(updateCastMemberUseCase, never()).execute(any());
+    }
+
     @Test
     public void givenAValidId_whenCallsDeleteById_shouldDeleteIt() throws Exception {
         //given
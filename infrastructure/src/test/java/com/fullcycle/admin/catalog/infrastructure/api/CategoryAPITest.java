@@ -2,6 +2,8 @@ package com.fullcycle.admin.catalog.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalog.ControllerTest;
+import com.fullcycle.admin.catalog.application.bulk.BulkItemOutput;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoriesBulkUseCase;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoryUseCase;
@@ -15,15 +17,20 @@ import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalog.infrastructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.admin.catalog.infrastructure.export.NdjsonCatalogExporter;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -56,6 +63,11 @@ public class CategoryAPITest {
     private DeleteCategoryUseCase deleteCategoryUseCase;
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
+    @MockBean
+    private CreateCategoriesBulkUseCase createCategoriesBulkUseCase;
+
+    @MockBean
+    private NdjsonCatalogExporter catalogExporter;
 
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
@@ -201,6 +213,79 @@ public class CategoryAPITest {
     }
 
 
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallsGetCategory_shouldReturnNotModified() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("filmes", null, true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedETag = ETagUtils.of(aCategory.getUpdatedAt());
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        //when
+        final var request = get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        //then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void givenAStaleIfMatch_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("filmes", null, true);
+        final var expectedId = aCategory.getId();
+        final var expectedErrorMessage = "Category with ID %s was changed since it was read".formatted(expectedId.getValue());
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(PreconditionFailedException.with(Category.class, expectedId));
+
+        final var aCommand = new UpdateCategoryRequest("Filmes", null, true);
+
+        //when
+        final var request = put("/categories/{id}", expectedId.getValue())
+                .header(HttpHeaders.IF_MATCH, ETagUtils.of(aCategory.getUpdatedAt()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aCommand));
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        //then
+        response.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedId.getValue(), cmd.id())
+                        && Objects.equals(aCategory.getUpdatedAt(), cmd.expectedUpdatedAt())
+        ));
+    }
+
+    @Test
+    public void givenAnIfMatchNotIssuedByTheApi_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        //given
+        final var expectedId = "123";
+
+        final var aCommand = new UpdateCategoryRequest("Filmes", null, true);
+
+        //when
+        final var request = put("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_MATCH, "\"stale\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aCommand));
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        //then
+        response.andExpect(status().isPreconditionFailed());
+
+        verify(updateCategoryUseCase, never()).execute(any());
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetCategory_shouldReturnNotFound() throws Exception {
         //given
@@ -410,7 +495,79 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenNdjsonLines_whenCallsCreateBulk_shouldAnswerOneResultPerLineInOrder() throws Exception {
+        // given
+        final var expectedErrorMessage = "'name' should not be null";
 
+        final var body = String.join("\n",
+                this.mapper.writeValueAsString(new CreateCategoryRequest("Filmes", null, true)),
+                "{not json",
+                "",
+                this.mapper.writeValueAsString(new CreateCategoryRequest(null, null, true))
+        );
 
+        when(createCategoriesBulkUseCase.execute(any()))
+                .thenReturn(List.of(
+                        BulkItemOutput.created(0, "123"),
+                        BulkItemOutput.failed(1, Notification.create(new Error(expectedErrorMessage)))
+                ));
 
+        // when
+        final var request = post("/categories/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        final var lines = response.lines().map(it -> {
+            try {
+                return this.mapper.readTree(it);
+            } catch (final Exception e) {
+                throw new RuntimeException(e);
+            }
+        }).toList();
+
+        Assertions.assertEquals(3, lines.size());
+
+        Assertions.assertEquals(0, lines.get(0).get("index").asInt());
+        Assertions.assertEquals("123", lines.get(0).get("id").asText());
+        Assertions.assertTrue(lines.get(0).get("errors").isEmpty());
+
+        Assertions.assertEquals(1, lines.get(1).get("index").asInt());
+        Assertions.assertTrue(lines.get(1).get("id").isNull());
+        Assertions.assertEquals(1, lines.get(1).get("errors").size());
+
+        Assertions.assertEquals(2, lines.get(2).get("index").asInt());
+        Assertions.assertEquals(expectedErrorMessage, lines.get(2).get("errors").get(0).get("message").asText());
+
+        verify(createCategoriesBulkUseCase, times(1)).execute(argThat(cmds ->
+                cmds.size() == 2
+                        && Objects.equals("Filmes", cmds.get(0).name())
+                        && cmds.get(1).name() == null
+        ));
+    }
+
+    @Test
+    public void givenTooManyRunningExports_whenCallsExportCategories_shouldReturnServiceUnavailable() throws Exception {
+        //given
+        when(catalogExporter.exportCategories(any()))
+                .thenReturn(false);
+
+        //when
+        final var request = get("/categories/export");
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        //then
+        response.andExpect(status().isServiceUnavailable())
+                .andExpect(content().string(""));
+    }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalog.ControllerTest;
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreOutput;
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenresBulkUseCase;
 import com.fullcycle.admin.catalog.application.genre.delete.DeleteGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrieve.get.GenreOutput;
 import com.fullcycle.admin.catalog.application.genre.retrieve.get.GetGenreByIdUseCase;
@@ -15,15 +16,19 @@ import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreUseCase;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalog.infrastructure.export.NdjsonCatalogExporter;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.UpdateGenreRequest;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -60,6 +65,12 @@ public class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private CreateGenresBulkUseCase createGenresBulkUseCase;
+
+    @MockBean
+    private NdjsonCatalogExporter catalogExporter;
+
     @Test
     public void givenAValidCommand_whenCallsCreateGenre_shouldReturnGenreId() throws Exception {
         final var expectedName = "Ação";
@@ -180,6 +191,24 @@ public class GenreAPITest {
         verify(getGenreByIdUseCase).execute(eq(expectedId.getValue()));
     }
 
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallsGetGenreById_shouldReturnNotModified() throws Exception {
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedId = aGenre.getId().getValue();
+        final var expectedETag = ETagUtils.of(aGenre.getUpdatedAt());
+
+        when(getGenreByIdUseCase.execute(any())).thenReturn(GenreOutput.from(aGenre));
+
+        final var aRequest = get("/genres/{id}", expectedId).header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        final var response = this.mvc.perform(aRequest).andDo(print());
+
+        //then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     public void givenAValidCommand_whenCallsUpdateGenre_shouldReturnGenreId() throws Exception {
         final var expectedName = "Ação";
@@ -248,6 +277,37 @@ public class GenreAPITest {
         ));
     }
 
+    @Test
+    public void givenAStaleIfMatch_whenCallsUpdateGenre_shouldReturnPreconditionFailed() throws Exception {
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedId = aGenre.getId();
+        final var expectedErrorMessage = "Genre with ID %s was changed since it was read".formatted(expectedId.getValue());
+
+        final var aCommand = new UpdateGenreRequest("Ação", List.of(), true);
+
+        when(updateGenreUseCase.execute(any())).thenThrow(PreconditionFailedException.with(Genre.class, expectedId));
+
+
+        final var aRequest = put("/genres/{id}", expectedId.getValue())
+                .header(HttpHeaders.IF_MATCH, ETagUtils.of(aGenre.getUpdatedAt()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aCommand));
+
+
+        final var aResponse = this.mvc.perform(aRequest).andDo(print());
+
+
+        //then
+
+        aResponse.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(updateGenreUseCase).execute(argThat(cmd ->
+                Objects.equals(expectedId.getValue(), cmd.id()) &&
+                        Objects.equals(aGenre.getUpdatedAt(), cmd.expectedUpdatedAt())
+        ));
+    }
+
     @Test
     public void givenAValidId_whenCallsDeleteGenre_shouldBeOK() throws Exception {
         //give
@@ -5,16 +5,29 @@ import com.fullcycle.admin.catalog.ControllerTest;
 import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
 import com.fullcycle.admin.catalog.application.video.create.CreateVideoOutput;
 import com.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideosBulkUseCase;
 import com.fullcycle.admin.catalog.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalog.application.video.media.get.GetMediaCommand;
 import com.fullcycle.admin.catalog.application.video.media.get.GetMediaUseCase;
 import com.fullcycle.admin.catalog.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalog.application.video.media.resumable.CommitUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.CreateUploadSessionCommand;
+import com.fullcycle.admin.catalog.application.video.media.resumable.CreateUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.DeleteUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.GetUploadSessionUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.UploadChunkCommand;
+import com.fullcycle.admin.catalog.application.video.media.resumable.UploadChunkOutput;
+import com.fullcycle.admin.catalog.application.video.media.resumable.UploadChunkUseCase;
+import com.fullcycle.admin.catalog.application.video.media.resumable.UploadSessionCommand;
+import com.fullcycle.admin.catalog.application.video.media.resumable.UploadSessionOutput;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaUseCase;
 import com.fullcycle.admin.catalog.application.video.retrieve.get.GetVideoByIdUseCase;
 import com.fullcycle.admin.catalog.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalog.application.video.retrieve.list.ListVideoFacetsUseCase;
 import com.fullcycle.admin.catalog.application.video.retrieve.list.ListVideosUseCase;
+import com.fullcycle.admin.catalog.application.video.retrieve.list.VideoFacetsOutput;
 import com.fullcycle.admin.catalog.application.video.retrieve.list.VideoListOutput;
 import com.fullcycle.admin.catalog.application.video.update.UpdateVideoCommand;
 import com.fullcycle.admin.catalog.application.video.update.UpdateVideoOutput;
@@ -24,10 +37,15 @@ import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
 import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.domain.video.*;
+import com.fullcycle.admin.catalog.infrastructure.export.NdjsonCatalogExporter;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
+import com.fullcycle.admin.catalog.infrastructure.video.models.CreateUploadSessionRequest;
 import com.fullcycle.admin.catalog.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalog.infrastructure.video.models.UpdateVideoRequest;
 import org.junit.jupiter.api.Assertions;
@@ -42,6 +60,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.fullcycle.admin.catalog.domain.utils.CollectionUtils.mapTo;
@@ -79,6 +98,9 @@ public class VideoAPITest {
     @MockBean
     private ListVideosUseCase listVideosUseCase;
 
+    @MockBean
+    private ListVideoFacetsUseCase listVideoFacetsUseCase;
+
 
     @MockBean
     private GetMediaUseCase getMediaUseCase;
@@ -86,6 +108,27 @@ public class VideoAPITest {
     @MockBean
     private UploadMediaUseCase uploadMediaUseCase;
 
+    @MockBean
+    private CreateUploadSessionUseCase createUploadSessionUseCase;
+
+    @MockBean
+    private GetUploadSessionUseCase getUploadSessionUseCase;
+
+    @MockBean
+    private UploadChunkUseCase uploadChunkUseCase;
+
+    @MockBean
+    private CommitUploadSessionUseCase commitUploadSessionUseCase;
+
+    @MockBean
+    private DeleteUploadSessionUseCase deleteUploadSessionUseCase;
+
+    @MockBean
+    private CreateVideosBulkUseCase createVideosBulkUseCase;
+
+    @MockBean
+    private NdjsonCatalogExporter catalogExporter;
+
 
     @Test
     public void givenAValidCommand_whenCallsCreateFull_shouldReturnAnId() throws Exception {
@@ -419,6 +462,29 @@ public class VideoAPITest {
     }
 
 
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallsGetById_shouldReturnNotModified() throws Exception {
+        //given
+        final var aVideo = Fixture.video();
+        final var expectedId = aVideo.getId().getValue();
+        final var expectedETag = ETagUtils.of(aVideo.getUpdatedAt());
+
+        when(getVideoByIdUseCase.execute(any()))
+                .thenReturn(VideoOutput.from(aVideo));
+
+        //when
+        final var aRequest = get("/videos/{id}", expectedId)
+                .header(IF_NONE_MATCH, expectedETag);
+
+        final var response = this.mvc.perform(aRequest);
+
+        //then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(content().string(""));
+    }
+
+
     @Test
     public void givenAValidCommand_whenCallsUpdate_shouldReturnVideoId() throws Exception {
         //given
@@ -553,6 +619,50 @@ public class VideoAPITest {
     }
 
 
+    @Test
+    public void givenAStaleIfMatch_whenCallsUpdate_shouldReturnPreconditionFailed() throws Exception {
+        //given
+        final var aVideo = Fixture.video();
+        final var expectedId = aVideo.getId();
+        final var expectedErrorMessage = "Video with ID %s was changed since it was read".formatted(expectedId.getValue());
+
+        final var aCmd = new UpdateVideoRequest(
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getDuration(),
+                aVideo.getLaunchedAt().getValue(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+
+        when(updateVideoUseCase.execute(any()))
+                .thenThrow(PreconditionFailedException.with(Video.class, expectedId));
+        //when
+
+        final var aRequest = put("/videos/{id}", expectedId.getValue())
+                .header(IF_MATCH, ETagUtils.of(aVideo.getUpdatedAt()))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aCmd));
+
+
+        final var response = this.mvc.perform(aRequest);
+        //then
+
+        response.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        final var cmdCaptor = ArgumentCaptor.forClass(UpdateVideoCommand.class);
+        verify(updateVideoUseCase).execute(cmdCaptor.capture());
+
+        Assertions.assertEquals(aVideo.getUpdatedAt(), cmdCaptor.getValue().expectedUpdatedAt());
+    }
+
+
     @Test
     public void givenValidId_whenCallsDeleteById_shouldDeleteIt() throws Exception {
         //given
@@ -706,6 +816,64 @@ public class VideoAPITest {
         Assertions.assertTrue(actualQuery.genres().isEmpty());
     }
 
+    @Test
+    public void givenFacetsParam_whenCallsListVideos_shouldReturnFacetsOfTheSameQuery() throws Exception {
+        //given
+        final var aVideo = new VideoPreview(Fixture.video());
+        final var expectedCategory = "cat1";
+        final var expectedGenre = "gen1";
+        final var expectedMember = "cast1";
+
+        when(listVideosUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 25, 1, List.of(VideoListOutput.from(aVideo))));
+        when(listVideoFacetsUseCase.execute(any()))
+                .thenReturn(new VideoFacetsOutput(
+                        Map.of(expectedCategory, 3L),
+                        Map.of(expectedGenre, 2L),
+                        Map.of(expectedMember, 1L)
+                ));
+
+        //when
+        final var aRequest = get("/videos")
+                .queryParam("categories_ids", expectedCategory)
+                .queryParam("facets", "true")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.facets.categories.cat1", equalTo(3)))
+                .andExpect(jsonPath("$.facets.genres.gen1", equalTo(2)))
+                .andExpect(jsonPath("$.facets.cast_members.cast1", equalTo(1)));
+
+        final var listCaptor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+        final var facetsCaptor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+
+        verify(listVideosUseCase).execute(listCaptor.capture());
+        verify(listVideoFacetsUseCase).execute(facetsCaptor.capture());
+
+        Assertions.assertEquals(listCaptor.getValue(), facetsCaptor.getValue());
+        Assertions.assertEquals(Set.of(CategoryID.from(expectedCategory)), facetsCaptor.getValue().categories());
+    }
+
+    @Test
+    public void givenNoFacetsParam_whenCallsListVideos_shouldNotComputeFacets() throws Exception {
+        //given
+        when(listVideosUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 25, 0, List.of()));
+
+        //when
+        final var response = this.mvc.perform(get("/videos").accept(MediaType.APPLICATION_JSON));
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.facets").doesNotExist());
+
+        verify(listVideoFacetsUseCase, never()).execute(any());
+    }
+
     @Test
     public void givenAValidVideoIdAndFileType_whenCallsGetMediaById_shouldReturnContent() throws Exception {
         //given
@@ -714,11 +882,7 @@ public class VideoAPITest {
         final var expectedResource = Fixture.Videos.resource(expectedMediaType);
 
 
-        final var expectedMedia = new MediaOutput(
-                expectedResource.content(),
-                expectedResource.contentType(),
-                expectedResource.name()
-        );
+        final var expectedMedia = MediaOutput.with(expectedResource, expectedResource.checksum());
 
         when(getMediaUseCase.execute(any()))
                 .thenReturn(expectedMedia);
@@ -748,6 +912,76 @@ public class VideoAPITest {
     }
 
 
+    @Test
+    public void givenAValidRange_whenCallsGetMediaById_shouldReturnPartialContent() throws Exception {
+        //given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "video.mp4");
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.with(expectedResource, expectedResource.checksum()));
+        //when
+
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=2-4");
+
+        final var response = this.mvc.perform(aRequest);
+
+        //then
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string(ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(ETAG, "\"abc\""))
+                .andExpect(header().string(CONTENT_RANGE, "bytes 2-4/8"))
+                .andExpect(header().string(CONTENT_LENGTH, "3"))
+                .andExpect(content().bytes("nte".getBytes()));
+    }
+
+    @Test
+    public void givenAStaleIfRange_whenCallsGetMediaById_shouldReturnFullContent() throws Exception {
+        //given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "video.mp4");
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.with(expectedResource, expectedResource.checksum()));
+        //when
+
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=2-4")
+                .header(IF_RANGE, "\"other\"");
+
+        final var response = this.mvc.perform(aRequest);
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CONTENT_RANGE))
+                .andExpect(header().string(CONTENT_LENGTH, "8"))
+                .andExpect(content().bytes(expectedResource.content()));
+    }
+
+    @Test
+    public void givenAnUnsatisfiableRange_whenCallsGetMediaById_shouldReturnRangeNotSatisfiable() throws Exception {
+        //given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "video.mp4");
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.with(expectedResource, expectedResource.checksum()));
+        //when
+
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=20-30");
+
+        final var response = this.mvc.perform(aRequest);
+
+        //then
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(CONTENT_RANGE, "bytes */8"));
+    }
+
     @Test
     public void givenAValidVideoIdAndFile_whenCallsUploadMedia_shouldStoreIt() throws Exception {
         //given
@@ -783,7 +1017,7 @@ public class VideoAPITest {
         final var actualCmd = captor.getValue();
 
         Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
-        Assertions.assertEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
+        Assertions.assertArrayEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
         Assertions.assertEquals(expectedResource.name(), actualCmd.videoResource().resource().name());
         Assertions.assertEquals(expectedResource.contentType(), actualCmd.videoResource().resource().contentType());
         Assertions.assertEquals(expectedType, actualCmd.videoResource().type());
@@ -814,4 +1048,98 @@ public class VideoAPITest {
 
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenAValidVideoIdAndType_whenCallsCreateUploadSession_shouldReturnTheSession() throws Exception {
+        //given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedSessionId = "123";
+        final var expectedContentType = "video/mp4";
+        final var expectedFileName = "video.mp4";
+
+        when(createUploadSessionUseCase.execute(any()))
+                .thenReturn(new UploadSessionOutput(expectedSessionId, expectedId.getValue(), expectedType, expectedContentType, expectedFileName, List.of()));
+
+        //when
+        final var aRequest = post("/videos/{id}/medias/{type}/uploads", expectedId.getValue(), expectedType.name())
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(new CreateUploadSessionRequest(expectedContentType, expectedFileName)));
+
+        final var response = this.mvc.perform(aRequest);
+
+        //then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/%s/uploads/%s".formatted(expectedId.getValue(), expectedType.name(), expectedSessionId)))
+                .andExpect(jsonPath("$.session_id", equalTo(expectedSessionId)))
+                .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())))
+                .andExpect(jsonPath("$.chunks", hasSize(0)));
+
+        verify(createUploadSessionUseCase).execute(CreateUploadSessionCommand.with(expectedId.getValue(), expectedType, expectedContentType, expectedFileName));
+    }
+
+    @Test
+    public void givenAChunk_whenCallsUploadChunk_shouldStreamTheBodyToTheSession() throws Exception {
+        //given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedSessionId = "123";
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = "4a86036cb6f415fc8c8d3d3b681700784c9859be3d1c5657fb4fb905b16a78d3";
+
+        when(uploadChunkUseCase.execute(any()))
+                .thenReturn(new UploadChunkOutput(2, expectedChecksum, expectedContent.length));
+
+        //when
+        final var aRequest = put("/videos/{id}/medias/{type}/uploads/{sessionId}/chunks/{number}", expectedId.getValue(), expectedType.name(), expectedSessionId, 2)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header("X-Chunk-Checksum", expectedChecksum)
+                .content(expectedContent);
+
+        final var response = this.mvc.perform(aRequest);
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.number", equalTo(2)))
+                .andExpect(jsonPath("$.checksum", equalTo(expectedChecksum)));
+
+        final var captor = ArgumentCaptor.forClass(UploadChunkCommand.class);
+        verify(uploadChunkUseCase).execute(captor.capture());
+
+        final var actualCmd = captor.getValue();
+        Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
+        Assertions.assertEquals(expectedType, actualCmd.mediaType());
+        Assertions.assertEquals(expectedSessionId, actualCmd.sessionId());
+        Assertions.assertEquals(2, actualCmd.number());
+        Assertions.assertEquals(expectedContent.length, actualCmd.contentLength());
+        Assertions.assertEquals(expectedChecksum, actualCmd.checksum());
+    }
+
+    @Test
+    public void givenAValidSession_whenCallsCommitUploadSession_shouldReturnTheUploadedMedia() throws Exception {
+        //given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedSessionId = "123";
+
+        when(commitUploadSessionUseCase.execute(any()))
+                .thenReturn(new UploadMediaOutput(expectedId.getValue(), expectedType));
+
+        //when
+        final var aRequest = post("/videos/{id}/medias/{type}/uploads/{sessionId}/commit", expectedId.getValue(), expectedType.name(), expectedSessionId)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        //then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/%s".formatted(expectedId.getValue(), expectedType.name())))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())));
+
+        verify(commitUploadSessionUseCase).execute(UploadSessionCommand.with(expectedId.getValue(), expectedType, expectedSessionId));
+        verifyNoInteractions(uploadMediaUseCase);
+    }
+}
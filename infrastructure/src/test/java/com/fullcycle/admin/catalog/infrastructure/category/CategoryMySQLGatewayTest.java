@@ -2,6 +2,9 @@ package com.fullcycle.admin.catalog.infrastructure.category;
 
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.MySQLGatewayTest;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
@@ -10,6 +13,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @MySQLGatewayTest
@@ -106,6 +110,44 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    public void givenTheCurrentUpdatedAt_whenCallsUpdateExpectingIt_shouldUpdateCategory() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var aUpdatedCategory = aCategory.clone().update("Filmes", null, true);
+
+        final var actualCategory = categoryGateway.update(aUpdatedCategory, aCategory.getUpdatedAt());
+
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertEquals(aUpdatedCategory.getUpdatedAt(), actualCategory.getUpdatedAt());
+
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        Assertions.assertEquals("Filmes", actualEntity.getName());
+        Assertions.assertEquals(aUpdatedCategory.getUpdatedAt(), actualEntity.getUpdatedAt());
+    }
+
+    @Test
+    public void givenAStaleUpdatedAt_whenCallsUpdateExpectingIt_shouldThrowPreconditionFailedAndKeepTheRow() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var expectedErrorMessage = "Category with ID %s was changed since it was read".formatted(aCategory.getId().getValue());
+        final var aStaleUpdatedAt = aCategory.getUpdatedAt().minusSeconds(1);
+        final var aUpdatedCategory = aCategory.clone().update("Filmes", null, true);
+
+        final var actualException = Assertions.assertThrows(
+                PreconditionFailedException.class,
+                () -> categoryGateway.update(aUpdatedCategory, aStaleUpdatedAt)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        Assertions.assertEquals("Film", actualEntity.getName());
+        Assertions.assertEquals(aCategory.getUpdatedAt(), actualEntity.getUpdatedAt());
+    }
+
     @Test
     public void givenAPrePersistedCategoryAnValidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         final var aCategory = Category.newCategory(
@@ -389,5 +431,46 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertTrue(expectedIds.size() == actualResult.size() && expectedIds.containsAll(actualResult));
     }
 
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllFollowingCursors_shouldReturnEveryCategoryOnce() {
+        final var expectedNames = List.of("Documentários", "Filmes", "Séries");
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))
+        ));
+
+        final var actualNames = new ArrayList<String>();
+        var actualResult = categoryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", ""));
+        actualResult.items().forEach(it -> actualNames.add(it.getName()));
+
+        Assertions.assertEquals(Pagination.UNCOUNTED, actualResult.total());
+        Assertions.assertNotNull(actualResult.next());
+
+        actualResult = categoryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", actualResult.next()));
+        actualResult.items().forEach(it -> actualNames.add(it.getName()));
+
+        Assertions.assertNull(actualResult.next());
+        Assertions.assertEquals(expectedNames, actualNames);
+    }
 
+    @Test
+    public void givenACursorForAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "Cursor was issued for name asc, expected createdAt desc";
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var aCursor = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "")).next();
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 1, "", "createdAt", "desc", aCursor))
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
 }
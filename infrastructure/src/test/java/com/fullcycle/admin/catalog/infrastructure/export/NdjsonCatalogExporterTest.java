@@ -0,0 +1,183 @@
+package com.fullcycle.admin.catalog.infrastructure.export;
+
+import com.fullcycle.admin.catalog.MySQLGatewayTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.infrastructure.castmember.CastMemberMySQLGateway;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalog.infrastructure.genre.models.GenreResponse;
+import com.fullcycle.admin.catalog.infrastructure.video.models.VideoResponse;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@MySQLGatewayTest
+// The exporter reads on a connection of its own, which only sees committed rows
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class NdjsonCatalogExporterTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private CastMemberMySQLGateway castMemberGateway;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void givenGenresWithCategories_whenCallsExportGenres_shouldWriteOneLinePerGenreWithItsCategories() throws Exception {
+        //given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+
+        final var acao = genreGateway.create(Genre.newGenre("Ação", true)
+                .addCategories(List.of(filmes.getId(), series.getId())));
+        final var drama = genreGateway.create(Genre.newGenre("Drama", false));
+        final var terror = genreGateway.create(Genre.newGenre("Terror", true)
+                .addCategories(List.of(filmes.getId())));
+
+        final var exporter = new NdjsonCatalogExporter(dataSource, 1, 1);
+        final var out = new ByteArrayOutputStream();
+
+        //when
+        final var actualExported = exporter.exportGenres(out);
+
+        //then
+        Assertions.assertTrue(actualExported);
+
+        final var lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(3, lines.length);
+
+        final var actualGenres = Arrays.stream(lines)
+                .map(it -> Json.readValue(it, GenreResponse.class))
+                .collect(Collectors.toMap(GenreResponse::id, Function.identity()));
+
+        final var actualAcao = actualGenres.get(acao.getId().getValue());
+        Assertions.assertEquals("Ação", actualAcao.name());
+        Assertions.assertTrue(actualAcao.active());
+        Assertions.assertEquals(
+                Set.of(filmes.getId().getValue(), series.getId().getValue()),
+                Set.copyOf(actualAcao.categories())
+        );
+        Assertions.assertEquals(acao.getCreatedAt(), actualAcao.createdAt());
+        Assertions.assertNull(actualAcao.deletedAt());
+
+        final var actualDrama = actualGenres.get(drama.getId().getValue());
+        Assertions.assertFalse(actualDrama.active());
+        Assertions.assertTrue(actualDrama.categories().isEmpty());
+        Assertions.assertNotNull(actualDrama.deletedAt());
+
+        Assertions.assertEquals(
+                List.of(filmes.getId().getValue()),
+                actualGenres.get(terror.getId().getValue()).categories()
+        );
+    }
+
+    @Test
+    public void givenVideosWithRelations_whenCallsExportVideos_shouldWriteOneLinePerVideoWithItsRelatedIds() throws Exception {
+        //given
+        final var aulas = categoryGateway.create(Fixture.Categories.aulas());
+        final var lives = categoryGateway.create(Fixture.Categories.lives());
+        final var tech = genreGateway.create(Fixture.Genres.tech());
+        final var wesley = castMemberGateway.create(Fixture.CastMembers.wesley());
+
+        final var systemDesign = Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(aulas.getId(), lives.getId()),
+                Set.of(tech.getId()),
+                Set.of(wesley.getId())
+        );
+        final var withoutRelations = Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+        videoRepository.saveAndFlush(VideoJpaEntity.from(systemDesign));
+        videoRepository.saveAndFlush(VideoJpaEntity.from(withoutRelations));
+
+        final var exporter = new NdjsonCatalogExporter(dataSource, 1, 1);
+        final var out = new ByteArrayOutputStream();
+
+        //when
+        final var actualExported = exporter.exportVideos(out);
+
+        //then
+        Assertions.assertTrue(actualExported);
+
+        final var lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(2, lines.length);
+
+        final var actualVideos = Arrays.stream(lines)
+                .map(it -> Json.readValue(it, VideoResponse.class))
+                .collect(Collectors.toMap(VideoResponse::id, Function.identity()));
+
+        final var actualSystemDesign = actualVideos.get(systemDesign.getId().getValue());
+        Assertions.assertEquals(systemDesign.getTitle(), actualSystemDesign.title());
+        Assertions.assertEquals(systemDesign.getRating().getName(), actualSystemDesign.rating());
+        Assertions.assertEquals(
+                Set.of(aulas.getId().getValue(), lives.getId().getValue()),
+                actualSystemDesign.categoriesId()
+        );
+        Assertions.assertEquals(Set.of(tech.getId().getValue()), actualSystemDesign.genresId());
+        Assertions.assertEquals(Set.of(wesley.getId().getValue()), actualSystemDesign.castMembersId());
+
+        final var actualWithoutRelations = actualVideos.get(withoutRelations.getId().getValue());
+        Assertions.assertTrue(actualWithoutRelations.categoriesId().isEmpty());
+        Assertions.assertTrue(actualWithoutRelations.genresId().isEmpty());
+        Assertions.assertTrue(actualWithoutRelations.castMembersId().isEmpty());
+    }
+
+    @Test
+    public void givenNoExportPermitsLeft_whenCallsExportCategories_shouldWriteNothing() throws Exception {
+        //given
+        categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var exporter = new NdjsonCatalogExporter(dataSource, 1, 0);
+        final var out = new ByteArrayOutputStream();
+
+        //when
+        final var actualExported = exporter.exportCategories(out);
+
+        //then
+        Assertions.assertFalse(actualExported);
+        Assertions.assertEquals(0, out.size());
+    }
+}
@@ -0,0 +1,173 @@
+package com.fullcycle.admin.catalog.infrastructure.genre;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.infrastructure.cache.AggregateCaches;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CachedGenreGatewayTest {
+
+    private GenreGateway delegate;
+    private AggregateCaches caches;
+    private CachedGenreGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        this.delegate = mock(GenreGateway.class);
+        this.caches = new AggregateCaches(true, new AggregateCaches.Settings(
+                100, Duration.ofMinutes(1), 100, Duration.ofMinutes(1), Duration.ofMinutes(1)
+        ));
+        this.gateway = new CachedGenreGateway(this.delegate, this.caches);
+    }
+
+    @Test
+    public void givenACachedGenre_whenCallsFindByIdAgain_shouldNotHitTheDelegate() {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedId = aGenre.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aGenre));
+
+        // when
+        final var actualFirst = gateway.findById(expectedId).get();
+        final var actualSecond = gateway.findById(expectedId).get();
+
+        // then
+        Assertions.assertEquals(expectedId, actualFirst.getId());
+        Assertions.assertEquals(expectedId, actualSecond.getId());
+        verify(delegate, times(1)).findById(expectedId);
+
+        final var actualMetrics = caches.genres().metrics();
+        Assertions.assertEquals(1, actualMetrics.hits());
+        Assertions.assertEquals(1, actualMetrics.misses());
+    }
+
+    @Test
+    public void givenACachedGenre_whenTheCallerChangesTheCopy_shouldKeepTheCachedStateIntact() {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedId = aGenre.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aGenre));
+
+        // when
+        gateway.findById(expectedId).get()
+                .update("Drama", false, List.of(CategoryID.from("123")));
+
+        final var actualGenre = gateway.findById(expectedId).get();
+
+        // then
+        Assertions.assertEquals("Ação", actualGenre.getName());
+        Assertions.assertTrue(actualGenre.isActive());
+        Assertions.assertTrue(actualGenre.getCategories().isEmpty());
+    }
+
+    @Test
+    public void givenACachedGenre_whenCallsUpdate_shouldReadItAgainFromTheDelegate() {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedId = aGenre.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aGenre));
+        when(delegate.update(any())).thenAnswer(returnsFirstArg());
+
+        gateway.findById(expectedId);
+
+        // when
+        gateway.update(Genre.with(aGenre).update("Drama", true, List.of()));
+        gateway.findById(expectedId);
+
+        // then
+        verify(delegate, times(2)).findById(expectedId);
+    }
+
+    @Test
+    public void givenACachedGenre_whenCallsDeleteById_shouldForgetIt() {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedId = aGenre.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aGenre), Optional.empty());
+
+        gateway.findById(expectedId);
+
+        // when
+        gateway.deleteById(expectedId);
+        final var actualGenre = gateway.findById(expectedId);
+
+        // then
+        Assertions.assertTrue(actualGenre.isEmpty());
+        verify(delegate, times(1)).deleteById(expectedId);
+    }
+
+    @Test
+    public void givenCheckedIds_whenCallsExistsByIdAgain_shouldOnlyLookUpTheUnknownOnes() {
+        // given
+        final var acao = GenreID.from("123");
+        final var drama = GenreID.from("456");
+        final var terror = GenreID.from("789");
+
+        when(delegate.existsById(any())).thenReturn(List.of(acao), List.of(terror));
+
+        // when
+        final var actualFirst = gateway.existsById(List.of(acao, drama));
+        final var actualSecond = gateway.existsById(List.of(acao, drama, terror));
+
+        // then
+        Assertions.assertEquals(List.of(acao), actualFirst);
+        Assertions.assertEquals(List.of(acao, terror), actualSecond);
+
+        verify(delegate, times(2)).existsById(any());
+        verify(delegate).existsById(argThat(ids -> List.of(acao, drama).equals(ids)));
+        verify(delegate).existsById(argThat(ids -> List.of(terror).equals(ids)));
+    }
+
+    @Test
+    public void givenAGenreDeletedDuringTheLookup_whenCallsExistsByIdAgain_shouldLookItUpAgain() {
+        // given
+        final var expectedId = GenreID.from("123");
+
+        when(delegate.existsById(any())).thenAnswer(invocation -> {
+            gateway.deleteById(expectedId);
+            return List.of(expectedId);
+        }).thenReturn(List.of());
+
+        gateway.existsById(List.of(expectedId));
+
+        // when
+        final var actualIds = gateway.existsById(List.of(expectedId));
+
+        // then
+        Assertions.assertTrue(actualIds.isEmpty());
+        verify(delegate, times(2)).existsById(any());
+    }
+
+    @Test
+    public void givenAGenreCreated_whenCallsExistsById_shouldNotHitTheDelegate() {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+
+        when(delegate.create(any())).thenAnswer(returnsFirstArg());
+
+        gateway.create(aGenre);
+
+        // when
+        final var actualIds = gateway.existsById(List.of(aGenre.getId()));
+
+        // then
+        Assertions.assertEquals(List.of(aGenre.getId()), actualIds);
+        verify(delegate, times(0)).existsById(any());
+    }
+}
@@ -9,12 +9,14 @@ import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infrastructure.category.CategoryMySQLGateway;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
 import java.util.Comparator;
 import java.util.List;
 
@@ -29,6 +31,9 @@ public class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void testDependenciesInjected() {
         Assertions.assertNotNull(categoryGateway);
@@ -497,6 +502,45 @@ public class GenreMySQLGatewayTest {
 
     }
 
+    @ParameterizedTest
+    @CsvSource({"1", "2", "5"})
+    public void givenGenresWithCategories_whenCallsFindAll_shouldRunTheSameStatementsForAnyPageSize(final int expectedPerPage) {
+        //given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var expectedCategories = sorted(List.of(filmes.getId(), series.getId()));
+
+        for (final var aName : List.of("Ação", "Drama", "Terror", "Comédia romântica", "Ficção científica")) {
+            final var aGenre = Genre.newGenre(aName, true);
+            aGenre.addCategories(expectedCategories);
+            genreRepository.save(GenreJpaEntity.from(aGenre));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // the page, its count and the categories of every genre in it
+        final var expectedStatements = 3;
+
+        final var aQuery = new SearchQuery(0, expectedPerPage, "", "name", "asc");
+
+        //when
+        final var actualPage = genreMySQLGateway.findAll(aQuery);
+
+        //then
+        Assertions.assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getCollectionLoadCount());
+        Assertions.assertEquals(expectedPerPage, actualPage.items().size());
+        Assertions.assertEquals(5, actualPage.total());
+        actualPage.items().forEach(it -> Assertions.assertEquals(expectedCategories, sorted(it.getCategories())));
+
+        statistics.setStatisticsEnabled(false);
+    }
+
     private void mockGenres() {
         genreRepository.saveAll(List.of(
                 GenreJpaEntity.from(Genre.newGenre("Comédia romântica", true)),
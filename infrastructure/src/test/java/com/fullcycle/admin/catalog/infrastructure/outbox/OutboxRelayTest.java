@@ -0,0 +1,93 @@
+package com.fullcycle.admin.catalog.infrastructure.outbox;
+
+import com.fullcycle.admin.catalog.IntegrationTest;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaCreated;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalog.infrastructure.services.EventService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@IntegrationTest
+public class OutboxRelayTest {
+
+    private static final String DESTINATION = "video.created";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    public void givenPendingEvents_whenCallsDrain_shouldRelayThemInOrderAndClearTheOutbox() {
+        //given
+        final var outbox = new OutboxEventService(DESTINATION, outboxEventRepository);
+        final var expectedEvents = List.of(
+                new VideoMediaCreated("1", "first"),
+                new VideoMediaCreated("2", "second"),
+                new VideoMediaCreated("3", "third")
+        );
+        expectedEvents.forEach(outbox::send);
+
+        final var batches = new ArrayList<List<?>>();
+        final var target = new RecordingEventService(batches);
+
+        //when
+        final var actualRelayed = new OutboxRelay(DESTINATION, target, outboxEventRepository, 2).drain();
+
+        //then
+        Assertions.assertEquals(3, actualRelayed);
+        Assertions.assertEquals(2, batches.size());
+        Assertions.assertEquals(
+                expectedEvents.stream().map(Json::writeValueAsString).toList(),
+                batches.stream().flatMap(List::stream).map(Json::writeValueAsString).toList()
+        );
+        Assertions.assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    public void givenARejectedBatch_whenCallsDrain_shouldKeepTheEventsForTheNextRun() {
+        //given
+        final var outbox = new OutboxEventService(DESTINATION, outboxEventRepository);
+        outbox.send(new VideoMediaCreated("1", "first"));
+
+        final EventService target = event -> {
+            throw new IllegalStateException("Broker unavailable");
+        };
+
+        //when
+        final var actualRelayed = new OutboxRelay(DESTINATION, target, outboxEventRepository, 10).drain();
+
+        //then
+        Assertions.assertEquals(0, actualRelayed);
+        Assertions.assertEquals(1, outboxEventRepository.count());
+    }
+
+    @Test
+    public void givenEventsOfAnotherDestination_whenCallsDrain_shouldLeaveThem() {
+        //given
+        new OutboxEventService("video.deleted", outboxEventRepository).send(new VideoMediaCreated("1", "first"));
+
+        //when
+        final var actualRelayed = new OutboxRelay(DESTINATION, new RecordingEventService(new ArrayList<>()), outboxEventRepository, 10).drain();
+
+        //then
+        Assertions.assertEquals(0, actualRelayed);
+        Assertions.assertEquals(1, outboxEventRepository.count());
+    }
+
+    private record RecordingEventService(List<List<?>> batches) implements EventService {
+
+        @Override
+        public void send(final Object event) {
+            sendAll(List.of(event));
+        }
+
+        @Override
+        public void sendAll(final List<?> events) {
+            this.batches.add(List.copyOf(events));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalog.infrastructure.search;
+
+import com.fullcycle.admin.catalog.infrastructure.search.InvertedIndex.SearchHit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+public class InvertedIndexTest {
+
+    private final InvertedIndex target = new InvertedIndex();
+
+    @Test
+    public void givenIndexedDocuments_whenSearchesByTokensAndPrefix_shouldMatchEveryTokenIgnoringAccents() {
+        //given
+        this.target.put(SearchDocumentType.VIDEO, "1", "System Design na Prática");
+        this.target.put(SearchDocumentType.VIDEO, "2", "Design de Interfaces");
+        this.target.put(SearchDocumentType.CATEGORY, "3", "Práticas Ágeis");
+        this.target.put(SearchDocumentType.CAST_MEMBER, "4", "Desiree Prado");
+
+        //when
+        final var actualPrefix = this.target.search("pra", Set.of(), 10);
+        final var actualTokens = this.target.search("design pratica", Set.of(), 10);
+        final var actualTyped = this.target.search("des", Set.of(SearchDocumentType.VIDEO), 10);
+        final var actualLimited = this.target.search("d", Set.of(), 1);
+
+        //then
+        Assertions.assertEquals(3, actualPrefix.size());
+        Assertions.assertEquals(
+                Set.of(SearchDocumentType.VIDEO, SearchDocumentType.CATEGORY, SearchDocumentType.CAST_MEMBER),
+                Set.copyOf(actualPrefix.stream().map(SearchHit::type).toList())
+        );
+        Assertions.assertEquals(1, actualTokens.size());
+        Assertions.assertEquals(new SearchHit(SearchDocumentType.VIDEO, "1", "System Design na Prática"), actualTokens.get(0));
+        Assertions.assertEquals(Set.of("1", "2"), Set.copyOf(actualTyped.stream().map(SearchHit::id).toList()));
+        Assertions.assertEquals(1, actualLimited.size());
+    }
+
+    @Test
+    public void givenAnUpdatedDocument_whenSearches_shouldOnlyMatchItsNewTokens() {
+        //given
+        this.target.put(SearchDocumentType.GENRE, "1", "Action");
+        this.target.put(SearchDocumentType.GENRE, "2", "Action Comedy");
+
+        //when
+        this.target.put(SearchDocumentType.GENRE, "1", "Drama");
+
+        //then
+        Assertions.assertEquals(1, this.target.search("action ", Set.of(), 10).size());
+        Assertions.assertEquals("1", this.target.search("dram", Set.of(), 10).get(0).id());
+        Assertions.assertFalse(this.target.putIfAbsent(SearchDocumentType.GENRE, "1", "Action"));
+        Assertions.assertEquals(2, this.target.stats().documents());
+        Assertions.assertEquals(3, this.target.stats().terms());
+    }
+
+    @Test
+    public void givenARemovedDocument_whenSearches_shouldNotMatchItAndReuseItsNumber() {
+        //given
+        this.target.put(SearchDocumentType.VIDEO, "1", "Kubernetes");
+        this.target.put(SearchDocumentType.VIDEO, "2", "Kubernetes Avançado");
+
+        //when
+        final var actualRemoved = this.target.remove(SearchDocumentType.VIDEO, "1");
+        this.target.put(SearchDocumentType.CATEGORY, "1", "Kubernetes");
+
+        //then
+        Assertions.assertTrue(actualRemoved);
+        Assertions.assertFalse(this.target.remove(SearchDocumentType.VIDEO, "1"));
+        Assertions.assertEquals(
+                Set.of(SearchDocumentType.VIDEO + ":2", SearchDocumentType.CATEGORY + ":1"),
+                Set.copyOf(this.target.search("kube", Set.of(), 10).stream().map(it -> it.type() + ":" + it.id()).toList())
+        );
+        Assertions.assertEquals(2, this.target.stats().documents());
+        Assertions.assertEquals(3, this.target.stats().postings());
+    }
+}
@@ -0,0 +1,123 @@
+package com.fullcycle.admin.catalog.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalog.domain.exceptions.InternalErrorException;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaCreated;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BatchingRabbitEventServiceTest {
+
+    private static final String EXCHANGE = "video.events";
+    private static final String ROUTING_KEY = "video.created";
+
+    private RabbitOperations ops;
+    private AtomicInteger batches;
+    private List<Object> sent;
+    private BatchingRabbitEventService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.ops = Mockito.mock(RabbitOperations.class);
+        this.batches = new AtomicInteger();
+        this.sent = new CopyOnWriteArrayList<>();
+
+        doAnswer(invocation -> {
+            this.batches.incrementAndGet();
+            return invocation.getArgument(0, RabbitOperations.OperationsCallback.class).doInRabbit(this.ops);
+        }).when(ops).invoke(any());
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        this.target.destroy();
+    }
+
+    @Test
+    public void givenManyEvents_whenCallsSendAll_shouldPublishThemInBatchesAndWaitForTheirConfirms() {
+        //given
+        givenBrokerConfirms(0);
+        this.target = new BatchingRabbitEventService(EXCHANGE, ROUTING_KEY, ops, settings(2));
+
+        final var events = IntStream.range(0, 5)
+                .mapToObj(it -> new VideoMediaCreated("resource", "file-" + it))
+                .toList();
+
+        //when
+        this.target.sendAll(events);
+
+        //then
+        Assertions.assertEquals(events.stream().map(Json::writeValueAsString).toList(), this.sent);
+        Assertions.assertTrue(this.batches.get() >= 3);
+        Assertions.assertEquals(5, this.target.published());
+        Assertions.assertEquals(5, this.target.confirmed());
+        Assertions.assertEquals(0, this.target.inFlight());
+        Assertions.assertEquals(0, this.target.backlog());
+    }
+
+    @Test
+    public void givenANackedEvent_whenCallsSendAll_shouldRetryIt() {
+        //given
+        givenBrokerConfirms(1);
+        this.target = new BatchingRabbitEventService(EXCHANGE, ROUTING_KEY, ops, settings(10));
+
+        final var event = new VideoMediaCreated("resource", "file");
+
+        //when
+        this.target.sendAll(List.of(event));
+
+        //then
+        Assertions.assertEquals(List.of(Json.writeValueAsString(event), Json.writeValueAsString(event)), this.sent);
+        Assertions.assertEquals(1, this.target.retried());
+        Assertions.assertEquals(1, this.target.confirmed());
+        Assertions.assertEquals(0, this.target.failed());
+    }
+
+    @Test
+    public void givenAnEventNackedMoreThanTheRetries_whenCallsSendAll_shouldThrow() {
+        //given
+        final var expectedErrorMessage = "Could not publish 1 events to video.created";
+        givenBrokerConfirms(Integer.MAX_VALUE);
+        this.target = new BatchingRabbitEventService(EXCHANGE, ROUTING_KEY, ops, settings(10));
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                InternalErrorException.class,
+                () -> this.target.sendAll(List.of(new VideoMediaCreated("resource", "file")))
+        );
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertEquals(3, this.target.retried());
+        Assertions.assertEquals(1, this.target.failed());
+        Assertions.assertEquals(0, this.target.inFlight());
+    }
+
+    private void givenBrokerConfirms(final int nacksBeforeAck) {
+        final var nacks = new AtomicInteger(nacksBeforeAck);
+        doAnswer(invocation -> {
+            this.sent.add(invocation.getArgument(2));
+            final var ack = nacks.getAndUpdate(it -> Math.max(0, it - 1)) == 0;
+            invocation.getArgument(3, CorrelationData.class).getFuture().set(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(ops).convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), any(Object.class), any(CorrelationData.class));
+    }
+
+    private static BatchingRabbitEventService.Settings settings(final int batchSize) {
+        return new BatchingRabbitEventService.Settings(batchSize, Duration.ofMillis(5), 100, 100, 3, Duration.ofSeconds(5));
+    }
+}
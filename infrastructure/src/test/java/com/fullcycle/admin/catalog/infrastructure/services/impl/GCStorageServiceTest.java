@@ -2,9 +2,11 @@ package com.fullcycle.admin.catalog.infrastructure.services.impl;
 
 import com.fullcycle.admin.catalog.domain.Fixture;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.StreamResource;
 import com.fullcycle.admin.catalog.domain.utils.IdUtils;
 import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -15,7 +17,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import static com.google.cloud.storage.Storage.BlobListOption.prefix;
 import static org.mockito.ArgumentMatchers.any;
@@ -57,7 +65,77 @@ public class GCStorageServiceTest {
         Assertions.assertEquals(expectedName, actualBlob.getBlobId().getName());
         Assertions.assertEquals(expectedName, actualBlob.getName());
         Assertions.assertEquals(expectedResource.contentType(), actualBlob.getContentType());
-        Assertions.assertEquals(expectedResource.checksum(), actualBlob.getCrc32cToHexString());
+        Assertions.assertEquals(Map.of("sha256", expectedResource.checksum()), actualBlob.getMetadata());
+    }
+
+    @Test
+    public void givenStreamResource_whenCallsStore_shouldWriteFromTheStreamWithItsChecksum() throws IOException {
+        //given
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = "4a86036cb6f415fc8c8d3d3b681700784c9859be3d1c5657fb4fb905b16a78d3";
+        final var expectedResource = StreamResource.with(
+                expectedChecksum,
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        final var written = new ByteArrayOutputStream();
+        doReturn(mockWriter(written)).when(storage).writer(any(BlobInfo.class));
+
+        //when
+        this.target.store(expectedName, expectedResource);
+
+        //then
+        final var captor = ArgumentCaptor.forClass(BlobInfo.class);
+
+        verify(storage, times(1)).writer(captor.capture());
+        verify(storage, never()).create(any(BlobInfo.class), any(byte[].class));
+        verify(storage, never()).update(any(BlobInfo.class));
+
+        final var actualBlob = captor.getValue();
+
+        Assertions.assertEquals(this.bucket, actualBlob.getBucket());
+        Assertions.assertEquals(expectedName, actualBlob.getName());
+        Assertions.assertEquals(expectedResource.contentType(), actualBlob.getContentType());
+        Assertions.assertEquals(Map.of("sha256", expectedChecksum), actualBlob.getMetadata());
+        Assertions.assertArrayEquals(expectedContent, written.toByteArray());
+    }
+
+    @Test
+    public void givenStreamResourceWithoutChecksum_whenCallsStore_shouldWriteItWithoutTheMetadata() throws IOException {
+        //given
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedResource = StreamResource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        final var written = new ByteArrayOutputStream();
+        final var writer = mockWriter(written);
+        doReturn(writer).when(storage).writer(any(BlobInfo.class));
+
+        //when
+        this.target.store(expectedName, expectedResource);
+
+        //then
+        final var captor = ArgumentCaptor.forClass(BlobInfo.class);
+
+        verify(storage, times(1)).writer(captor.capture());
+        verify(storage, never()).update(any(BlobInfo.class));
+        verify(writer, times(1)).close();
+
+        Assertions.assertNull(captor.getValue().getMetadata());
+        Assertions.assertArrayEquals(expectedContent, written.toByteArray());
+
+        // The stream was read to the end by the store
+        final var expectedChecksum = "4a86036cb6f415fc8c8d3d3b681700784c9859be3d1c5657fb4fb905b16a78d3";
+        Assertions.assertEquals(expectedChecksum, expectedResource.knownChecksum().orElseThrow());
     }
 
     @Test
@@ -78,6 +156,49 @@ public class GCStorageServiceTest {
         Assertions.assertEquals(expectedResource, actualResource);
     }
 
+    @Test
+    public void givenAnObjectWithoutChecksumMetadata_whenCallGet_shouldComputeTheSha256OfItsContent() {
+        //given
+        final var expectedName = IdUtils.uuid();
+        final var expectedChecksum = "4a86036cb6f415fc8c8d3d3b681700784c9859be3d1c5657fb4fb905b16a78d3";
+
+        final var blob = Mockito.mock(Blob.class);
+        when(blob.getContent()).thenReturn("Conteudo".getBytes());
+        when(blob.getContentType()).thenReturn("video/mp4");
+        when(blob.getName()).thenReturn(expectedName);
+        doReturn(blob).when(storage).get(anyString(), anyString());
+
+        //when
+        final var actualResource = this.target.get(expectedName).get();
+
+        //then
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+    }
+
+    @Test
+    public void givenValidResource_whenCallStream_shouldNotDownloadContent() {
+        //given
+        final var expectedName = IdUtils.uuid();
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+        final var blob = mockBlob(expectedName, expectedResource);
+        when(blob.getSize()).thenReturn((long) expectedResource.content().length);
+        doReturn(blob).when(storage).get(anyString(), anyString());
+
+        //when
+        final var actualResource = this.target.stream(expectedName).get();
+
+        //then
+        verify(storage, times(1)).get(eq(this.bucket), eq(expectedName));
+        verify(blob, never()).getContent();
+
+        Assertions.assertInstanceOf(StreamResource.class, actualResource);
+        Assertions.assertEquals(expectedResource.checksum(), actualResource.checksum());
+        Assertions.assertEquals(expectedResource.contentType(), actualResource.contentType());
+        Assertions.assertEquals(expectedResource.name(), actualResource.name());
+        Assertions.assertEquals(expectedResource.content().length, actualResource.contentLength());
+    }
+
     @Test
     public void givenInvalidResource_whenCallGet_shouldBeEmpty() {
         //given
@@ -151,15 +272,56 @@ public class GCStorageServiceTest {
 
     }
 
+    @Test
+    public void givenMoreSourcesThanAComposeAccepts_whenCallsCompose_shouldComposeThroughIntermediates() {
+        //given
+        final var expectedName = "uploads/123/content";
+        final var sources = IntStream.rangeClosed(1, 40)
+                .mapToObj("uploads/123/chunk-%05d"::formatted)
+                .toList();
+
+        //when
+        this.target.compose(expectedName, sources, "video/mp4");
+
+        //then
+        final var captor = ArgumentCaptor.forClass(Storage.ComposeRequest.class);
+        verify(storage, times(3)).compose(captor.capture());
+
+        final var requests = captor.getAllValues();
+        Assertions.assertEquals(32, requests.get(0).getSourceBlobs().size());
+        Assertions.assertEquals(8, requests.get(1).getSourceBlobs().size());
+        Assertions.assertEquals(List.of(expectedName + ".part-0", expectedName + ".part-1"),
+                requests.get(2).getSourceBlobs().stream().map(Storage.ComposeRequest.SourceBlob::getName).toList());
+        Assertions.assertEquals(expectedName, requests.get(2).getTarget().getName());
+        Assertions.assertEquals("video/mp4", requests.get(2).getTarget().getContentType());
+
+        verify(storage, times(1)).delete(eq(List.of(
+                BlobId.of(this.bucket, expectedName + ".part-0"),
+                BlobId.of(this.bucket, expectedName + ".part-1")
+        )));
+    }
+
 
     private Blob mockBlob(final String name, final Resource expectedResource) {
         final var blob = Mockito.mock(Blob.class);
         when(blob.getBlobId()).thenReturn(BlobId.of(this.bucket, name));
-        when(blob.getCrc32cToHexString()).thenReturn(expectedResource.checksum());
+        when(blob.getMetadata()).thenReturn(Map.of("sha256", expectedResource.checksum()));
         when(blob.getContent()).thenReturn(expectedResource.content());
         when(blob.getContentType()).thenReturn(expectedResource.contentType());
         when(blob.getName()).thenReturn(expectedResource.name());
         return blob;
     }
 
-}
\ No newline at end of file
+    private static WriteChannel mockWriter(final ByteArrayOutputStream written) throws IOException {
+        final var writer = Mockito.mock(WriteChannel.class);
+        when(writer.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var remaining = buffer.remaining();
+            final var bytes = new byte[remaining];
+            buffer.get(bytes);
+            written.write(bytes);
+            return remaining;
+        });
+        return writer;
+    }
+}
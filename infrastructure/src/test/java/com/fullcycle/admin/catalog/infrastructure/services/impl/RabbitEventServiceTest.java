@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @AmqpTest
@@ -45,6 +46,21 @@ public class RabbitEventServiceTest {
         Assertions.assertEquals(expectedMessage, actualMessage);
     }
 
+    @Test
+    public void shouldSendAllMessagesInOrder() throws InterruptedException {
+        final var first = new VideoMediaCreated("resource", "first");
+        final var second = new VideoMediaCreated("resource", "second");
+
+        this.publisher.sendAll(List.of(first, second));
+
+        //then
+        final var firstInvocation = harness.getNextInvocationDataFor(LISTENER, 1, TimeUnit.SECONDS);
+        final var secondInvocation = harness.getNextInvocationDataFor(LISTENER, 1, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(Json.writeValueAsString(first), firstInvocation.getArguments()[0]);
+        Assertions.assertEquals(Json.writeValueAsString(second), secondInvocation.getArguments()[0]);
+    }
+
     @Component
     static class VideoCreatedNewsListener {
         @RabbitListener(id = LISTENER, queues = "${amqp.queues.video-created.routing-key}")
@@ -0,0 +1,241 @@
+package com.fullcycle.admin.catalog.infrastructure.services.local;
+
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.StreamResource;
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.infrastructure.services.local.LocalFileSystemStorageService.FsyncPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LocalFileSystemStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileSystemStorageService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.target = new LocalFileSystemStorageService(root, FsyncPolicy.FILE_AND_DIRECTORY, true);
+    }
+
+    @Test
+    public void givenValidResource_whenCallStore_shouldStoreIt() throws Exception {
+        //given
+        final var expectedName = "videoId-%s/type-VIDEO".formatted(IdUtils.uuid());
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+        //when
+        target.store(expectedName, expectedResource);
+
+        //then
+        Assertions.assertArrayEquals(expectedResource.content(), Files.readAllBytes(root.resolve(expectedName)));
+        Assertions.assertEquals(expectedResource, target.get(expectedName).get());
+
+        try (final var files = Files.list(root.resolve(expectedName).getParent())) {
+            Assertions.assertTrue(files.noneMatch(it -> it.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    public void givenStreamResource_whenCallStore_shouldStoreItWithComputedChecksum() {
+        //given
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = "4a86036cb6f415fc8c8d3d3b681700784c9859be3d1c5657fb4fb905b16a78d3";
+        final var resource = StreamResource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        //when
+        target.store(expectedName, resource);
+
+        //then
+        final var actualResource = target.get(expectedName).get();
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+        Assertions.assertEquals("video/mp4", actualResource.contentType());
+        Assertions.assertEquals("video.mp4", actualResource.name());
+    }
+
+    @Test
+    public void givenInvalidResource_whenCallGet_shouldBeEmpty() {
+        //given
+        final var expectedName = IdUtils.uuid();
+
+        //when
+        final var actualResource = target.get(expectedName);
+
+        //then
+        Assertions.assertTrue(actualResource.isEmpty());
+    }
+
+    @Test
+    public void givenASidecarOlderThanItsFile_whenCallGetAndStream_shouldBeEmpty() throws Exception {
+        //given
+        final var expectedName = IdUtils.uuid();
+        target.store(expectedName, Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+        // What a crash between the two renames of a later store leaves behind
+        final var path = root.resolve(expectedName);
+        final var sidecar = root.resolve(expectedName + ".meta");
+        Files.setLastModifiedTime(sidecar, FileTime.fromMillis(Files.getLastModifiedTime(path).toMillis() - 60_000));
+
+        //when
+        final var actualResource = target.get(expectedName);
+        final var actualStream = target.stream(expectedName);
+
+        //then
+        Assertions.assertTrue(actualResource.isEmpty());
+        Assertions.assertTrue(actualStream.isEmpty());
+    }
+
+    @Test
+    public void givenStoredVideo_whenCallStreamAndTransferRange_shouldWriteOnlyTheRange() throws Exception {
+        //given
+        final var expectedName = IdUtils.uuid();
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        target.store(expectedName, expectedResource);
+
+        //when
+        final var actualResource = target.stream(expectedName).get();
+        final var out = new ByteArrayOutputStream();
+        actualResource.transferTo(2, 3, Channels.newChannel(out));
+
+        //then
+        Assertions.assertInstanceOf(StreamResource.class, actualResource);
+        Assertions.assertEquals(expectedResource.checksum(), actualResource.checksum());
+        Assertions.assertEquals(expectedResource.content().length, actualResource.contentLength());
+        Assertions.assertEquals("nte", out.toString());
+    }
+
+    @Test
+    public void givenStoredImage_whenCallStreamAndTransferRange_shouldWriteOnlyTheRange() throws Exception {
+        //given
+        final var expectedName = IdUtils.uuid();
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+        target.store(expectedName, expectedResource);
+
+        //when
+        final var out = new ByteArrayOutputStream();
+        target.stream(expectedName).get().transferTo(0, 4, Channels.newChannel(out));
+
+        //then
+        Assertions.assertEquals("Cont", out.toString());
+    }
+
+    @Test
+    public void givenValidPrefix_whenCallList_shouldRetrieveAll() {
+        //given
+        final var expectedNames = List.of(
+                "video_" + IdUtils.uuid(),
+                "video_" + IdUtils.uuid(),
+                "video_" + IdUtils.uuid()
+        );
+        final var all = new ArrayList<>(expectedNames);
+        all.add("image_" + IdUtils.uuid());
+        all.add("image_" + IdUtils.uuid());
+
+        all.forEach(it -> target.store(it, Fixture.Videos.resource(VideoMediaType.VIDEO)));
+
+        //when
+        final var actualResource = target.list("video");
+
+        //then
+        Assertions.assertTrue(expectedNames.size() == actualResource.size() && expectedNames.containsAll(actualResource));
+    }
+
+    @Test
+    public void givenNestedPrefix_whenCallList_shouldRetrieveOnlyThatDirectory() {
+        //given
+        final var videoId = IdUtils.uuid();
+        final var expectedNames = List.of(
+                "videoId-%s/type-VIDEO".formatted(videoId),
+                "videoId-%s/type-BANNER".formatted(videoId)
+        );
+        expectedNames.forEach(it -> target.store(it, Fixture.Videos.resource(VideoMediaType.VIDEO)));
+        target.store("videoId-%s/type-VIDEO".formatted(IdUtils.uuid()), Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+        //when
+        final var actualResource = target.list("videoId-%s/".formatted(videoId));
+
+        //then
+        Assertions.assertTrue(expectedNames.size() == actualResource.size() && expectedNames.containsAll(actualResource));
+    }
+
+    @Test
+    public void givenValidNames_whenCallDelete_shouldDeleteAll() {
+        //given
+        final var videos = List.of(
+                "video_" + IdUtils.uuid(),
+                "video_" + IdUtils.uuid(),
+                "video_" + IdUtils.uuid()
+        );
+        final var expectedNames = List.of(
+                "image_" + IdUtils.uuid(),
+                "image_" + IdUtils.uuid()
+        );
+
+        final var all = new ArrayList<>(videos);
+        all.addAll(expectedNames);
+
+        all.forEach(it -> target.store(it, Fixture.Videos.resource(VideoMediaType.VIDEO)));
+
+        //when
+        target.deleteAll(videos);
+
+        //then
+        final var actualNames = target.list("");
+        Assertions.assertTrue(expectedNames.size() == actualNames.size() && expectedNames.containsAll(actualNames));
+        videos.forEach(it -> Assertions.assertTrue(target.get(it).isEmpty()));
+    }
+
+    @Test
+    public void givenStoredChunks_whenCallCompose_shouldStoreTheirConcatenation() {
+        //given
+        final var expectedName = "uploads/content";
+        final var expectedChecksum = "4a86036cb6f415fc8c8d3d3b681700784c9859be3d1c5657fb4fb905b16a78d3";
+        target.store("uploads/chunk-1", Resource.with("1", "Conte".getBytes(), "video/mp4", "chunk-1"));
+        target.store("uploads/chunk-2", Resource.with("2", "udo".getBytes(), "video/mp4", "chunk-2"));
+
+        //when
+        target.compose(expectedName, List.of("uploads/chunk-1", "uploads/chunk-2"), "video/mp4");
+
+        //then
+        final var actualResource = target.get(expectedName).get();
+        Assertions.assertEquals("Conteudo", new String(actualResource.content()));
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals("video/mp4", actualResource.contentType());
+    }
+
+    @Test
+    public void givenNameOutsideRoot_whenCallStore_shouldThrowError() {
+        //given
+        final var aName = "../" + IdUtils.uuid();
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> target.store(aName, Fixture.Videos.resource(VideoMediaType.VIDEO))
+        );
+
+        //then
+        Assertions.assertEquals("Invalid resource name %s".formatted(aName), actualException.getMessage());
+    }
+}
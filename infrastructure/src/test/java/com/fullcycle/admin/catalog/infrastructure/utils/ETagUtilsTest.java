@@ -0,0 +1,101 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import com.fullcycle.admin.catalog.domain.exceptions.PreconditionFailedException;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public class ETagUtilsTest {
+
+    @Test
+    public void givenAnUpdatedAt_whenCallsOf_shouldReturnAStrongTagReadBackByUpdatedAtOf() {
+        //given
+        final var expectedUpdatedAt = Instant.ofEpochSecond(1_700_000_000L, 123_456_000);
+
+        //when
+        final var actualETag = ETagUtils.of(expectedUpdatedAt);
+
+        //then
+        Assertions.assertEquals("\"1700000000.123456000\"", actualETag);
+        Assertions.assertEquals(Optional.of(expectedUpdatedAt), ETagUtils.updatedAtOf(actualETag));
+    }
+
+    @Test
+    public void givenTheSameTagWeakOrStrong_whenCallsIsNotModified_shouldMatch() {
+        //given
+        final var anETag = ETagUtils.of(InstantUtils.now());
+
+        //when
+        //then
+        Assertions.assertTrue(ETagUtils.isNotModified(anETag, anETag));
+        Assertions.assertTrue(ETagUtils.isNotModified("W/" + anETag, anETag));
+        Assertions.assertTrue(ETagUtils.isNotModified("\"other\", " + anETag, anETag));
+        Assertions.assertTrue(ETagUtils.isNotModified("*", anETag));
+    }
+
+    @Test
+    public void givenAnotherTagOrNoHeader_whenCallsIsNotModified_shouldNotMatch() {
+        //given
+        final var anETag = ETagUtils.of(InstantUtils.now());
+
+        //when
+        //then
+        Assertions.assertFalse(ETagUtils.isNotModified("\"other\"", anETag));
+        Assertions.assertFalse(ETagUtils.isNotModified(null, anETag));
+        Assertions.assertFalse(ETagUtils.isNotModified(" ", anETag));
+    }
+
+    @Test
+    public void givenNoIfMatchOrAWildcard_whenCallsUpdatedAtOf_shouldRequireNoVersion() {
+        //given
+        final var anETag = ETagUtils.of(InstantUtils.now());
+
+        //when
+        //then
+        Assertions.assertTrue(ETagUtils.updatedAtOf(null).isEmpty());
+        Assertions.assertTrue(ETagUtils.updatedAtOf("").isEmpty());
+        Assertions.assertTrue(ETagUtils.updatedAtOf("*").isEmpty());
+        Assertions.assertTrue(ETagUtils.updatedAtOf(anETag + ", *").isEmpty());
+    }
+
+    @Test
+    public void givenAListWithOneIssuedTag_whenCallsUpdatedAtOf_shouldIgnoreTheOthers() {
+        //given
+        final var expectedUpdatedAt = InstantUtils.now();
+
+        //when
+        final var actualUpdatedAt = ETagUtils.updatedAtOf("\"foreign\", " + ETagUtils.of(expectedUpdatedAt));
+
+        //then
+        Assertions.assertEquals(Optional.of(expectedUpdatedAt), actualUpdatedAt);
+    }
+
+    @Test
+    public void givenAWeakOrForeignIfMatch_whenCallsUpdatedAtOf_shouldThrowPreconditionFailed() {
+        //given
+        final var anETag = ETagUtils.of(InstantUtils.now());
+
+        //when
+        //then
+        Assertions.assertThrows(PreconditionFailedException.class, () -> ETagUtils.updatedAtOf("W/" + anETag));
+        Assertions.assertThrows(PreconditionFailedException.class, () -> ETagUtils.updatedAtOf("\"foreign\""));
+    }
+
+    @Test
+    public void givenAnIfMatchWithTwoVersions_whenCallsUpdatedAtOf_shouldThrowPreconditionFailed() {
+        //given
+        final var aHeader = ETagUtils.of(Instant.ofEpochSecond(1)) + ", " + ETagUtils.of(Instant.ofEpochSecond(2));
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                PreconditionFailedException.class,
+                () -> ETagUtils.updatedAtOf(aHeader)
+        );
+
+        //then
+        Assertions.assertEquals("If-Match may list a single version only", actualException.getMessage());
+    }
+}
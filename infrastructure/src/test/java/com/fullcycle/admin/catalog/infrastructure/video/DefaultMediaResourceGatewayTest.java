@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalog.infrastructure.video;
 
 import com.fullcycle.admin.catalog.IntegrationTest;
+import com.fullcycle.admin.catalog.domain.resource.StreamResource;
 import com.fullcycle.admin.catalog.domain.video.*;
 import com.fullcycle.admin.catalog.infrastructure.services.StorageService;
 import com.fullcycle.admin.catalog.infrastructure.services.local.InMemoryStorageService;
@@ -8,7 +9,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 
 import static com.fullcycle.admin.catalog.domain.Fixture.Videos.mediaType;
@@ -23,6 +27,9 @@ public class DefaultMediaResourceGatewayTest {
     @Autowired
     private StorageService storageService;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @BeforeEach
     public void setUp() {
         storageService().reset();
@@ -44,7 +51,7 @@ public class DefaultMediaResourceGatewayTest {
         final var expectedVideoId = VideoID.unique();
         final var expectedType = VideoMediaType.VIDEO;
         final var expectedResource = resource(expectedType);
-        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
+        final var expectedLocation = "blobs/%s-%d".formatted(expectedResource.checksum(), expectedResource.content().length);
         final var expectedStatus = MediaStatus.PENDING;
         final var expectedEncodedLocation = "";
         //when
@@ -70,7 +77,7 @@ public class DefaultMediaResourceGatewayTest {
         final var expectedVideoId = VideoID.unique();
         final var expectedType = VideoMediaType.BANNER;
         final var expectedResource = resource(expectedType);
-        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
+        final var expectedLocation = "blobs/%s-%d".formatted(expectedResource.checksum(), expectedResource.content().length);
 
         //when
         final var actualMedia = this.mediaResourceGateway.storeImage(expectedVideoId, VideoResource.with(expectedResource, expectedType));
@@ -163,6 +170,114 @@ public class DefaultMediaResourceGatewayTest {
 
     }
 
+    @Test
+    public void givenSameResourceForTwoVideos_whenCallsStorageAudioVideo_shouldStoreItOnce() {
+        //given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = resource(expectedType);
+
+        //when
+        final var actualOne = this.mediaResourceGateway.storeAudioVideo(videoOne, VideoResource.with(expectedResource, expectedType));
+        final var actualTwo = this.mediaResourceGateway.storeAudioVideo(videoTwo, VideoResource.with(expectedResource, expectedType));
+
+        //then
+        Assertions.assertEquals(actualOne.rawLocation(), actualTwo.rawLocation());
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertEquals(expectedResource, this.mediaResourceGateway.getResource(videoOne, expectedType).get());
+        Assertions.assertEquals(expectedResource, this.mediaResourceGateway.getResource(videoTwo, expectedType).get());
+    }
+
+    @Test
+    public void givenSharedResource_whenCallsClearResources_shouldDeleteItOnlyAfterTheLastReference() {
+        //given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedResource = resource(expectedType);
+
+        this.mediaResourceGateway.storeImage(videoOne, VideoResource.with(expectedResource, expectedType));
+        this.mediaResourceGateway.storeImage(videoTwo, VideoResource.with(expectedResource, expectedType));
+
+        //when
+        this.mediaResourceGateway.clearResources(videoOne);
+
+        //then
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertTrue(this.mediaResourceGateway.getResource(videoOne, expectedType).isEmpty());
+        Assertions.assertEquals(expectedResource, this.mediaResourceGateway.getResource(videoTwo, expectedType).get());
+
+        //when
+        this.mediaResourceGateway.clearResources(videoTwo);
+
+        //then
+        Assertions.assertEquals(0, storageService().storage().size());
+    }
+
+    @Test
+    public void givenNewResourceForStoredType_whenCallsStorageAudioVideo_shouldReleaseThePreviousOne() {
+        //given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var previousResource = resource(expectedType);
+        final var expectedResource = resource(expectedType);
+
+        this.mediaResourceGateway.storeAudioVideo(videoOne, VideoResource.with(previousResource, expectedType));
+
+        //when
+        final var actualMedia = this.mediaResourceGateway.storeAudioVideo(videoOne, VideoResource.with(expectedResource, expectedType));
+
+        //then
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertEquals(expectedResource, storageService().storage().get(actualMedia.rawLocation()));
+        Assertions.assertEquals(expectedResource, this.mediaResourceGateway.getResource(videoOne, expectedType).get());
+    }
+
+    @Test
+    public void givenDifferentContentsOfTheSameLength_whenCallsStorageAudioVideo_shouldStoreBoth() {
+        //given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedChecksum = "4a86036cb6f415fc8c8d3d3b681700784c9859be3d1c5657fb4fb905b16a78d3";
+
+        //when
+        final var actualOne = this.mediaResourceGateway.storeAudioVideo(videoOne, VideoResource.with(streamOf("Conteudo"), expectedType));
+        final var actualTwo = this.mediaResourceGateway.storeAudioVideo(videoTwo, VideoResource.with(streamOf("Conteuda"), expectedType));
+
+        //then
+        Assertions.assertEquals(expectedChecksum, actualOne.checksum());
+        Assertions.assertEquals("blobs/%s-8".formatted(expectedChecksum), actualOne.rawLocation());
+        Assertions.assertNotEquals(actualOne.rawLocation(), actualTwo.rawLocation());
+        Assertions.assertEquals(2, storageService().storage().size());
+    }
+
+    @Test
+    public void givenARolledBackClear_whenCallsGetResource_shouldStillReturnIt() {
+        //given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedResource = resource(expectedType);
+
+        this.mediaResourceGateway.storeImage(videoOne, VideoResource.with(expectedResource, expectedType));
+
+        //when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            this.mediaResourceGateway.clearResources(videoOne);
+            status.setRollbackOnly();
+        });
+
+        //then
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertEquals(expectedResource, this.mediaResourceGateway.getResource(videoOne, expectedType).get());
+    }
+
+    private static StreamResource streamOf(final String content) {
+        final var bytes = content.getBytes();
+        return StreamResource.with(() -> new ByteArrayInputStream(bytes), bytes.length, "video/mp4", "video.mp4");
+    }
+
     private InMemoryStorageService storageService() {
         return (InMemoryStorageService) storageService;
     }
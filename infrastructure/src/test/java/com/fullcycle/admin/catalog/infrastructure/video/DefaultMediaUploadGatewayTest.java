@@ -0,0 +1,142 @@
+package com.fullcycle.admin.catalog.infrastructure.video;
+
+import com.fullcycle.admin.catalog.IntegrationTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadChunk;
+import com.fullcycle.admin.catalog.domain.video.MediaUploadSession;
+import com.fullcycle.admin.catalog.domain.video.Rating;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.UploadChunkRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.UploadSessionRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+
+@IntegrationTest
+public class DefaultMediaUploadGatewayTest {
+
+    @Autowired
+    private DefaultMediaUploadGateway mediaUploadGateway;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Autowired
+    private UploadChunkRepository uploadChunkRepository;
+
+    private MediaUploadSession aSession;
+
+    @BeforeEach
+    public void setUp() {
+        storageService().reset();
+
+        final var aVideo = Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Rating.L,
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+        videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo));
+
+        this.aSession = mediaUploadGateway.create(
+                MediaUploadSession.newSession(aVideo.getId(), VideoMediaType.VIDEO, "video/mp4", "video.mp4")
+        );
+    }
+
+    @Test
+    public void givenAChunk_whenCallsStoreChunk_shouldReportItsSha256AndSizeWithoutRecordingIt() {
+        //given
+        final var aContent = "Conteudo".getBytes();
+        final var expectedChecksum = "4a86036cb6f415fc8c8d3d3b681700784c9859be3d1c5657fb4fb905b16a78d3";
+
+        //when
+        final var actualChunk = mediaUploadGateway.storeChunk(aSession, 1, new ByteArrayInputStream(aContent), aContent.length);
+
+        //then
+        Assertions.assertEquals(MediaUploadChunk.with(1, expectedChecksum, aContent.length), actualChunk);
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertTrue(mediaUploadGateway.findChunks(aSession).isEmpty());
+    }
+
+    @Test
+    public void givenChunksSavedOutOfOrder_whenCallsAssemble_shouldReturnTheConcatenatedContent() {
+        //given
+        final var expectedContent = "Conteudo";
+        final var expectedChecksum = "4a86036cb6f415fc8c8d3d3b681700784c9859be3d1c5657fb4fb905b16a78d3";
+
+        storeChunk(2, "udo");
+        storeChunk(1, "Conte");
+
+        //when
+        final var actualChunks = mediaUploadGateway.findChunks(aSession);
+        final var actualResource = mediaUploadGateway.assemble(aSession, actualChunks);
+
+        //then
+        Assertions.assertEquals(List.of(1, 2), actualChunks.stream().map(MediaUploadChunk::number).toList());
+        Assertions.assertEquals(expectedContent, new String(actualResource.content()));
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals("video/mp4", actualResource.contentType());
+        Assertions.assertEquals("video.mp4", actualResource.name());
+    }
+
+    @Test
+    public void givenASavedChunk_whenCallsDiscardChunk_shouldDeleteItsContentAndRecord() {
+        //given
+        storeChunk(1, "Conteudo");
+
+        //when
+        mediaUploadGateway.discardChunk(aSession, 1);
+
+        //then
+        Assertions.assertTrue(storageService().storage().isEmpty());
+        Assertions.assertEquals(0, uploadChunkRepository.count());
+    }
+
+    @Test
+    public void givenAStartedSession_whenCallsDelete_shouldDiscardChunksAndSession() {
+        //given
+        storeChunk(1, "Conteudo");
+
+        //when
+        mediaUploadGateway.delete(aSession);
+
+        //then
+        Assertions.assertTrue(storageService().storage().isEmpty());
+        Assertions.assertEquals(0, uploadChunkRepository.count());
+        Assertions.assertEquals(0, uploadSessionRepository.count());
+        Assertions.assertTrue(mediaUploadGateway.findById(aSession.id()).isEmpty());
+    }
+
+    private void storeChunk(final int number, final String content) {
+        final var bytes = content.getBytes();
+        final var aChunk = mediaUploadGateway.storeChunk(aSession, number, new ByteArrayInputStream(bytes), bytes.length);
+        mediaUploadGateway.saveChunk(aSession, aChunk);
+    }
+
+    private InMemoryStorageService storageService() {
+        return (InMemoryStorageService) storageService;
+    }
+}
@@ -5,14 +5,21 @@ import com.fullcycle.admin.catalog.domain.Fixture;
 import com.fullcycle.admin.catalog.domain.castmember.CastMember;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberType;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.CountMode;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.video.*;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
 import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,9 +27,15 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManagerFactory;
 import javax.transaction.Transactional;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @IntegrationTest
 public class DefaultVideoGatewayTest {
@@ -41,6 +54,12 @@ public class DefaultVideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private CastMember wesley;
     private CastMember vicente;
     private Category aulas;
@@ -154,6 +173,30 @@ public class DefaultVideoGatewayTest {
     }
 
 
+    @Test
+    public void givenAVideoWithPendingMedias_whenCallsCreate_shouldRecordItsEventsInTheOutbox() {
+        //given
+        final var expectedEventType = VideoMediaCreated.class.getName();
+        final var expectedLocations = Set.of("/media/video", "/media/trailer");
+
+        final var aVideo = Fixture.Videos.systemDesign()
+                .updateVideoMedia(AudioVideoMedia.with("123", "video", "/media/video"))
+                .updateTrailerMedia(AudioVideoMedia.with("123", "trailer", "/media/trailer"));
+
+        //when
+        final var actualVideo = videoGateway.create(aVideo);
+
+        //then
+        final var actualEvents = outboxEventRepository.findAll();
+        Assertions.assertEquals(2, actualEvents.size());
+        Assertions.assertTrue(actualEvents.stream().allMatch(it -> expectedEventType.equals(it.getEventType())));
+        Assertions.assertTrue(actualEvents.stream().allMatch(it -> it.getPayload().contains(actualVideo.getId().getValue())));
+        Assertions.assertEquals(expectedLocations, actualEvents.stream()
+                .map(OutboxEventJpaEntity::getPayload)
+                .map(it -> Json.readValue(it, VideoMediaCreated.class).filePath())
+                .collect(Collectors.toSet()));
+    }
+
     @Test
     @Transactional
     public void givenAValidVideoWithoutRelations_whenCallsCreate_shouldPersistIt() {
@@ -332,6 +375,63 @@ public class DefaultVideoGatewayTest {
     }
 
 
+    @Test
+    public void givenAVideoWithManyCastMembers_whenCallsUpdateSwappingOne_shouldWriteOnlyTheChangedRows() {
+        //given
+        final var members = new ArrayList<CastMemberID>();
+        for (int i = 0; i < 200; i++) {
+            members.add(castMemberGateway.create(CastMember.newMember("Member " + i, CastMemberType.ACTOR)).getId());
+        }
+
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(aulas.getId()),
+                Set.of(tech.getId()),
+                Set.copyOf(members)
+        ));
+
+        final var expectedMembers = new HashSet<>(members);
+        expectedMembers.remove(members.get(0));
+        expectedMembers.add(wesley.getId());
+
+        final var updatedVideo = Video.with(aVideo).update(
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getRating(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getCategories(),
+                aVideo.getGenres(),
+                expectedMembers
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        //when
+        final var actualVideo = videoGateway.update(updatedVideo);
+
+        //then
+        Assertions.assertEquals(expectedMembers, actualVideo.getCastMembers());
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertEquals(1, statistics.getEntityDeleteCount());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() < 10);
+
+        statistics.setStatisticsEnabled(false);
+
+        final var persistedMembers = videoGateway.findById(aVideo.getId()).get().getCastMembers();
+        Assertions.assertEquals(expectedMembers, persistedMembers);
+    }
+
     @Test
     public void givenAValidVideoId_whenCallsDeleteById_shouldDeleteIt() {
         //given
@@ -676,6 +776,100 @@ public class DefaultVideoGatewayTest {
         Assertions.assertEquals("Aula de empreendedorismo", actualPage.items().get(0).title());
     }
 
+    @Test
+    public void givenCountNone_whenCallsFindAll_shouldTellTheNextPageWithoutTotal() {
+        mockVideos();
+        final var expectedTitles = List.of(
+                "21.1 Implementacao dos testes integrados do findAll",
+                "Aula de empreendedorismo",
+                "Não cometa esses erros ao trabalhar com Microsserviços",
+                "System Design no Mercado Livre na prática"
+        );
+
+        //when
+        final var actualFirstPage = videoGateway.findAll(query(0, 3, CountMode.NONE));
+        final var actualLastPage = videoGateway.findAll(query(1, 3, CountMode.NONE));
+
+        //then
+        Assertions.assertEquals(Pagination.UNCOUNTED, actualFirstPage.total());
+        Assertions.assertEquals(1, actualFirstPage.nextPage());
+        Assertions.assertNull(actualFirstPage.next());
+        Assertions.assertEquals(Pagination.UNCOUNTED, actualLastPage.total());
+        Assertions.assertNull(actualLastPage.nextPage());
+
+        final var actualTitles = new ArrayList<String>();
+        actualFirstPage.items().forEach(it -> actualTitles.add(it.title()));
+        actualLastPage.items().forEach(it -> actualTitles.add(it.title()));
+        Assertions.assertEquals(expectedTitles, actualTitles);
+    }
+
+    @Test
+    public void givenCountEstimated_whenCallsFindAllTwice_shouldReuseTheFirstTotal() {
+        mockVideos();
+        final var expectedTotal = 4;
+
+        final var actualFirstPage = videoGateway.findAll(query(0, 2, CountMode.ESTIMATED));
+
+        videoGateway.create(Video.newVideo(
+                "Live de lançamento",
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ));
+
+        //when
+        final var actualPage = videoGateway.findAll(query(0, 2, CountMode.ESTIMATED));
+        final var actualExactPage = videoGateway.findAll(query(0, 2, CountMode.EXACT));
+
+        //then
+        Assertions.assertEquals(expectedTotal, actualFirstPage.total());
+        Assertions.assertEquals(expectedTotal, actualPage.total());
+        Assertions.assertEquals(expectedTotal + 1, actualExactPage.total());
+    }
+
+    @Test
+    public void givenAValidCategory_whenCallsFacets_shouldCountTheFilteredVideosPerRelation() {
+        //given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(0, 1, "", "title", "asc", Set.of(), Set.of(aulas.getId()), Set.of());
+
+        //when
+        final var actualFacets = videoGateway.facets(aQuery);
+
+        //then
+        Assertions.assertEquals(Map.of(aulas.getId(), 2L), actualFacets.categories());
+        Assertions.assertEquals(Map.of(tech.getId(), 1L, business.getId(), 1L), actualFacets.genres());
+        Assertions.assertEquals(Map.of(wesley.getId(), 1L, vicente.getId(), 1L), actualFacets.castMembers());
+    }
+
+    @Test
+    public void givenEmptyParams_whenCallsFacets_shouldCountEveryVideoOrderedByCount() {
+        //given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of());
+
+        //when
+        final var actualFacets = videoGateway.facets(aQuery);
+
+        //then
+        Assertions.assertEquals(Map.of(aulas.getId(), 2L, lives.getId(), 1L), actualFacets.categories());
+        Assertions.assertEquals(aulas.getId(), actualFacets.categories().keySet().iterator().next());
+        Assertions.assertEquals(Map.of(tech.getId(), 2L, business.getId(), 1L), actualFacets.genres());
+        Assertions.assertEquals(Map.of(wesley.getId(), 2L, vicente.getId(), 2L), actualFacets.castMembers());
+    }
+
+    private static VideoSearchQuery query(final int page, final int perPage, final CountMode count) {
+        return new VideoSearchQuery(page, perPage, "", "title", "asc", Set.of(), Set.of(), Set.of(), null, count);
+    }
+
 
     @ParameterizedTest
     @CsvSource({
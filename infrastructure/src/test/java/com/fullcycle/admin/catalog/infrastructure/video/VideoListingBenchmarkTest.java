@@ -0,0 +1,233 @@
+package com.fullcycle.admin.catalog.infrastructure.video;
+
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.video.VideoPreview;
+import com.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalog.infrastructure.configuration.WebServerConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Compares the video listing against the single distinct-over-joins JPQL it replaced, on a MySQL seeded with
+ * {@code benchmark.videos} videos. Run with {@code ./gradlew :infrastructure:benchmarkTests -Pbenchmark.videos=1000000}.
+ */
+@Tag("benchmark")
+@Testcontainers
+@ActiveProfiles("test-e2e")
+@SpringBootTest(classes = WebServerConfig.class)
+@EnabledIfSystemProperty(named = "benchmark.videos", matches = "\\d+")
+public class VideoListingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoListingBenchmarkTest.class);
+
+    private static final int CATEGORIES = 20;
+    private static final int GENRES = 50;
+    private static final int CAST_MEMBERS = 200;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    private static final String JOINED_FILTER = """
+            from Video v
+                    left join v.castMembers members
+                    left join v.categories categories
+                    left join v.genres genres
+            where
+                ( :terms is null or UPPER(v.title) like :terms )
+            and
+                ( :castMembers is null or members.id.castMemberId in :castMembers )
+            and
+                ( :categories is null or categories.id.categoryId in :categories )
+            and
+                ( :genres is null or genres.id.genreId in :genres )
+            """;
+
+    @Container
+    public static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest").withPassword("root").withUsername("root").withDatabaseName("admin_video");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    public void compareJoinedListingWithTwoPhaseListing() {
+        final var videos = Integer.getInteger("benchmark.videos");
+        seed(videos);
+
+        final var scenarios = List.of(
+                query(0, "", Set.of(), Set.of(), Set.of()),
+                query(0, "VIDEO 1", Set.of(), Set.of(), Set.of()),
+                query(0, "", Set.of(category(3)), Set.of(), Set.of()),
+                query(0, "", Set.of(category(3)), Set.of(genre(3)), Set.of(member(3), member(4))),
+                query(400, "", Set.of(category(3), category(4)), Set.of(), Set.of())
+        );
+
+        for (final var aQuery : scenarios) {
+            final var joined = this.transactionTemplate.execute(status -> joinedListing(aQuery));
+            final var twoPhase = this.videoGateway.findAll(aQuery);
+
+            Assertions.assertEquals(joined.total(), twoPhase.total());
+            Assertions.assertEquals(joined.ids(), twoPhase.items().stream().map(VideoPreview::id).toList());
+
+            final var joinedMillis = measure(() -> this.transactionTemplate.execute(status -> joinedListing(aQuery)));
+            final var twoPhaseMillis = measure(() -> this.videoGateway.findAll(aQuery));
+
+            log.info("[benchmark:video.listing] [videos:{}] [query:{}] [total:{}] [joined_ms:{}] [two_phase_ms:{}]",
+                    videos, aQuery, twoPhase.total(), joinedMillis, twoPhaseMillis);
+        }
+    }
+
+    private JoinedPage joinedListing(final VideoSearchQuery aQuery) {
+        final var terms = aQuery.terms().isBlank() ? null : "%" + aQuery.terms().toUpperCase() + "%";
+        final var castMembers = aQuery.castMembers().isEmpty() ? null : aQuery.castMembers().stream().map(CastMemberID::getValue).toList();
+        final var categories = aQuery.categories().isEmpty() ? null : aQuery.categories().stream().map(CategoryID::getValue).toList();
+        final var genres = aQuery.genres().isEmpty() ? null : aQuery.genres().stream().map(GenreID::getValue).toList();
+
+        final var ids = this.entityManager
+                .createQuery("select distinct v.id, v.title " + JOINED_FILTER + " order by v.title asc, v.id asc", Object[].class)
+                .setParameter("terms", terms)
+                .setParameter("castMembers", castMembers)
+                .setParameter("categories", categories)
+                .setParameter("genres", genres)
+                .setFirstResult(aQuery.page() * aQuery.perPage())
+                .setMaxResults(aQuery.perPage())
+                .getResultList()
+                .stream()
+                .map(row -> (String) row[0])
+                .toList();
+
+        final var total = this.entityManager
+                .createQuery("select count(distinct v.id) " + JOINED_FILTER, Long.class)
+                .setParameter("terms", terms)
+                .setParameter("castMembers", castMembers)
+                .setParameter("categories", categories)
+                .setParameter("genres", genres)
+                .getSingleResult();
+
+        return new JoinedPage(ids, total);
+    }
+
+    private static long measure(final Supplier<?> aListing) {
+        for (int i = 0; i < WARMUP; i++) {
+            aListing.get();
+        }
+
+        final var samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            final var start = System.nanoTime();
+            aListing.get();
+            samples[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2] / 1_000_000;
+    }
+
+    /**
+     * Generates the rows inside MySQL, every video with two categories, one genre and three cast members.
+     */
+    private void seed(final int videos) {
+        this.jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + (videos + 1));
+
+        this.jdbcTemplate.update("""
+                INSERT INTO categories (id, name, description, active, created_at, updated_at)
+                WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT CONCAT('c', LPAD(n, 31, '0')), CONCAT('Category ', n), NULL, TRUE, NOW(6), NOW(6) FROM seq
+                """, CATEGORIES - 1);
+        this.jdbcTemplate.update("""
+                INSERT INTO genres (id, name, active, created_at, updated_at)
+                WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT CONCAT('g', LPAD(n, 31, '0')), CONCAT('Genre ', n), TRUE, NOW(6), NOW(6) FROM seq
+                """, GENRES - 1);
+        this.jdbcTemplate.update("""
+                INSERT INTO cast_members (id, name, type, created_at, updated_at)
+                WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT CONCAT('m', LPAD(n, 31, '0')), CONCAT('Member ', n), 'ACTOR', NOW(6), NOW(6) FROM seq
+                """, CAST_MEMBERS - 1);
+
+        this.jdbcTemplate.update("""
+                INSERT INTO videos (id, title, description, year_launched, opened, published, rating, duration, created_at, updated_at)
+                WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT CONCAT('v', LPAD(n, 31, '0')), CONCAT('Video ', n), 'Seeded video', 2000 + n % 23, FALSE, FALSE, 'L', 90.0,
+                       NOW(6) - INTERVAL n SECOND, NOW(6)
+                FROM seq
+                """, videos - 1);
+
+        this.jdbcTemplate.update("""
+                INSERT INTO videos_categories (video_id, category_id)
+                SELECT id, CONCAT('c', LPAD(CAST(SUBSTRING(id, 2) AS UNSIGNED) % ?, 31, '0')) FROM videos
+                UNION ALL
+                SELECT id, CONCAT('c', LPAD((CAST(SUBSTRING(id, 2) AS UNSIGNED) + 1) % ?, 31, '0')) FROM videos
+                """, CATEGORIES, CATEGORIES);
+        this.jdbcTemplate.update("""
+                INSERT INTO videos_genres (video_id, genre_id)
+                SELECT id, CONCAT('g', LPAD(CAST(SUBSTRING(id, 2) AS UNSIGNED) % ?, 31, '0')) FROM videos
+                """, GENRES);
+        this.jdbcTemplate.update("""
+                INSERT INTO videos_cast_members (video_id, cast_member_id)
+                SELECT id, CONCAT('m', LPAD((CAST(SUBSTRING(id, 2) AS UNSIGNED) + k.k) % ?, 31, '0'))
+                FROM videos CROSS JOIN (SELECT 0 AS k UNION ALL SELECT 1 UNION ALL SELECT 2) k
+                """, CAST_MEMBERS);
+
+        this.jdbcTemplate.execute("ANALYZE TABLE videos, videos_categories, videos_genres, videos_cast_members");
+    }
+
+    private static VideoSearchQuery query(
+            final int page,
+            final String terms,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> members
+    ) {
+        return new VideoSearchQuery(page, 25, terms, "title", "asc", members, categories, genres);
+    }
+
+    private static CategoryID category(final int n) {
+        return CategoryID.from("c%031d".formatted(n));
+    }
+
+    private static GenreID genre(final int n) {
+        return GenreID.from("g%031d".formatted(n));
+    }
+
+    private static CastMemberID member(final int n) {
+        return CastMemberID.from("m%031d".formatted(n));
+    }
+
+    private record JoinedPage(List<String> ids, long total) {
+    }
+}
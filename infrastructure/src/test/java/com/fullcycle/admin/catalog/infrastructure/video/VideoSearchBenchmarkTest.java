@@ -0,0 +1,143 @@
+package com.fullcycle.admin.catalog.infrastructure.video;
+
+import com.fullcycle.admin.catalog.domain.video.VideoPreview;
+import com.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalog.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.search.SearchProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Compares the LIKE search with the FULLTEXT n-gram search of videos, on a MySQL seeded with {@code benchmark.videos}
+ * videos. Run with {@code ./gradlew :infrastructure:benchmarkTests -Pbenchmark.videos=1000000}.
+ */
+@Tag("benchmark")
+@Testcontainers
+@ActiveProfiles("test-e2e")
+@SpringBootTest(classes = WebServerConfig.class)
+@EnabledIfSystemProperty(named = "benchmark.videos", matches = "\\d+")
+public class VideoSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoSearchBenchmarkTest.class);
+
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    @Container
+    public static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest").withPassword("root").withUsername("root").withDatabaseName("admin_video");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    @Autowired
+    private SearchProperties searchProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        this.searchProperties.setFullText(true);
+    }
+
+    @Test
+    public void compareLikeSearchWithFullTextSearch() {
+        final var videos = Integer.getInteger("benchmark.videos");
+        seed(videos);
+
+        final var scenarios = List.of("kubernetes", "producao", "observabilidade ao vivo", "microsservicos do zero", "inexistente");
+
+        for (final var terms : scenarios) {
+            final var byTitle = query(terms, "title");
+            final var byRelevance = query(terms, "relevance");
+
+            this.searchProperties.setFullText(false);
+            final var like = this.videoGateway.findAll(byTitle);
+            final var likeMillis = measure(() -> this.videoGateway.findAll(byTitle));
+
+            this.searchProperties.setFullText(true);
+            final var fullText = this.videoGateway.findAll(byTitle);
+            final var fullTextMillis = measure(() -> this.videoGateway.findAll(byTitle));
+            final var relevanceMillis = measure(() -> this.videoGateway.findAll(byRelevance));
+
+            Assertions.assertEquals(like.total(), fullText.total());
+            Assertions.assertEquals(
+                    like.items().stream().map(VideoPreview::id).toList(),
+                    fullText.items().stream().map(VideoPreview::id).toList()
+            );
+
+            log.info("[benchmark:video.search] [videos:{}] [terms:{}] [total:{}] [like_ms:{}] [full_text_ms:{}] [relevance_ms:{}]",
+                    videos, terms, fullText.total(), likeMillis, fullTextMillis, relevanceMillis);
+        }
+    }
+
+    private static long measure(final Supplier<?> aSearch) {
+        for (int i = 0; i < WARMUP; i++) {
+            aSearch.get();
+        }
+
+        final var samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            final var start = System.nanoTime();
+            aSearch.get();
+            samples[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2] / 1_000_000;
+    }
+
+    /**
+     * Generates titles out of a few subjects and formats, with descriptions that match none of the searched terms,
+     * so both searches find the same videos.
+     */
+    private void seed(final int videos) {
+        this.jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + (videos + 1));
+
+        this.jdbcTemplate.update("""
+                INSERT INTO videos (id, title, description, year_launched, opened, published, rating, duration, created_at, updated_at)
+                WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT CONCAT('v', LPAD(n, 31, '0')),
+                       CONCAT(
+                           ELT(1 + n % 8, 'Arquitetura', 'Microsservicos', 'Kubernetes', 'Mensageria',
+                               'Observabilidade', 'Domain Driven Design', 'Testes', 'Performance'),
+                           ' ',
+                           ELT(1 + (n DIV 8) % 6, 'na pratica', 'em producao', 'do zero', 'avancado', 'para iniciantes', 'ao vivo'),
+                           ' ', n
+                       ),
+                       'Conteudo gravado', 2000 + n % 23, FALSE, FALSE, 'L', 90.0,
+                       NOW(6) - INTERVAL n SECOND, NOW(6)
+                FROM seq
+                """, videos - 1);
+
+        this.jdbcTemplate.execute("ANALYZE TABLE videos");
+    }
+
+    private static VideoSearchQuery query(final String terms, final String sort) {
+        return new VideoSearchQuery(0, 25, terms, sort, "asc", Set.of(), Set.of(), Set.of());
+    }
+}
@@ -0,0 +1,106 @@
+package com.fullcycle.admin.catalog.infrastructure.video.index;
+
+import com.fullcycle.admin.catalog.IntegrationTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalog.infrastructure.video.DefaultVideoGateway;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "videos.relation-index.enabled=true",
+        // The tests rebuild it themselves, the clean up deletes the rows behind its back before each of them
+        "videos.relation-index.rebuild-interval=1h"
+})
+public class VideoRelationIndexIT {
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private VideoRelationIndex relationIndex;
+
+    @Autowired
+    private VideoRelationIndexLoader relationIndexLoader;
+
+    @BeforeEach
+    public void setUp() {
+        this.relationIndexLoader.rebuild();
+    }
+
+    @Test
+    public void givenVideosCreatedThroughTheGateway_whenCallsFindAllByCategory_shouldAnswerFromTheIndex() {
+        //given
+        final var aulas = categoryGateway.create(Fixture.Categories.aulas());
+        final var lives = categoryGateway.create(Fixture.Categories.lives());
+
+        final var expectedVideo = videoGateway.create(videoOf(aulas.getId()));
+        videoGateway.create(videoOf(lives.getId()));
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(aulas.getId()), Set.of());
+
+        //when
+        final var actualMatch = relationIndex.match(Set.of(), Set.of(aulas.getId().getValue()), Set.of());
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        //then
+        Assertions.assertTrue(relationIndex.isReady());
+        Assertions.assertEquals(List.of(expectedVideo.getId().getValue()), actualMatch.get().ids());
+
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(expectedVideo.getId().getValue(), actualPage.items().get(0).id());
+    }
+
+    @Test
+    public void givenAVideoDeletedBehindTheGateway_whenRebuilds_shouldDropItFromTheIndex() {
+        //given
+        final var aulas = categoryGateway.create(Fixture.Categories.aulas());
+        final var aVideo = videoGateway.create(videoOf(aulas.getId()));
+
+        // As another replica would, without this instance's gateway noticing
+        videoRepository.deleteById(aVideo.getId().getValue());
+
+        final var aCategory = Set.of(aulas.getId().getValue());
+        Assertions.assertEquals(1, relationIndex.match(Set.of(), aCategory, Set.of()).get().count());
+
+        //when
+        relationIndexLoader.rebuild();
+
+        //then
+        Assertions.assertEquals(0, relationIndex.match(Set.of(), aCategory, Set.of()).get().count());
+        Assertions.assertEquals(0, relationIndex.stats().videos());
+    }
+
+    private static Video videoOf(final CategoryID aCategory) {
+        return Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(aCategory),
+                Set.of(),
+                Set.of()
+        );
+    }
+}
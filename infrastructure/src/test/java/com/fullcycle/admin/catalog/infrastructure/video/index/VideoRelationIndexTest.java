@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalog.infrastructure.video.index;
+
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.infrastructure.video.index.VideoRelationIndex.Relation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class VideoRelationIndexTest {
+
+    private final VideoRelationIndex target = new VideoRelationIndex(true, 2);
+
+    @Test
+    public void givenIndexedVideos_whenCallsMatch_shouldUniteIdsOfARelationAndIntersectRelations() {
+        //given
+        this.target.rebuild().finish();
+        this.target.put("v1", Set.of("aulas"), Set.of("tech"), Set.of("wesley", "vicente"));
+        this.target.put("v2", Set.of("lives"), Set.of("tech"), Set.of("vicente"));
+        this.target.put("v3", Set.of("aulas"), Set.of("business"), Set.of("wesley"));
+
+        //when
+        final var actualAnyCategory = this.target.match(Set.of(), Set.of("aulas", "lives"), Set.of()).orElseThrow();
+        final var actualBoth = this.target.match(Set.of("wesley"), Set.of(), Set.of("tech")).orElseThrow();
+        final var actualUnknown = this.target.match(Set.of(), Set.of("unknown"), Set.of()).orElseThrow();
+        final var actualUnfiltered = this.target.match(Set.of(), Set.of(), Set.of());
+
+        //then
+        Assertions.assertEquals(3, actualAnyCategory.count());
+        Assertions.assertFalse(actualAnyCategory.isResolved());
+        Assertions.assertEquals(1, actualBoth.count());
+        Assertions.assertEquals(List.of("v1"), actualBoth.ids());
+        Assertions.assertEquals(0, actualUnknown.count());
+        Assertions.assertTrue(actualUnknown.ids().isEmpty());
+        Assertions.assertTrue(actualUnfiltered.isEmpty());
+    }
+
+    @Test
+    public void givenUpdatedAndRemovedVideos_whenCallsFacets_shouldCountTheirCurrentRelations() {
+        //given
+        this.target.rebuild().finish();
+        this.target.put("v1", Set.of("aulas"), Set.of("tech"), Set.of("wesley"));
+        this.target.put("v2", Set.of("aulas"), Set.of("tech"), Set.of("vicente"));
+        this.target.put("v3", Set.of("lives"), Set.of(), Set.of());
+
+        //when
+        this.target.put("v1", Set.of("lives"), Set.of("business"), Set.of("wesley"));
+        this.target.remove("v3");
+        final var actualFacets = this.target.facets(Set.of(), Set.of(), Set.of()).orElseThrow();
+
+        //then
+        Assertions.assertEquals(Map.of(CategoryID.from("aulas"), 1L, CategoryID.from("lives"), 1L), actualFacets.categories());
+        Assertions.assertEquals(Map.of(GenreID.from("tech"), 1L, GenreID.from("business"), 1L), actualFacets.genres());
+        Assertions.assertEquals(Map.of(CastMemberID.from("wesley"), 1L, CastMemberID.from("vicente"), 1L), actualFacets.castMembers());
+        Assertions.assertEquals(2, this.target.stats().videos());
+    }
+
+    @Test
+    public void givenWritesDuringARebuild_whenFinishes_shouldReplayThemOverTheLoadedVideos() {
+        //given
+        final var aRebuild = this.target.rebuild();
+
+        //when
+        this.target.put("v2", Set.of("lives"), Set.of(), Set.of());
+        this.target.remove("v3");
+        final var actualBeforeFinish = this.target.match(Set.of(), Set.of("aulas"), Set.of());
+
+        aRebuild.put("v1", Map.of(Relation.CATEGORY, Set.of("aulas"), Relation.GENRE, Set.of(), Relation.CAST_MEMBER, Set.of()));
+        aRebuild.put("v2", Map.of(Relation.CATEGORY, Set.of("aulas"), Relation.GENRE, Set.of(), Relation.CAST_MEMBER, Set.of()));
+        aRebuild.put("v3", Map.of(Relation.CATEGORY, Set.of("aulas"), Relation.GENRE, Set.of(), Relation.CAST_MEMBER, Set.of()));
+        aRebuild.finish();
+
+        //then
+        Assertions.assertTrue(actualBeforeFinish.isEmpty());
+        Assertions.assertTrue(this.target.isReady());
+        Assertions.assertEquals(List.of("v1"), this.target.match(Set.of(), Set.of("aulas"), Set.of()).orElseThrow().ids());
+        Assertions.assertEquals(List.of("v2"), this.target.match(Set.of(), Set.of("lives"), Set.of()).orElseThrow().ids());
+    }
+}